@@ -0,0 +1,193 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely;
+
+import java.util.Arrays;
+
+/**
+ * The feature vector of a heartbeat. The features are extracted once per beat and cached on the {@link Heartbeat}, see
+ * {@link Heartbeat#getFeatures(QrsComplex, QrsComplex)}, so classifiers and the feature export share one extraction.
+ * <p>
+ * The vector is a plain <code>double[]</code> in a fixed order given by the index constants of this class. The first
+ * {@link #NUMBER_OF_TEMPLATE_FEATURES} entries are the features the C4.5 classifier was trained on, in the same order as
+ * exported by {@link de.fau.mad.jely.io.QrsFileWriter}. New features are only appended and increase
+ * {@link #SCHEMA_VERSION}.
+ * <p>
+ * The features are stamped with the {@link QrsComplex#getVersion() version} of the QRS complex and with its RR
+ * intervals, so refining the R, Q or S peak or the vicinity of the beat, or of its predecessor, invalidates them.
+ */
+public class BeatFeatures {
+    /**
+     * Version of the feature order.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    public static final int R_POSITION = 0;
+    public static final int R_VALUE = 1;
+    public static final int RR_INTERVAL = 2;
+    public static final int QR_AMPLITUDE = 3;
+    public static final int RS_AMPLITUDE = 4;
+    public static final int QRS_WIDTH = 5;
+    public static final int QRST_AREA = 6;
+    public static final int MINIMUM = 7;
+    public static final int MAXIMUM = 8;
+    public static final int MEAN = 9;
+    public static final int VARIANCE = 10;
+    public static final int STANDARD_DEVIATION = 11;
+    public static final int SKEWNESS = 12;
+    public static final int KURTOSIS = 13;
+    public static final int ENERGY = 14;
+    public static final int CROSS_CORRELATION_1 = 15;
+    public static final int CROSS_CORRELATION_2 = 16;
+    public static final int AREA_DIFFERENCE_1 = 17;
+    public static final int AREA_DIFFERENCE_2 = 18;
+    public static final int PREVIOUS_RR_INTERVAL = 19;
+    public static final int Q_VALUE = 20;
+    public static final int BASELINE = 21;
+
+    /**
+     * Number of features up to and including {@link #PREVIOUS_RR_INTERVAL}.
+     */
+    public static final int NUMBER_OF_TEMPLATE_FEATURES = 20;
+
+    /**
+     * Number of features.
+     */
+    public static final int NUMBER_OF_FEATURES = 22;
+
+    private final double[] mValues = new double[NUMBER_OF_FEATURES];
+    private int mQrsVersion = -1;
+    private QrsComplex mTemplate1;
+    private QrsComplex mTemplate2;
+    private int mTemplate1Version;
+    private int mTemplate2Version;
+    private boolean mHasTemplateFeatures;
+
+    /**
+     * Creates an empty feature vector, all features are <code>Double.NaN</code>.
+     */
+    public BeatFeatures() {
+        Arrays.fill(mValues, Double.NaN);
+    }
+
+    /**
+     * @param feature the index of the feature.
+     * @return the value of the feature.
+     */
+    public double get(int feature) {
+        return mValues[feature];
+    }
+
+    /**
+     * @return the feature vector. The array is shared with the cache and must not be modified.
+     */
+    public double[] getValues() {
+        return mValues;
+    }
+
+    /**
+     * @return the version of the QRS complex the features were extracted from.
+     */
+    public int getQrsVersion() {
+        return mQrsVersion;
+    }
+
+    /**
+     * Extracts all features of a QRS complex that do not depend on templates. The template features are set to
+     * <code>Double.NaN</code>.
+     *
+     * @param qrs                the QRS complex.
+     * @param previousRRInterval the RR interval of the preceding QRS complex (in s).
+     */
+    public void extract(QrsComplex qrs, double previousRRInterval) {
+        // make sure the statistics and the QRS width are calculated before anything is read
+        qrs.getMean();
+
+        double[] v = mValues;
+        v[R_POSITION] = qrs.getRPosition();
+        v[R_VALUE] = qrs.getRValue();
+        v[RR_INTERVAL] = qrs.getRRInterval();
+        v[QR_AMPLITUDE] = qrs.getQRAmplitude();
+        v[RS_AMPLITUDE] = qrs.getRSAmplitude();
+        v[QRS_WIDTH] = qrs.getQRSWidth();
+        v[QRST_AREA] = qrs.getQRSTArea();
+        v[MINIMUM] = qrs.getMinimum();
+        v[MAXIMUM] = qrs.getMaximum();
+        v[MEAN] = qrs.getMean();
+        v[VARIANCE] = qrs.getVariance();
+        v[STANDARD_DEVIATION] = qrs.getStandardDeviation();
+        v[SKEWNESS] = qrs.getSkewness();
+        v[KURTOSIS] = qrs.getKurtosis();
+        v[ENERGY] = qrs.getEnergy();
+        v[PREVIOUS_RR_INTERVAL] = previousRRInterval;
+        v[Q_VALUE] = qrs.getQValue();
+        v[BASELINE] = qrs.getBaselineValue();
+
+        v[CROSS_CORRELATION_1] = Double.NaN;
+        v[CROSS_CORRELATION_2] = Double.NaN;
+        v[AREA_DIFFERENCE_1] = Double.NaN;
+        v[AREA_DIFFERENCE_2] = Double.NaN;
+        mTemplate1 = null;
+        mTemplate2 = null;
+        mHasTemplateFeatures = false;
+
+        mQrsVersion = qrs.getVersion();
+    }
+
+    /**
+     * Extracts the features comparing a QRS complex with two templates. The other features must have been extracted
+     * before.
+     *
+     * @param qrs       the QRS complex.
+     * @param template1 the first QRS complex template, may be <code>null</code>.
+     * @param template2 the second QRS complex template, may be <code>null</code>.
+     */
+    public void extractTemplateFeatures(QrsComplex qrs, QrsComplex template1, QrsComplex template2) {
+        double[] v = mValues;
+        v[CROSS_CORRELATION_1] = qrs.getCrossCorrelation(template1);
+        v[CROSS_CORRELATION_2] = qrs.getCrossCorrelation(template2);
+        v[AREA_DIFFERENCE_1] = qrs.getAreaDifference(template1);
+        v[AREA_DIFFERENCE_2] = qrs.getAreaDifference(template2);
+        mTemplate1 = template1;
+        mTemplate2 = template2;
+        mTemplate1Version = template1 == null ? 0 : template1.getVersion();
+        mTemplate2Version = template2 == null ? 0 : template2.getVersion();
+        mHasTemplateFeatures = true;
+    }
+
+    /**
+     * @param qrs                the QRS complex.
+     * @param previousRRInterval the RR interval of the preceding QRS complex (in s).
+     * @return true if the features were extracted from the current state of the QRS complex.
+     */
+    public boolean isValid(QrsComplex qrs, double previousRRInterval) {
+        return mQrsVersion == qrs.getVersion()
+                && Double.compare(mValues[RR_INTERVAL], qrs.getRRInterval()) == 0
+                && Double.compare(mValues[PREVIOUS_RR_INTERVAL], previousRRInterval) == 0;
+    }
+
+    /**
+     * @param template1 the first QRS complex template.
+     * @param template2 the second QRS complex template.
+     * @return true if the template features were extracted for the current state of these templates.
+     */
+    public boolean hasTemplateFeatures(QrsComplex template1, QrsComplex template2) {
+        return mHasTemplateFeatures && mTemplate1 == template1 && mTemplate2 == template2
+                && (template1 == null || mTemplate1Version == template1.getVersion())
+                && (template2 == null || mTemplate2Version == template2.getVersion());
+    }
+}
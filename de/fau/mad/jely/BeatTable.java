@@ -0,0 +1,555 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A column oriented store for detected heartbeats. Instead of keeping one {@link Heartbeat} with its
+ * {@link QrsComplex}, waves and statistics objects per beat, all fiducial points and features are kept in primitive
+ * arrays, one per column, which grow in fixed size chunks. This keeps long recordings compact and lets downstream
+ * processing such as classification or HRV analysis iterate over plain arrays.
+ * <p>
+ * Object views of a row can be created on demand with {@link #getQrsComplex(int)} or {@link #getHeartbeat(int)} as long
+ * as the source signal still contains the samples of that beat. For allocation free iteration use a {@link Cursor}.
+ */
+public class BeatTable {
+    /**
+     * Integer valued columns. Positions are global sample indices, -1 if not available.
+     */
+    public enum IntColumn {
+        R_POSITION, Q_POSITION, S_POSITION, QRS_ONSET, QRS_OFFSET, SAMPLE_START, SAMPLE_END, P_POSITION,
+        T_POSITION, QRS_CLASS, CLUSTER_ID
+    }
+
+    /**
+     * Double valued columns. Values that are not available are stored as <code>Double.NaN</code>.
+     */
+    public enum DoubleColumn {
+        R_VALUE, Q_VALUE, S_VALUE, BASELINE, P_VALUE, T_VALUE, MINIMUM, MAXIMUM, MEAN, VARIANCE, SKEWNESS,
+        KURTOSIS, ENERGY, QRST_AREA
+    }
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final IntColumn[] INT_COLUMNS = IntColumn.values();
+    private static final DoubleColumn[] DOUBLE_COLUMNS = DoubleColumn.values();
+
+    private final double mSamplingRate;
+    private EcgSignal mSignal;
+
+    // [column][chunk][row in chunk]
+    private int[][][] mInts;
+    private double[][][] mDoubles;
+    private int mNumChunks;
+    private int mSize;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param samplingRate the sampling rate of the signal the beats were detected in, used to convert distances to
+     *                     seconds.
+     */
+    public BeatTable(double samplingRate) {
+        mSamplingRate = samplingRate;
+        mInts = new int[INT_COLUMNS.length][4][];
+        mDoubles = new double[DOUBLE_COLUMNS.length][4][];
+    }
+
+    /**
+     * Creates an empty table for beats detected in the given signal. The signal is used to create object views of
+     * rows.
+     *
+     * @param signal the source signal.
+     */
+    public BeatTable(EcgSignal signal) {
+        this(signal.getSamplingRate());
+        mSignal = signal;
+    }
+
+    /**
+     * @return the sampling rate of the source signal.
+     */
+    public double getSamplingRate() {
+        return mSamplingRate;
+    }
+
+    /**
+     * @return the source signal, or <code>null</code> if none was set.
+     */
+    public EcgSignal getSignal() {
+        return mSignal;
+    }
+
+    /**
+     * Sets the source signal used to create object views of rows.
+     *
+     * @param signal the source signal.
+     */
+    public void setSignal(EcgSignal signal) {
+        mSignal = signal;
+    }
+
+    /**
+     * @return the number of beats in this table.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all beats. The allocated chunks are kept for reuse.
+     */
+    public void clear() {
+        mSize = 0;
+    }
+
+    private int newRow() {
+        int row = mSize;
+        int chunk = row >>> CHUNK_BITS;
+        if (chunk == mNumChunks) {
+            if (chunk == mInts[0].length) {
+                for (int c = 0; c < mInts.length; c++)
+                    mInts[c] = Arrays.copyOf(mInts[c], chunk * 2);
+                for (int c = 0; c < mDoubles.length; c++)
+                    mDoubles[c] = Arrays.copyOf(mDoubles[c], chunk * 2);
+            }
+            for (int c = 0; c < mInts.length; c++)
+                mInts[c][chunk] = new int[CHUNK_SIZE];
+            for (int c = 0; c < mDoubles.length; c++)
+                mDoubles[c][chunk] = new double[CHUNK_SIZE];
+            mNumChunks++;
+        }
+
+        int i = row & CHUNK_MASK;
+        for (int c = 0; c < mInts.length; c++)
+            mInts[c][chunk][i] = -1;
+        for (int c = 0; c < mDoubles.length; c++)
+            mDoubles[c][chunk][i] = Double.NaN;
+
+        mSize++;
+        return row;
+    }
+
+    /**
+     * Appends a row containing only an R peak.
+     *
+     * @param rPosition the R peak position in the entire signal.
+     * @param rValue    the R peak value.
+     * @return the index of the new row.
+     */
+    public int add(int rPosition, double rValue) {
+        int row = newRow();
+        setInt(IntColumn.R_POSITION, row, rPosition);
+        setDouble(DoubleColumn.R_VALUE, row, rValue);
+        return row;
+    }
+
+    /**
+     * Appends a row with the fiducial points and features of the given QRS complex.
+     *
+     * @param qrs the QRS complex.
+     * @return the index of the new row.
+     */
+    public int add(QrsComplex qrs) {
+        int row = add(qrs.getRPosition(), qrs.getRValue());
+        setInt(IntColumn.Q_POSITION, row, qrs.getQPosition());
+        setDouble(DoubleColumn.Q_VALUE, row, qrs.getQValue());
+        setInt(IntColumn.S_POSITION, row, qrs.getSPosition());
+        setDouble(DoubleColumn.S_VALUE, row, qrs.getSValue());
+
+        // features are only available once the vicinity of the complex was set
+        int start = qrs.getSampleIndexStart();
+        int end = qrs.getSampleIndexEnd();
+        if (end > start && start >= 0) {
+            setInt(IntColumn.SAMPLE_START, row, start);
+            setInt(IntColumn.SAMPLE_END, row, end);
+            setInt(IntColumn.QRS_ONSET, row, qrs.getqDeflectionStart());
+            setInt(IntColumn.QRS_OFFSET, row, qrs.getsDeflectionEnd());
+            setDouble(DoubleColumn.BASELINE, row, qrs.getBaselineValue());
+            setDouble(DoubleColumn.MINIMUM, row, qrs.getMinimum());
+            setDouble(DoubleColumn.MAXIMUM, row, qrs.getMaximum());
+            setDouble(DoubleColumn.MEAN, row, qrs.getMean());
+            setDouble(DoubleColumn.VARIANCE, row, qrs.getVariance());
+            setDouble(DoubleColumn.SKEWNESS, row, qrs.getSkewness());
+            setDouble(DoubleColumn.KURTOSIS, row, qrs.getKurtosis());
+            setDouble(DoubleColumn.ENERGY, row, qrs.getEnergy());
+            setDouble(DoubleColumn.QRST_AREA, row, qrs.getQRSTArea());
+        }
+        return row;
+    }
+
+    /**
+     * Appends a row with the fiducial points and features of the given heartbeat, including its P and T wave.
+     *
+     * @param beat the heartbeat.
+     * @return the index of the new row.
+     */
+    public int add(Heartbeat beat) {
+        int row = add(beat.getQrs());
+        if (beat.getPWave() != null) {
+            setInt(IntColumn.P_POSITION, row, beat.getPWave().getPeakPosition());
+            setDouble(DoubleColumn.P_VALUE, row, beat.getPWave().getPeakValue());
+        }
+        if (beat.getTWave() != null) {
+            setInt(IntColumn.T_POSITION, row, beat.getTWave().getPeakPosition());
+            setDouble(DoubleColumn.T_VALUE, row, beat.getTWave().getPeakValue());
+        }
+        return row;
+    }
+
+    /**
+     * @param column the column.
+     * @param row    the row.
+     * @return the value of the given integer column in the given row.
+     */
+    public int getInt(IntColumn column, int row) {
+        checkRow(row);
+        return mInts[column.ordinal()][row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    /**
+     * Sets the value of the given integer column in the given row.
+     *
+     * @param column the column.
+     * @param row    the row.
+     * @param value  the new value.
+     */
+    public void setInt(IntColumn column, int row, int value) {
+        checkRow(row);
+        mInts[column.ordinal()][row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+    }
+
+    /**
+     * @param column the column.
+     * @param row    the row.
+     * @return the value of the given double column in the given row.
+     */
+    public double getDouble(DoubleColumn column, int row) {
+        checkRow(row);
+        return mDoubles[column.ordinal()][row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    /**
+     * Sets the value of the given double column in the given row.
+     *
+     * @param column the column.
+     * @param row    the row.
+     * @param value  the new value.
+     */
+    public void setDouble(DoubleColumn column, int row, double value) {
+        checkRow(row);
+        mDoubles[column.ordinal()][row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= mSize)
+            throw new IndexOutOfBoundsException("Row " + row + " of " + mSize);
+    }
+
+    /**
+     * Copies an integer column into a contiguous array.
+     *
+     * @param column the column.
+     * @return a new array with one entry per row.
+     */
+    public int[] toIntArray(IntColumn column) {
+        int[] out = new int[mSize];
+        int[][] chunks = mInts[column.ordinal()];
+        for (int chunk = 0, pos = 0; pos < mSize; chunk++, pos += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, out, pos, Math.min(CHUNK_SIZE, mSize - pos));
+        return out;
+    }
+
+    /**
+     * Copies a double column into a contiguous array.
+     *
+     * @param column the column.
+     * @return a new array with one entry per row.
+     */
+    public double[] toDoubleArray(DoubleColumn column) {
+        double[] out = new double[mSize];
+        double[][] chunks = mDoubles[column.ordinal()];
+        for (int chunk = 0, pos = 0; pos < mSize; chunk++, pos += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, out, pos, Math.min(CHUNK_SIZE, mSize - pos));
+        return out;
+    }
+
+    public int getRPosition(int row) {
+        return getInt(IntColumn.R_POSITION, row);
+    }
+
+    public double getRValue(int row) {
+        return getDouble(DoubleColumn.R_VALUE, row);
+    }
+
+    /**
+     * @return the R peak positions of all rows.
+     */
+    public int[] getRPositions() {
+        return toIntArray(IntColumn.R_POSITION);
+    }
+
+    /**
+     * Returns the RR interval preceding the given row.
+     *
+     * @param row the row.
+     * @return the RR interval (in s), or <code>Double.NaN</code> for the first row.
+     */
+    public double getRRInterval(int row) {
+        if (row == 0) {
+            checkRow(row);
+            return Double.NaN;
+        }
+        return (getRPosition(row) - getRPosition(row - 1)) / mSamplingRate;
+    }
+
+    /**
+     * Returns the RR intervals of all rows, with the same semantics as {@link QrsComplex#getRRInterval()}.
+     *
+     * @return the RR intervals (in s), the first entry is <code>Double.NaN</code>.
+     */
+    public double[] getRRIntervals() {
+        int[] r = getRPositions();
+        double[] rr = new double[r.length];
+        if (r.length > 0)
+            rr[0] = Double.NaN;
+        for (int i = 1; i < r.length; i++)
+            rr[i] = (r[i] - r[i - 1]) / mSamplingRate;
+        return rr;
+    }
+
+    /**
+     * Returns the QRS width of the given row.
+     *
+     * @param row the row.
+     * @return the QRS width (in s), or <code>Double.NaN</code> if the QRS on- or offset is unknown.
+     */
+    public double getQRSWidth(int row) {
+        int onset = getInt(IntColumn.QRS_ONSET, row);
+        int offset = getInt(IntColumn.QRS_OFFSET, row);
+        if (onset < 0 || offset < 0)
+            return Double.NaN;
+        return (offset - onset) / mSamplingRate;
+    }
+
+    /**
+     * @param row the row.
+     * @return the class stored for the given row, or <code>null</code> if it was not classified.
+     */
+    public QrsClass getQrsClass(int row) {
+        int code = getInt(IntColumn.QRS_CLASS, row);
+        return code < 0 ? null : QrsClass.values()[code];
+    }
+
+    /**
+     * Stores the class of the given row.
+     *
+     * @param row      the row.
+     * @param qrsClass the class, or <code>null</code> to clear it.
+     */
+    public void setQrsClass(int row, QrsClass qrsClass) {
+        setInt(IntColumn.QRS_CLASS, row, qrsClass == null ? -1 : qrsClass.ordinal());
+    }
+
+    /**
+     * @param row the row.
+     * @return the morphology cluster ID of the given row, or -1 if it was not clustered.
+     */
+    public int getClusterId(int row) {
+        return getInt(IntColumn.CLUSTER_ID, row);
+    }
+
+    /**
+     * Stores the morphology cluster ID of the given row.
+     *
+     * @param row       the row.
+     * @param clusterId the cluster ID, or -1 to clear it.
+     */
+    public void setClusterId(int row, int clusterId) {
+        setInt(IntColumn.CLUSTER_ID, row, clusterId);
+    }
+
+    /**
+     * Creates a QRS complex view of the given row. The complex is linked to a previous complex carrying only the
+     * preceding R peak, so RR intervals are available. The samples of the beat must still be contained in the source
+     * signal. The stored Q and S peaks are kept, the features are calculated from them on first use.
+     *
+     * @param row the row.
+     * @return a new QRS complex.
+     */
+    public QrsComplex getQrsComplex(int row) {
+        if (mSignal == null)
+            throw new IllegalStateException("No source signal set.");
+
+        QrsComplex qrs = new QrsComplex(mSignal);
+        if (row > 0) {
+            QrsComplex previous = new QrsComplex(mSignal);
+            previous.setRPeak(getRPosition(row - 1), getRValue(row - 1));
+            qrs.setPreviousQrs(previous);
+        }
+        fill(qrs, row);
+        return qrs;
+    }
+
+    private void fill(QrsComplex qrs, int row) {
+        qrs.setRPeak(getRPosition(row), getRValue(row));
+        int start = getInt(IntColumn.SAMPLE_START, row);
+        if (start >= 0)
+            qrs.setSampleIndexRange(start, getInt(IntColumn.SAMPLE_END, row));
+        qrs.setQPeak(getInt(IntColumn.Q_POSITION, row), getDouble(DoubleColumn.Q_VALUE, row));
+        qrs.setSPeak(getInt(IntColumn.S_POSITION, row), getDouble(DoubleColumn.S_VALUE, row));
+    }
+
+    /**
+     * Creates QRS complex views of all rows, linked to each other.
+     *
+     * @return a new list with one QRS complex per row.
+     */
+    public ArrayList<QrsComplex> toQrsComplexList() {
+        if (mSignal == null)
+            throw new IllegalStateException("No source signal set.");
+
+        ArrayList<QrsComplex> list = new ArrayList<>(mSize);
+        QrsComplex previous = null;
+        for (int row = 0; row < mSize; row++) {
+            QrsComplex qrs = new QrsComplex(mSignal);
+            if (previous != null) {
+                qrs.setPreviousQrs(previous);
+                previous.setNextQrs(qrs);
+                qrs.getHeartbeat().setPreviousBeat(previous.getHeartbeat());
+                previous.getHeartbeat().setNextBeat(qrs.getHeartbeat());
+            }
+            fill(qrs, row);
+            list.add(qrs);
+            previous = qrs;
+        }
+        return list;
+    }
+
+    /**
+     * Creates a heartbeat view of the given row, including its P and T peak if available.
+     *
+     * @param row the row.
+     * @return a new heartbeat.
+     */
+    public Heartbeat getHeartbeat(int row) {
+        Heartbeat beat = getQrsComplex(row).getHeartbeat();
+        if (getInt(IntColumn.P_POSITION, row) >= 0) {
+            PWave pWave = new PWave(beat);
+            pWave.setPeakPosition(getInt(IntColumn.P_POSITION, row));
+            pWave.setPeakValue(getDouble(DoubleColumn.P_VALUE, row));
+            beat.setPWave(pWave);
+        }
+        if (getInt(IntColumn.T_POSITION, row) >= 0) {
+            TWave tWave = new TWave(beat);
+            tWave.setPeakPosition(getInt(IntColumn.T_POSITION, row));
+            tWave.setPeakValue(getDouble(DoubleColumn.T_VALUE, row));
+            beat.setTWave(tWave);
+        }
+        return beat;
+    }
+
+    /**
+     * Cuts the links from the given QRS complex to all complexes more than <code>keep</code> beats before it, so a
+     * detector running over a long recording does not keep the whole chain of detected objects reachable once they
+     * were copied into a table.
+     *
+     * @param qrs  the most recently detected QRS complex.
+     * @param keep the number of predecessors that stay linked.
+     */
+    public static void detachHistory(QrsComplex qrs, int keep) {
+        QrsComplex last = qrs;
+        for (int i = 0; i < keep && last != null; i++)
+            last = last.getPreviousQrs();
+        if (last == null)
+            return;
+
+        last.setPreviousQrs(null);
+        if (last.getHeartbeat() != null)
+            last.getHeartbeat().setPreviousBeat(null);
+    }
+
+    /**
+     * @return a new cursor positioned before the first row.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * A reusable, allocation free view of one row of the table.
+     */
+    public class Cursor {
+        private int mRow = -1;
+
+        /**
+         * Moves this cursor to the given row.
+         *
+         * @param row the row.
+         * @return this cursor.
+         */
+        public Cursor moveTo(int row) {
+            checkRow(row);
+            mRow = row;
+            return this;
+        }
+
+        /**
+         * Moves this cursor to the next row.
+         *
+         * @return true if there was a next row, false otherwise.
+         */
+        public boolean next() {
+            if (mRow + 1 >= mSize)
+                return false;
+            mRow++;
+            return true;
+        }
+
+        public int getRow() {
+            return mRow;
+        }
+
+        public int getInt(IntColumn column) {
+            return BeatTable.this.getInt(column, mRow);
+        }
+
+        public double getDouble(DoubleColumn column) {
+            return BeatTable.this.getDouble(column, mRow);
+        }
+
+        public int getRPosition() {
+            return BeatTable.this.getRPosition(mRow);
+        }
+
+        public double getRValue() {
+            return BeatTable.this.getRValue(mRow);
+        }
+
+        public double getRRInterval() {
+            return BeatTable.this.getRRInterval(mRow);
+        }
+
+        public double getQRSWidth() {
+            return BeatTable.this.getQRSWidth(mRow);
+        }
+    }
+}
@@ -69,6 +69,11 @@ public class Ecg {
      */
     protected AnnotationManager annotations = new AnnotationManager();
 
+    /**
+     * Optional assessor used to avoid unusable leads when selecting the best matching lead.
+     */
+    protected SignalQualityAssessor qualityAssessor = null;
+
     /**
      * Empty constructor. Only accessible for child-classes since its empty...
      */
@@ -262,14 +267,145 @@ public class Ecg {
      * @return the EcgSignal matching the given lead most closely.
      */
     public EcgSignal getSignalFromBestMatchingLead(EcgLead lead) {
+        return getSignalFromBestMatchingLead(lead, -1);
+    }
+
+    /**
+     * Provides the EcgSignal from the given lead or, if that is not present or unusable at the given sample, from the
+     * best matching/closest representative lead.
+     *
+     * @param lead        the lead which is ideally desired.
+     * @param sampleIndex the sample at which the leads have to be usable, or -1 to use their most recent sample.
+     * @return the EcgSignal matching the given lead most closely.
+     */
+    public EcgSignal getSignalFromBestMatchingLead(EcgLead lead, int sampleIndex) {
         int i = leadInfo.getLeadIndex(lead);
-        if (i == -1) {
-            // TODO: select the best matching lead to the desired one
-            i = 0;
+        if (i == -1 || !isLeadUsable(i, sampleIndex)) {
+            i = getBestMatchingLeadIndex(lead, sampleIndex);
         }
         return ecgLeads.get(i);
     }
 
+    private boolean isLeadUsable(int leadIndex, int sampleIndex) {
+        if (qualityAssessor == null)
+            return true;
+        if (sampleIndex < 0)
+            return qualityAssessor.isCurrentlyUsable(leadIndex);
+        return qualityAssessor.isUsable(leadIndex, sampleIndex);
+    }
+
+    /**
+     * Sets the assessor used to skip leads which are currently unusable when selecting the best matching lead.
+     *
+     * @param assessor the signal quality assessor for this ECG, or <code>null</code> to ignore the signal quality.
+     */
+    public void setSignalQualityAssessor(SignalQualityAssessor assessor) {
+        qualityAssessor = assessor;
+    }
+
+    /**
+     * @return the signal quality assessor for this ECG, or <code>null</code> if none is set.
+     */
+    public SignalQualityAssessor getSignalQualityAssessor() {
+        return qualityAssessor;
+    }
+
+    /**
+     * Selects the lead whose projection resembles the desired one the most. Limb leads are compared by the angle of
+     * their axis in the frontal plane, precordial leads by their position on the chest. A lead from the other group is
+     * only chosen if no lead from the same group is present, unknown leads only if no known lead is present. If a
+     * signal quality assessor is set, leads which are currently unusable are only chosen if all leads are unusable.
+     *
+     * @param lead the lead which is ideally desired.
+     * @return the index of the closest lead, or 0 if no lead is a better match than the first one.
+     */
+    public int getBestMatchingLeadIndex(EcgLead lead) {
+        return getBestMatchingLeadIndex(lead, -1);
+    }
+
+    /**
+     * Selects the lead whose projection resembles the desired one the most, skipping leads which are unusable at the
+     * given sample.
+     *
+     * @param lead        the lead which is ideally desired.
+     * @param sampleIndex the sample at which the leads have to be usable, or -1 to use their most recent sample.
+     * @return the index of the closest lead, or 0 if no lead is a better match than the first one.
+     * @see #getBestMatchingLeadIndex(EcgLead)
+     */
+    public int getBestMatchingLeadIndex(EcgLead lead, int sampleIndex) {
+        int bestIndex = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < leadInfo.size() && i < ecgLeads.size(); i++) {
+            int distance = getLeadDistance(lead, leadInfo.getLead(i));
+            if (!isLeadUsable(i, sampleIndex))
+                distance += 2000;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    private static int getLeadDistance(EcgLead desired, EcgLead candidate) {
+        if (desired == candidate)
+            return 0;
+        int desiredAxis = getLimbLeadAxis(desired);
+        int candidateAxis = getLimbLeadAxis(candidate);
+        if (desiredAxis != Integer.MIN_VALUE && candidateAxis != Integer.MIN_VALUE) {
+            int diff = Math.abs(desiredAxis - candidateAxis) % 360;
+            return Math.min(diff, 360 - diff);
+        }
+        int desiredPosition = getPrecordialLeadPosition(desired);
+        int candidatePosition = getPrecordialLeadPosition(candidate);
+        if (desiredPosition != -1 && candidatePosition != -1)
+            return 30 * Math.abs(desiredPosition - candidatePosition);
+        if ((desiredAxis != Integer.MIN_VALUE || desiredPosition != -1)
+                && (candidateAxis != Integer.MIN_VALUE || candidatePosition != -1))
+            return 360;
+        if (candidate == EcgLead.UNKNOWN)
+            return 720;
+        return 1080;
+    }
+
+    private static int getLimbLeadAxis(EcgLead lead) {
+        switch (lead) {
+            case I:
+                return 0;
+            case II:
+                return 60;
+            case III:
+                return 120;
+            case aVL:
+                return -30;
+            case aVR:
+                return -150;
+            case aVF:
+                return 90;
+            default:
+                return Integer.MIN_VALUE;
+        }
+    }
+
+    private static int getPrecordialLeadPosition(EcgLead lead) {
+        switch (lead) {
+            case V1:
+                return 1;
+            case V2:
+                return 2;
+            case V3:
+                return 3;
+            case V4:
+                return 4;
+            case V5:
+                return 5;
+            case V6:
+                return 6;
+            default:
+                return -1;
+        }
+    }
+
     public EcgSignal getSignal(int leadIndex) {
         return getSignalFromIndex(leadIndex);
     }
@@ -316,6 +452,20 @@ public class Ecg {
         }
     }
 
+    /**
+     * Sets the time of the first sample from a timestamp given in system nanoseconds. This has no effect if samples
+     * were already added to this ECG.
+     *
+     * @param timestamp the timestamp of the first sample in system nanoseconds (see {@link System#nanoTime()}).
+     */
+    public void setFirstSampleTimestamp(long timestamp) {
+        if (firstSampleDate == null) {
+            long ageInMillis = (System.nanoTime() - timestamp) / 1000000L;
+            firstSampleDate = new Date(System.currentTimeMillis() - ageInMillis);
+            firstSampleTimestamp = timestamp;
+        }
+    }
+
     public void addSampleValue(int leadIndex, double value) {
         checkFirstSampleTime();
         ecgLeads.get(leadIndex).add(value);
@@ -150,6 +150,16 @@ public class EcgSignal implements List<Double> {
 		return mSignal.add(e);
 	}
 
+	/**
+	 * Appends a single sample value without boxing it first.
+	 * 
+	 * @param value the sample value to append.
+	 * @return true
+	 */
+	public boolean add(double value) {
+		return mSignal.add(value);
+	}
+
 	@Override
 	public void add(int index, Double element) {
 		throw new UnsupportedOperationException();
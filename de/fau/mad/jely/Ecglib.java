@@ -16,21 +16,47 @@
  */
 package de.fau.mad.jely;
 
+/**
+ * Holds the library-wide settings that were formerly kept in static fields. Detectors and processors keep a reference
+ * to the context they were created with, so several recordings can be analysed concurrently with different settings.
+ * The static accessors operate on the shared default context.
+ */
 public class Ecglib {
 
+    private static final Ecglib sDefaultContext = new Ecglib();
+
+    private volatile boolean mDebugMode = false;
+
     public Ecglib() {
-	// TODO Auto-generated constructor stub
     }
-    
-    private static boolean debugMode = false;
+
+    /**
+     * @return the shared context used by all objects that were not given one explicitly.
+     */
+    public static Ecglib getDefaultContext() {
+        return sDefaultContext;
+    }
+
+    /**
+     * @return whether debug output is enabled in this context.
+     */
+    public boolean isDebugEnabled() {
+        return mDebugMode;
+    }
+
+    /**
+     * @param debugMode enables or disables debug output for this context.
+     */
+    public void setDebugEnabled(boolean debugMode) {
+        mDebugMode = debugMode;
+    }
 
     public static boolean isDebugMode() {
-        return debugMode;
+        return sDefaultContext.isDebugEnabled();
     }
 
     public static void setDebugMode(boolean debugMode) {
-        Ecglib.debugMode = debugMode;
+        sDefaultContext.setDebugEnabled(debugMode);
     }
-    
 
 }
@@ -30,6 +30,11 @@ public class Heartbeat {
 	private QrsComplex mQrs;
 	private TWave mTWave;
 
+	/**
+	 * Cached features, see {@link #getFeatures(QrsComplex, QrsComplex)}.
+	 */
+	private BeatFeatures mFeatures;
+
 	/**
 	 * Timestamp in milliseconds for this heartbeat centered at the R-peak.
 	 */
@@ -116,6 +121,7 @@ public class Heartbeat {
 	 */
 	public void setQrs(QrsComplex qrs) {
 		mQrs = qrs;
+		mFeatures = null;
 	}
 
 	/**
@@ -150,4 +156,49 @@ public class Heartbeat {
 		return 60 / (rr / mQrs.getSamplingRate());
 	}
 
+	/**
+	 * Returns the features of this beat, extracting them on first use or if the QRS complex was refined since. The
+	 * template features are only valid for the templates last passed to
+	 * {@link #getFeatures(QrsComplex, QrsComplex)}.
+	 * 
+	 * @return the cached features.
+	 */
+	public BeatFeatures getFeatures() {
+		double previousRRInterval = getPreviousRRInterval();
+		if (mFeatures == null)
+			mFeatures = new BeatFeatures();
+		if (!mFeatures.isValid(mQrs, previousRRInterval))
+			mFeatures.extract(mQrs, previousRRInterval);
+		return mFeatures;
+	}
+
+	/**
+	 * Returns the features of this beat including the comparison with two templates. All consumers of a beat share
+	 * these features, they are only extracted again if the QRS complex, its predecessor or the templates change.
+	 * 
+	 * @param template1 the first QRS complex template, may be <code>null</code>.
+	 * @param template2 the second QRS complex template, may be <code>null</code>.
+	 * @return the cached features.
+	 */
+	public BeatFeatures getFeatures(QrsComplex template1, QrsComplex template2) {
+		BeatFeatures features = getFeatures();
+		if (!features.hasTemplateFeatures(template1, template2))
+			features.extractTemplateFeatures(mQrs, template1, template2);
+		return features;
+	}
+
+	/**
+	 * Discards the cached features.
+	 */
+	public void invalidateFeatures() {
+		mFeatures = null;
+	}
+
+	private double getPreviousRRInterval() {
+		QrsComplex previous = mQrs.getPreviousQrs();
+		if (previous == null)
+			return Double.NaN;
+		return previous.getRRInterval();
+	}
+
 }
@@ -19,7 +19,7 @@ package de.fau.mad.jely;
 // import com.sun.scenario.animation.*;
 
 import de.fau.mad.jely.RRInterval;
-import de.fau.mad.jely.util.SplineInterpolator;
+import de.fau.mad.jely.util.CubicSpline;
 
 import java.util.ArrayList;
 
@@ -85,10 +85,8 @@ public class Outlier extends RRInterval {
             y[i] = rrIArray[i].getValue();
         }
 
-        SplineInterpolator splineInterpolator = new SplineInterpolator(x, y);
-
         // start spline interpolation
-        double newRRIValue = splineInterpolator.interpolate(interpolationLoc);
+        double newRRIValue = new CubicSpline(x, y, CubicSpline.Type.NOT_A_KNOT).value(interpolationLoc);
         // replace old value with interpolated one and change outlier label
         super.setValue(newRRIValue);
         super.setOutlier(false);
@@ -17,11 +17,9 @@
 package de.fau.mad.jely;
 
 import java.util.ArrayList;
-import java.util.EnumSet;
 import java.util.List;
 
-import de.fau.mad.jely.util.DescriptiveStatistics;
-import de.fau.mad.jely.util.DescriptiveStatisticsElement;
+import de.fau.mad.jely.util.SampleMoments;
 import de.fau.shiftlist.*;
 
 /**
@@ -61,8 +59,18 @@ public class QrsComplex extends HeartbeatWave {
     /**
      * Statistical data about this QRS complex vicinity.
      */
-    protected DescriptiveStatistics mStats = null;
+    protected SampleMoments mMoments = null;
     private double mQrstArea = 0;
+    /**
+     * Mean-free samples of this QRS complex vicinity and the prefix sums of their squares. Only created once this
+     * complex is used as a template for {@link #getCrossCorrelation(QrsComplex)}.
+     */
+    private double[] mCenteredValues = null;
+    private double[] mCenteredEnergy = null;
+    /**
+     * Scratch buffer for the samples of the vicinity while the features are calculated.
+     */
+    private static final ThreadLocal<double[]> sFeatureScratch = new ThreadLocal<double[]>();
     /**
      * The width (in samples) of the QRS complex (starting at the Q deflection and ending at the S deflection).
      */
@@ -97,6 +105,11 @@ public class QrsComplex extends HeartbeatWave {
      */
     private int mSDeflectionEnd;
 
+    /**
+     * Incremented whenever the fiducial points or the vicinity of this complex change.
+     */
+    private int mVersion = 0;
+
     /**
      * Constructor.
      *
@@ -155,6 +168,15 @@ public class QrsComplex extends HeartbeatWave {
         return mSamplingRate;
     }
 
+    /**
+     * @return a counter that changes whenever the Q, R or S peak, the QRS width or the vicinity of this complex are
+     * set or refined. Derived data such as {@link BeatFeatures} use it to detect that they are outdated. Setting a peak
+     * also drops the QRS width, QRST area and statistics of this complex, they are calculated again on first use.
+     */
+    public int getVersion() {
+        return mVersion;
+    }
+
     public EcgSignal getSignal() {
         return mSignal;
     }
@@ -181,6 +203,8 @@ public class QrsComplex extends HeartbeatWave {
     public void setQPeak(int qPosition, double qValue) {
         this.mQPosition = qPosition;
         this.mQValue = qValue;
+        mVersion++;
+        invalidateFeatures();
     }
 
     /**
@@ -192,6 +216,8 @@ public class QrsComplex extends HeartbeatWave {
     public void setRPeak(int rPosition, double rValue) {
         this.mRPosition = rPosition;
         this.mRValue = rValue;
+        mVersion++;
+        invalidateFeatures();
     }
 
     /**
@@ -203,10 +229,41 @@ public class QrsComplex extends HeartbeatWave {
     public void setSPeak(int sPosition, double sValue) {
         this.mSPosition = sPosition;
         this.mSValue = sValue;
+        mVersion++;
+        invalidateFeatures();
     }
 
     public void setSampleIndexStart(int idx) {
         mSampleIndexStart = idx;
+        mVersion++;
+    }
+
+    /**
+     * @return the first index of this QRS complex vicinity in the entire signal.
+     */
+    public int getSampleIndexStart() {
+        return mSampleIndexStart;
+    }
+
+    /**
+     * @return the end index of this QRS complex vicinity in the entire signal.
+     */
+    public int getSampleIndexEnd() {
+        return mSampleIndexEnd;
+    }
+
+    /**
+     * Sets the vicinity of this QRS complex without searching for the Q and S peak, e.g. for a complex restored from
+     * stored fiducial points. The features are calculated from the stored peaks on first use.
+     *
+     * @param start the first index of the vicinity in the entire signal.
+     * @param end   the end index of the vicinity in the entire signal.
+     */
+    void setSampleIndexRange(int start, int end) {
+        mSampleIndexStart = start;
+        mSampleIndexEnd = end;
+        mVersion++;
+        invalidateFeatures();
     }
 
     /**
@@ -217,6 +274,7 @@ public class QrsComplex extends HeartbeatWave {
      */
     public void setSampleIndexEnd(int index) {
         mSampleIndexEnd = index;
+        mVersion++;
         findQPeak();
         findSPeak();
         calculateFeatures();
@@ -263,6 +321,8 @@ public class QrsComplex extends HeartbeatWave {
      * @return the QRS width.
      */
     public int findQrsWidth() {
+        mVersion++;
+
         // max left index for Q point search
         int maxLeft = (int) (mSamplingRate * 0.15);
         int maxRight = (int) (mSamplingRate * 0.15);
@@ -393,6 +453,7 @@ public class QrsComplex extends HeartbeatWave {
      * @return the qDeflectionStart
      */
     public int getqDeflectionStart() {
+        updateFeatures();
         return mQDeflectionStart;
     }
 
@@ -400,6 +461,7 @@ public class QrsComplex extends HeartbeatWave {
      * @return the sDeflectionEnd
      */
     public int getsDeflectionEnd() {
+        updateFeatures();
         return mSDeflectionEnd;
     }
 
@@ -407,6 +469,7 @@ public class QrsComplex extends HeartbeatWave {
      * @return the baselineValue
      */
     public double getBaselineValue() {
+        updateFeatures();
         return mBaselineValue;
     }
 
@@ -515,6 +578,7 @@ public class QrsComplex extends HeartbeatWave {
      * @return the QRS width of the QRS complex (in s)
      */
     public double getQRSWidth() {
+        updateFeatures();
         return ((double) (mSDeflectionEnd - mQDeflectionStart)) / mSamplingRate;
     }
 
@@ -528,32 +592,75 @@ public class QrsComplex extends HeartbeatWave {
      * i++) { qrstArea += Math.abs( values.get( i ) - mean ); } return qrstArea; }
      */
     public double getQRSTArea() {
+        updateFeatures();
         return mQrstArea;
     }
 
     public double calculateQRSTArea() {
         double qrstArea = 0;
         double mean = getMean();
-        for (int i = mSampleIndexStart; i <= mSampleIndexEnd; i++) {
-            qrstArea += Math.abs(mSignal.get(i) - mean);
+        for (int i = mSampleIndexStart; i <= getFeatureIndexEnd(); i++) {
+            qrstArea += Math.abs(getValueAtLGlobalIndex(i) - mean);
         }
         return qrstArea;
     }
 
+    /**
+     * @return the last global index of the samples the features are calculated from. A complex with a fixed sample
+     * buffer uses the buffered samples only.
+     */
+    private int getFeatureIndexEnd() {
+        if (mSampleBuffer != null)
+            return mSampleIndexStart + mSampleBuffer.size() - 1;
+        return mSampleIndexEnd;
+    }
+
+    // drops the features, they are calculated again on first use
+    private void invalidateFeatures() {
+        mMoments = null;
+        mCenteredValues = null;
+        mCenteredEnergy = null;
+    }
+
+    // calculates the features if they were dropped and the vicinity is known
+    private void updateFeatures() {
+        if (mMoments == null && mSampleIndexStart >= 0 && mSampleIndexEnd >= mSampleIndexStart)
+            calculateFeatures();
+    }
+
     private void calculateFeatures() {
         findQrsWidth();
 
-        // don't calculate median and mode, they are quite expensive
-        EnumSet<DescriptiveStatisticsElement> elements = EnumSet.allOf(DescriptiveStatisticsElement.class);
-        elements.remove(DescriptiveStatisticsElement.MEDIAN);
-        elements.remove(DescriptiveStatisticsElement.MODE);
+        if (mMoments == null)
+            mMoments = new SampleMoments();
+        else
+            mMoments.reset();
+        mCenteredValues = null;
+        mCenteredEnergy = null;
+
+        int num = getFeatureIndexEnd() - mSampleIndexStart + 1;
+        if (mSampleIndexStart < 0 || num <= 0) {
+            mQrstArea = 0;
+            return;
+        }
 
-        if (mSampleBuffer != null)
-            mStats = new DescriptiveStatistics(mSampleBuffer, elements);
-        else if (mSignal != null)
-            mStats = new DescriptiveStatistics(mSignal.getSignal(), mSampleIndexStart, mSampleIndexEnd, elements);
+        // read every sample exactly once, the QRST area only needs the final mean and runs on the primitive copy
+        double[] values = sFeatureScratch.get();
+        if (values == null || values.length < num) {
+            values = new double[Math.max(num, 256)];
+            sFeatureScratch.set(values);
+        }
+        for (int k = 0; k < num; k++) {
+            values[k] = getValueAtLGlobalIndex(mSampleIndexStart + k);
+            mMoments.add(values[k]);
+        }
 
-        mQrstArea = calculateQRSTArea();
+        double mean = mMoments.getMean();
+        double qrstArea = 0;
+        for (int k = 0; k < num; k++) {
+            qrstArea += Math.abs(values[k] - mean);
+        }
+        mQrstArea = qrstArea;
     }
 
     /**
@@ -562,9 +669,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the minimum of all values of the QRS complex
      */
     public double getMinimum() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getMin();
+        return mMoments.getMin();
     }
 
     /**
@@ -573,9 +680,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the maximum of all values of the QRS complex
      */
     public double getMaximum() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getMax();
+        return mMoments.getMax();
     }
 
     /**
@@ -584,9 +691,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the mean of all values of the QRS complex
      */
     public double getMean() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getMean();
+        return mMoments.getMean();
     }
 
     /**
@@ -595,9 +702,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the variance of all values of the QRS complex
      */
     public double getVariance() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getVariance();
+        return mMoments.getVariance();
     }
 
     /**
@@ -606,9 +713,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the standard deviation of all values of the QRS complex
      */
     public double getStandardDeviation() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getStandardDeviation();
+        return mMoments.getStandardDeviation();
     }
 
     /**
@@ -617,9 +724,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the skewness of all values of the QRS complex
      */
     public double getSkewness() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getSkewness();
+        return mMoments.getSkewness();
     }
 
     /**
@@ -628,9 +735,9 @@ public class QrsComplex extends HeartbeatWave {
      * @return the kurtosis of all values of the QRS complex
      */
     public double getKurtosis() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getKurtosis();
+        return mMoments.getKurtosis();
     }
 
     /**
@@ -639,37 +746,69 @@ public class QrsComplex extends HeartbeatWave {
      * @return the energy of all values of the QRS complex
      */
     public double getEnergy() {
-        if (mStats == null)
+        if (mMoments == null)
             calculateFeatures();
-        return mStats.getEnergy();
+        return mMoments.getEnergy();
     }
 
     /**
-     * Returns the cross correlation coefficient of the QRS complex with the template.
+     * Returns the cross correlation coefficient of the QRS complex with the template. Both complexes are aligned at
+     * their R peaks and compared where their vicinities overlap. The mean-free samples of the template and their
+     * energy are computed once and kept with the template.
      *
      * @param template a QRS complex template
      * @return the cross correlation coefficient of the QRS complex with the template, or <code>Double.NaN</code> if
-     * <code>template</code> is null
+     * <code>template</code> is null or does not overlap
      */
     public double getCrossCorrelation(QrsComplex template) {
         if (template != null) {
-            double tmp1;
-            double tmp2;
+            double[] centered = template.getCenteredValues();
+            if (centered == null)
+                return Double.NaN;
+
+            // template sample index k corresponds to the global index k + shift of this complex
+            int shift = mRPosition - (template.getRPosition() - template.getSampleIndexStart());
+            int from = Math.max(mSampleIndexStart, shift);
+            int to = Math.min(getFeatureIndexEnd(), shift + centered.length - 1);
+            if (mSampleIndexStart < 0 || to < from)
+                return Double.NaN;
+
+            double mean = getMean();
             double sum1 = 0;
             double sum2 = 0;
-            double sum3 = 0;
-            for (int i = mSampleIndexStart; i <= mSampleIndexEnd; i++) {
-                tmp1 = mSignal.get(i) - getMean();
-                tmp2 = template.getValueAtLGlobalIndex(i) - template.getMean();
-                sum1 += tmp1 * tmp2;
+            for (int i = from; i <= to; i++) {
+                double tmp1 = getValueAtLGlobalIndex(i) - mean;
+                sum1 += tmp1 * centered[i - shift];
                 sum2 += tmp1 * tmp1;
-                sum3 += tmp2 * tmp2;
             }
+            double sum3 = template.mCenteredEnergy[to - shift + 1] - template.mCenteredEnergy[from - shift];
             return sum1 / Math.sqrt(sum2 * sum3);
         }
         return Double.NaN;
     }
 
+    // the mean-free samples of this complex with the prefix sums of their squares, null if there are none
+    private double[] getCenteredValues() {
+        if (mMoments == null)
+            calculateFeatures();
+        if (mCenteredValues == null) {
+            int num = mSampleIndexStart < 0 ? 0 : getFeatureIndexEnd() - mSampleIndexStart + 1;
+            if (num <= 0)
+                return null;
+
+            double mean = mMoments.getMean();
+            double[] centered = new double[num];
+            double[] energy = new double[num + 1];
+            for (int k = 0; k < num; k++) {
+                centered[k] = getValueAtLGlobalIndex(mSampleIndexStart + k) - mean;
+                energy[k + 1] = energy[k] + centered[k] * centered[k];
+            }
+            mCenteredEnergy = energy;
+            mCenteredValues = centered;
+        }
+        return mCenteredValues;
+    }
+
     /**
      * Returns the area difference of the QRS complex with the template.
      *
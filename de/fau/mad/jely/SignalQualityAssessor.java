@@ -0,0 +1,459 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely;
+
+import java.util.ArrayList;
+
+import de.fau.mad.jely.annotations.AnnotationType;
+import de.fau.mad.jely.annotations.EcgAnnotation;
+import de.fau.mad.jely.annotations.EcgAnnotator;
+
+/**
+ * Assesses the signal quality of every lead of an ECG in a sliding window. Four indicators are tracked with constant
+ * work per sample: flatline (disconnected electrodes), saturation (clipped amplifier), high-frequency noise (e.g.
+ * muscle artifacts) and baseline wander (e.g. motion). A lead becomes unusable when one of them crosses its threshold
+ * and usable again once all of them have recovered. Each unusable stretch is added to the ECG as a
+ * {@link AnnotationType#SIGNAL_QUALITY} annotation.
+ * <p>
+ * The assessor catches up lazily with the samples added to the ECG whenever it is queried, so it does not need to be
+ * fed explicitly. Detectors use it to drop beats found in unusable stretches, and
+ * {@link Ecg#getSignalFromBestMatchingLead(EcgLead, int)} uses it to avoid leads which are unusable at a given sample.
+ */
+public class SignalQualityAssessor {
+    /**
+     * The annotator of all annotations created by the assessor.
+     */
+    public static final EcgAnnotator ANNOTATOR = new EcgAnnotator("SignalQualityAssessor");
+
+    /**
+     * The reason a lead is unusable.
+     */
+    public enum Issue {
+        FLATLINE("flatline"),
+        SATURATION("saturation"),
+        NOISE("high-frequency noise"),
+        BASELINE_WANDER("baseline wander");
+
+        private final String mDescription;
+
+        Issue(String description) {
+            mDescription = description;
+        }
+
+        public String getDescription() {
+            return mDescription;
+        }
+    }
+
+    private static final double DEFAULT_WINDOW_SECONDS = 1.0;
+    private static final double BASELINE_CUTOFF_HZ = 0.7;
+    /**
+     * A lead that became unusable has to get below this fraction of every threshold to become usable again.
+     */
+    private static final double RECOVERY_FACTOR = 0.8;
+
+    /**
+     * State of the sliding window of one lead.
+     */
+    private static class LeadState {
+        final double[] residual;
+        final double[] curvature;
+        final double[] baseline;
+        final boolean[] saturated;
+        double residualSum, residualSquares, curvatureSum, baselineSum, baselineSquares;
+        int saturatedCount;
+        int count;
+        double last1 = Double.NaN, last2 = Double.NaN, lastBaseline = Double.NaN;
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        double badness;
+        double segmentBadness;
+        Issue issue;
+        int segmentStart = -1;
+        int recoveredSince = -1;
+        int lastSegmentEnd = -1;
+        Issue lastIssue;
+        double lastBadness;
+        boolean annotationPending = false;
+        final ArrayList<int[]> segments = new ArrayList<>();
+
+        LeadState(int window) {
+            residual = new double[window];
+            curvature = new double[window];
+            baseline = new double[window];
+            saturated = new boolean[window];
+        }
+    }
+
+    private final Ecg mEcg;
+    private final int mWindow;
+    private final double mBaselineAlpha;
+    private LeadState[] mLeads;
+    private int mNextIndex = 0;
+
+    private double mFlatlineThreshold = 0.01;
+    private double mSaturationThreshold = 0.2;
+    private double mNoiseThreshold = 0.6;
+    private double mWanderThreshold = 2.0;
+    private double mSaturationMin = Double.NaN;
+    private double mSaturationMax = Double.NaN;
+    private boolean mAnnotate = true;
+
+    /**
+     * Constructs an assessor for all leads of the given ECG using a window of one second.
+     *
+     * @param ecg the ECG to assess.
+     */
+    public SignalQualityAssessor(Ecg ecg) {
+        this(ecg, DEFAULT_WINDOW_SECONDS);
+    }
+
+    /**
+     * Constructs an assessor for all leads of the given ECG.
+     *
+     * @param ecg           the ECG to assess.
+     * @param windowSeconds the length of the sliding window in seconds.
+     */
+    public SignalQualityAssessor(Ecg ecg, double windowSeconds) {
+        mEcg = ecg;
+        mWindow = Math.max(3, (int) Math.round(windowSeconds * ecg.getSamplingRate()));
+        mBaselineAlpha = 1 - Math.exp(-2 * Math.PI * BASELINE_CUTOFF_HZ / ecg.getSamplingRate());
+    }
+
+    /**
+     * Sets the standard deviation in signal units below which a window counts as flatline. The standard deviation is
+     * taken after removing the baseline, so slowly drifting disconnected leads are recognised as well.
+     *
+     * @param threshold the minimum standard deviation of a usable window.
+     */
+    public void setFlatlineThreshold(double threshold) {
+        mFlatlineThreshold = threshold;
+    }
+
+    /**
+     * Sets the fraction of clipped samples in a window above which the window counts as saturated.
+     *
+     * @param threshold a fraction between 0 and 1.
+     */
+    public void setSaturationThreshold(double threshold) {
+        mSaturationThreshold = threshold;
+    }
+
+    /**
+     * Sets the limits of the signal range. Samples at or beyond these limits count as clipped. If no limits are set,
+     * a sample counts as clipped when it repeats the extreme value seen so far.
+     *
+     * @param min the lowest value the amplifier can deliver.
+     * @param max the highest value the amplifier can deliver.
+     */
+    public void setSaturationLimits(double min, double max) {
+        mSaturationMin = min;
+        mSaturationMax = max;
+    }
+
+    /**
+     * Sets the threshold for the high-frequency noise, which is measured as the mean absolute second difference
+     * relative to the standard deviation of the window without its baseline.
+     *
+     * @param threshold the maximum noise ratio of a usable window.
+     */
+    public void setNoiseThreshold(double threshold) {
+        mNoiseThreshold = threshold;
+    }
+
+    /**
+     * Sets the threshold for the baseline wander, which is measured as the standard deviation of the low-frequency
+     * baseline relative to the standard deviation of the window without its baseline.
+     *
+     * @param threshold the maximum wander ratio of a usable window.
+     */
+    public void setWanderThreshold(double threshold) {
+        mWanderThreshold = threshold;
+    }
+
+    /**
+     * @param annotate whether unusable stretches are added to the ECG as annotations.
+     */
+    public void setAnnotationsEnabled(boolean annotate) {
+        mAnnotate = annotate;
+    }
+
+    /**
+     * Assesses all samples that have been added to the ECG since the last call.
+     */
+    public synchronized void update() {
+        if (mLeads == null) {
+            mLeads = new LeadState[mEcg.getNumLeads()];
+            for (int i = 0; i < mLeads.length; i++)
+                mLeads[i] = new LeadState(mWindow);
+        }
+        if (mLeads.length == 0)
+            return;
+
+        EcgSignal first = mEcg.getSignalFromIndex(0);
+        int total = first.getTotalLength();
+        int oldest = Math.max(0, total - first.size());
+        if (mNextIndex < oldest)
+            mNextIndex = oldest;
+
+        for (; mNextIndex < total; mNextIndex++) {
+            for (int lead = 0; lead < mLeads.length; lead++)
+                process(lead, mEcg.getSignalFromIndex(lead).get(mNextIndex), mNextIndex);
+        }
+    }
+
+    private void process(int lead, double value, int index) {
+        LeadState s = mLeads[lead];
+        int slot = index % mWindow;
+        boolean full = s.count >= mWindow;
+
+        // remove the sample leaving the window
+        if (full) {
+            double old = s.residual[slot];
+            s.residualSum -= old;
+            s.residualSquares -= old * old;
+            s.curvatureSum -= s.curvature[slot];
+            s.baselineSum -= s.baseline[slot];
+            s.baselineSquares -= s.baseline[slot] * s.baseline[slot];
+            if (s.saturated[slot])
+                s.saturatedCount--;
+        } else {
+            s.count++;
+        }
+
+        // clipping
+        boolean saturated;
+        if (!Double.isNaN(mSaturationMin)) {
+            saturated = value <= mSaturationMin || value >= mSaturationMax;
+        } else {
+            saturated = value == s.last1 && (value >= s.max || value <= s.min) && s.max > s.min;
+        }
+        if (value > s.max)
+            s.max = value;
+        if (value < s.min)
+            s.min = value;
+
+        double curvature = Double.isNaN(s.last2) ? 0 : Math.abs(value - 2 * s.last1 + s.last2);
+        double baseline = Double.isNaN(s.lastBaseline) ? value : s.lastBaseline + (value - s.lastBaseline) * mBaselineAlpha;
+        s.last2 = s.last1;
+        s.last1 = value;
+        s.lastBaseline = baseline;
+
+        double residual = value - baseline;
+        s.residual[slot] = residual;
+        s.curvature[slot] = curvature;
+        s.baseline[slot] = baseline;
+        s.saturated[slot] = saturated;
+        s.residualSum += residual;
+        s.residualSquares += residual * residual;
+        s.curvatureSum += curvature;
+        s.baselineSum += baseline;
+        s.baselineSquares += baseline * baseline;
+        if (saturated)
+            s.saturatedCount++;
+
+        // the sliding sums accumulate rounding errors, so recompute them once per window
+        if (slot == mWindow - 1 && full)
+            recomputeSums(s);
+
+        if (s.count < mWindow)
+            return;
+
+        evaluate(lead, s, index);
+    }
+
+    private void recomputeSums(LeadState s) {
+        s.residualSum = s.residualSquares = s.curvatureSum = s.baselineSum = s.baselineSquares = 0;
+        for (int i = 0; i < mWindow; i++) {
+            s.residualSum += s.residual[i];
+            s.residualSquares += s.residual[i] * s.residual[i];
+            s.curvatureSum += s.curvature[i];
+            s.baselineSum += s.baseline[i];
+            s.baselineSquares += s.baseline[i] * s.baseline[i];
+        }
+    }
+
+    private void evaluate(int lead, LeadState s, int index) {
+        double mean = s.residualSum / mWindow;
+        double std = Math.sqrt(Math.max(0, s.residualSquares / mWindow - mean * mean));
+        double baselineMean = s.baselineSum / mWindow;
+        double baselineStd = Math.sqrt(Math.max(0, s.baselineSquares / mWindow - baselineMean * baselineMean));
+
+        // each indicator is scaled so that 1 is its threshold
+        double flatline = std > 0 ? mFlatlineThreshold / std : Double.POSITIVE_INFINITY;
+        double saturation = ((double) s.saturatedCount / mWindow) / mSaturationThreshold;
+        double noise = std > 0 ? (s.curvatureSum / mWindow) / std / mNoiseThreshold : 0;
+        double wander = std > 0 ? baselineStd / std / mWanderThreshold : 0;
+
+        Issue issue = Issue.FLATLINE;
+        double badness = flatline;
+        // a lead stuck at the limit is flat as well, but saturation is the more specific reason
+        if (saturation >= 1 || saturation > badness) {
+            badness = Math.max(badness, saturation);
+            issue = Issue.SATURATION;
+        }
+        if (noise > badness) {
+            badness = noise;
+            issue = Issue.NOISE;
+        }
+        if (wander > badness) {
+            badness = wander;
+            issue = Issue.BASELINE_WANDER;
+        }
+        s.badness = badness;
+
+        if (s.segmentStart < 0) {
+            if (badness >= 1) {
+                if (s.annotationPending) {
+                    // the window still overlaps the last stretch, so it continues
+                    s.annotationPending = false;
+                    s.segmentStart = s.segments.remove(s.segments.size() - 1)[0];
+                    s.segmentBadness = s.lastBadness;
+                    s.issue = s.lastIssue;
+                    if (badness > s.segmentBadness) {
+                        s.segmentBadness = badness;
+                        s.issue = issue;
+                    }
+                } else {
+                    // the window is trailing, so the stretch may have started at its beginning
+                    s.segmentStart = Math.max(index - mWindow + 1, s.lastSegmentEnd + 1);
+                    s.segmentBadness = badness;
+                    s.issue = issue;
+                }
+            } else if (s.annotationPending && index - s.lastSegmentEnd > mWindow) {
+                annotateLastSegment(lead, s);
+            }
+        } else if (badness < RECOVERY_FACTOR) {
+            // stay unusable for half a window, so a fluctuating indicator does not split the stretch
+            if (s.recoveredSince < 0)
+                s.recoveredSince = index;
+            else if (index - s.recoveredSince >= mWindow / 2)
+                closeSegment(s, s.recoveredSince - 1);
+        } else {
+            s.recoveredSince = -1;
+            if (badness > s.segmentBadness) {
+                // the stretch is annotated with its worst issue
+                s.segmentBadness = badness;
+                s.issue = issue;
+            }
+        }
+    }
+
+    private void closeSegment(LeadState s, int end) {
+        s.segments.add(new int[]{s.segmentStart, end});
+        s.lastSegmentEnd = end;
+        s.lastIssue = s.issue;
+        s.lastBadness = s.segmentBadness;
+        s.annotationPending = true;
+        s.segmentStart = -1;
+        s.recoveredSince = -1;
+        s.issue = null;
+    }
+
+    private void annotateLastSegment(int lead, LeadState s) {
+        s.annotationPending = false;
+        if (mAnnotate) {
+            int[] segment = s.segments.get(s.segments.size() - 1);
+            mEcg.addAnnotation(new EcgAnnotation(AnnotationType.SIGNAL_QUALITY, ANNOTATOR,
+                    s.lastIssue.getDescription(), segment[0], segment[1], mEcg.getLeads().getLead(lead)));
+        }
+    }
+
+    /**
+     * Closes all unusable stretches which are still open, e.g. at the end of a recording, so they get annotated.
+     */
+    public synchronized void finish() {
+        update();
+        for (int lead = 0; lead < mLeads.length; lead++) {
+            LeadState s = mLeads[lead];
+            if (s.segmentStart >= 0)
+                closeSegment(s, s.recoveredSince >= 0 ? s.recoveredSince - 1 : mNextIndex - 1);
+            if (s.annotationPending)
+                annotateLastSegment(lead, s);
+        }
+    }
+
+    /**
+     * @param lead the index of a lead.
+     * @return whether the lead is usable at its most recent sample.
+     */
+    public synchronized boolean isCurrentlyUsable(int lead) {
+        update();
+        return lead >= mLeads.length || mLeads[lead].segmentStart < 0;
+    }
+
+    /**
+     * @param lead the index of a lead.
+     * @return the quality of the lead at its most recent sample, between 0 (unusable) and 1 (perfect).
+     */
+    public synchronized double getQuality(int lead) {
+        update();
+        if (lead >= mLeads.length)
+            return 1;
+        return Math.max(0, 1 - mLeads[lead].badness);
+    }
+
+    /**
+     * @param lead the index of a lead.
+     * @return the reason the lead is currently unusable, or <code>null</code> if it is usable.
+     */
+    public synchronized Issue getCurrentIssue(int lead) {
+        update();
+        if (lead >= mLeads.length)
+            return null;
+        return mLeads[lead].issue;
+    }
+
+    /**
+     * Checks whether a sample lies in a usable stretch of the given lead.
+     *
+     * @param lead        the index of a lead.
+     * @param sampleIndex the index of the sample.
+     * @return <code>false</code> if the sample lies in a stretch assessed as unusable.
+     */
+    public synchronized boolean isUsable(int lead, int sampleIndex) {
+        update();
+        if (lead < 0 || lead >= mLeads.length)
+            return true;
+        LeadState s = mLeads[lead];
+        if (s.segmentStart >= 0 && sampleIndex >= s.segmentStart)
+            return false;
+        // recent samples are queried most, so search from the end
+        for (int i = s.segments.size() - 1; i >= 0; i--) {
+            int[] segment = s.segments.get(i);
+            if (sampleIndex > segment[1])
+                return true;
+            if (sampleIndex >= segment[0])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a sample lies in a usable stretch of the given signal.
+     *
+     * @param signal      a signal of the assessed ECG.
+     * @param sampleIndex the index of the sample.
+     * @return <code>false</code> if the sample lies in a stretch assessed as unusable.
+     */
+    public boolean isUsable(EcgSignal signal, int sampleIndex) {
+        for (int i = 0; i < mEcg.getNumLeads(); i++) {
+            if (mEcg.getSignalFromIndex(i) == signal)
+                return isUsable(i, sampleIndex);
+        }
+        return true;
+    }
+}
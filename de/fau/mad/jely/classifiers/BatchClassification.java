@@ -0,0 +1,93 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import de.fau.mad.jely.QrsClass;
+import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.util.ParallelTasks;
+
+/**
+ * Helpers for the batch classification of {@link Classifier#classifyAll}. The beats are split into partitions of
+ * consecutive beats which are classified concurrently. A partition may read the beats before its start as context,
+ * but only writes the class codes of its own beats.
+ */
+final class BatchClassification {
+    /**
+     * Number of beats classified by one task.
+     */
+    static final int PARTITION_SIZE = 4096;
+
+    /**
+     * Classifies one partition of the beats.
+     */
+    interface Partition {
+        /**
+         * @param start the first beat of the partition
+         * @param end   the end (exclusive) of the partition
+         * @param codes the class codes of all beats, only <code>[start, end)</code> may be written
+         */
+        void classify(int start, int end, int[] codes);
+    }
+
+    private BatchClassification() {
+    }
+
+    /**
+     * Classifies all beats partition by partition.
+     *
+     * @param numBeats  the number of beats
+     * @param executor  the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @param partition the classification of a partition
+     * @return the class codes of all beats
+     */
+    static int[] run(int numBeats, Executor executor, final Partition partition) {
+        final int[] codes = new int[numBeats];
+        ParallelTasks.run(numBeats, PARTITION_SIZE, executor, "Classification", new ParallelTasks.Range() {
+            @Override
+            public void run(int from, int to) {
+                partition.classify(from, to, codes);
+            }
+        });
+        return codes;
+    }
+
+    /**
+     * Computes the cached samples of a template before it is shared between threads, so the partitions only read it.
+     *
+     * @param template the template, may be <code>null</code>
+     */
+    static void prepareTemplate(QrsComplex template) {
+        if (template != null)
+            template.getCrossCorrelation(template);
+    }
+
+    /**
+     * @param codes class codes as returned by {@link Classifier#classifyAll}
+     * @return the corresponding QRS classes
+     */
+    static List<QrsClass> toQrsClasses(int[] codes) {
+        QrsClass[] classes = QrsClass.values();
+        ArrayList<QrsClass> qrsClasses = new ArrayList<>(codes.length);
+        for (int i = 0; i < codes.length; i++)
+            qrsClasses.add(classes[codes[i]]);
+        return qrsClasses;
+    }
+}
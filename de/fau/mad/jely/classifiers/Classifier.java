@@ -18,8 +18,10 @@ package de.fau.mad.jely.classifiers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsClass;
 import de.fau.mad.jely.QrsComplex;
@@ -39,4 +41,31 @@ public interface Classifier {
 
     public List<QrsClass> classify(ArrayList<Heartbeat> beatList);
 
+    /**
+     * Classifies all beats of a table.
+     *
+     * @param table the beats to be classified
+     * @return a list of QRS classes corresponding to the rows of the table
+     */
+    public List<QrsClass> classify(BeatTable table);
+
+    /**
+     * Classifies all beats of a table in one batch. Classifiers without a sequential dependency between the beats,
+     * or with a bounded one, split the table into partitions that are classified concurrently on the executor.
+     *
+     * @param table    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code ({@link QrsClass#ordinal()}) of every row of the table
+     */
+    public int[] classifyAll(BeatTable table, Executor executor);
+
+    /**
+     * Classifies a list of heartbeats in one batch, see {@link #classifyAll(BeatTable, Executor)}.
+     *
+     * @param beats    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code ({@link QrsClass#ordinal()}) of every beat
+     */
+    public int[] classifyAll(List<Heartbeat> beats, Executor executor);
+
 }
@@ -0,0 +1,321 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts trained decision trees into a {@link FlatDecisionTree}.
+ * <p>
+ * The input is a JELY specific tree text format. It is the text dump WEKA prints for a J48 tree with numeric
+ * attributes, so such a dump can be read unchanged, extended by optional lines that state the outcome of a split for a
+ * missing value, which J48 itself does not have. See {@link #fromJ48Dump(Reader, String[], String[])}.
+ */
+public class DecisionTreeLoader {
+    private DecisionTreeLoader() {
+    }
+
+    /**
+     * Collects nodes in preorder and shares one leaf per class value.
+     */
+    private static class Builder {
+        private final ArrayList<Integer> mFeature = new ArrayList<>();
+        private final ArrayList<Double> mThreshold = new ArrayList<>();
+        private final ArrayList<Integer> mLessOrEqual = new ArrayList<>();
+        private final ArrayList<Integer> mGreater = new ArrayList<>();
+        private final ArrayList<Integer> mMissing = new ArrayList<>();
+        private final ArrayList<Double> mValue = new ArrayList<>();
+        private final HashMap<Double, Integer> mLeaves = new HashMap<>();
+
+        int addInner(int feature, double threshold) {
+            return add(feature, threshold, Double.NaN);
+        }
+
+        int leaf(double value) {
+            Integer node = mLeaves.get(value);
+            if (node == null) {
+                node = add(-1, Double.NaN, value);
+                mLeaves.put(value, node);
+            }
+            return node;
+        }
+
+        private int add(int feature, double threshold, double value) {
+            mFeature.add(feature);
+            mThreshold.add(threshold);
+            mLessOrEqual.add(-1);
+            mGreater.add(-1);
+            mMissing.add(-1);
+            mValue.add(value);
+            return mFeature.size() - 1;
+        }
+
+        void setChildren(int node, int lessOrEqual, int greater, int missing) {
+            mLessOrEqual.set(node, lessOrEqual);
+            mGreater.set(node, greater);
+            mMissing.set(node, missing);
+        }
+
+        FlatDecisionTree build() {
+            int n = mFeature.size();
+            int[] feature = new int[n];
+            double[] threshold = new double[n];
+            int[] lessOrEqual = new int[n];
+            int[] greater = new int[n];
+            int[] missing = new int[n];
+            double[] value = new double[n];
+            for (int i = 0; i < n; i++) {
+                feature[i] = mFeature.get(i);
+                threshold[i] = mThreshold.get(i);
+                lessOrEqual[i] = mLessOrEqual.get(i);
+                greater[i] = mGreater.get(i);
+                missing[i] = mMissing.get(i);
+                value[i] = mValue.get(i);
+            }
+            return new FlatDecisionTree(feature, threshold, lessOrEqual, greater, missing, value);
+        }
+    }
+
+    /**
+     * A parsed line of the tree text.
+     */
+    private static class J48Line {
+        int depth;
+        String attribute;
+        boolean lessOrEqual;
+        double threshold;
+        String leafClass;
+        double weight;
+        boolean missing;
+        String follows;
+    }
+
+    /**
+     * Reads a tree in the JELY tree text format. Without missing value lines this is the text dump of a WEKA J48 tree
+     * with numeric attributes, e.g.
+     *
+     * <pre>
+     * width &lt;= 0.063889
+     * |   rr &lt;= 1.208333: 1 (30.0/2.0)
+     * |   rr &gt; 1.208333: 0 (120.0)
+     * width &gt; 0.063889: 0 (400.0/10.0)
+     * </pre>
+     * <p>
+     * Header and summary lines are skipped. J48 distributes instances with a missing value over all branches; the
+     * flat tree follows the branch that covered more training instances instead, or the <code>&lt;=</code> branch if
+     * the dump has no instance counts. As a JELY extension, a split can state the outcome for a missing value
+     * explicitly in a third line after its two branches, either a class or one of the two branches:
+     *
+     * <pre>
+     * width &lt;= 0.063889
+     * |   rr &lt;= 1.208333: 1
+     * |   rr &gt; 1.208333: 0
+     * |   rr = ?: 0
+     * width &gt; 0.063889: 0
+     * width = ? follows &lt;=
+     * </pre>
+     *
+     * @param reader         the tree text.
+     * @param attributeNames the attribute names in feature vector order.
+     * @param classNames     the class names, a leaf gets the index of its class as value. If <code>null</code>, the
+     *                       class names are parsed as numbers.
+     * @return the tree.
+     * @throws IOException if the text cannot be parsed or uses unknown attributes, classes or nominal splits.
+     */
+    public static FlatDecisionTree fromJ48Dump(Reader reader, String[] attributeNames, String[] classNames)
+            throws IOException {
+        HashMap<String, Integer> attributes = new HashMap<>();
+        for (int i = 0; i < attributeNames.length; i++)
+            attributes.put(attributeNames[i], i);
+
+        BufferedReader in = new BufferedReader(reader);
+        ArrayList<J48Line> lines = new ArrayList<>();
+        String rootLeaf = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith("Number of Leaves"))
+                break;
+
+            if (lines.isEmpty() && line.startsWith(":")) {
+                rootLeaf = token(line, 1);
+                continue;
+            }
+            J48Line parsed = parseJ48Line(line);
+            if (parsed != null && (!parsed.missing || !lines.isEmpty()))
+                lines.add(parsed);
+            else if (parsed == null && !lines.isEmpty() && line.contains(" = "))
+                throw new IOException("Nominal splits are not supported: " + line);
+        }
+
+        Builder builder = new Builder();
+        if (lines.isEmpty()) {
+            if (rootLeaf == null)
+                throw new IOException("No tree found.");
+            builder.leaf(classValue(rootLeaf, classNames));
+            return builder.build();
+        }
+
+        int[] position = {0};
+        addJ48Node(builder, lines, position, 0, attributes, classNames, new double[1]);
+        if (position[0] != lines.size())
+            throw new IOException("Unexpected line " + (position[0] + 1) + " of the tree.");
+        return builder.build();
+    }
+
+    // parses a trimmed split or missing value line, null if the line is neither
+    private static J48Line parseJ48Line(String line) {
+        int length = line.length();
+        int depth = 0;
+        int start = 0;
+        while (start < length && (line.charAt(start) == '|' || Character.isWhitespace(line.charAt(start)))) {
+            if (line.charAt(start) == '|')
+                depth++;
+            start++;
+        }
+        int attributeEnd = line.indexOf(' ', start);
+        if (attributeEnd <= start)
+            return null;
+        int operatorEnd = line.indexOf(' ', attributeEnd + 1);
+        if (operatorEnd < 0)
+            return null;
+        String operator = line.substring(attributeEnd + 1, operatorEnd);
+
+        J48Line parsed = new J48Line();
+        parsed.depth = depth;
+        parsed.attribute = line.substring(start, attributeEnd);
+        if (operator.equals("=")) {
+            if (line.charAt(operatorEnd + 1) != '?')
+                return null;
+            parsed.missing = true;
+            String outcome = line.substring(operatorEnd + 2).trim();
+            if (outcome.startsWith(":"))
+                parsed.leafClass = token(outcome, 1);
+            else if (outcome.equals("follows <=") || outcome.equals("follows >"))
+                parsed.follows = outcome.substring(8);
+            else
+                return null;
+            return parsed;
+        }
+        if (!operator.equals("<=") && !operator.equals(">"))
+            return null;
+
+        parsed.lessOrEqual = operator.equals("<=");
+        int colon = line.indexOf(':', operatorEnd);
+        try {
+            parsed.threshold = Double.parseDouble(line.substring(operatorEnd + 1, colon < 0 ? length : colon));
+            if (colon >= 0) {
+                parsed.leafClass = token(line, colon + 1);
+                // instance counts "(covered/misclassified)" after the class
+                int open = line.indexOf('(', colon);
+                if (open >= 0) {
+                    int end = open + 1;
+                    while (end < length && line.charAt(end) != '/' && line.charAt(end) != ')')
+                        end++;
+                    parsed.weight = Double.parseDouble(line.substring(open + 1, end));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return parsed;
+    }
+
+    // the first whitespace separated token of line at or after start, null if there is none
+    private static String token(String line, int start) {
+        int length = line.length();
+        while (start < length && Character.isWhitespace(line.charAt(start)))
+            start++;
+        int end = start;
+        while (end < length && !Character.isWhitespace(line.charAt(end)))
+            end++;
+        return end > start ? line.substring(start, end) : null;
+    }
+
+    // adds the split starting at lines[position] and returns its node; weight[0] receives the covered instances
+    private static int addJ48Node(Builder builder, ArrayList<J48Line> lines, int[] position, int depth,
+                                  Map<String, Integer> attributes, String[] classNames, double[] weight)
+            throws IOException {
+        if (position[0] + 1 >= lines.size())
+            throw new IOException("Incomplete split at line " + (position[0] + 1) + " of the tree.");
+
+        J48Line first = lines.get(position[0]);
+        if (first.depth != depth || first.missing || !first.lessOrEqual)
+            throw new IOException("Unexpected split at line " + (position[0] + 1) + " of the tree.");
+        Integer feature = attributes.get(first.attribute);
+        if (feature == null)
+            throw new IOException("Unknown attribute " + first.attribute);
+
+        int self = builder.addInner(feature, first.threshold);
+        double[] lessOrEqualWeight = new double[1];
+        int lessOrEqual = addJ48Branch(builder, lines, position, depth, attributes, classNames, lessOrEqualWeight);
+
+        J48Line second = position[0] < lines.size() ? lines.get(position[0]) : null;
+        if (second == null || second.depth != depth || second.missing || second.lessOrEqual
+                || !second.attribute.equals(first.attribute) || second.threshold != first.threshold)
+            throw new IOException("Missing '>' branch of " + first.attribute + " <= " + first.threshold);
+        double[] greaterWeight = new double[1];
+        int greater = addJ48Branch(builder, lines, position, depth, attributes, classNames, greaterWeight);
+
+        int missing = lessOrEqualWeight[0] >= greaterWeight[0] ? lessOrEqual : greater;
+        J48Line third = position[0] < lines.size() ? lines.get(position[0]) : null;
+        if (third != null && third.depth == depth && third.missing && third.attribute.equals(first.attribute)) {
+            position[0]++;
+            if (third.leafClass != null)
+                missing = builder.leaf(classValue(third.leafClass, classNames));
+            else
+                missing = third.follows.equals("<=") ? lessOrEqual : greater;
+        }
+
+        builder.setChildren(self, lessOrEqual, greater, missing);
+        weight[0] = lessOrEqualWeight[0] + greaterWeight[0];
+        return self;
+    }
+
+    private static int addJ48Branch(Builder builder, ArrayList<J48Line> lines, int[] position, int depth,
+                                    Map<String, Integer> attributes, String[] classNames, double[] weight)
+            throws IOException {
+        J48Line line = lines.get(position[0]++);
+        if (line.missing)
+            throw new IOException("Unexpected missing value branch at line " + position[0] + " of the tree.");
+        if (line.leafClass != null) {
+            weight[0] = line.weight;
+            return builder.leaf(classValue(line.leafClass, classNames));
+        }
+        return addJ48Node(builder, lines, position, depth + 1, attributes, classNames, weight);
+    }
+
+    private static double classValue(String name, String[] classNames) throws IOException {
+        if (classNames == null) {
+            try {
+                return Double.parseDouble(name);
+            } catch (NumberFormatException e) {
+                throw new IOException("Class " + name + " is not a number.", e);
+            }
+        }
+        for (int i = 0; i < classNames.length; i++) {
+            if (classNames[i].equals(name))
+                return i;
+        }
+        throw new IOException("Unknown class " + name);
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A binary decision tree stored in parallel arrays and evaluated over a <code>double[]</code> feature vector.
+ * <p>
+ * Every node is an index into the arrays. An inner node compares one feature with its threshold and continues with
+ * the <code>lessOrEqual</code> or the <code>greater</code> child. A missing feature (<code>Double.NaN</code>) continues
+ * with the <code>missing</code> child. A leaf has the feature index -1 and carries the class value. Evaluation walks
+ * the arrays in a loop and does not allocate.
+ * <p>
+ * Trees are created with {@link DecisionTreeLoader} and can be stored in a compact binary form with
+ * {@link #write(OutputStream)} and {@link #read(InputStream)}.
+ */
+public class FlatDecisionTree {
+    private static final int MAGIC = 0x46445431;
+
+    private final int[] mFeature;
+    private final double[] mThreshold;
+    private final int[] mLessOrEqual;
+    private final int[] mGreater;
+    private final int[] mMissing;
+    private final double[] mValue;
+
+    /**
+     * Creates a tree from its node arrays. Node 0 is the root. For leaves only the feature index (-1) and the value
+     * are used.
+     *
+     * @param feature     the feature index compared at each node, -1 for leaves.
+     * @param threshold   the threshold of each inner node.
+     * @param lessOrEqual the child taken if the feature is less than or equal to the threshold.
+     * @param greater     the child taken if the feature is greater than the threshold.
+     * @param missing     the child taken if the feature is missing.
+     * @param value       the class value of each leaf.
+     */
+    public FlatDecisionTree(int[] feature, double[] threshold, int[] lessOrEqual, int[] greater, int[] missing,
+                            double[] value) {
+        int n = feature.length;
+        if (n == 0 || threshold.length != n || lessOrEqual.length != n || greater.length != n || missing.length != n
+                || value.length != n)
+            throw new IllegalArgumentException("Mismatched node arrays.");
+
+        for (int i = 0; i < n; i++) {
+            if (feature[i] >= 0 && (!isNode(lessOrEqual[i], n) || !isNode(greater[i], n) || !isNode(missing[i], n)))
+                throw new IllegalArgumentException("Node " + i + " has an invalid child.");
+        }
+
+        mFeature = feature;
+        mThreshold = threshold;
+        mLessOrEqual = lessOrEqual;
+        mGreater = greater;
+        mMissing = missing;
+        mValue = value;
+    }
+
+    private static boolean isNode(int index, int n) {
+        return index >= 0 && index < n;
+    }
+
+    /**
+     * Evaluates the tree.
+     *
+     * @param features the feature vector, <code>Double.NaN</code> marks a missing feature.
+     * @return the class value of the reached leaf.
+     */
+    public double classify(double[] features) {
+        int node = 0;
+        int feature;
+        while ((feature = mFeature[node]) >= 0) {
+            double x = features[feature];
+            if (x <= mThreshold[node])
+                node = mLessOrEqual[node];
+            else if (x > mThreshold[node])
+                node = mGreater[node];
+            else
+                node = mMissing[node];
+        }
+        return mValue[node];
+    }
+
+    /**
+     * @return the number of nodes, including leaves.
+     */
+    public int getNumNodes() {
+        return mFeature.length;
+    }
+
+    /**
+     * @return the number of features the tree reads, i.e. the highest feature index plus one.
+     */
+    public int getNumFeatures() {
+        int max = -1;
+        for (int i = 0; i < mFeature.length; i++)
+            max = Math.max(max, mFeature[i]);
+        return max + 1;
+    }
+
+    /**
+     * Writes the tree in a compact binary form.
+     *
+     * @param out
+     * @throws IOException
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(mFeature.length);
+        for (int i = 0; i < mFeature.length; i++) {
+            data.writeInt(mFeature[i]);
+            if (mFeature[i] < 0) {
+                data.writeDouble(mValue[i]);
+            } else {
+                data.writeDouble(mThreshold[i]);
+                data.writeInt(mLessOrEqual[i]);
+                data.writeInt(mGreater[i]);
+                data.writeInt(mMissing[i]);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a tree written by {@link #write(OutputStream)}.
+     *
+     * @param in
+     * @return the tree.
+     * @throws IOException if the input is not a valid tree.
+     */
+    public static FlatDecisionTree read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC)
+            throw new IOException("Not a decision tree.");
+
+        int n = data.readInt();
+        if (n <= 0)
+            throw new IOException("Invalid number of nodes: " + n);
+
+        int[] feature = new int[n];
+        double[] threshold = new double[n];
+        int[] lessOrEqual = new int[n];
+        int[] greater = new int[n];
+        int[] missing = new int[n];
+        double[] value = new double[n];
+        for (int i = 0; i < n; i++) {
+            feature[i] = data.readInt();
+            if (feature[i] < 0) {
+                value[i] = data.readDouble();
+            } else {
+                threshold[i] = data.readDouble();
+                lessOrEqual[i] = data.readInt();
+                greater[i] = data.readInt();
+                missing[i] = data.readInt();
+            }
+        }
+
+        try {
+            return new FlatDecisionTree(feature, threshold, lessOrEqual, greater, missing, value);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
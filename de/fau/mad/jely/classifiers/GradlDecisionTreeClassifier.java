@@ -22,8 +22,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatFeatures;
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsClass;
 
@@ -113,11 +116,20 @@ public class GradlDecisionTreeClassifier implements Classifier {
      * @return a QRS class corresponding to the QRS complex
      */
     public QrsClass classifyNext(QrsComplex qrsComplex) {
+        QrsClass qrsClass = classify(qrsComplex, precursor, template1, template2);
+
+        // set QRS complex as precursor
+        precursor = qrsComplex;
+
+        return qrsClass;
+    }
+
+    // the decision tree only depends on the preceding QRS complex and the templates
+    private static QrsClass classify(QrsComplex qrsComplex, QrsComplex precursor, QrsComplex template1,
+                                     QrsComplex template2) {
 
         // check QRS complexes
         if (qrsComplex == null || precursor == null || template1 == null || template2 == null) {
-            // set QRS complex as precursor
-            precursor = qrsComplex;
             // map and return QRS class
             return mapQrsClass(GradlClass.UNKNOWN);
         }
@@ -126,14 +138,15 @@ public class GradlDecisionTreeClassifier implements Classifier {
         GradlClass gradlClass = GradlClass.NORMAL;
         // GradlRhythm gradlRhythm = GradlRhythm.NONE;
         // extract features
-        double rrInterval = qrsComplex.getRRInterval() * 1000;
+        BeatFeatures features = Heartbeat.getHeartbeat(qrsComplex).getFeatures(template1, template2);
+        double rrInterval = features.get(BeatFeatures.RR_INTERVAL) * 1000;
         double rrIntervalPrior = precursor.getRRInterval() * 1000;
-        double qrsWidth = qrsComplex.getQRSWidth() * 1000;
+        double qrsWidth = features.get(BeatFeatures.QRS_WIDTH) * 1000;
         double qrsWidthPrior = precursor.getQRSWidth() * 1000;
-        double crossCorrelation1 = qrsComplex.getCrossCorrelation(template1);
-        double crossCorrelation2 = qrsComplex.getCrossCorrelation(template2);
-        double areaDifference1 = qrsComplex.getAreaDifference(template1);
-        double areaDifference2 = qrsComplex.getAreaDifference(template2);
+        double crossCorrelation1 = features.get(BeatFeatures.CROSS_CORRELATION_1);
+        double crossCorrelation2 = features.get(BeatFeatures.CROSS_CORRELATION_2);
+        double areaDifference1 = features.get(BeatFeatures.AREA_DIFFERENCE_1);
+        double areaDifference2 = features.get(BeatFeatures.AREA_DIFFERENCE_2);
 
         // analyze QRS width
         if (qrsWidth > 130) {
@@ -188,14 +201,11 @@ public class GradlDecisionTreeClassifier implements Classifier {
             gradlClass = GradlClass.PREMATURE;
         }
 
-        // set QRS complex as precursor
-        precursor = qrsComplex;
-
         // map and return QRS class
         return mapQrsClass(gradlClass);
     }
 
-    private QrsClass mapQrsClass(GradlClass gradlClass) {
+    private static QrsClass mapQrsClass(GradlClass gradlClass) {
         if (gradlClass == GradlClass.UNKNOWN) {
             return QrsClass.UNKNOWN;
         } else if (gradlClass == GradlClass.NORMAL) {
@@ -219,8 +229,7 @@ public class GradlDecisionTreeClassifier implements Classifier {
 
     @Override
     public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
-        // TODO Auto-generated method stub
-        return null;
+        return BatchClassification.toQrsClasses(classifyAll(beatList, null));
     }
 
     // selects two templates of out <NUMBER_CANDIDATES> candidates
@@ -307,4 +316,88 @@ public class GradlDecisionTreeClassifier implements Classifier {
         return template2;
     }
 
+    /**
+     * Classifies all beats of a table using the decision tree classifier of Gradl. The classifier needs the cross
+     * correlation to its templates, so QRS complex views of the rows are created from the source signal of the table.
+     *
+     * @param table the beats to be classified
+     * @return a list of QRS classes corresponding to the rows of the table
+     */
+    @Override
+    public List<QrsClass> classify(BeatTable table) {
+        return BatchClassification.toQrsClasses(classifyAll(table, null));
+    }
+
+    /**
+     * Classifies all beats of a table using the decision tree classifier of Gradl. The templates are selected from the
+     * first beats, after that every beat only needs its predecessor, so each partition starts with a view of the row
+     * preceding it and the partitions are classified concurrently.
+     *
+     * @param table    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code of every row of the table
+     */
+    @Override
+    public int[] classifyAll(final BeatTable table, Executor executor) {
+        ArrayList<QrsComplex> candidates = new ArrayList<>();
+        for (int row = 0; row < Math.min(table.size(), NUMBER_CANDIDATES); row++) {
+            candidates.add(table.getQrsComplex(row));
+        }
+        selectTemplates(candidates);
+        final QrsComplex template1 = this.template1;
+        final QrsComplex template2 = this.template2;
+        BatchClassification.prepareTemplate(template1);
+        BatchClassification.prepareTemplate(template2);
+
+        int[] codes = BatchClassification.run(table.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                // the view of the predecessor belongs to this partition only, its QRS width is calculated on
+                // demand like in the sequential case
+                QrsComplex previous = start > 0 ? table.getQrsComplex(start - 1) : null;
+                for (int row = start; row < end; row++) {
+                    QrsComplex qrs = table.getQrsComplex(row);
+                    codes[row] = GradlDecisionTreeClassifier.classify(qrs, previous, template1, template2).ordinal();
+                    previous = qrs;
+                }
+            }
+        });
+        // a view of the last row, so that classify(QrsComplex) can continue after the table; it is a new object that
+        // is not shared with the partitions or the caller
+        precursor = table.size() > 0 ? table.getQrsComplex(table.size() - 1) : null;
+        return codes;
+    }
+
+    @Override
+    public int[] classifyAll(final List<Heartbeat> beats, Executor executor) {
+        ArrayList<QrsComplex> candidates = new ArrayList<>();
+        for (int i = 0; i < Math.min(beats.size(), NUMBER_CANDIDATES); i++) {
+            candidates.add(beats.get(i).getQrs());
+        }
+        selectTemplates(candidates);
+        final QrsComplex template1 = this.template1;
+        final QrsComplex template2 = this.template2;
+        BatchClassification.prepareTemplate(template1);
+        BatchClassification.prepareTemplate(template2);
+        // the last beat of a partition is the predecessor of the first beat of the next one, calculate its features
+        // before both partitions read them
+        int partitionSize = BatchClassification.PARTITION_SIZE;
+        for (int i = partitionSize - 1; i < beats.size(); i += partitionSize) {
+            beats.get(i).getQrs().getMean();
+        }
+
+        int[] codes = BatchClassification.run(beats.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                for (int i = start; i < end; i++) {
+                    QrsComplex previous = i > 0 ? beats.get(i - 1).getQrs() : null;
+                    codes[i] = GradlDecisionTreeClassifier.classify(beats.get(i).getQrs(), previous, template1,
+                            template2).ordinal();
+                }
+            }
+        });
+        precursor = beats.isEmpty() ? null : beats.get(beats.size() - 1).getQrs();
+        return codes;
+    }
+
 }
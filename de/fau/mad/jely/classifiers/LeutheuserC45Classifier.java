@@ -16,24 +16,51 @@
  */
 package de.fau.mad.jely.classifiers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatFeatures;
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsClass;
 import de.fau.mad.jely.QrsComplex;
 
 /**
- * Implementation of the C4.5 classifier by Leutheuser et al. (Autogenerated)
+ * Implementation of the C4.5 classifier by Leutheuser et al.
  * <p>
  * Leutheuser, Heike, Stefan Gradl, Patrick Kugler, Lars Anneken, Martin Arnold,
  * Stephan Achenbach, and Bjoern M. Eskofier. 2014.
  * “Comparison of Real-Time Classification Systems for Arrhythmia Detection on Android-Based Mobile Devices.”
  * In 2014 36th Annual International Conference of the IEEE Engineering in Medicine and Biology Society, 2690–93.
  * Chicago, IL: IEEE. https://doi.org/10.1109/EMBC.2014.6944177.
+ * <p>
+ * The trained tree is kept in the JELY tree text format in the resource <code>LeutheuserC45Classifier.j48</code> next
+ * to this class and loaded with {@link DecisionTreeLoader#fromJ48Dump(Reader, String[], String[])} on first use. The
+ * attributes are named after the {@link BeatFeatures} constants. The text was converted from the WEKA source the
+ * classifier was originally generated from; as that source routes a missing feature to a fixed class or branch
+ * instead of distributing it, every split states its missing value outcome in an <code>= ?</code> line, so the
+ * resource is not a plain J48 dump. The resource has to be packaged together with the class files.
  */
 public class LeutheuserC45Classifier implements Classifier {
+    /**
+     * Number of features the tree expects, see {@link #extractFeatures(List, int, double[])}.
+     */
+    public static final int NUMBER_OF_FEATURES = BeatFeatures.NUMBER_OF_TEMPLATE_FEATURES;
+
+    private static final String TREE_RESOURCE = "LeutheuserC45Classifier.j48";
+    private static final String[] ATTRIBUTES = {"R_POSITION", "R_VALUE", "RR_INTERVAL", "QR_AMPLITUDE",
+            "RS_AMPLITUDE", "QRS_WIDTH", "QRST_AREA", "MINIMUM", "MAXIMUM", "MEAN", "VARIANCE", "STANDARD_DEVIATION",
+            "SKEWNESS", "KURTOSIS", "ENERGY", "CROSS_CORRELATION_1", "CROSS_CORRELATION_2", "AREA_DIFFERENCE_1",
+            "AREA_DIFFERENCE_2", "PREVIOUS_RR_INTERVAL"};
+    private static final String[] CLASSES = {"NORMAL", "ABNORMAL"};
+    private static FlatDecisionTree sTree;
+
     QrsComplex template1, template2;
 
     public LeutheuserC45Classifier(QrsComplex template1, QrsComplex template2) {
@@ -41,6 +68,27 @@ public class LeutheuserC45Classifier implements Classifier {
         this.template2 = template2;
     }
 
+    /**
+     * @return the decision tree, loaded on first use.
+     */
+    public static synchronized FlatDecisionTree getTree() {
+        if (sTree == null) {
+            InputStream in = LeutheuserC45Classifier.class.getResourceAsStream(TREE_RESOURCE);
+            if (in == null)
+                throw new IllegalStateException("Resource " + TREE_RESOURCE + " not found.");
+            try {
+                try {
+                    sTree = DecisionTreeLoader.fromJ48Dump(new InputStreamReader(in, "UTF-8"), ATTRIBUTES, CLASSES);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not load " + TREE_RESOURCE, e);
+            }
+        }
+        return sTree;
+    }
+
     @Override
     public List<QrsClass> classify(List<QrsComplex> qrsComplexes) {
         //initialize QRS classes
@@ -50,18909 +98,138 @@ public class LeutheuserC45Classifier implements Classifier {
         }
 
         //loop over all QRS complexes
-        Object[] features = new Double[20];
-        int n = 0;
+        FlatDecisionTree tree = getTree();
+        double[] features = new double[NUMBER_OF_FEATURES];
         for (int i = 1; i < qrsComplexes.size() - 1; i++) {
-            QrsComplex qrs = qrsComplexes.get(i);
-            n = 0;
-            features[n++] = new Double(qrs.getRPosition());
-            features[n++] = new Double(qrs.getRValue());
-            features[n++] = new Double(qrs.getRRInterval());
-            features[n++] = new Double(qrs.getQRAmplitude());
-            features[n++] = new Double(qrs.getRSAmplitude());
-            features[n++] = new Double(qrs.getQRSWidth());
-            features[n++] = new Double(qrs.getQRSTArea());
-            features[n++] = new Double(qrs.getMinimum());
-            features[n++] = new Double(qrs.getMaximum());
-            features[n++] = new Double(qrs.getMean());
-            features[n++] = new Double(qrs.getVariance());
-            features[n++] = new Double(qrs.getStandardDeviation());
-            features[n++] = new Double(qrs.getSkewness());
-            features[n++] = new Double(qrs.getKurtosis());
-            features[n++] = new Double(qrs.getEnergy());
-            features[n++] = new Double(qrs.getCrossCorrelation(template1));
-            features[n++] = new Double(qrs.getCrossCorrelation(template2));
-            features[n++] = new Double(qrs.getAreaDifference(template1));
-            features[n++] = new Double(qrs.getAreaDifference(template2));
-            features[n++] = new Double(qrsComplexes.get(i - 1).getRRInterval());
-
-            try {
-                double resClass = classify(features);
-                //System.out.println( "Res. Class: " + resClass );
-                if (resClass == 1)
-                    classifiedClasses.set(i, QrsClass.ABNORMAL);
-            } catch (Exception e) {
-                // TODO Auto-generated catch block
-                e.printStackTrace();
-            }
+            extractFeatures(qrsComplexes, i, features);
+            if (tree.classify(features) == 1)
+                classifiedClasses.set(i, QrsClass.ABNORMAL);
         }
 
         return classifiedClasses;
     }
 
+    /**
+     * Fills the feature vector of a QRS complex.
+     *
+     * @param qrsComplexes the QRS complexes
+     * @param i            the index of the QRS complex, the preceding one must exist
+     * @param features     the feature vector of length {@link #NUMBER_OF_FEATURES}
+     */
+    public void extractFeatures(List<QrsComplex> qrsComplexes, int i, double[] features) {
+        extractFeatures(qrsComplexes.get(i), qrsComplexes.get(i - 1).getRRInterval(), features);
+    }
+
+    /**
+     * Fills the feature vector of a QRS complex from the features cached on its heartbeat, see
+     * {@link Heartbeat#getFeatures(QrsComplex, QrsComplex)}.
+     *
+     * @param qrs                the QRS complex
+     * @param previousRRInterval the RR interval of the preceding QRS complex
+     * @param features           the feature vector of length {@link #NUMBER_OF_FEATURES}
+     */
+    public void extractFeatures(QrsComplex qrs, double previousRRInterval, double[] features) {
+        BeatFeatures cached = Heartbeat.getHeartbeat(qrs).getFeatures(template1, template2);
+        System.arraycopy(cached.getValues(), 0, features, 0, NUMBER_OF_FEATURES);
+        features[BeatFeatures.PREVIOUS_RR_INTERVAL] = previousRRInterval;
+    }
+
+    /**
+     * Classifies a feature vector.
+     *
+     * @param features the feature vector, <code>Double.NaN</code> marks a missing feature
+     * @return 1 for an abnormal beat, 0 otherwise
+     */
+    public static double classify(double[] features) {
+        return getTree().classify(features);
+    }
+
+    /**
+     * Classifies a feature vector in the form of the generated WEKA source, where <code>null</code> marks a missing
+     * feature.
+     *
+     * @param i the feature vector of <code>Double</code> values
+     * @return 1 for an abnormal beat, 0 otherwise
+     * @throws Exception
+     */
     public static double classify(Object[] i) throws Exception {
-
-        double p = Double.NaN;
-        p = LeutheuserC45Classifier.N273a9ae30(i);
-        return p;
-    }
-
-    static double N273a9ae30(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.06388888888888888) {
-            p = LeutheuserC45Classifier.N41c6b2461(i);
-        } else if (((Double) i[5]).doubleValue() > 0.06388888888888888) {
-            p = LeutheuserC45Classifier.N14112c2b153(i);
-        }
-        return p;
-    }
-
-    static double N41c6b2461(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.2083333333333333) {
-            p = LeutheuserC45Classifier.N74561b8c2(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2083333333333333) {
-            p = LeutheuserC45Classifier.N736f7e00143(i);
-        }
-        return p;
-    }
-
-    static double N74561b8c2(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N4ffa62c03(i);
-        } else if (((Double) i[2]).doubleValue() > 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N4ec08aaa115(i);
-        }
-        return p;
-    }
-
-    static double N4ffa62c03(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.4777777777777778) {
-            p = LeutheuserC45Classifier.N3c64145e4(i);
-        } else if (((Double) i[19]).doubleValue() > 0.4777777777777778) {
-            p = LeutheuserC45Classifier.N7288c94812(i);
-        }
-        return p;
-    }
-
-    static double N3c64145e4(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.705) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.705) {
-            p = LeutheuserC45Classifier.N48c4d5165(i);
-        }
-        return p;
-    }
-
-    static double N48c4d5165(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5555555555555556) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5555555555555556) {
-            p = LeutheuserC45Classifier.Nc8a2df96(i);
-        }
-        return p;
-    }
-
-    static double Nc8a2df96(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.4208049322201767) {
-            p = LeutheuserC45Classifier.N107ab2ca7(i);
-        } else if (((Double) i[17]).doubleValue() > 0.4208049322201767) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N107ab2ca7(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.533704632724074) {
-            p = LeutheuserC45Classifier.Nc20827f8(i);
-        } else if (((Double) i[12]).doubleValue() > 3.533704632724074) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nc20827f8(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 7.192734375000449) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 7.192734375000449) {
-            p = LeutheuserC45Classifier.N62228a889(i);
-        }
-        return p;
-    }
-
-    static double N62228a889(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.5361780455303538) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > -0.5361780455303538) {
-            p = LeutheuserC45Classifier.N3f1a86d010(i);
-        }
-        return p;
-    }
-
-    static double N3f1a86d010(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6083333333333333) {
-            p = LeutheuserC45Classifier.N7ab39f1b11(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6083333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7ab39f1b11(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.4649999999999999) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.4649999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7288c94812(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.6) {
-            p = LeutheuserC45Classifier.N4886b5b13(i);
-        } else if (((Double) i[1]).doubleValue() > 0.6) {
-            p = LeutheuserC45Classifier.N48be86d133(i);
-        }
-        return p;
-    }
-
-    static double N4886b5b13(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.29466655725455587) {
-            p = LeutheuserC45Classifier.N6fcf511c14(i);
-        } else if (((Double) i[17]).doubleValue() > 0.29466655725455587) {
-            p = LeutheuserC45Classifier.N56cb056528(i);
-        }
-        return p;
-    }
-
-    static double N6fcf511c14(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.03333333333333333) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.03333333333333333) {
-            p = LeutheuserC45Classifier.N9e240b915(i);
-        }
-        return p;
-    }
-
-    static double N9e240b915(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.220636256185612) {
-            p = LeutheuserC45Classifier.N3d941a4416(i);
-        } else if (((Double) i[12]).doubleValue() > 3.220636256185612) {
-            p = LeutheuserC45Classifier.N2575095126(i);
-        }
-        return p;
-    }
-
-    static double N3d941a4416(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9222222222222223) {
-            p = LeutheuserC45Classifier.N7a817c1e17(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9222222222222223) {
-            p = LeutheuserC45Classifier.N2de1702f24(i);
-        }
-        return p;
-    }
-
-    static double N7a817c1e17(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9197362605092537) {
-            p = LeutheuserC45Classifier.N6f5395e318(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9197362605092537) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6f5395e318(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.009744746767214277) {
-            p = LeutheuserC45Classifier.N742ff73819(i);
-        } else if (((Double) i[9]).doubleValue() > 0.009744746767214277) {
-            p = LeutheuserC45Classifier.N6076bb6f23(i);
-        }
-        return p;
-    }
-
-    static double N742ff73819(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 574624.0) {
-            p = LeutheuserC45Classifier.N69f495c320(i);
-        } else if (((Double) i[0]).doubleValue() > 574624.0) {
-            p = LeutheuserC45Classifier.N6b6b170d22(i);
-        }
-        return p;
-    }
-
-    static double N69f495c320(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.28) {
-            p = LeutheuserC45Classifier.N1864756f21(i);
-        } else if (((Double) i[1]).doubleValue() > 0.28) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1864756f21(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.05) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6b6b170d22(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 605029.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 605029.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6076bb6f23(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.565) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.565) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2de1702f24(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 0.635) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 0.635) {
-            p = LeutheuserC45Classifier.N1695b7f125(i);
-        }
-        return p;
-    }
-
-    static double N1695b7f125(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.5745068359375084) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.5745068359375084) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2575095126(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.17058593749999626) {
-            p = LeutheuserC45Classifier.N708d735327(i);
-        } else if (((Double) i[7]).doubleValue() > -0.17058593749999626) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N708d735327(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.55) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.55) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N56cb056528(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.04722222222222222) {
-            p = LeutheuserC45Classifier.N6dda0a7229(i);
-        } else if (((Double) i[5]).doubleValue() > 0.04722222222222222) {
-            p = LeutheuserC45Classifier.N750a8b9832(i);
-        }
-        return p;
-    }
-
-    static double N6dda0a7229(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N60e8a91930(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N7b6449bc31(i);
-        }
-        return p;
-    }
-
-    static double N60e8a91930(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 0.41500000000000004) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 0.41500000000000004) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7b6449bc31(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 0.615) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 0.615) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N750a8b9832(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.3) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.3) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N48be86d133(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 7.496598884294027) {
-            p = LeutheuserC45Classifier.N6dbb5ebe34(i);
-        } else if (((Double) i[13]).doubleValue() > 7.496598884294027) {
-            p = LeutheuserC45Classifier.N23493a9858(i);
-        }
-        return p;
-    }
-
-    static double N6dbb5ebe34(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9638888888888889) {
-            p = LeutheuserC45Classifier.N34cbd31c35(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9638888888888889) {
-            p = LeutheuserC45Classifier.N439b220956(i);
-        }
-        return p;
-    }
-
-    static double N34cbd31c35(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5888888888888889) {
-            p = LeutheuserC45Classifier.N153cc85636(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5888888888888889) {
-            p = LeutheuserC45Classifier.N1e71a90f38(i);
-        }
-        return p;
-    }
-
-    static double N153cc85636(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5944444444444444) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.5944444444444444) {
-            p = LeutheuserC45Classifier.N29885c2e37(i);
-        }
-        return p;
-    }
-
-    static double N29885c2e37(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7305555555555555) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7305555555555555) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1e71a90f38(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 0.4994826686763074) {
-            p = LeutheuserC45Classifier.N7448caee39(i);
-        } else if (((Double) i[12]).doubleValue() > 0.4994826686763074) {
-            p = LeutheuserC45Classifier.N6cc787a341(i);
-        }
-        return p;
+        double[] features = new double[i.length];
+        for (int n = 0; n < i.length; n++)
+            features[n] = i[n] == null ? Double.NaN : ((Double) i[n]).doubleValue();
+        return classify(features);
     }
 
-    static double N7448caee39(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.8251953125000399) {
-            p = LeutheuserC45Classifier.N745c24940(i);
-        } else if (((Double) i[7]).doubleValue() > -0.8251953125000399) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N745c24940(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.66) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 2.66) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6cc787a341(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.625) {
-            p = LeutheuserC45Classifier.N7f6d72e542(i);
-        } else if (((Double) i[19]).doubleValue() > 0.625) {
-            p = LeutheuserC45Classifier.N4d40d85c43(i);
-        }
-        return p;
-    }
-
-    static double N7f6d72e542(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7611111111111111) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7611111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4d40d85c43(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.19) {
-            p = LeutheuserC45Classifier.N643e0c3744(i);
-        } else if (((Double) i[3]).doubleValue() > 1.19) {
-            p = LeutheuserC45Classifier.N20fad3b146(i);
-        }
-        return p;
-    }
-
-    static double N643e0c3744(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.675) {
-            p = LeutheuserC45Classifier.N3414658c45(i);
-        } else if (((Double) i[2]).doubleValue() > 0.675) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3414658c45(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.0333333333333334) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.0333333333333334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N20fad3b146(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.07562859813168776) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.07562859813168776) {
-            p = LeutheuserC45Classifier.N6b337dca47(i);
-        }
-        return p;
-    }
-
-    static double N6b337dca47(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6972222222222222) {
-            p = LeutheuserC45Classifier.N7ff88b2f48(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6972222222222222) {
-            p = LeutheuserC45Classifier.N6e6b7b9651(i);
-        }
-        return p;
-    }
-
-    static double N7ff88b2f48(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.21327356005637443) {
-            p = LeutheuserC45Classifier.N68d7b95949(i);
-        } else if (((Double) i[15]).doubleValue() > 0.21327356005637443) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N68d7b95949(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.3972222222222222) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.3972222222222222) {
-            p = LeutheuserC45Classifier.N1ec688a950(i);
-        }
-        return p;
-    }
-
-    static double N1ec688a950(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.672261670596155) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.672261670596155) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6e6b7b9651(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.5833593750000102) {
-            p = LeutheuserC45Classifier.N5571248752(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5833593750000102) {
-            p = LeutheuserC45Classifier.N2a10117f54(i);
-        }
-        return p;
-    }
-
-    static double N5571248752(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.1821363405325933) {
-            p = LeutheuserC45Classifier.Nb9520153(i);
-        } else if (((Double) i[12]).doubleValue() > 1.1821363405325933) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nb9520153(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 471330.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 471330.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2a10117f54(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.915) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.915) {
-            p = LeutheuserC45Classifier.N1f92686055(i);
-        }
-        return p;
-    }
-
-    static double N1f92686055(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.615) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.615) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N439b220956(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.47956256028548666) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.47956256028548666) {
-            p = LeutheuserC45Classifier.N978592157(i);
-        }
-        return p;
-    }
-
-    static double N978592157(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.775) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.775) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N23493a9858(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.06111111111111111) {
-            p = LeutheuserC45Classifier.N2f1487f959(i);
-        } else if (((Double) i[5]).doubleValue() > 0.06111111111111111) {
-            p = LeutheuserC45Classifier.N37a281d1109(i);
-        }
-        return p;
-    }
-
-    static double N2f1487f959(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.645) {
-            p = LeutheuserC45Classifier.N3505737860(i);
-        } else if (((Double) i[1]).doubleValue() > 1.645) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3505737860(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9527777777777777) {
-            p = LeutheuserC45Classifier.N7eff95a861(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9527777777777777) {
-            p = LeutheuserC45Classifier.N59d97292102(i);
-        }
-        return p;
-    }
-
-    static double N7eff95a861(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.026604807093390068) {
-            p = LeutheuserC45Classifier.N1408fd1562(i);
-        } else if (((Double) i[10]).doubleValue() > 0.026604807093390068) {
-            p = LeutheuserC45Classifier.N2b8edc285(i);
-        }
-        return p;
-    }
-
-    static double N1408fd1562(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9666666666666667) {
-            p = LeutheuserC45Classifier.N1f289b2263(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9666666666666667) {
-            p = LeutheuserC45Classifier.N7290c70779(i);
-        }
-        return p;
-    }
-
-    static double N1f289b2263(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.33109007977386806) {
-            p = LeutheuserC45Classifier.N1a8b50c64(i);
-        } else if (((Double) i[16]).doubleValue() > -0.33109007977386806) {
-            p = LeutheuserC45Classifier.N378324465(i);
-        }
-        return p;
-    }
-
-    static double N1a8b50c64(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.240529399944872) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 3.240529399944872) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N378324465(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9333333333333333) {
-            p = LeutheuserC45Classifier.N50cb976b66(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9333333333333333) {
-            p = LeutheuserC45Classifier.N4c673f9178(i);
-        }
-        return p;
-    }
-
-    static double N50cb976b66(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.03888888888888889) {
-            p = LeutheuserC45Classifier.Nb61f7db67(i);
-        } else if (((Double) i[5]).doubleValue() > 0.03888888888888889) {
-            p = LeutheuserC45Classifier.N4f25336e68(i);
-        }
-        return p;
-    }
-
-    static double Nb61f7db67(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7055555555555556) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.7055555555555556) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4f25336e68(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6777777777777778) {
-            p = LeutheuserC45Classifier.Nd8dd2dc69(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6777777777777778) {
-            p = LeutheuserC45Classifier.N5b0ca8a275(i);
-        }
-        return p;
-    }
-
-    static double Nd8dd2dc69(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7083333333333334) {
-            p = LeutheuserC45Classifier.N1717cc970(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7083333333333334) {
-            p = LeutheuserC45Classifier.Na97f7f774(i);
-        }
-        return p;
-    }
-
-    static double N1717cc970(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 294663.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 294663.0) {
-            p = LeutheuserC45Classifier.N52a8c1371(i);
-        }
-        return p;
-    }
-
-    static double N52a8c1371(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.02650927612184274) {
-            p = LeutheuserC45Classifier.N6372619b72(i);
-        } else if (((Double) i[18]).doubleValue() > 0.02650927612184274) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6372619b72(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.869826344524526) {
-            p = LeutheuserC45Classifier.N8a441b73(i);
-        } else if (((Double) i[12]).doubleValue() > 2.869826344524526) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N8a441b73(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.005112862283412843) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.005112862283412843) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Na97f7f774(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.011926993534473225) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.011926993534473225) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5b0ca8a275(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8805555555555555) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N2b8274e176(i);
-        }
-        return p;
-    }
-
-    static double N2b8274e176(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8361111111111111) {
-            p = LeutheuserC45Classifier.N79fa471677(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8361111111111111) {
-            p = 0;
-        }
-        return p;
+    @Override
+    public BeatClass classify(QrsComplex qrs) {
+        // TODO Auto-generated method stub
+        return null;
     }
 
-    static double N79fa471677(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 6.232744140624916) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 6.232744140624916) {
-            p = 0;
-        }
-        return p;
+    @Override
+    public BeatClass classify(Heartbeat beat) {
+        // TODO Auto-generated method stub
+        return null;
     }
 
-    static double N4c673f9178(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8555555555555555) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8555555555555555) {
-            p = 0;
-        }
-        return p;
+    @Override
+    public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
+        return BatchClassification.toQrsClasses(classifyAll(beatList, null));
     }
 
-    static double N7290c70779(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.05) {
-            p = LeutheuserC45Classifier.N4a8d80c880(i);
-        }
-        return p;
-    }
-
-    static double N4a8d80c880(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8083333333333333) {
-            p = LeutheuserC45Classifier.N6164ac7881(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8083333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6164ac7881(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.058333333333333334) {
-            p = LeutheuserC45Classifier.N148a9c7282(i);
-        } else if (((Double) i[5]).doubleValue() > 0.058333333333333334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N148a9c7282(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.0638888888888889) {
-            p = LeutheuserC45Classifier.N6056d91b83(i);
-        } else if (((Double) i[2]).doubleValue() > 1.0638888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6056d91b83(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 483580.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 483580.0) {
-            p = LeutheuserC45Classifier.N467b8e1984(i);
-        }
-        return p;
-    }
-
-    static double N467b8e1984(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.21040247303748472) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.21040247303748472) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2b8edc285(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6861111111111111) {
-            p = LeutheuserC45Classifier.N421198eb86(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6861111111111111) {
-            p = LeutheuserC45Classifier.N18daa52095(i);
-        }
-        return p;
-    }
-
-    static double N421198eb86(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.48462404768078604) {
-            p = LeutheuserC45Classifier.N14d90fb387(i);
-        } else if (((Double) i[18]).doubleValue() > 0.48462404768078604) {
-            p = LeutheuserC45Classifier.N59bb464d91(i);
-        }
-        return p;
-    }
-
-    static double N14d90fb387(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6722222222222223) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6722222222222223) {
-            p = LeutheuserC45Classifier.Ne48407788(i);
-        }
-        return p;
-    }
-
-    static double Ne48407788(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6277777777777778) {
-            p = LeutheuserC45Classifier.N4bdb7a8189(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6277777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4bdb7a8189(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.0149999999999997) {
-            p = LeutheuserC45Classifier.N5c375d190(i);
-        } else if (((Double) i[4]).doubleValue() > 2.0149999999999997) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5c375d190(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.29158691406251275) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.29158691406251275) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N59bb464d91(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.058333333333333334) {
-            p = LeutheuserC45Classifier.N153ceef592(i);
-        } else if (((Double) i[5]).doubleValue() > 0.058333333333333334) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N153ceef592(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N52391a193(i);
-        } else if (((Double) i[5]).doubleValue() > 0.05277777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N52391a193(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.05) {
-            p = LeutheuserC45Classifier.N1b50012994(i);
-        }
-        return p;
-    }
-
-    static double N1b50012994(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.495) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.495) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N18daa52095(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.64) {
-            p = LeutheuserC45Classifier.N6a63ab8896(i);
-        } else if (((Double) i[3]).doubleValue() > 1.64) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6a63ab8896(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.2677764230060705) {
-            p = LeutheuserC45Classifier.N73d481fc97(i);
-        } else if (((Double) i[18]).doubleValue() > 0.2677764230060705) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N73d481fc97(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7) {
-            p = LeutheuserC45Classifier.N68168fe698(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7) {
-            p = LeutheuserC45Classifier.N56ca466101(i);
-        }
-        return p;
-    }
-
-    static double N68168fe698(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6583333333333333) {
-            p = LeutheuserC45Classifier.N2528d46199(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6583333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2528d46199(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6888888888888889) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6888888888888889) {
-            p = LeutheuserC45Classifier.N52e014a7100(i);
-        }
-        return p;
-    }
-
-    static double N52e014a7100(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.955) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.955) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N56ca466101(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.0505126953124828) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.0505126953124828) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N59d97292102(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.795) {
-            p = LeutheuserC45Classifier.N3ab13e14103(i);
-        } else if (((Double) i[4]).doubleValue() > 1.795) {
-            p = LeutheuserC45Classifier.N2924f49e107(i);
-        }
-        return p;
-    }
-
-    static double N3ab13e14103(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.02705997440727848) {
-            p = LeutheuserC45Classifier.N68a650c9104(i);
-        } else if (((Double) i[9]).doubleValue() > 0.02705997440727848) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N68a650c9104(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 205858.0) {
-            p = LeutheuserC45Classifier.N889862f105(i);
-        } else if (((Double) i[0]).doubleValue() > 205858.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N889862f105(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.355) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.355) {
-            p = LeutheuserC45Classifier.N1ad6284e106(i);
-        }
-        return p;
-    }
-
-    static double N1ad6284e106(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.42870117187493617) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.42870117187493617) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2924f49e107(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.05135028206606023) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.05135028206606023) {
-            p = LeutheuserC45Classifier.N735ed96b108(i);
-        }
-        return p;
-    }
-
-    static double N735ed96b108(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 3.2350000000000003) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 3.2350000000000003) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N37a281d1109(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9111111111111111) {
-            p = LeutheuserC45Classifier.N1c9d5b33110(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9111111111111111) {
-            p = LeutheuserC45Classifier.N340c6dba113(i);
-        }
-        return p;
-    }
-
-    static double N1c9d5b33110(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3054736328124792) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.3054736328124792) {
-            p = LeutheuserC45Classifier.N1293dc3a111(i);
-        }
-        return p;
-    }
-
-    static double N1293dc3a111(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.65) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.65) {
-            p = LeutheuserC45Classifier.N1703da82112(i);
-        }
-        return p;
-    }
-
-    static double N1703da82112(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.9424661526746783) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.9424661526746783) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N340c6dba113(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.899513229138517) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.899513229138517) {
-            p = LeutheuserC45Classifier.N42beeccb114(i);
-        }
-        return p;
-    }
-
-    static double N42beeccb114(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8944444444444445) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8944444444444445) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4ec08aaa115(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 20.920126953125102) {
-            p = LeutheuserC45Classifier.N479e8e3a116(i);
-        } else if (((Double) i[6]).doubleValue() > 20.920126953125102) {
-            p = LeutheuserC45Classifier.N7dba59a2135(i);
-        }
-        return p;
-    }
-
-    static double N479e8e3a116(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.17) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.17) {
-            p = LeutheuserC45Classifier.N10a85ace117(i);
-        }
-        return p;
-    }
-
-    static double N10a85ace117(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 6.655849609374258) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 6.655849609374258) {
-            p = LeutheuserC45Classifier.N254534a4118(i);
-        }
-        return p;
-    }
-
-    static double N254534a4118(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.8) {
-            p = LeutheuserC45Classifier.N6f1a7f7c119(i);
-        } else if (((Double) i[1]).doubleValue() > 1.8) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6f1a7f7c119(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.625) {
-            p = LeutheuserC45Classifier.N5c46d3fb120(i);
-        } else if (((Double) i[19]).doubleValue() > 0.625) {
-            p = LeutheuserC45Classifier.Nebce25c125(i);
-        }
-        return p;
-    }
-
-    static double N5c46d3fb120(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 110471.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 110471.0) {
-            p = LeutheuserC45Classifier.Ne6a8c97121(i);
-        }
-        return p;
-    }
-
-    static double Ne6a8c97121(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05555555555555555) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.05555555555555555) {
-            p = LeutheuserC45Classifier.N28679ea122(i);
-        }
-        return p;
-    }
-
-    static double N28679ea122(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.06111111111111111) {
-            p = LeutheuserC45Classifier.N3e5b0759123(i);
-        } else if (((Double) i[5]).doubleValue() > 0.06111111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e5b0759123(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 9.741235351562716) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 9.741235351562716) {
-            p = LeutheuserC45Classifier.N54e8d262124(i);
-        }
-        return p;
-    }
-
-    static double N54e8d262124(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.37) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 2.37) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nebce25c125(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.8944444444444444) {
-            p = LeutheuserC45Classifier.N3fc48348126(i);
-        } else if (((Double) i[2]).doubleValue() > 1.8944444444444444) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3fc48348126(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.04722222222222222) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.04722222222222222) {
-            p = LeutheuserC45Classifier.N59432a26127(i);
-        }
-        return p;
-    }
-
-    static double N59432a26127(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.41) {
-            p = LeutheuserC45Classifier.N4b2a88ae128(i);
-        } else if (((Double) i[3]).doubleValue() > 2.41) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4b2a88ae128(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.16456116199274734) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.16456116199274734) {
-            p = LeutheuserC45Classifier.N226d3d95129(i);
-        }
-        return p;
-    }
-
-    static double N226d3d95129(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9551729102921854) {
-            p = LeutheuserC45Classifier.N39a82453130(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9551729102921854) {
-            p = LeutheuserC45Classifier.N668aa323132(i);
-        }
-        return p;
-    }
-
-    static double N39a82453130(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.8355115209298342) {
-            p = LeutheuserC45Classifier.N797a2b5a131(i);
-        } else if (((Double) i[15]).doubleValue() > 0.8355115209298342) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N797a2b5a131(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.034926522090533915) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.034926522090533915) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N668aa323132(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.05555555555555555) {
-            p = LeutheuserC45Classifier.N2d40bbf2133(i);
-        } else if (((Double) i[5]).doubleValue() > 0.05555555555555555) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2d40bbf2133(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N55b288b5134(i);
-        } else if (((Double) i[5]).doubleValue() > 0.05277777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N55b288b5134(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.6299658203125641) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.6299658203125641) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7dba59a2135(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.511111111111111) {
-            p = LeutheuserC45Classifier.N4e1a7e8d136(i);
-        } else if (((Double) i[2]).doubleValue() > 1.511111111111111) {
-            p = LeutheuserC45Classifier.N62abfdd0142(i);
-        }
-        return p;
-    }
-
-    static double N4e1a7e8d136(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N66adc397137(i);
-        } else if (((Double) i[5]).doubleValue() > 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N1530cb5c140(i);
-        }
-        return p;
-    }
-
-    static double N66adc397137(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.5) {
-            p = LeutheuserC45Classifier.N279b18d7138(i);
-        } else if (((Double) i[3]).doubleValue() > 2.5) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N279b18d7138(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.24) {
-            p = LeutheuserC45Classifier.N84332cf139(i);
-        } else if (((Double) i[1]).doubleValue() > 1.24) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N84332cf139(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.24) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 2.24) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1530cb5c140(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.2549466209590328) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.2549466209590328) {
-            p = LeutheuserC45Classifier.N1d891316141(i);
-        }
-        return p;
-    }
-
-    static double N1d891316141(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 497204.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 497204.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N62abfdd0142(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.32) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 2.32) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N736f7e00143(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.02675895743536278) {
-            p = LeutheuserC45Classifier.N6016211a144(i);
-        } else if (((Double) i[9]).doubleValue() > -0.02675895743536278) {
-            p = LeutheuserC45Classifier.N5172ae2d148(i);
-        }
-        return p;
-    }
-
-    static double N6016211a144(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9749935899052139) {
-            p = LeutheuserC45Classifier.N35d28fad145(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9749935899052139) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N35d28fad145(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N82ab1ba146(i);
-        } else if (((Double) i[5]).doubleValue() > 0.05277777777777778) {
-            p = LeutheuserC45Classifier.N3d41c1147(i);
-        }
-        return p;
-    }
-
-    static double N82ab1ba146(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.04) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 2.04) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3d41c1147(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.6038720703124688) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.6038720703124688) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5172ae2d148(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 7.072783203125248) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 7.072783203125248) {
-            p = LeutheuserC45Classifier.N707cec49149(i);
-        }
-        return p;
-    }
-
-    static double N707cec49149(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.06111111111111111) {
-            p = LeutheuserC45Classifier.N2d06349d150(i);
-        } else if (((Double) i[5]).doubleValue() > 0.06111111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2d06349d150(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.013495218211221854) {
-            p = LeutheuserC45Classifier.N47df4bb5151(i);
-        } else if (((Double) i[9]).doubleValue() > 0.013495218211221854) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N47df4bb5151(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.245) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 2.245) {
-            p = LeutheuserC45Classifier.N31896a5152(i);
-        }
-        return p;
-    }
-
-    static double N31896a5152(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.07608971463404618) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.07608971463404618) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N14112c2b153(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9828374090414576) {
-            p = LeutheuserC45Classifier.N8af50e8154(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9828374090414576) {
-            p = LeutheuserC45Classifier.N7c31f51d1379(i);
-        }
-        return p;
-    }
-
-    static double N8af50e8154(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 1.323704105146309) {
-            p = LeutheuserC45Classifier.N351030ab155(i);
-        } else if (((Double) i[18]).doubleValue() > 1.323704105146309) {
-            p = LeutheuserC45Classifier.N53cabc881327(i);
-        }
-        return p;
-    }
-
-    static double N351030ab155(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 19.000162987703515) {
-            p = LeutheuserC45Classifier.N727a2512156(i);
-        } else if (((Double) i[13]).doubleValue() > 19.000162987703515) {
-            p = LeutheuserC45Classifier.N49ca06e21309(i);
-        }
-        return p;
-    }
-
-    static double N727a2512156(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.13470959524594997) {
-            p = LeutheuserC45Classifier.N6f973f02157(i);
-        } else if (((Double) i[10]).doubleValue() > 0.13470959524594997) {
-            p = LeutheuserC45Classifier.N408ecb371266(i);
-        }
-        return p;
-    }
-
-    static double N6f973f02157(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.03969888200431036) {
-            p = LeutheuserC45Classifier.N1dcd0a08158(i);
-        } else if (((Double) i[9]).doubleValue() > 0.03969888200431036) {
-            p = LeutheuserC45Classifier.N5d22327d1244(i);
-        }
-        return p;
-    }
-
-    static double N1dcd0a08158(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.07530761718745432) {
-            p = LeutheuserC45Classifier.N29ecf472159(i);
-        } else if (((Double) i[8]).doubleValue() > 0.07530761718745432) {
-            p = LeutheuserC45Classifier.N1fb79d64192(i);
-        }
-        return p;
-    }
-
-    static double N29ecf472159(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.8433122090500444) {
-            p = LeutheuserC45Classifier.Na9d06e8160(i);
-        } else if (((Double) i[15]).doubleValue() > 0.8433122090500444) {
-            p = LeutheuserC45Classifier.N32d7df33187(i);
-        }
-        return p;
-    }
-
-    static double Na9d06e8160(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= -1.26) {
-            p = LeutheuserC45Classifier.N5c245796161(i);
-        } else if (((Double) i[3]).doubleValue() > -1.26) {
-            p = LeutheuserC45Classifier.N29cc8b50162(i);
-        }
-        return p;
-    }
-
-    static double N5c245796161(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.009720041850695665) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.009720041850695665) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N29cc8b50162(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.705) {
-            p = LeutheuserC45Classifier.N674da57f163(i);
-        } else if (((Double) i[1]).doubleValue() > 1.705) {
-            p = LeutheuserC45Classifier.N356db764186(i);
-        }
-        return p;
-    }
-
-    static double N674da57f163(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 10.87711133926434) {
-            p = LeutheuserC45Classifier.N5855538164(i);
-        } else if (((Double) i[13]).doubleValue() > 10.87711133926434) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5855538164(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.05187499999989964) {
-            p = LeutheuserC45Classifier.N7b633af9165(i);
-        } else if (((Double) i[8]).doubleValue() > 0.05187499999989964) {
-            p = LeutheuserC45Classifier.N7f1d3bb0175(i);
-        }
-        return p;
-    }
-
-    static double N7b633af9165(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.5777005372005849) {
-            p = LeutheuserC45Classifier.N36b8b8ce166(i);
-        } else if (((Double) i[18]).doubleValue() > 0.5777005372005849) {
-            p = LeutheuserC45Classifier.N28cc75b170(i);
-        }
-        return p;
-    }
-
-    static double N36b8b8ce166(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.004232586749257724) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.004232586749257724) {
-            p = LeutheuserC45Classifier.N3c54953b167(i);
-        }
-        return p;
-    }
-
-    static double N3c54953b167(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.125) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 1.125) {
-            p = LeutheuserC45Classifier.N13d72b1c168(i);
-        }
-        return p;
-    }
-
-    static double N13d72b1c168(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.125) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 1.125) {
-            p = LeutheuserC45Classifier.N71817f6d169(i);
-        }
-        return p;
-    }
-
-    static double N71817f6d169(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.038725585937508494) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.038725585937508494) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N28cc75b170(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5110694442875051) {
-            p = LeutheuserC45Classifier.N1ae9777c171(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5110694442875051) {
-            p = LeutheuserC45Classifier.N304c20f6172(i);
-        }
-        return p;
-    }
-
-    static double N1ae9777c171(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 2.452777777777778) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 2.452777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N304c20f6172(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.7805555555555554) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.7805555555555554) {
-            p = LeutheuserC45Classifier.N4a4c5b85173(i);
-        }
-        return p;
-    }
-
-    static double N4a4c5b85173(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.021264648437497584) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.021264648437497584) {
-            p = LeutheuserC45Classifier.N2e9eeb88174(i);
-        }
-        return p;
-    }
-
-    static double N2e9eeb88174(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.04816406249996389) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.04816406249996389) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7f1d3bb0175(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 10.465910711577976) {
-            p = LeutheuserC45Classifier.N2e87ef35176(i);
-        } else if (((Double) i[13]).doubleValue() > 10.465910711577976) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2e87ef35176(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5201925339942595) {
-            p = LeutheuserC45Classifier.N6bf1913177(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5201925339942595) {
-            p = LeutheuserC45Classifier.N32b48de8185(i);
-        }
-        return p;
-    }
-
-    static double N6bf1913177(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.24) {
-            p = LeutheuserC45Classifier.N5f2470e7178(i);
-        } else if (((Double) i[4]).doubleValue() > 2.24) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f2470e7178(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.2333333333333334) {
-            p = LeutheuserC45Classifier.N49720008179(i);
-        } else if (((Double) i[2]).doubleValue() > 1.2333333333333334) {
-            p = LeutheuserC45Classifier.N3608bb9183(i);
-        }
-        return p;
-    }
-
-    static double N49720008179(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.775) {
-            p = LeutheuserC45Classifier.N581da054180(i);
-        } else if (((Double) i[2]).doubleValue() > 0.775) {
-            p = LeutheuserC45Classifier.N26945dc5181(i);
-        }
-        return p;
-    }
-
-    static double N581da054180(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 544594.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 544594.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N26945dc5181(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.35574553287286687) {
-            p = LeutheuserC45Classifier.N5a4ba2b8182(i);
-        } else if (((Double) i[16]).doubleValue() > -0.35574553287286687) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5a4ba2b8182(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.3629476922458886) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > -0.3629476922458886) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3608bb9183(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 5.479203811276398E-4) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 5.479203811276398E-4) {
-            p = LeutheuserC45Classifier.N36ca8481184(i);
-        }
-        return p;
-    }
-
-    static double N36ca8481184(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.51) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.51) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N32b48de8185(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.14) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 2.14) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N356db764186(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 10.665041288376855) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 10.665041288376855) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N32d7df33187(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.0833333333333333) {
-            p = LeutheuserC45Classifier.N505bbb64188(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0833333333333333) {
-            p = LeutheuserC45Classifier.N1e18fe7b190(i);
-        }
-        return p;
-    }
-
-    static double N505bbb64188(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.08611111111111111) {
-            p = LeutheuserC45Classifier.N4616a74a189(i);
-        } else if (((Double) i[5]).doubleValue() > 0.08611111111111111) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4616a74a189(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.1399999999999997) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 2.1399999999999997) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1e18fe7b190(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -3.4088052297685794) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > -3.4088052297685794) {
-            p = LeutheuserC45Classifier.N12ba94cc191(i);
-        }
-        return p;
-    }
-
-    static double N12ba94cc191(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8388888888888889) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8388888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1fb79d64192(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.31666666666666665) {
-            p = LeutheuserC45Classifier.N6ce8452f193(i);
-        } else if (((Double) i[5]).doubleValue() > 0.31666666666666665) {
-            p = LeutheuserC45Classifier.N80de2ed1165(i);
-        }
-        return p;
-    }
-
-    static double N6ce8452f193(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.1188675867751736) {
-            p = LeutheuserC45Classifier.N35da85ef194(i);
-        } else if (((Double) i[12]).doubleValue() > 2.1188675867751736) {
-            p = LeutheuserC45Classifier.N271b3448583(i);
-        }
-        return p;
-    }
-
-    static double N35da85ef194(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.075) {
-            p = LeutheuserC45Classifier.N73807b6c195(i);
-        } else if (((Double) i[5]).doubleValue() > 0.075) {
-            p = LeutheuserC45Classifier.N3e363de3231(i);
-        }
-        return p;
-    }
-
-    static double N73807b6c195(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -0.05829008703451179) {
-            p = LeutheuserC45Classifier.N507f84c5196(i);
-        } else if (((Double) i[12]).doubleValue() > -0.05829008703451179) {
-            p = LeutheuserC45Classifier.N57ff5dad208(i);
-        }
-        return p;
-    }
-
-    static double N507f84c5196(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 8.303298470021941) {
-            p = LeutheuserC45Classifier.N7e9072d8197(i);
-        } else if (((Double) i[13]).doubleValue() > 8.303298470021941) {
-            p = LeutheuserC45Classifier.N3ddcf431206(i);
-        }
-        return p;
-    }
-
-    static double N7e9072d8197(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.011111111111111) {
-            p = LeutheuserC45Classifier.N1f047518198(i);
-        } else if (((Double) i[19]).doubleValue() > 1.011111111111111) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1f047518198(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.675) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.675) {
-            p = LeutheuserC45Classifier.N6faf368f199(i);
-        }
-        return p;
-    }
-
-    static double N6faf368f199(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= -2.238418786817967) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > -2.238418786817967) {
-            p = LeutheuserC45Classifier.N435ade13200(i);
-        }
-        return p;
-    }
-
-    static double N435ade13200(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.002598565463342503) {
-            p = LeutheuserC45Classifier.N3ea16212201(i);
-        } else if (((Double) i[9]).doubleValue() > 0.002598565463342503) {
-            p = LeutheuserC45Classifier.N14bc29ec203(i);
-        }
-        return p;
-    }
-
-    static double N3ea16212201(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 4.620312307348293) {
-            p = LeutheuserC45Classifier.N2316c6b202(i);
-        } else if (((Double) i[13]).doubleValue() > 4.620312307348293) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2316c6b202(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 4.562110293808777) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 4.562110293808777) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N14bc29ec203(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.6914843750000109) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.6914843750000109) {
-            p = LeutheuserC45Classifier.N183c72e204(i);
-        }
-        return p;
-    }
-
-    static double N183c72e204(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.9663818359375123) {
-            p = LeutheuserC45Classifier.N348794fe205(i);
-        } else if (((Double) i[7]).doubleValue() > -0.9663818359375123) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N348794fe205(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.18) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.18) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3ddcf431206(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8666666666666667) {
-            p = LeutheuserC45Classifier.N48da492f207(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8666666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N48da492f207(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.53) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.53) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N57ff5dad208(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= -0.010376043911640964) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > -0.010376043911640964) {
-            p = LeutheuserC45Classifier.N5fd713c8209(i);
-        }
-        return p;
-    }
-
-    static double N5fd713c8209(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 8.821967046675802) {
-            p = LeutheuserC45Classifier.N570197f210(i);
-        } else if (((Double) i[13]).doubleValue() > 8.821967046675802) {
-            p = LeutheuserC45Classifier.N47772956230(i);
-        }
-        return p;
-    }
-
-    static double N570197f210(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.7849999999999999) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.7849999999999999) {
-            p = LeutheuserC45Classifier.N1ff9abcf211(i);
-        }
-        return p;
-    }
-
-    static double N1ff9abcf211(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N32469fa8212(i);
-        } else if (((Double) i[2]).doubleValue() > 1.1194444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N32469fa8212(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.5871712161416539) {
-            p = LeutheuserC45Classifier.N55e8837b213(i);
-        } else if (((Double) i[16]).doubleValue() > 0.5871712161416539) {
-            p = LeutheuserC45Classifier.N2ad6f956222(i);
-        }
-        return p;
-    }
-
-    static double N55e8837b213(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.455) {
-            p = LeutheuserC45Classifier.N5056c358214(i);
-        } else if (((Double) i[3]).doubleValue() > 1.455) {
-            p = LeutheuserC45Classifier.N68233f94221(i);
-        }
-        return p;
-    }
-
-    static double N5056c358214(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 8.021878043097113) {
-            p = LeutheuserC45Classifier.N2a3ad4e215(i);
-        } else if (((Double) i[13]).doubleValue() > 8.021878043097113) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2a3ad4e215(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6222222222222222) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6222222222222222) {
-            p = LeutheuserC45Classifier.N41ed96d216(i);
-        }
-        return p;
-    }
-
-    static double N41ed96d216(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.5478710937499947) {
-            p = LeutheuserC45Classifier.N157c61ce217(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5478710937499947) {
-            p = LeutheuserC45Classifier.N6c0036c3219(i);
-        }
-        return p;
-    }
-
-    static double N157c61ce217(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 238147.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 238147.0) {
-            p = LeutheuserC45Classifier.N73562c3a218(i);
-        }
-        return p;
-    }
-
-    static double N73562c3a218(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 362270.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 362270.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6c0036c3219(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.06666666666666667) {
-            p = LeutheuserC45Classifier.N1ea74f9f220(i);
-        } else if (((Double) i[5]).doubleValue() > 0.06666666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1ea74f9f220(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.625) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.625) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N68233f94221(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8277777777777777) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.8277777777777777) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2ad6f956222(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.28301833420453393) {
-            p = LeutheuserC45Classifier.N478d74e1223(i);
-        } else if (((Double) i[17]).doubleValue() > 0.28301833420453393) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N478d74e1223(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 0;
-        } else if (((Double) i[14]).doubleValue() <= 4.847889908099218) {
-            p = LeutheuserC45Classifier.N63f21038224(i);
-        } else if (((Double) i[14]).doubleValue() > 4.847889908099218) {
-            p = LeutheuserC45Classifier.Nf5d0b19226(i);
-        }
-        return p;
-    }
-
-    static double N63f21038224(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6305555555555555) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6305555555555555) {
-            p = LeutheuserC45Classifier.N125c4c4d225(i);
-        }
-        return p;
-    }
-
-    static double N125c4c4d225(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.3399999999999999) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.3399999999999999) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nf5d0b19226(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6388888888888888) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6388888888888888) {
-            p = LeutheuserC45Classifier.N235b4c6f227(i);
-        }
-        return p;
-    }
-
-    static double N235b4c6f227(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.323664122746607) {
-            p = LeutheuserC45Classifier.N505bfbec228(i);
-        } else if (((Double) i[13]).doubleValue() > 6.323664122746607) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N505bfbec228(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.975) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.975) {
-            p = LeutheuserC45Classifier.N2015fb8e229(i);
-        }
-        return p;
-    }
-
-    static double N2015fb8e229(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.25) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.25) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47772956230(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5743212753899634) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.5743212753899634) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e363de3231(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -3.3663391778619176) {
-            p = LeutheuserC45Classifier.N31bd3552232(i);
-        } else if (((Double) i[12]).doubleValue() > -3.3663391778619176) {
-            p = LeutheuserC45Classifier.N4038d260234(i);
-        }
-        return p;
-    }
-
-    static double N31bd3552232(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.272092532344065) {
-            p = LeutheuserC45Classifier.N3e7b6160233(i);
-        } else if (((Double) i[13]).doubleValue() > 12.272092532344065) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e7b6160233(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 11.512949008588372) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 11.512949008588372) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4038d260234(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.234674776851406) {
-            p = LeutheuserC45Classifier.N4fee36a1235(i);
-        } else if (((Double) i[13]).doubleValue() > 6.234674776851406) {
-            p = LeutheuserC45Classifier.N751f67bf419(i);
-        }
-        return p;
-    }
-
-    static double N4fee36a1235(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.1135546874999992) {
-            p = LeutheuserC45Classifier.N17a19dab236(i);
-        } else if (((Double) i[7]).doubleValue() > -0.1135546874999992) {
-            p = LeutheuserC45Classifier.N466557414(i);
-        }
-        return p;
-    }
-
-    static double N17a19dab236(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6138888888888889) {
-            p = LeutheuserC45Classifier.N72b49e5e237(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6138888888888889) {
-            p = LeutheuserC45Classifier.N45ad52b9294(i);
-        }
-        return p;
-    }
-
-    static double N72b49e5e237(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7888888888888889) {
-            p = LeutheuserC45Classifier.N7419f9ba238(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7888888888888889) {
-            p = LeutheuserC45Classifier.N4568971d271(i);
-        }
-        return p;
-    }
-
-    static double N7419f9ba238(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.4500390625000308) {
-            p = LeutheuserC45Classifier.N4afc82a6239(i);
-        } else if (((Double) i[7]).doubleValue() > -0.4500390625000308) {
-            p = LeutheuserC45Classifier.N5e31c7aa262(i);
-        }
-        return p;
-    }
-
-    static double N4afc82a6239(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.3861111111111111) {
-            p = LeutheuserC45Classifier.N512b0297240(i);
-        } else if (((Double) i[19]).doubleValue() > 0.3861111111111111) {
-            p = LeutheuserC45Classifier.N12939178243(i);
-        }
-        return p;
-    }
-
-    static double N512b0297240(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.0) {
-            p = LeutheuserC45Classifier.N73b3082241(i);
-        } else if (((Double) i[3]).doubleValue() > 2.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N73b3082241(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 420006.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 420006.0) {
-            p = LeutheuserC45Classifier.N3cd4ddf6242(i);
-        }
-        return p;
-    }
-
-    static double N3cd4ddf6242(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 546004.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 546004.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N12939178243(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -0.20250627947651909) {
-            p = LeutheuserC45Classifier.N1b251607244(i);
-        } else if (((Double) i[12]).doubleValue() > -0.20250627947651909) {
-            p = LeutheuserC45Classifier.N5fe5d4e2246(i);
-        }
-        return p;
-    }
-
-    static double N1b251607244(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.35) {
-            p = LeutheuserC45Classifier.N45c49ac1245(i);
-        } else if (((Double) i[4]).doubleValue() > 2.35) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N45c49ac1245(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.013500578562003884) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.013500578562003884) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5fe5d4e2246(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.4671049586454193) {
-            p = LeutheuserC45Classifier.N51738637247(i);
-        } else if (((Double) i[18]).doubleValue() > 0.4671049586454193) {
-            p = LeutheuserC45Classifier.N5f848451260(i);
-        }
-        return p;
-    }
-
-    static double N51738637247(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.916411845219292) {
-            p = LeutheuserC45Classifier.N62553730248(i);
-        } else if (((Double) i[16]).doubleValue() > 0.916411845219292) {
-            p = LeutheuserC45Classifier.N68e427f0256(i);
-        }
-        return p;
-    }
-
-    static double N62553730248(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 4.347258223921733) {
-            p = LeutheuserC45Classifier.N3a6ab29249(i);
-        } else if (((Double) i[13]).doubleValue() > 4.347258223921733) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3a6ab29249(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.07773164820413479) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.07773164820413479) {
-            p = LeutheuserC45Classifier.N72152d7b250(i);
-        }
-        return p;
-    }
-
-    static double N72152d7b250(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.5638888888888889) {
-            p = LeutheuserC45Classifier.N3f9a4f30251(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5638888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3f9a4f30251(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7999999999999998) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.7999999999999998) {
-            p = LeutheuserC45Classifier.N743d1344252(i);
-        }
-        return p;
-    }
-
-    static double N743d1344252(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.11087735206794785) {
-            p = LeutheuserC45Classifier.N42f40109253(i);
-        } else if (((Double) i[18]).doubleValue() > 0.11087735206794785) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N42f40109253(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= -0.027542463631457723) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > -0.027542463631457723) {
-            p = LeutheuserC45Classifier.N19d182d9254(i);
-        }
-        return p;
-    }
-
-    static double N19d182d9254(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.025663927801718868) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.025663927801718868) {
-            p = LeutheuserC45Classifier.N74dfad1c255(i);
-        }
-        return p;
-    }
-
-    static double N74dfad1c255(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.915) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.915) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N68e427f0256(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.000333911419528) {
-            p = LeutheuserC45Classifier.Nafa9fac257(i);
-        } else if (((Double) i[12]).doubleValue() > 1.000333911419528) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nafa9fac257(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.75) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.75) {
-            p = LeutheuserC45Classifier.N1fa80360258(i);
-        }
-        return p;
-    }
-
-    static double N1fa80360258(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 235675.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 235675.0) {
-            p = LeutheuserC45Classifier.N1616fac4259(i);
-        }
-        return p;
-    }
-
-    static double N1616fac4259(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.4027777777777778) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.4027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f848451260(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.3900000000000001) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.3900000000000001) {
-            p = LeutheuserC45Classifier.N1dd77f2261(i);
-        }
-        return p;
-    }
-
-    static double N1dd77f2261(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.05833744875229871) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.05833744875229871) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5e31c7aa262(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 607445.0) {
-            p = LeutheuserC45Classifier.N7f50d672263(i);
-        } else if (((Double) i[0]).doubleValue() > 607445.0) {
-            p = LeutheuserC45Classifier.N69c95e8d269(i);
-        }
-        return p;
-    }
-
-    static double N7f50d672263(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.35510253906247297) {
-            p = LeutheuserC45Classifier.N48d63c5264(i);
-        } else if (((Double) i[7]).doubleValue() > -0.35510253906247297) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N48d63c5264(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.27) {
-            p = LeutheuserC45Classifier.N6e05f641265(i);
-        } else if (((Double) i[3]).doubleValue() > 1.27) {
-            p = LeutheuserC45Classifier.N4743d253267(i);
-        }
-        return p;
-    }
-
-    static double N6e05f641265(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.18055555555555555) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.18055555555555555) {
-            p = LeutheuserC45Classifier.N3ed960bc266(i);
-        }
-        return p;
-    }
-
-    static double N3ed960bc266(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 16.293339843750132) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 16.293339843750132) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4743d253267(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.25833333333333336) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.25833333333333336) {
-            p = LeutheuserC45Classifier.N283f1235268(i);
-        }
-        return p;
-    }
-
-    static double N283f1235268(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.7076099410957097) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.7076099410957097) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N69c95e8d269(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3047949218749942) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.3047949218749942) {
-            p = LeutheuserC45Classifier.N1c600f88270(i);
-        }
-        return p;
-    }
-
-    static double N1c600f88270(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 632022.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 632022.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4568971d271(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.77) {
-            p = LeutheuserC45Classifier.N15169b3f272(i);
-        } else if (((Double) i[3]).doubleValue() > 1.77) {
-            p = LeutheuserC45Classifier.N354a4394283(i);
-        }
-        return p;
-    }
-
-    static double N15169b3f272(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 607564.0) {
-            p = LeutheuserC45Classifier.N36089226273(i);
-        } else if (((Double) i[0]).doubleValue() > 607564.0) {
-            p = LeutheuserC45Classifier.N5fc65080281(i);
-        }
-        return p;
-    }
-
-    static double N36089226273(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.06268233594497483) {
-            p = LeutheuserC45Classifier.N2a08c720274(i);
-        } else if (((Double) i[10]).doubleValue() > 0.06268233594497483) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2a08c720274(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 203907.0) {
-            p = LeutheuserC45Classifier.N2b596d03275(i);
-        } else if (((Double) i[0]).doubleValue() > 203907.0) {
-            p = LeutheuserC45Classifier.N74d051ec279(i);
-        }
-        return p;
-    }
-
-    static double N2b596d03275(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.4583333333333333) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.4583333333333333) {
-            p = LeutheuserC45Classifier.Na37d434276(i);
-        }
-        return p;
-    }
-
-    static double Na37d434276(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.2111111111111111) {
-            p = LeutheuserC45Classifier.N78dceef6277(i);
-        } else if (((Double) i[5]).doubleValue() > 0.2111111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N78dceef6277(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.3242394325727638) {
-            p = LeutheuserC45Classifier.N1481170a278(i);
-        } else if (((Double) i[15]).doubleValue() > 0.3242394325727638) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1481170a278(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.09444444444444444) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.09444444444444444) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N74d051ec279(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.6565012728237343) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.6565012728237343) {
-            p = LeutheuserC45Classifier.N40f2bd36280(i);
-        }
-        return p;
-    }
-
-    static double N40f2bd36280(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.17777777777777778) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.17777777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5fc65080281(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 4.974160983041626) {
-            p = LeutheuserC45Classifier.N43e32535282(i);
-        } else if (((Double) i[13]).doubleValue() > 4.974160983041626) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N43e32535282(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -0.82) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > -0.82) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N354a4394283(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.26944444444444443) {
-            p = LeutheuserC45Classifier.N60044306284(i);
-        } else if (((Double) i[5]).doubleValue() > 0.26944444444444443) {
-            p = LeutheuserC45Classifier.N25467b4e289(i);
-        }
-        return p;
-    }
-
-    static double N60044306284(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.61) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.61) {
-            p = LeutheuserC45Classifier.Nd2b4dd6285(i);
-        }
-        return p;
-    }
-
-    static double Nd2b4dd6285(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.0011698208513948685) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.0011698208513948685) {
-            p = LeutheuserC45Classifier.N57bb1bcb286(i);
-        }
-        return p;
-    }
-
-    static double N57bb1bcb286(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.955) {
-            p = LeutheuserC45Classifier.N300ab44b287(i);
-        } else if (((Double) i[3]).doubleValue() > 1.955) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N300ab44b287(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.034229706250874514) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.034229706250874514) {
-            p = LeutheuserC45Classifier.N72d4dd3f288(i);
-        }
-        return p;
-    }
-
-    static double N72d4dd3f288(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.095849609374981) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.095849609374981) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N25467b4e289(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.011324420797408908) {
-            p = LeutheuserC45Classifier.N2a2c596e290(i);
-        } else if (((Double) i[9]).doubleValue() > 0.011324420797408908) {
-            p = LeutheuserC45Classifier.Nd029d5e293(i);
-        }
-        return p;
-    }
-
-    static double N2a2c596e290(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.023425444504309046) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.023425444504309046) {
-            p = LeutheuserC45Classifier.N4fe1188c291(i);
-        }
-        return p;
-    }
-
-    static double N4fe1188c291(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 491830.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 491830.0) {
-            p = LeutheuserC45Classifier.N1b88096a292(i);
-        }
-        return p;
-    }
-
-    static double N1b88096a292(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 2.8650323273570236E-4) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 2.8650323273570236E-4) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nd029d5e293(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 61911.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 61911.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N45ad52b9294(Object[] i) {
-        double p = Double.NaN;
-        if (i[11] == null) {
-            p = 1;
-        } else if (((Double) i[11]).doubleValue() <= 0.22436725190358306) {
-            p = LeutheuserC45Classifier.N2cf07f8295(i);
-        } else if (((Double) i[11]).doubleValue() > 0.22436725190358306) {
-            p = LeutheuserC45Classifier.N11cfeb388(i);
-        }
-        return p;
-    }
-
-    static double N2cf07f8295(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.13333333333333333) {
-            p = LeutheuserC45Classifier.N59579d92296(i);
-        } else if (((Double) i[5]).doubleValue() > 0.13333333333333333) {
-            p = LeutheuserC45Classifier.N239125f4335(i);
-        }
-        return p;
-    }
-
-    static double N59579d92296(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.285) {
-            p = LeutheuserC45Classifier.N40a6138b297(i);
-        } else if (((Double) i[1]).doubleValue() > 0.285) {
-            p = LeutheuserC45Classifier.N2b586a69303(i);
-        }
-        return p;
-    }
-
-    static double N40a6138b297(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.68) {
-            p = LeutheuserC45Classifier.N6fb1b9bc298(i);
-        } else if (((Double) i[3]).doubleValue() > 0.68) {
-            p = LeutheuserC45Classifier.N2f5881301(i);
-        }
-        return p;
-    }
-
-    static double N6fb1b9bc298(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.19119628906254482) {
-            p = LeutheuserC45Classifier.N153b8375299(i);
-        } else if (((Double) i[7]).doubleValue() > -0.19119628906254482) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N153b8375299(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.09722222222222222) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.09722222222222222) {
-            p = LeutheuserC45Classifier.N7065374d300(i);
-        }
-        return p;
-    }
-
-    static double N7065374d300(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8972222222222223) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8972222222222223) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2f5881301(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5290040800213428) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.5290040800213428) {
-            p = LeutheuserC45Classifier.N62b16d61302(i);
-        }
-        return p;
-    }
-
-    static double N62b16d61302(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.38213867187501266) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.38213867187501266) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2b586a69303(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 0.95) {
-            p = LeutheuserC45Classifier.N725eff10304(i);
-        } else if (((Double) i[4]).doubleValue() > 0.95) {
-            p = LeutheuserC45Classifier.Nfec5402311(i);
-        }
-        return p;
-    }
-
-    static double N725eff10304(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.2305555555555556) {
-            p = LeutheuserC45Classifier.N84f4a8a305(i);
-        } else if (((Double) i[2]).doubleValue() > 1.2305555555555556) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N84f4a8a305(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.002593686208441805) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.002593686208441805) {
-            p = LeutheuserC45Classifier.N617ce487306(i);
-        }
-        return p;
-    }
-
-    static double N617ce487306(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9388888888888889) {
-            p = LeutheuserC45Classifier.N91fc1e3307(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9388888888888889) {
-            p = LeutheuserC45Classifier.N7ed509b8309(i);
-        }
-        return p;
-    }
-
-    static double N91fc1e3307(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7055555555555556) {
-            p = LeutheuserC45Classifier.Nc3c19af308(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7055555555555556) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nc3c19af308(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 62362.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 62362.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7ed509b8309(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 10.722060546875156) {
-            p = LeutheuserC45Classifier.N780b8239310(i);
-        } else if (((Double) i[6]).doubleValue() > 10.722060546875156) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N780b8239310(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.7079842475656144) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > -0.7079842475656144) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nfec5402311(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.49722222222222223) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.49722222222222223) {
-            p = LeutheuserC45Classifier.N6371c531312(i);
-        }
-        return p;
-    }
-
-    static double N6371c531312(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 4.469731445313283) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 4.469731445313283) {
-            p = LeutheuserC45Classifier.N353f982e313(i);
-        }
-        return p;
-    }
-
-    static double N353f982e313(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 353398.0) {
-            p = LeutheuserC45Classifier.N1181defa314(i);
-        } else if (((Double) i[0]).doubleValue() > 353398.0) {
-            p = LeutheuserC45Classifier.N6ecef2f1326(i);
-        }
-        return p;
-    }
-
-    static double N1181defa314(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.475) {
-            p = LeutheuserC45Classifier.N7ca0d48c315(i);
-        } else if (((Double) i[1]).doubleValue() > 0.475) {
-            p = LeutheuserC45Classifier.N58a2ca80317(i);
-        }
-        return p;
-    }
-
-    static double N7ca0d48c315(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7138888888888889) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7138888888888889) {
-            p = LeutheuserC45Classifier.N1115ce64316(i);
-        }
-        return p;
-    }
-
-    static double N1115ce64316(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.9527777777777777) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.9527777777777777) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N58a2ca80317(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.3762304687499828) {
-            p = LeutheuserC45Classifier.N47cba960318(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3762304687499828) {
-            p = LeutheuserC45Classifier.N4cd4b28a321(i);
-        }
-        return p;
-    }
-
-    static double N47cba960318(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.725) {
-            p = LeutheuserC45Classifier.N3db501a1319(i);
-        } else if (((Double) i[19]).doubleValue() > 0.725) {
-            p = LeutheuserC45Classifier.N2ec9e9d320(i);
-        }
-        return p;
-    }
-
-    static double N3db501a1319(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5722222222222222) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5722222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2ec9e9d320(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.5432412638917865) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.5432412638917865) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4cd4b28a321(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.6170403140718766) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > -0.6170403140718766) {
-            p = LeutheuserC45Classifier.N56ce92d9322(i);
-        }
-        return p;
-    }
-
-    static double N56ce92d9322(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 0;
-        } else if (((Double) i[14]).doubleValue() <= 0.6155187377691227) {
-            p = 0;
-        } else if (((Double) i[14]).doubleValue() > 0.6155187377691227) {
-            p = LeutheuserC45Classifier.N436339a8323(i);
-        }
-        return p;
-    }
-
-    static double N436339a8323(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 1.1421774686710828) {
-            p = LeutheuserC45Classifier.N259d4f2f324(i);
-        } else if (((Double) i[12]).doubleValue() > 1.1421774686710828) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N259d4f2f324(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.9833333333333334) {
-            p = LeutheuserC45Classifier.N4c34e9f4325(i);
-        } else if (((Double) i[19]).doubleValue() > 1.9833333333333334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4c34e9f4325(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.7902657578310689) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.7902657578310689) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6ecef2f1326(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.08759277739885561) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.08759277739885561) {
-            p = LeutheuserC45Classifier.N34ba28f9327(i);
-        }
-        return p;
-    }
-
-    static double N34ba28f9327(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.3199658203125076) {
-            p = LeutheuserC45Classifier.N7b91ed76328(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3199658203125076) {
-            p = LeutheuserC45Classifier.N185747a3332(i);
-        }
-        return p;
-    }
-
-    static double N7b91ed76328(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 608806.0) {
-            p = LeutheuserC45Classifier.N1081d0b9329(i);
-        } else if (((Double) i[0]).doubleValue() > 608806.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1081d0b9329(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.0694444444444444) {
-            p = LeutheuserC45Classifier.N9c1f122330(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0694444444444444) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N9c1f122330(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.5251577274868756) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > -0.5251577274868756) {
-            p = LeutheuserC45Classifier.N6c59ed03331(i);
-        }
-        return p;
-    }
-
-    static double N6c59ed03331(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.6573580412136248) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.6573580412136248) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N185747a3332(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.17575195312499198) {
-            p = LeutheuserC45Classifier.N64d4808333(i);
-        } else if (((Double) i[7]).doubleValue() > -0.17575195312499198) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N64d4808333(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 4.527922941155381) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 4.527922941155381) {
-            p = LeutheuserC45Classifier.N3f102334(i);
-        }
-        return p;
-    }
-
-    static double N3f102334(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.0053006802263112236) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.0053006802263112236) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N239125f4335(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 601008.0) {
-            p = LeutheuserC45Classifier.N1d9147a336(i);
-        } else if (((Double) i[0]).doubleValue() > 601008.0) {
-            p = LeutheuserC45Classifier.N33919783376(i);
-        }
-        return p;
-    }
-
-    static double N1d9147a336(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.8367431640624579) {
-            p = LeutheuserC45Classifier.N6d381141337(i);
-        } else if (((Double) i[8]).doubleValue() > 0.8367431640624579) {
-            p = LeutheuserC45Classifier.N61b60d2e373(i);
-        }
-        return p;
-    }
-
-    static double N6d381141337(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 3.1466222185773587) {
-            p = LeutheuserC45Classifier.N722c6605338(i);
-        } else if (((Double) i[13]).doubleValue() > 3.1466222185773587) {
-            p = LeutheuserC45Classifier.N5fdbaa22357(i);
-        }
-        return p;
-    }
-
-    static double N722c6605338(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 378666.0) {
-            p = LeutheuserC45Classifier.N58385331339(i);
-        } else if (((Double) i[0]).doubleValue() > 378666.0) {
-            p = LeutheuserC45Classifier.N40c68321348(i);
-        }
-        return p;
-    }
-
-    static double N58385331339(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 11.412011718750092) {
-            p = LeutheuserC45Classifier.N118bf688340(i);
-        } else if (((Double) i[6]).doubleValue() > 11.412011718750092) {
-            p = LeutheuserC45Classifier.N79d3faab344(i);
-        }
-        return p;
-    }
-
-    static double N118bf688340(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.010689621497844654) {
-            p = LeutheuserC45Classifier.N3c145fe1341(i);
-        } else if (((Double) i[9]).doubleValue() > 0.010689621497844654) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3c145fe1341(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.16666666666666666) {
-            p = LeutheuserC45Classifier.N2d190a28342(i);
-        } else if (((Double) i[5]).doubleValue() > 0.16666666666666666) {
-            p = LeutheuserC45Classifier.N37a27561343(i);
-        }
-        return p;
-    }
-
-    static double N2d190a28342(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= -0.0031750067349047848) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > -0.0031750067349047848) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N37a27561343(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6194444444444445) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6194444444444445) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N79d3faab344(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.3392406782783549) {
-            p = LeutheuserC45Classifier.N67a64927345(i);
-        } else if (((Double) i[16]).doubleValue() > -0.3392406782783549) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N67a64927345(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 0.745) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 0.745) {
-            p = LeutheuserC45Classifier.N20b57b1346(i);
-        }
-        return p;
-    }
-
-    static double N20b57b1346(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.76) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.76) {
-            p = LeutheuserC45Classifier.N262623ec347(i);
-        }
-        return p;
-    }
-
-    static double N262623ec347(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.1177189227224237) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.1177189227224237) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N40c68321348(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.5412576026678874) {
-            p = LeutheuserC45Classifier.N15fc056f349(i);
-        } else if (((Double) i[18]).doubleValue() > 0.5412576026678874) {
-            p = LeutheuserC45Classifier.N58c0fc8354(i);
-        }
-        return p;
-    }
-
-    static double N15fc056f349(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.0241678466849674) {
-            p = LeutheuserC45Classifier.N4d126ebe350(i);
-        } else if (((Double) i[10]).doubleValue() > 0.0241678466849674) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4d126ebe350(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -0.07746173837134536) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > -0.07746173837134536) {
-            p = LeutheuserC45Classifier.N5a3c1db3351(i);
-        }
-        return p;
-    }
-
-    static double N5a3c1db3351(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 553246.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 553246.0) {
-            p = LeutheuserC45Classifier.N2e17425e352(i);
-        }
-        return p;
-    }
-
-    static double N2e17425e352(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.18926269531249781) {
-            p = LeutheuserC45Classifier.N5b35fd8e353(i);
-        } else if (((Double) i[7]).doubleValue() > -0.18926269531249781) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5b35fd8e353(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.14722222222222223) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.14722222222222223) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N58c0fc8354(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 1.5252178913060463) {
-            p = LeutheuserC45Classifier.N3fe74b4f355(i);
-        } else if (((Double) i[13]).doubleValue() > 1.5252178913060463) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3fe74b4f355(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.011493029364181687) {
-            p = LeutheuserC45Classifier.N2bf6fb5f356(i);
-        } else if (((Double) i[9]).doubleValue() > 0.011493029364181687) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2bf6fb5f356(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.275) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.275) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5fdbaa22357(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.8094465592102509) {
-            p = LeutheuserC45Classifier.N3acc0c5e358(i);
-        } else if (((Double) i[18]).doubleValue() > 0.8094465592102509) {
-            p = LeutheuserC45Classifier.N74c530e370(i);
-        }
-        return p;
-    }
-
-    static double N3acc0c5e358(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 3.965346679688097) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 3.965346679688097) {
-            p = LeutheuserC45Classifier.N3f74857b359(i);
-        }
-        return p;
-    }
-
-    static double N3f74857b359(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.14444444444444443) {
-            p = LeutheuserC45Classifier.N23c4adc9360(i);
-        } else if (((Double) i[5]).doubleValue() > 0.14444444444444443) {
-            p = LeutheuserC45Classifier.N1805f589367(i);
-        }
-        return p;
-    }
-
-    static double N23c4adc9360(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.004484417808496625) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.004484417808496625) {
-            p = LeutheuserC45Classifier.N214c8929361(i);
-        }
-        return p;
-    }
-
-    static double N214c8929361(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.55) {
-            p = LeutheuserC45Classifier.N7bb8cfa2362(i);
-        } else if (((Double) i[1]).doubleValue() > 0.55) {
-            p = LeutheuserC45Classifier.N607cd2f3363(i);
-        }
-        return p;
-    }
-
-    static double N7bb8cfa2362(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.71) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.71) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N607cd2f3363(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.009198275862070041) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.009198275862070041) {
-            p = LeutheuserC45Classifier.N665091d0364(i);
-        }
-        return p;
-    }
-
-    static double N665091d0364(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.2149999999999999) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.2149999999999999) {
-            p = LeutheuserC45Classifier.N239049f2365(i);
-        }
-        return p;
-    }
-
-    static double N239049f2365(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7194444444444444) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7194444444444444) {
-            p = LeutheuserC45Classifier.N1e6857fd366(i);
-        }
-        return p;
-    }
-
-    static double N1e6857fd366(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.6027373842133612) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > -0.6027373842133612) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1805f589367(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.1956542968750098) {
-            p = LeutheuserC45Classifier.N7ab92948368(i);
-        } else if (((Double) i[8]).doubleValue() > 0.1956542968750098) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7ab92948368(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.01217052801725125) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.01217052801725125) {
-            p = LeutheuserC45Classifier.N5bc73034369(i);
-        }
-        return p;
-    }
-
-    static double N5bc73034369(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.975) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.975) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N74c530e370(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 13.012944335937483) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 13.012944335937483) {
-            p = LeutheuserC45Classifier.N305247d3371(i);
-        }
-        return p;
-    }
-
-    static double N305247d3371(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 437111.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 437111.0) {
-            p = LeutheuserC45Classifier.N392cbf8372(i);
-        }
-        return p;
-    }
-
-    static double N392cbf8372(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 14.125107421874382) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 14.125107421874382) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N61b60d2e373(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6666666666666666) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6666666666666666) {
-            p = LeutheuserC45Classifier.N407e635374(i);
-        }
-        return p;
-    }
-
-    static double N407e635374(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 5.968701133493202) {
-            p = LeutheuserC45Classifier.N264945b9375(i);
-        } else if (((Double) i[13]).doubleValue() > 5.968701133493202) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N264945b9375(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.2710469580649841) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.2710469580649841) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N33919783376(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -2.079682381994116) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > -2.079682381994116) {
-            p = LeutheuserC45Classifier.N621f23a2377(i);
-        }
-        return p;
-    }
-
-    static double N621f23a2377(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.4583333333333333) {
-            p = LeutheuserC45Classifier.N5992479a378(i);
-        } else if (((Double) i[19]).doubleValue() > 1.4583333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5992479a378(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5442568463210947) {
-            p = LeutheuserC45Classifier.N351aa59c379(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5442568463210947) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N351aa59c379(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.3011580803259645) {
-            p = LeutheuserC45Classifier.Na081133380(i);
-        } else if (((Double) i[17]).doubleValue() > 0.3011580803259645) {
-            p = LeutheuserC45Classifier.N70696da5384(i);
-        }
-        return p;
-    }
-
-    static double Na081133380(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 8.035161132812167) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 8.035161132812167) {
-            p = LeutheuserC45Classifier.N111131e3381(i);
-        }
-        return p;
-    }
-
-    static double N111131e3381(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 5.778113961270284) {
-            p = LeutheuserC45Classifier.N5a741acc382(i);
-        } else if (((Double) i[13]).doubleValue() > 5.778113961270284) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5a741acc382(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 1.332308464710197) {
-            p = LeutheuserC45Classifier.N3a22625b383(i);
-        } else if (((Double) i[12]).doubleValue() > 1.332308464710197) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3a22625b383(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.07018467257886395) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.07018467257886395) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N70696da5384(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.725) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.725) {
-            p = LeutheuserC45Classifier.N68efc462385(i);
-        }
-        return p;
-    }
-
-    static double N68efc462385(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= -0.05) {
-            p = LeutheuserC45Classifier.N12b701c9386(i);
-        } else if (((Double) i[3]).doubleValue() > -0.05) {
-            p = LeutheuserC45Classifier.N3bae897e387(i);
-        }
-        return p;
-    }
-
-    static double N12b701c9386(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -0.8500000000000001) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -0.8500000000000001) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3bae897e387(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6583333333333333) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6583333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N11cfeb388(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6722222222222223) {
-            p = LeutheuserC45Classifier.N164bc75f389(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6722222222222223) {
-            p = LeutheuserC45Classifier.N57f51280398(i);
-        }
-        return p;
-    }
-
-    static double N164bc75f389(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 594135.0) {
-            p = LeutheuserC45Classifier.N3c583516390(i);
-        } else if (((Double) i[0]).doubleValue() > 594135.0) {
-            p = LeutheuserC45Classifier.N2c736169397(i);
-        }
-        return p;
-    }
-
-    static double N3c583516390(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.995) {
-            p = LeutheuserC45Classifier.N73f2be9a391(i);
-        } else if (((Double) i[1]).doubleValue() > 0.995) {
-            p = LeutheuserC45Classifier.N48266b6c394(i);
-        }
-        return p;
-    }
-
-    static double N73f2be9a391(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.815) {
-            p = LeutheuserC45Classifier.N7d925998392(i);
-        } else if (((Double) i[3]).doubleValue() > 1.815) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7d925998392(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.06455144739043212) {
-            p = LeutheuserC45Classifier.N35ab084a393(i);
-        } else if (((Double) i[10]).doubleValue() > 0.06455144739043212) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N35ab084a393(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6388888888888888) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6388888888888888) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N48266b6c394(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.5969726562500404) {
-            p = LeutheuserC45Classifier.N2e461a9c395(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5969726562500404) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2e461a9c395(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5833333333333334) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5833333333333334) {
-            p = LeutheuserC45Classifier.N4177c855396(i);
-        }
-        return p;
-    }
-
-    static double N4177c855396(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6472222222222223) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6472222222222223) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2c736169397(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.16) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 2.16) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N57f51280398(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.0999999999999996) {
-            p = LeutheuserC45Classifier.N49f96018399(i);
-        } else if (((Double) i[3]).doubleValue() > 2.0999999999999996) {
-            p = LeutheuserC45Classifier.N44bcdb29411(i);
-        }
-        return p;
-    }
-
-    static double N49f96018399(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.1277777777777778) {
-            p = LeutheuserC45Classifier.N36b33c12400(i);
-        } else if (((Double) i[19]).doubleValue() > 1.1277777777777778) {
-            p = LeutheuserC45Classifier.N69b77c88407(i);
-        }
-        return p;
-    }
-
-    static double N36b33c12400(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9230235793931207) {
-            p = LeutheuserC45Classifier.N17c6b84401(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9230235793931207) {
-            p = LeutheuserC45Classifier.N5f6a3a0e406(i);
-        }
-        return p;
-    }
-
-    static double N17c6b84401(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.86) {
-            p = LeutheuserC45Classifier.N7e620839402(i);
-        } else if (((Double) i[4]).doubleValue() > 1.86) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7e620839402(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.16) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.16) {
-            p = LeutheuserC45Classifier.N7c194e4d403(i);
-        }
-        return p;
-    }
-
-    static double N7c194e4d403(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7333333333333333) {
-            p = LeutheuserC45Classifier.N53e5be70404(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7333333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N53e5be70404(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.8520166015624703) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.8520166015624703) {
-            p = LeutheuserC45Classifier.N31a7cfc3405(i);
-        }
-        return p;
-    }
-
-    static double N31a7cfc3405(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 17.715117187500347) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 17.715117187500347) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5f6a3a0e406(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9701735227845942) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.9701735227845942) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N69b77c88407(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.25555555555555554) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.25555555555555554) {
-            p = LeutheuserC45Classifier.N175f49f0408(i);
-        }
-        return p;
-    }
-
-    static double N175f49f0408(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.2277777777777779) {
-            p = LeutheuserC45Classifier.N1809450f409(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2277777777777779) {
-            p = LeutheuserC45Classifier.N16bda64a410(i);
-        }
-        return p;
-    }
-
-    static double N1809450f409(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.7349999999999999) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.7349999999999999) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N16bda64a410(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.8055224609375268) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.8055224609375268) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N44bcdb29411(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7111111111111111) {
-            p = LeutheuserC45Classifier.N29411a87412(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7111111111111111) {
-            p = LeutheuserC45Classifier.N7bb2039d413(i);
-        }
-        return p;
-    }
-
-    static double N29411a87412(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6833333333333333) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6833333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7bb2039d413(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 3.1900000000000004) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 3.1900000000000004) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N466557414(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.22) {
-            p = LeutheuserC45Classifier.N220183e5415(i);
-        } else if (((Double) i[1]).doubleValue() > 0.22) {
-            p = LeutheuserC45Classifier.N3b52000416(i);
-        }
-        return p;
-    }
-
-    static double N220183e5415(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6083333333333333) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6083333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3b52000416(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 0.9249999999999999) {
-            p = LeutheuserC45Classifier.N68707500417(i);
-        } else if (((Double) i[4]).doubleValue() > 0.9249999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N68707500417(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7027777777777777) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.7027777777777777) {
-            p = LeutheuserC45Classifier.N5bafd984418(i);
-        }
-        return p;
-    }
-
-    static double N5bafd984418(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.0014078148385117334) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.0014078148385117334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N751f67bf419(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.6838134765624986) {
-            p = LeutheuserC45Classifier.N5f80ec3c420(i);
-        } else if (((Double) i[7]).doubleValue() > -0.6838134765624986) {
-            p = LeutheuserC45Classifier.N3e89176a443(i);
-        }
-        return p;
-    }
-
-    static double N5f80ec3c420(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.1943798828124988) {
-            p = LeutheuserC45Classifier.N34335ab9421(i);
-        } else if (((Double) i[8]).doubleValue() > 0.1943798828124988) {
-            p = LeutheuserC45Classifier.N1f59794c423(i);
-        }
-        return p;
-    }
-
-    static double N34335ab9421(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.5444444444444445) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 1.5444444444444445) {
-            p = LeutheuserC45Classifier.N1175d642422(i);
-        }
-        return p;
-    }
-
-    static double N1175d642422(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.635) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.635) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1f59794c423(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.022720651834837804) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.022720651834837804) {
-            p = LeutheuserC45Classifier.N47608797424(i);
-        }
-        return p;
-    }
-
-    static double N47608797424(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.54) {
-            p = LeutheuserC45Classifier.N69a8fb50425(i);
-        } else if (((Double) i[3]).doubleValue() > 2.54) {
-            p = LeutheuserC45Classifier.N438302d8442(i);
-        }
-        return p;
-    }
-
-    static double N69a8fb50425(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.65) {
-            p = LeutheuserC45Classifier.N5650f7e1426(i);
-        } else if (((Double) i[2]).doubleValue() > 0.65) {
-            p = LeutheuserC45Classifier.N6fd4159e429(i);
-        }
-        return p;
-    }
-
-    static double N5650f7e1426(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.6587890624999574) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.6587890624999574) {
-            p = LeutheuserC45Classifier.N297777e427(i);
-        }
-        return p;
-    }
-
-    static double N297777e427(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.5460953868652432) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 1.5460953868652432) {
-            p = LeutheuserC45Classifier.N41881484428(i);
-        }
-        return p;
-    }
-
-    static double N41881484428(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.28) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.28) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6fd4159e429(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.585) {
-            p = LeutheuserC45Classifier.N3eea087a430(i);
-        } else if (((Double) i[1]).doubleValue() > 1.585) {
-            p = LeutheuserC45Classifier.N4a43c98440(i);
-        }
-        return p;
-    }
-
-    static double N3eea087a430(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.035) {
-            p = LeutheuserC45Classifier.N77fb45e431(i);
-        } else if (((Double) i[4]).doubleValue() > 2.035) {
-            p = LeutheuserC45Classifier.N2eac9910437(i);
-        }
-        return p;
-    }
-
-    static double N77fb45e431(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.815) {
-            p = LeutheuserC45Classifier.N652ac01432(i);
-        } else if (((Double) i[3]).doubleValue() > 1.815) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N652ac01432(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.7933251953124971) {
-            p = LeutheuserC45Classifier.N49e531b0433(i);
-        } else if (((Double) i[8]).doubleValue() > 0.7933251953124971) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N49e531b0433(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.745) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.745) {
-            p = LeutheuserC45Classifier.N27a2592e434(i);
-        }
-        return p;
-    }
-
-    static double N27a2592e434(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.2349999999999999) {
-            p = LeutheuserC45Classifier.N5d85c4c0435(i);
-        } else if (((Double) i[3]).doubleValue() > 1.2349999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5d85c4c0435(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6083333333333333) {
-            p = LeutheuserC45Classifier.N4e2449d5436(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6083333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4e2449d5436(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= -0.8623689899048008) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > -0.8623689899048008) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2eac9910437(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.2972222222222222) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.2972222222222222) {
-            p = LeutheuserC45Classifier.N1bf2cec2438(i);
-        }
-        return p;
-    }
-
-    static double N1bf2cec2438(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8555555555555555) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.8555555555555555) {
-            p = LeutheuserC45Classifier.N68a2bab8439(i);
-        }
-        return p;
-    }
-
-    static double N68a2bab8439(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 3.075) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 3.075) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4a43c98440(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9222222222222223) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.9222222222222223) {
-            p = LeutheuserC45Classifier.N4e0a4105441(i);
-        }
-        return p;
-    }
-
-    static double N4e0a4105441(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 578805.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 578805.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N438302d8442(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.5434085293077988) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.5434085293077988) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e89176a443(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.3988667064393692) {
-            p = LeutheuserC45Classifier.N1becbcdf444(i);
-        } else if (((Double) i[16]).doubleValue() > -0.3988667064393692) {
-            p = LeutheuserC45Classifier.N2f32195d469(i);
-        }
-        return p;
-    }
-
-    static double N1becbcdf444(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= -2.735) {
-            p = LeutheuserC45Classifier.N772c4ce445(i);
-        } else if (((Double) i[4]).doubleValue() > -2.735) {
-            p = LeutheuserC45Classifier.N5c3c933a446(i);
-        }
-        return p;
-    }
-
-    static double N772c4ce445(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6805555555555556) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6805555555555556) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5c3c933a446(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() <= 0.4411164804220105) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() > 0.4411164804220105) {
-            p = LeutheuserC45Classifier.N2af8fd90447(i);
-        }
-        return p;
-    }
-
-    static double N2af8fd90447(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.008944605334055156) {
-            p = LeutheuserC45Classifier.N540cb654448(i);
-        } else if (((Double) i[9]).doubleValue() > 0.008944605334055156) {
-            p = LeutheuserC45Classifier.N1b6f95f1467(i);
-        }
-        return p;
-    }
-
-    static double N540cb654448(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 12.597695312500141) {
-            p = LeutheuserC45Classifier.N45c94caf449(i);
-        } else if (((Double) i[6]).doubleValue() > 12.597695312500141) {
-            p = LeutheuserC45Classifier.N47e0670c462(i);
-        }
-        return p;
-    }
-
-    static double N45c94caf449(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -0.72) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > -0.72) {
-            p = LeutheuserC45Classifier.N7d54a26f450(i);
-        }
-        return p;
-    }
-
-    static double N7d54a26f450(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.925) {
-            p = LeutheuserC45Classifier.N10adc428451(i);
-        } else if (((Double) i[2]).doubleValue() > 1.925) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N10adc428451(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.570357149358661) {
-            p = LeutheuserC45Classifier.N21a27e7f452(i);
-        } else if (((Double) i[15]).doubleValue() > -0.570357149358661) {
-            p = LeutheuserC45Classifier.N1bb9c8dd457(i);
-        }
-        return p;
-    }
-
-    static double N21a27e7f452(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.88864546998693) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > -0.88864546998693) {
-            p = LeutheuserC45Classifier.N2e01e2d0453(i);
-        }
-        return p;
-    }
-
-    static double N2e01e2d0453(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 142801.0) {
-            p = LeutheuserC45Classifier.N769e7aa5454(i);
-        } else if (((Double) i[0]).doubleValue() > 142801.0) {
-            p = LeutheuserC45Classifier.N3a8fba3e456(i);
-        }
-        return p;
-    }
-
-    static double N769e7aa5454(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9722222222222222) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.9722222222222222) {
-            p = LeutheuserC45Classifier.N8ec6cda455(i);
-        }
-        return p;
-    }
-
-    static double N8ec6cda455(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.22759277343752965) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.22759277343752965) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3a8fba3e456(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -2.255) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -2.255) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1bb9c8dd457(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.30833333333333335) {
-            p = LeutheuserC45Classifier.N1ef7d25d458(i);
-        } else if (((Double) i[5]).doubleValue() > 0.30833333333333335) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1ef7d25d458(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.5062038912345398) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > -0.5062038912345398) {
-            p = LeutheuserC45Classifier.N7516e7e5459(i);
-        }
-        return p;
-    }
-
-    static double N7516e7e5459(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.055) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.055) {
-            p = LeutheuserC45Classifier.N320ffd33460(i);
-        }
-        return p;
-    }
-
-    static double N320ffd33460(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.915) {
-            p = LeutheuserC45Classifier.N6725248f461(i);
-        } else if (((Double) i[1]).doubleValue() > 0.915) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6725248f461(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 272453.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 272453.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N47e0670c462(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.8912098840817781) {
-            p = LeutheuserC45Classifier.N50b89da463(i);
-        } else if (((Double) i[12]).doubleValue() > 1.8912098840817781) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N50b89da463(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.725) {
-            p = LeutheuserC45Classifier.N48a01a2d464(i);
-        } else if (((Double) i[2]).doubleValue() > 0.725) {
-            p = LeutheuserC45Classifier.N42f3812c466(i);
-        }
-        return p;
-    }
-
-    static double N48a01a2d464(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6416666666666667) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6416666666666667) {
-            p = LeutheuserC45Classifier.N66f5eea465(i);
-        }
-        return p;
-    }
-
-    static double N66f5eea465(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 6.321306483739525) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 6.321306483739525) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N42f3812c466(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 356770.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 356770.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1b6f95f1467(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 567333.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 567333.0) {
-            p = LeutheuserC45Classifier.N53d685c3468(i);
-        }
-        return p;
-    }
-
-    static double N53d685c3468(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6027777777777777) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6027777777777777) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2f32195d469(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -1.405) {
-            p = LeutheuserC45Classifier.N71160776470(i);
-        } else if (((Double) i[4]).doubleValue() > -1.405) {
-            p = LeutheuserC45Classifier.N10f582b9477(i);
-        }
-        return p;
-    }
-
-    static double N71160776470(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.33641113281241075) {
-            p = LeutheuserC45Classifier.N1631c4b8471(i);
-        } else if (((Double) i[7]).doubleValue() > -0.33641113281241075) {
-            p = LeutheuserC45Classifier.N133ab08b476(i);
-        }
-        return p;
-    }
-
-    static double N1631c4b8471(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -1.5299999999999998) {
-            p = LeutheuserC45Classifier.N712ea320472(i);
-        } else if (((Double) i[3]).doubleValue() > -1.5299999999999998) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N712ea320472(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6138888888888889) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6138888888888889) {
-            p = LeutheuserC45Classifier.N4e69b4a9473(i);
-        }
-        return p;
-    }
-
-    static double N4e69b4a9473(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -3.0300000000000002) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -3.0300000000000002) {
-            p = LeutheuserC45Classifier.Nf0527a5474(i);
-        }
-        return p;
-    }
-
-    static double Nf0527a5474(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.2722222222222222) {
-            p = LeutheuserC45Classifier.N178936f9475(i);
-        } else if (((Double) i[5]).doubleValue() > 0.2722222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N178936f9475(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.6208885935766723) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.6208885935766723) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N133ab08b476(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.20609553253190097) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.20609553253190097) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N10f582b9477(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.1974072265624911) {
-            p = LeutheuserC45Classifier.N36ebb70d478(i);
-        } else if (((Double) i[7]).doubleValue() > -0.1974072265624911) {
-            p = LeutheuserC45Classifier.N4fe6a71c575(i);
-        }
-        return p;
-    }
-
-    static double N36ebb70d478(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.24166666666666667) {
-            p = LeutheuserC45Classifier.N680b71d7479(i);
-        } else if (((Double) i[5]).doubleValue() > 0.24166666666666667) {
-            p = LeutheuserC45Classifier.N3eacc7f2559(i);
-        }
-        return p;
-    }
-
-    static double N680b71d7479(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.5611111111111111) {
-            p = LeutheuserC45Classifier.N2e733ab5480(i);
-        } else if (((Double) i[2]).doubleValue() > 1.5611111111111111) {
-            p = LeutheuserC45Classifier.N51b5406b552(i);
-        }
-        return p;
-    }
-
-    static double N2e733ab5480(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.263395114485549) {
-            p = LeutheuserC45Classifier.N122f9588481(i);
-        } else if (((Double) i[18]).doubleValue() > 0.263395114485549) {
-            p = LeutheuserC45Classifier.N30f309f8519(i);
-        }
-        return p;
-    }
-
-    static double N122f9588481(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.9201177571041186) {
-            p = LeutheuserC45Classifier.N79170b1f482(i);
-        } else if (((Double) i[12]).doubleValue() > 1.9201177571041186) {
-            p = LeutheuserC45Classifier.N756646dc506(i);
-        }
-        return p;
-    }
-
-    static double N79170b1f482(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.3088294331279887) {
-            p = LeutheuserC45Classifier.N4a215823483(i);
-        } else if (((Double) i[17]).doubleValue() > 0.3088294331279887) {
-            p = LeutheuserC45Classifier.N6306dfb2504(i);
-        }
-        return p;
-    }
-
-    static double N4a215823483(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 10.857058258658952) {
-            p = LeutheuserC45Classifier.N7d306540484(i);
-        } else if (((Double) i[13]).doubleValue() > 10.857058258658952) {
-            p = LeutheuserC45Classifier.N7bf5a656500(i);
-        }
-        return p;
-    }
-
-    static double N7d306540484(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.7764085838937078) {
-            p = LeutheuserC45Classifier.N135d2cbb485(i);
-        } else if (((Double) i[15]).doubleValue() > 0.7764085838937078) {
-            p = LeutheuserC45Classifier.N7264cf13498(i);
-        }
-        return p;
-    }
-
-    static double N135d2cbb485(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6555555555555556) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6555555555555556) {
-            p = LeutheuserC45Classifier.N5253923c486(i);
-        }
-        return p;
-    }
-
-    static double N5253923c486(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.003963193696082774) {
-            p = LeutheuserC45Classifier.N12f33815487(i);
-        } else if (((Double) i[9]).doubleValue() > 0.003963193696082774) {
-            p = LeutheuserC45Classifier.N2c49c3b4496(i);
-        }
-        return p;
-    }
-
-    static double N12f33815487(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N6c97456e488(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N58b1d9e492(i);
-        }
-        return p;
-    }
-
-    static double N6c97456e488(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7611111111111111) {
-            p = LeutheuserC45Classifier.N165584b3489(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7611111111111111) {
-            p = LeutheuserC45Classifier.N58592637490(i);
-        }
-        return p;
-    }
-
-    static double N165584b3489(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 8.255244404450284) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 8.255244404450284) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N58592637490(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.69) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.69) {
-            p = LeutheuserC45Classifier.N53e18eb9491(i);
-        }
-        return p;
-    }
-
-    static double N53e18eb9491(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 8.975976562500128) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 8.975976562500128) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N58b1d9e492(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.12777777777777777) {
-            p = LeutheuserC45Classifier.N3fc17180493(i);
-        } else if (((Double) i[5]).doubleValue() > 0.12777777777777777) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3fc17180493(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.455) {
-            p = LeutheuserC45Classifier.N2e3880d1494(i);
-        } else if (((Double) i[1]).doubleValue() > 1.455) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2e3880d1494(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.10277777777777777) {
-            p = LeutheuserC45Classifier.N717347e9495(i);
-        } else if (((Double) i[5]).doubleValue() > 0.10277777777777777) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N717347e9495(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.08888888888888889) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.08888888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2c49c3b4496(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.10833333333333334) {
-            p = LeutheuserC45Classifier.N1830facc497(i);
-        } else if (((Double) i[5]).doubleValue() > 0.10833333333333334) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1830facc497(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.012156553071077845) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.012156553071077845) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7264cf13498(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.09166666666666666) {
-            p = LeutheuserC45Classifier.N19c382b9499(i);
-        } else if (((Double) i[5]).doubleValue() > 0.09166666666666666) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N19c382b9499(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.016803453339795032) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.016803453339795032) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7bf5a656500(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.5320898437500008) {
-            p = LeutheuserC45Classifier.N648cc57e501(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5320898437500008) {
-            p = LeutheuserC45Classifier.N30c482ab502(i);
-        }
-        return p;
-    }
-
-    static double N648cc57e501(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 13.608906250000736) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 13.608906250000736) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N30c482ab502(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.015692891024293623) {
-            p = LeutheuserC45Classifier.N35971840503(i);
-        } else if (((Double) i[17]).doubleValue() > 0.015692891024293623) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N35971840503(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.22452558196162462) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.22452558196162462) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6306dfb2504(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.163888888888889) {
-            p = LeutheuserC45Classifier.N61a35199505(i);
-        } else if (((Double) i[19]).doubleValue() > 1.163888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N61a35199505(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 8.714597619180994) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 8.714597619180994) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N756646dc506(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.9353884925991665) {
-            p = LeutheuserC45Classifier.N783e1528507(i);
-        } else if (((Double) i[13]).doubleValue() > 6.9353884925991665) {
-            p = LeutheuserC45Classifier.N47dbde8d513(i);
-        }
-        return p;
-    }
-
-    static double N783e1528507(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.05) {
-            p = LeutheuserC45Classifier.N2d10bed2508(i);
-        } else if (((Double) i[1]).doubleValue() > 1.05) {
-            p = LeutheuserC45Classifier.N3182ea40512(i);
-        }
-        return p;
-    }
-
-    static double N2d10bed2508(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.22) {
-            p = LeutheuserC45Classifier.N56c40d70509(i);
-        } else if (((Double) i[1]).doubleValue() > 0.22) {
-            p = LeutheuserC45Classifier.N1153e1d2510(i);
-        }
-        return p;
-    }
-
-    static double N56c40d70509(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.775) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.775) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1153e1d2510(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.21149321068061402) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.21149321068061402) {
-            p = LeutheuserC45Classifier.N19cc2185511(i);
-        }
-        return p;
-    }
-
-    static double N19cc2185511(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 280816.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 280816.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3182ea40512(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8277777777777777) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8277777777777777) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47dbde8d513(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.8422883635469348) {
-            p = LeutheuserC45Classifier.N4908fad5514(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8422883635469348) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4908fad5514(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.11666666666666667) {
-            p = LeutheuserC45Classifier.N31b02a78515(i);
-        } else if (((Double) i[5]).doubleValue() > 0.11666666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N31b02a78515(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.0805555555555555) {
-            p = LeutheuserC45Classifier.N17c606e4516(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0805555555555555) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N17c606e4516(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.15804810539812514) {
-            p = LeutheuserC45Classifier.Ne709d27517(i);
-        } else if (((Double) i[15]).doubleValue() > 0.15804810539812514) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Ne709d27517(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5277777777777778) {
-            p = LeutheuserC45Classifier.N20006e518(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5277777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N20006e518(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.935) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.935) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N30f309f8519(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.4777777777777778) {
-            p = LeutheuserC45Classifier.N1725d824520(i);
-        } else if (((Double) i[2]).doubleValue() > 0.4777777777777778) {
-            p = LeutheuserC45Classifier.N1d95b6ea522(i);
-        }
-        return p;
-    }
-
-    static double N1725d824520(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.02769598599137678) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.02769598599137678) {
-            p = LeutheuserC45Classifier.N1db6e642521(i);
-        }
-        return p;
-    }
-
-    static double N1db6e642521(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 396200.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 396200.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1d95b6ea522(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.24856980049400945) {
-            p = LeutheuserC45Classifier.N3581c069523(i);
-        } else if (((Double) i[17]).doubleValue() > 0.24856980049400945) {
-            p = LeutheuserC45Classifier.N2672a93a525(i);
-        }
-        return p;
-    }
-
-    static double N3581c069523(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.145) {
-            p = LeutheuserC45Classifier.Nc5cca05524(i);
-        } else if (((Double) i[4]).doubleValue() > 2.145) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nc5cca05524(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.376134423736971) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.376134423736971) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2672a93a525(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.016913995150848942) {
-            p = LeutheuserC45Classifier.N16e069f8526(i);
-        } else if (((Double) i[9]).doubleValue() > 0.016913995150848942) {
-            p = LeutheuserC45Classifier.N34d933d0550(i);
-        }
-        return p;
-    }
-
-    static double N16e069f8526(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.72) {
-            p = LeutheuserC45Classifier.N2dd971c5527(i);
-        } else if (((Double) i[3]).doubleValue() > 0.72) {
-            p = LeutheuserC45Classifier.N7437d02d529(i);
-        }
-        return p;
-    }
-
-    static double N2dd971c5527(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.005) {
-            p = LeutheuserC45Classifier.N47bf9a99528(i);
-        } else if (((Double) i[4]).doubleValue() > 1.005) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N47bf9a99528(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 8.372495117186794) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 8.372495117186794) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7437d02d529(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.36) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.36) {
-            p = LeutheuserC45Classifier.N610dc8fa530(i);
-        }
-        return p;
-    }
-
-    static double N610dc8fa530(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.004327783654402954) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.004327783654402954) {
-            p = LeutheuserC45Classifier.N7bcca47531(i);
-        }
-        return p;
-    }
-
-    static double N7bcca47531(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.736797136759869) {
-            p = LeutheuserC45Classifier.N3c6ce37b532(i);
-        } else if (((Double) i[12]).doubleValue() > 1.736797136759869) {
-            p = LeutheuserC45Classifier.N119c7bfd542(i);
-        }
-        return p;
-    }
-
-    static double N3c6ce37b532(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5861111111111111) {
-            p = LeutheuserC45Classifier.N7690ea63533(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5861111111111111) {
-            p = LeutheuserC45Classifier.N185aa5dc535(i);
-        }
-        return p;
-    }
-
-    static double N7690ea63533(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7555555555555555) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7555555555555555) {
-            p = LeutheuserC45Classifier.N79d5b653534(i);
-        }
-        return p;
-    }
-
-    static double N79d5b653534(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.19) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.19) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N185aa5dc535(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5277777777777778) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5277777777777778) {
-            p = LeutheuserC45Classifier.N4376ea97536(i);
-        }
-        return p;
-    }
-
-    static double N4376ea97536(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.004481344288814955) {
-            p = LeutheuserC45Classifier.N3244d368537(i);
-        } else if (((Double) i[9]).doubleValue() > 0.004481344288814955) {
-            p = LeutheuserC45Classifier.N4bd393be541(i);
-        }
-        return p;
-    }
-
-    static double N3244d368537(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 8.786511315471586) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 8.786511315471586) {
-            p = LeutheuserC45Classifier.N66f78c5d538(i);
-        }
-        return p;
-    }
-
-    static double N66f78c5d538(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.545556640625011) {
-            p = LeutheuserC45Classifier.N2b4eb11a539(i);
-        } else if (((Double) i[8]).doubleValue() > 0.545556640625011) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2b4eb11a539(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.1661718101232803) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.1661718101232803) {
-            p = LeutheuserC45Classifier.N5f98d4b6540(i);
-        }
-        return p;
-    }
-
-    static double N5f98d4b6540(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8527777777777777) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8527777777777777) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4bd393be541(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6361111111111111) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6361111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N119c7bfd542(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 9.253724785060939) {
-            p = LeutheuserC45Classifier.N4f84deb5543(i);
-        } else if (((Double) i[13]).doubleValue() > 9.253724785060939) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4f84deb5543(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.18) {
-            p = LeutheuserC45Classifier.N56209e97544(i);
-        } else if (((Double) i[3]).doubleValue() > 1.18) {
-            p = LeutheuserC45Classifier.N4afb4d3549(i);
-        }
-        return p;
-    }
-
-    static double N56209e97544(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.0033882004310240117) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.0033882004310240117) {
-            p = LeutheuserC45Classifier.N139b98e545(i);
-        }
-        return p;
-    }
-
-    static double N139b98e545(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.003543709927815) {
-            p = LeutheuserC45Classifier.N738869c7546(i);
-        } else if (((Double) i[12]).doubleValue() > 2.003543709927815) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N738869c7546(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.15) {
-            p = LeutheuserC45Classifier.N1a107075547(i);
-        } else if (((Double) i[5]).doubleValue() > 0.15) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1a107075547(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.11944444444444445) {
-            p = LeutheuserC45Classifier.N48968186548(i);
-        } else if (((Double) i[5]).doubleValue() > 0.11944444444444445) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N48968186548(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.9055555555555556) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.9055555555555556) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4afb4d3549(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5722222222222222) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.5722222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N34d933d0550(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6111111111111112) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6111111111111112) {
-            p = LeutheuserC45Classifier.N2dd37ee6551(i);
-        }
-        return p;
-    }
-
-    static double N2dd37ee6551(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.023407724118803645) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.023407724118803645) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N51b5406b552(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.09) {
-            p = LeutheuserC45Classifier.N28456fa2553(i);
-        } else if (((Double) i[3]).doubleValue() > 2.09) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N28456fa2553(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 2.147222222222222) {
-            p = LeutheuserC45Classifier.N55ff8ec9554(i);
-        } else if (((Double) i[2]).doubleValue() > 2.147222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N55ff8ec9554(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() <= 1.1290490137576477) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() > 1.1290490137576477) {
-            p = LeutheuserC45Classifier.N63edeede555(i);
-        }
-        return p;
-    }
-
-    static double N63edeede555(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5888888888888889) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.5888888888888889) {
-            p = LeutheuserC45Classifier.N18a04cd0556(i);
-        }
-        return p;
-    }
-
-    static double N18a04cd0556(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.6222222222222222) {
-            p = LeutheuserC45Classifier.N1b1b1819557(i);
-        } else if (((Double) i[19]).doubleValue() > 1.6222222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1b1b1819557(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.7944444444444445) {
-            p = LeutheuserC45Classifier.N323b5475558(i);
-        } else if (((Double) i[2]).doubleValue() > 1.7944444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N323b5475558(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.18611111111111112) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.18611111111111112) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3eacc7f2559(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -1.09) {
-            p = LeutheuserC45Classifier.N24f0da3b560(i);
-        } else if (((Double) i[1]).doubleValue() > -1.09) {
-            p = LeutheuserC45Classifier.Nf18ad18562(i);
-        }
-        return p;
-    }
-
-    static double N24f0da3b560(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.8562141185585944) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.8562141185585944) {
-            p = LeutheuserC45Classifier.N67e8d56c561(i);
-        }
-        return p;
-    }
-
-    static double N67e8d56c561(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.038020070043135845) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.038020070043135845) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nf18ad18562(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.038888888888889) {
-            p = LeutheuserC45Classifier.N5753785e563(i);
-        } else if (((Double) i[2]).doubleValue() > 1.038888888888889) {
-            p = LeutheuserC45Classifier.N60f39d2b573(i);
-        }
-        return p;
-    }
-
-    static double N5753785e563(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5194444444444445) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5194444444444445) {
-            p = LeutheuserC45Classifier.N75d0518d564(i);
-        }
-        return p;
-    }
-
-    static double N75d0518d564(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.4249999999999998) {
-            p = LeutheuserC45Classifier.N5432b9ee565(i);
-        } else if (((Double) i[3]).doubleValue() > 1.4249999999999998) {
-            p = LeutheuserC45Classifier.N40ebcfad571(i);
-        }
-        return p;
-    }
-
-    static double N5432b9ee565(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.5200146484375012) {
-            p = LeutheuserC45Classifier.N1e08ae1d566(i);
-        } else if (((Double) i[8]).doubleValue() > 0.5200146484375012) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1e08ae1d566(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.4100000000000001) {
-            p = LeutheuserC45Classifier.N5255b40a567(i);
-        } else if (((Double) i[4]).doubleValue() > 1.4100000000000001) {
-            p = LeutheuserC45Classifier.N3f61d9af570(i);
-        }
-        return p;
-    }
-
-    static double N5255b40a567(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.003284899009489008) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.003284899009489008) {
-            p = LeutheuserC45Classifier.N257ecbf4568(i);
-        }
-        return p;
-    }
-
-    static double N257ecbf4568(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -2.6975657529449477) {
-            p = LeutheuserC45Classifier.N6442eb7c569(i);
-        } else if (((Double) i[12]).doubleValue() > -2.6975657529449477) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6442eb7c569(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6055555555555555) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6055555555555555) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3f61d9af570(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8694444444444445) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8694444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N40ebcfad571(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.2) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 2.2) {
-            p = LeutheuserC45Classifier.N13998d2f572(i);
-        }
-        return p;
-    }
-
-    static double N13998d2f572(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 135163.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 135163.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N60f39d2b573(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 7.115268554687511) {
-            p = LeutheuserC45Classifier.N516e9c3b574(i);
-        } else if (((Double) i[6]).doubleValue() > 7.115268554687511) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N516e9c3b574(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 4.783305664062621) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 4.783305664062621) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4fe6a71c575(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.9555555555555556) {
-            p = LeutheuserC45Classifier.N10c9ab3a576(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9555555555555556) {
-            p = LeutheuserC45Classifier.N7962d777581(i);
-        }
-        return p;
-    }
-
-    static double N10c9ab3a576(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.20337417669764696) {
-            p = LeutheuserC45Classifier.N6c2f66cd577(i);
-        } else if (((Double) i[18]).doubleValue() > 0.20337417669764696) {
-            p = LeutheuserC45Classifier.N3321305c579(i);
-        }
-        return p;
-    }
-
-    static double N6c2f66cd577(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 0.685) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 0.685) {
-            p = LeutheuserC45Classifier.N4985a037578(i);
-        }
-        return p;
-    }
-
-    static double N4985a037578(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 546398.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 546398.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3321305c579(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8861111111111111) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8861111111111111) {
-            p = LeutheuserC45Classifier.N6e6cdd79580(i);
-        }
-        return p;
-    }
-
-    static double N6e6cdd79580(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.08) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.08) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7962d777581(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.47) {
-            p = LeutheuserC45Classifier.N1d825474582(i);
-        } else if (((Double) i[1]).doubleValue() > 0.47) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1d825474582(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -1.6549999999999998) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -1.6549999999999998) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N271b3448583(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.11388888888888889) {
-            p = LeutheuserC45Classifier.N2f14b2c7584(i);
-        } else if (((Double) i[5]).doubleValue() > 0.11388888888888889) {
-            p = LeutheuserC45Classifier.N63af4cbd743(i);
-        }
-        return p;
-    }
-
-    static double N2f14b2c7584(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.135) {
-            p = LeutheuserC45Classifier.N4022013d585(i);
-        } else if (((Double) i[1]).doubleValue() > 0.135) {
-            p = LeutheuserC45Classifier.N42783366590(i);
-        }
-        return p;
-    }
-
-    static double N4022013d585(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 0.9199999999999999) {
-            p = LeutheuserC45Classifier.N4f8cccb9586(i);
-        } else if (((Double) i[4]).doubleValue() > 0.9199999999999999) {
-            p = LeutheuserC45Classifier.N3b430610588(i);
-        }
-        return p;
-    }
-
-    static double N4f8cccb9586(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9330324083295999) {
-            p = LeutheuserC45Classifier.N314b0874587(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9330324083295999) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N314b0874587(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.21250192471701923) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.21250192471701923) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3b430610588(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7777777777777778) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7777777777777778) {
-            p = LeutheuserC45Classifier.N6bb8d3ac589(i);
-        }
-        return p;
-    }
-
-    static double N6bb8d3ac589(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8916666666666667) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8916666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N42783366590(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.19955078124999723) {
-            p = LeutheuserC45Classifier.N2b199bf5591(i);
-        } else if (((Double) i[7]).doubleValue() > -0.19955078124999723) {
-            p = LeutheuserC45Classifier.N7c7b2e7f730(i);
-        }
-        return p;
-    }
-
-    static double N2b199bf5591(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7916666666666666) {
-            p = LeutheuserC45Classifier.N8c96b00592(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7916666666666666) {
-            p = LeutheuserC45Classifier.N23f2e646686(i);
-        }
-        return p;
-    }
-
-    static double N8c96b00592(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.775) {
-            p = LeutheuserC45Classifier.N2541ec06593(i);
-        } else if (((Double) i[3]).doubleValue() > 1.775) {
-            p = LeutheuserC45Classifier.N424ebe19664(i);
-        }
-        return p;
-    }
-
-    static double N2541ec06593(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 14.252553710937612) {
-            p = LeutheuserC45Classifier.N262108cb594(i);
-        } else if (((Double) i[6]).doubleValue() > 14.252553710937612) {
-            p = LeutheuserC45Classifier.N6af2e205641(i);
-        }
-        return p;
-    }
-
-    static double N262108cb594(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8222222222222222) {
-            p = LeutheuserC45Classifier.N4100e9c9595(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8222222222222222) {
-            p = LeutheuserC45Classifier.N675b9d7c635(i);
-        }
-        return p;
-    }
-
-    static double N4100e9c9595(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.475) {
-            p = LeutheuserC45Classifier.N2521b82596(i);
-        } else if (((Double) i[2]).doubleValue() > 0.475) {
-            p = LeutheuserC45Classifier.N5204b6a2600(i);
-        }
-        return p;
-    }
-
-    static double N2521b82596(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.6673673174493646) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.6673673174493646) {
-            p = LeutheuserC45Classifier.N2859f612597(i);
-        }
-        return p;
-    }
-
-    static double N2859f612597(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6472222222222223) {
-            p = LeutheuserC45Classifier.N690d482598(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6472222222222223) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N690d482598(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9314291112883971) {
-            p = LeutheuserC45Classifier.N40983b38599(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9314291112883971) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N40983b38599(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.575) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.575) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5204b6a2600(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.8885907386963208) {
-            p = LeutheuserC45Classifier.N358a3396601(i);
-        } else if (((Double) i[12]).doubleValue() > 2.8885907386963208) {
-            p = LeutheuserC45Classifier.N156d5729614(i);
-        }
-        return p;
-    }
-
-    static double N358a3396601(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9054937118540372) {
-            p = LeutheuserC45Classifier.N353ec561602(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9054937118540372) {
-            p = LeutheuserC45Classifier.N354c32d3612(i);
-        }
-        return p;
-    }
-
-    static double N353ec561602(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.04418784121812077) {
-            p = LeutheuserC45Classifier.N34fe6905603(i);
-        } else if (((Double) i[10]).doubleValue() > 0.04418784121812077) {
-            p = LeutheuserC45Classifier.N5650eca6610(i);
-        }
-        return p;
-    }
-
-    static double N34fe6905603(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 10.184995009023579) {
-            p = LeutheuserC45Classifier.N4338789e604(i);
-        } else if (((Double) i[13]).doubleValue() > 10.184995009023579) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4338789e604(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.265) {
-            p = LeutheuserC45Classifier.N274ae5ec605(i);
-        } else if (((Double) i[4]).doubleValue() > 1.265) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N274ae5ec605(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.3995369215697775) {
-            p = LeutheuserC45Classifier.N641c39a9606(i);
-        } else if (((Double) i[18]).doubleValue() > 0.3995369215697775) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N641c39a9606(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.866473106244102) {
-            p = LeutheuserC45Classifier.N236dc26e607(i);
-        } else if (((Double) i[15]).doubleValue() > 0.866473106244102) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N236dc26e607(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.224242090893972) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.224242090893972) {
-            p = LeutheuserC45Classifier.N2311a215608(i);
-        }
-        return p;
-    }
-
-    static double N2311a215608(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.6484216718938473) {
-            p = LeutheuserC45Classifier.N5304461e609(i);
-        } else if (((Double) i[15]).doubleValue() > -0.6484216718938473) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5304461e609(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.6804101562499896) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.6804101562499896) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5650eca6610(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 516393.0) {
-            p = LeutheuserC45Classifier.N1be33ab0611(i);
-        } else if (((Double) i[0]).doubleValue() > 516393.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1be33ab0611(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.04520841609832969) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.04520841609832969) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N354c32d3612(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 6.8752669792994485) {
-            p = LeutheuserC45Classifier.N4409a6d2613(i);
-        } else if (((Double) i[13]).doubleValue() > 6.8752669792994485) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4409a6d2613(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.235) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.235) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N156d5729614(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.5763608424718765) {
-            p = LeutheuserC45Classifier.N1759c98e615(i);
-        } else if (((Double) i[12]).doubleValue() > 3.5763608424718765) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1759c98e615(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.018281582824143584) {
-            p = LeutheuserC45Classifier.N4357ab1c616(i);
-        } else if (((Double) i[17]).doubleValue() > 0.018281582824143584) {
-            p = LeutheuserC45Classifier.N35ca78f8618(i);
-        }
-        return p;
-    }
-
-    static double N4357ab1c616(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.34) {
-            p = LeutheuserC45Classifier.N4ae1aa92617(i);
-        } else if (((Double) i[4]).doubleValue() > 2.34) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4ae1aa92617(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 14.510634866023342) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 14.510634866023342) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N35ca78f8618(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 338382.0) {
-            p = LeutheuserC45Classifier.N6c86d276619(i);
-        } else if (((Double) i[0]).doubleValue() > 338382.0) {
-            p = LeutheuserC45Classifier.N1b0a8849627(i);
-        }
-        return p;
-    }
-
-    static double N6c86d276619(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.24) {
-            p = LeutheuserC45Classifier.N12779bb1620(i);
-        } else if (((Double) i[1]).doubleValue() > 1.24) {
-            p = LeutheuserC45Classifier.N47a57c48624(i);
-        }
-        return p;
-    }
-
-    static double N12779bb1620(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.6961421755725195) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.6961421755725195) {
-            p = LeutheuserC45Classifier.N55050657621(i);
-        }
-        return p;
-    }
-
-    static double N55050657621(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.7164194868321344) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.7164194868321344) {
-            p = LeutheuserC45Classifier.N336eb9b7622(i);
-        }
-        return p;
-    }
-
-    static double N336eb9b7622(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7277777777777777) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7277777777777777) {
-            p = LeutheuserC45Classifier.N6921c8ce623(i);
-        }
-        return p;
-    }
-
-    static double N6921c8ce623(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 79781.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 79781.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47a57c48624(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.11823758393438076) {
-            p = LeutheuserC45Classifier.N3aeffd55625(i);
-        } else if (((Double) i[18]).doubleValue() > 0.11823758393438076) {
-            p = LeutheuserC45Classifier.N7c0a58be626(i);
-        }
-        return p;
-    }
-
-    static double N3aeffd55625(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.675) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.675) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7c0a58be626(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5888888888888889) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.5888888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1b0a8849627(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.603442869117466) {
-            p = LeutheuserC45Classifier.N7721f05c628(i);
-        } else if (((Double) i[16]).doubleValue() > 0.603442869117466) {
-            p = LeutheuserC45Classifier.N3261aeb8629(i);
-        }
-        return p;
-    }
-
-    static double N7721f05c628(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6527777777777778) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6527777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3261aeb8629(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5222222222222223) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5222222222222223) {
-            p = LeutheuserC45Classifier.N1c80cfe2630(i);
-        }
-        return p;
-    }
-
-    static double N1c80cfe2630(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.115) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.115) {
-            p = LeutheuserC45Classifier.N538744fb631(i);
-        }
-        return p;
-    }
-
-    static double N538744fb631(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 12.693492055909559) {
-            p = LeutheuserC45Classifier.N2b5cfdc7632(i);
-        } else if (((Double) i[13]).doubleValue() > 12.693492055909559) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2b5cfdc7632(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6666666666666666) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6666666666666666) {
-            p = LeutheuserC45Classifier.N1477827a633(i);
-        }
-        return p;
-    }
-
-    static double N1477827a633(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.34147949218749607) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.34147949218749607) {
-            p = LeutheuserC45Classifier.Ne92a0c9634(i);
-        }
-        return p;
-    }
-
-    static double Ne92a0c9634(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.46) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.46) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N675b9d7c635(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.1700000000000002) {
-            p = LeutheuserC45Classifier.N2b25e695636(i);
-        } else if (((Double) i[3]).doubleValue() > 1.1700000000000002) {
-            p = LeutheuserC45Classifier.N27783c3e640(i);
-        }
-        return p;
-    }
-
-    static double N2b25e695636(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.02549740705825245) {
-            p = LeutheuserC45Classifier.N3e9c5d9637(i);
-        } else if (((Double) i[9]).doubleValue() > 0.02549740705825245) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3e9c5d9637(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 7.85081750505892) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 7.85081750505892) {
-            p = LeutheuserC45Classifier.N18e6b985638(i);
-        }
-        return p;
-    }
-
-    static double N18e6b985638(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.4768287462972295) {
-            p = LeutheuserC45Classifier.N23ed6798639(i);
-        } else if (((Double) i[17]).doubleValue() > 0.4768287462972295) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N23ed6798639(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.01850889008618026) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.01850889008618026) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N27783c3e640(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 15.124342311949793) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 15.124342311949793) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6af2e205641(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9751979162452838) {
-            p = LeutheuserC45Classifier.N4775444f642(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9751979162452838) {
-            p = LeutheuserC45Classifier.N2778abfe662(i);
-        }
-        return p;
-    }
-
-    static double N4775444f642(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.7993345922798284) {
-            p = LeutheuserC45Classifier.Nfec3a9e643(i);
-        } else if (((Double) i[18]).doubleValue() > 0.7993345922798284) {
-            p = LeutheuserC45Classifier.N5adf9ad2660(i);
-        }
-        return p;
-    }
-
-    static double Nfec3a9e643(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.8450000000000002) {
-            p = LeutheuserC45Classifier.N69136e91644(i);
-        } else if (((Double) i[4]).doubleValue() > 1.8450000000000002) {
-            p = LeutheuserC45Classifier.N4ab0651c651(i);
-        }
-        return p;
-    }
-
-    static double N69136e91644(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.59) {
-            p = LeutheuserC45Classifier.N148c4b7c645(i);
-        } else if (((Double) i[3]).doubleValue() > 1.59) {
-            p = LeutheuserC45Classifier.N5b3ede38650(i);
-        }
-        return p;
-    }
-
-    static double N148c4b7c645(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.01926929552801221) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.01926929552801221) {
-            p = LeutheuserC45Classifier.N7936229e646(i);
-        }
-        return p;
-    }
-
-    static double N7936229e646(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.05015054548629076) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.05015054548629076) {
-            p = LeutheuserC45Classifier.N1760cfec647(i);
-        }
-        return p;
-    }
-
-    static double N1760cfec647(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8020483432129784) {
-            p = LeutheuserC45Classifier.N65f55c77648(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8020483432129784) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N65f55c77648(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.9260449218750187) {
-            p = LeutheuserC45Classifier.N13542c1e649(i);
-        } else if (((Double) i[8]).doubleValue() > 0.9260449218750187) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N13542c1e649(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 14.347499999997488) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 14.347499999997488) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5b3ede38650(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.1350410505152305) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.1350410505152305) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4ab0651c651(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.5722222222222222) {
-            p = LeutheuserC45Classifier.N5698ed9652(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5722222222222222) {
-            p = LeutheuserC45Classifier.N535cbfa5655(i);
-        }
-        return p;
-    }
-
-    static double N5698ed9652(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.04556486614899609) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.04556486614899609) {
-            p = LeutheuserC45Classifier.N37ef66b6653(i);
-        }
-        return p;
-    }
-
-    static double N37ef66b6653(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 262678.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 262678.0) {
-            p = LeutheuserC45Classifier.N1a8da16d654(i);
-        }
-        return p;
-    }
-
-    static double N1a8da16d654(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.8780313836692267) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.8780313836692267) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N535cbfa5655(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 573846.0) {
-            p = LeutheuserC45Classifier.N1a0aec51656(i);
-        } else if (((Double) i[0]).doubleValue() > 573846.0) {
-            p = LeutheuserC45Classifier.N21edb617658(i);
-        }
-        return p;
-    }
-
-    static double N1a0aec51656(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.755) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.755) {
-            p = LeutheuserC45Classifier.N561ce370657(i);
-        }
-        return p;
-    }
-
-    static double N561ce370657(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.9000000000000001) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.9000000000000001) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N21edb617658(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 592923.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 592923.0) {
-            p = LeutheuserC45Classifier.N17fa9418659(i);
-        }
-        return p;
-    }
-
-    static double N17fa9418659(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.1111111111111111) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.1111111111111111) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5adf9ad2660(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.1) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 1.1) {
-            p = LeutheuserC45Classifier.N6be9f59a661(i);
-        }
-        return p;
-    }
-
-    static double N6be9f59a661(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.09722222222222222) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.09722222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2778abfe662(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 15.065590820312607) {
-            p = LeutheuserC45Classifier.N64e1b15d663(i);
-        } else if (((Double) i[6]).doubleValue() > 15.065590820312607) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N64e1b15d663(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9619751286204156) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.9619751286204156) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N424ebe19664(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.5218818057229709) {
-            p = LeutheuserC45Classifier.N662fc6ef665(i);
-        } else if (((Double) i[18]).doubleValue() > 0.5218818057229709) {
-            p = LeutheuserC45Classifier.N1752c376679(i);
-        }
-        return p;
-    }
-
-    static double N662fc6ef665(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.36089843750000433) {
-            p = LeutheuserC45Classifier.N46aa68f666(i);
-        } else if (((Double) i[7]).doubleValue() > -0.36089843750000433) {
-            p = LeutheuserC45Classifier.N14b2098675(i);
-        }
-        return p;
-    }
-
-    static double N46aa68f666(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.725) {
-            p = LeutheuserC45Classifier.N6d688406667(i);
-        } else if (((Double) i[2]).doubleValue() > 0.725) {
-            p = LeutheuserC45Classifier.N3a8f9a0b671(i);
-        }
-        return p;
-    }
-
-    static double N6d688406667(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.25947647291135345) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() > 0.25947647291135345) {
-            p = LeutheuserC45Classifier.N5a6151c4668(i);
-        }
-        return p;
-    }
-
-    static double N5a6151c4668(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.9300000000000002) {
-            p = LeutheuserC45Classifier.N42e1fcd9669(i);
-        } else if (((Double) i[3]).doubleValue() > 1.9300000000000002) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N42e1fcd9669(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6194444444444445) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6194444444444445) {
-            p = LeutheuserC45Classifier.N136e64d4670(i);
-        }
-        return p;
-    }
-
-    static double N136e64d4670(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.35) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.35) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3a8f9a0b671(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.12118666437334291) {
-            p = LeutheuserC45Classifier.N6a3013ef672(i);
-        } else if (((Double) i[18]).doubleValue() > 0.12118666437334291) {
-            p = LeutheuserC45Classifier.N27fa3d44673(i);
-        }
-        return p;
-    }
-
-    static double N6a3013ef672(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.2006179164396853) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 3.2006179164396853) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N27fa3d44673(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7527777777777778) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7527777777777778) {
-            p = LeutheuserC45Classifier.N47d2b5ab674(i);
-        }
-        return p;
-    }
-
-    static double N47d2b5ab674(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.39767578124999686) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.39767578124999686) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N14b2098675(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.935) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.935) {
-            p = LeutheuserC45Classifier.N6b8ef435676(i);
-        }
-        return p;
-    }
-
-    static double N6b8ef435676(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.625) {
-            p = LeutheuserC45Classifier.N1d68e41d677(i);
-        } else if (((Double) i[1]).doubleValue() > 1.625) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1d68e41d677(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.3710622447002203) {
-            p = LeutheuserC45Classifier.N4fc575f6678(i);
-        } else if (((Double) i[17]).doubleValue() > 0.3710622447002203) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4fc575f6678(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7850000000000001) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.7850000000000001) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1752c376679(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5638888888888889) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.5638888888888889) {
-            p = LeutheuserC45Classifier.Nbe1b2f5680(i);
-        }
-        return p;
-    }
-
-    static double Nbe1b2f5680(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.075) {
-            p = LeutheuserC45Classifier.N51f3e798681(i);
-        } else if (((Double) i[3]).doubleValue() > 2.075) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N51f3e798681(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9612173575879116) {
-            p = LeutheuserC45Classifier.N357d5295682(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9612173575879116) {
-            p = LeutheuserC45Classifier.N32451446684(i);
-        }
-        return p;
-    }
-
-    static double N357d5295682(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.37247350046292294) {
-            p = LeutheuserC45Classifier.N34b56e3f683(i);
-        } else if (((Double) i[16]).doubleValue() > -0.37247350046292294) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N34b56e3f683(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.81) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.81) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N32451446684(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 412215.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 412215.0) {
-            p = LeutheuserC45Classifier.N7cc4fab1685(i);
-        }
-        return p;
-    }
-
-    static double N7cc4fab1685(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 16.80536872188951) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 16.80536872188951) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N23f2e646686(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.025) {
-            p = LeutheuserC45Classifier.N3c29a091687(i);
-        } else if (((Double) i[4]).doubleValue() > 1.025) {
-            p = LeutheuserC45Classifier.N496a0a4c690(i);
-        }
-        return p;
-    }
-
-    static double N3c29a091687(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.025) {
-            p = LeutheuserC45Classifier.N26d47476688(i);
-        } else if (((Double) i[19]).doubleValue() > 1.025) {
-            p = LeutheuserC45Classifier.N7d9e036f689(i);
-        }
-        return p;
-    }
-
-    static double N26d47476688(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.79) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.79) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7d9e036f689(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.4416666666666667) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.4416666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N496a0a4c690(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.965) {
-            p = LeutheuserC45Classifier.N38b616d8691(i);
-        } else if (((Double) i[4]).doubleValue() > 2.965) {
-            p = LeutheuserC45Classifier.N7691e685729(i);
-        }
-        return p;
-    }
-
-    static double N38b616d8691(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.755) {
-            p = LeutheuserC45Classifier.N3dc4a27c692(i);
-        } else if (((Double) i[1]).doubleValue() > 0.755) {
-            p = LeutheuserC45Classifier.N29ed0fff694(i);
-        }
-        return p;
-    }
-
-    static double N3dc4a27c692(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.145) {
-            p = LeutheuserC45Classifier.N304c5bd0693(i);
-        } else if (((Double) i[3]).doubleValue() > 1.145) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N304c5bd0693(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 12.103920898437384) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 12.103920898437384) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N29ed0fff694(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.315) {
-            p = LeutheuserC45Classifier.N2165cccc695(i);
-        } else if (((Double) i[3]).doubleValue() > 2.315) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2165cccc695(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6777777777777778) {
-            p = LeutheuserC45Classifier.N39aa5dde696(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6777777777777778) {
-            p = LeutheuserC45Classifier.N1f6390d2703(i);
-        }
-        return p;
-    }
-
-    static double N39aa5dde696(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 349121.0) {
-            p = LeutheuserC45Classifier.N6b6a13e0697(i);
-        } else if (((Double) i[0]).doubleValue() > 349121.0) {
-            p = LeutheuserC45Classifier.N2535c1a2699(i);
-        }
-        return p;
-    }
-
-    static double N6b6a13e0697(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 1.1774591983931448) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 1.1774591983931448) {
-            p = LeutheuserC45Classifier.N2a397b85698(i);
-        }
-        return p;
-    }
-
-    static double N2a397b85698(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.09444444444444444) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.09444444444444444) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2535c1a2699(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.33810227991911196) {
-            p = LeutheuserC45Classifier.N4e1a3c77700(i);
-        } else if (((Double) i[17]).doubleValue() > 0.33810227991911196) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4e1a3c77700(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.007378704202576301) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.007378704202576301) {
-            p = LeutheuserC45Classifier.N75d4c347701(i);
-        }
-        return p;
-    }
-
-    static double N75d4c347701(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.03841367835418018) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.03841367835418018) {
-            p = LeutheuserC45Classifier.N14506b2b702(i);
-        }
-        return p;
-    }
-
-    static double N14506b2b702(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.278115555006722) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.278115555006722) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1f6390d2703(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.875) {
-            p = LeutheuserC45Classifier.N85fecd704(i);
-        } else if (((Double) i[19]).doubleValue() > 0.875) {
-            p = LeutheuserC45Classifier.N46bee0c6712(i);
-        }
-        return p;
-    }
-
-    static double N85fecd704(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 10.463575460541032) {
-            p = LeutheuserC45Classifier.N5318db61705(i);
-        } else if (((Double) i[13]).doubleValue() > 10.463575460541032) {
-            p = LeutheuserC45Classifier.N7d6ae65a709(i);
-        }
-        return p;
-    }
-
-    static double N5318db61705(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.075) {
-            p = LeutheuserC45Classifier.N4406fb1a706(i);
-        } else if (((Double) i[5]).doubleValue() > 0.075) {
-            p = LeutheuserC45Classifier.N47600648707(i);
-        }
-        return p;
-    }
-
-    static double N4406fb1a706(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8361111111111111) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8361111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47600648707(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.7766345777239256) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.7766345777239256) {
-            p = LeutheuserC45Classifier.N68bcebff708(i);
-        }
-        return p;
-    }
-
-    static double N68bcebff708(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.09722222222222222) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.09722222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7d6ae65a709(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.13499644889898704) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() > 0.13499644889898704) {
-            p = LeutheuserC45Classifier.Ne470cc6710(i);
-        }
-        return p;
-    }
-
-    static double Ne470cc6710(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.983109766674974) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.983109766674974) {
-            p = LeutheuserC45Classifier.N49521900711(i);
-        }
-        return p;
-    }
-
-    static double N49521900711(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8416666666666667) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.8416666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N46bee0c6712(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.7944444444444445) {
-            p = LeutheuserC45Classifier.N6c4c867d713(i);
-        } else if (((Double) i[19]).doubleValue() > 1.7944444444444445) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6c4c867d713(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.691591362396872) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > -0.691591362396872) {
-            p = LeutheuserC45Classifier.N5a5b860e714(i);
-        }
-        return p;
-    }
-
-    static double N5a5b860e714(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.20688836434866778) {
-            p = LeutheuserC45Classifier.N3181e5c715(i);
-        } else if (((Double) i[15]).doubleValue() > 0.20688836434866778) {
-            p = LeutheuserC45Classifier.N463b790c720(i);
-        }
-        return p;
-    }
-
-    static double N3181e5c715(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.805) {
-            p = LeutheuserC45Classifier.N32117629716(i);
-        } else if (((Double) i[3]).doubleValue() > 1.805) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N32117629716(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N3ae67178717(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N7fa2f8ef719(i);
-        }
-        return p;
-    }
-
-    static double N3ae67178717(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.1) {
-            p = LeutheuserC45Classifier.N3c8bebdc718(i);
-        } else if (((Double) i[5]).doubleValue() > 0.1) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3c8bebdc718(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.08333333333333333) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.08333333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7fa2f8ef719(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.025) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.025) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N463b790c720(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.10555555555555556) {
-            p = LeutheuserC45Classifier.N4f5fbd02721(i);
-        } else if (((Double) i[5]).doubleValue() > 0.10555555555555556) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4f5fbd02721(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 375367.0) {
-            p = LeutheuserC45Classifier.N2ce97a3e722(i);
-        } else if (((Double) i[0]).doubleValue() > 375367.0) {
-            p = LeutheuserC45Classifier.N6b0f79cb725(i);
-        }
-        return p;
-    }
-
-    static double N2ce97a3e722(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 15.158247070313658) {
-            p = LeutheuserC45Classifier.N44648acc723(i);
-        } else if (((Double) i[6]).doubleValue() > 15.158247070313658) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N44648acc723(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.0027777777777778) {
-            p = LeutheuserC45Classifier.N598a6855724(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N598a6855724(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9770509301573227) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9770509301573227) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6b0f79cb725(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.8665313256871465) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.8665313256871465) {
-            p = LeutheuserC45Classifier.Ncd0c61e726(i);
-        }
-        return p;
-    }
-
-    static double Ncd0c61e726(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.2583333333333333) {
-            p = LeutheuserC45Classifier.N6c820fa2727(i);
-        } else if (((Double) i[2]).doubleValue() > 1.2583333333333333) {
-            p = LeutheuserC45Classifier.N66401aa7728(i);
-        }
-        return p;
-    }
-
-    static double N6c820fa2727(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.06187200636847263) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.06187200636847263) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N66401aa7728(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.00282034617454034) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.00282034617454034) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7691e685729(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.775) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.775) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7c7b2e7f730(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.2599696064651237) {
-            p = LeutheuserC45Classifier.N78d14d731(i);
-        } else if (((Double) i[16]).doubleValue() > -0.2599696064651237) {
-            p = LeutheuserC45Classifier.N3afadc1e734(i);
-        }
-        return p;
-    }
-
-    static double N78d14d731(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.21372575957972745) {
-            p = LeutheuserC45Classifier.N660b66c7732(i);
-        } else if (((Double) i[15]).doubleValue() > -0.21372575957972745) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N660b66c7732(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.95) {
-            p = LeutheuserC45Classifier.N1fd7114d733(i);
-        } else if (((Double) i[19]).doubleValue() > 0.95) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1fd7114d733(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.5277777777777778) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.5277777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3afadc1e734(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8986625001760947) {
-            p = LeutheuserC45Classifier.N7cce80b5735(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8986625001760947) {
-            p = LeutheuserC45Classifier.Na42fa5c738(i);
-        }
-        return p;
-    }
-
-    static double N7cce80b5735(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.595) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.595) {
-            p = LeutheuserC45Classifier.N414eecb5736(i);
-        }
-        return p;
-    }
-
-    static double N414eecb5736(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 0.7849999999999999) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 0.7849999999999999) {
-            p = LeutheuserC45Classifier.N6634d0a8737(i);
-        }
-        return p;
-    }
-
-    static double N6634d0a8737(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.7916666666666667) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.7916666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Na42fa5c738(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 372948.0) {
-            p = LeutheuserC45Classifier.N2810889739(i);
-        } else if (((Double) i[0]).doubleValue() > 372948.0) {
-            p = LeutheuserC45Classifier.N69e0d448742(i);
-        }
-        return p;
-    }
-
-    static double N2810889739(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.825) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.825) {
-            p = LeutheuserC45Classifier.N341c7728740(i);
-        }
-        return p;
-    }
-
-    static double N341c7728740(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.011196019665938863) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.011196019665938863) {
-            p = LeutheuserC45Classifier.N74ed5093741(i);
-        }
-        return p;
-    }
-
-    static double N74ed5093741(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.15) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.15) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N69e0d448742(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9662821187541895) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.9662821187541895) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N63af4cbd743(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.0016466838536180208) {
-            p = LeutheuserC45Classifier.N34ddd2d7744(i);
-        } else if (((Double) i[10]).doubleValue() > 0.0016466838536180208) {
-            p = LeutheuserC45Classifier.N5cd4c027747(i);
-        }
-        return p;
-    }
-
-    static double N34ddd2d7744(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.211111111111111) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 1.211111111111111) {
-            p = LeutheuserC45Classifier.N2aaa6517745(i);
-        }
-        return p;
-    }
-
-    static double N2aaa6517745(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.0972222222222223) {
-            p = LeutheuserC45Classifier.N4507a69e746(i);
-        } else if (((Double) i[2]).doubleValue() > 1.0972222222222223) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4507a69e746(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -0.68) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -0.68) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5cd4c027747(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9931422316684673) {
-            p = LeutheuserC45Classifier.N6c5ea00748(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9931422316684673) {
-            p = LeutheuserC45Classifier.N4d4f6ffb1133(i);
-        }
-        return p;
-    }
-
-    static double N6c5ea00748(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.006660088900818215) {
-            p = LeutheuserC45Classifier.N7fbeb512749(i);
-        } else if (((Double) i[9]).doubleValue() > 0.006660088900818215) {
-            p = LeutheuserC45Classifier.N23bc0689827(i);
-        }
-        return p;
-    }
-
-    static double N7fbeb512749(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.042332959126108544) {
-            p = LeutheuserC45Classifier.N7f5cf2d750(i);
-        } else if (((Double) i[10]).doubleValue() > 0.042332959126108544) {
-            p = LeutheuserC45Classifier.Nc618ace810(i);
-        }
-        return p;
-    }
-
-    static double N7f5cf2d750(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.3050000000000002) {
-            p = LeutheuserC45Classifier.N7ddaf20c751(i);
-        } else if (((Double) i[3]).doubleValue() > 1.3050000000000002) {
-            p = LeutheuserC45Classifier.N789e9ae5792(i);
-        }
-        return p;
-    }
-
-    static double N7ddaf20c751(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 3.491921526668762) {
-            p = LeutheuserC45Classifier.N5466825d752(i);
-        } else if (((Double) i[12]).doubleValue() > 3.491921526668762) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5466825d752(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8887664819640867) {
-            p = LeutheuserC45Classifier.N5e7abbe6753(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8887664819640867) {
-            p = LeutheuserC45Classifier.N75d4af82775(i);
-        }
-        return p;
-    }
-
-    static double N5e7abbe6753(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.30277777777777776) {
-            p = LeutheuserC45Classifier.N77df9ba3754(i);
-        } else if (((Double) i[5]).doubleValue() > 0.30277777777777776) {
-            p = LeutheuserC45Classifier.N2e049c39774(i);
-        }
-        return p;
-    }
-
-    static double N77df9ba3754(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.6144640317242492) {
-            p = LeutheuserC45Classifier.N5d3f4dc6755(i);
-        } else if (((Double) i[15]).doubleValue() > -0.6144640317242492) {
-            p = LeutheuserC45Classifier.N290fe730764(i);
-        }
-        return p;
-    }
-
-    static double N5d3f4dc6755(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.0166666666666666) {
-            p = LeutheuserC45Classifier.N3d2b4856756(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0166666666666666) {
-            p = LeutheuserC45Classifier.N1afacd74759(i);
-        }
-        return p;
-    }
-
-    static double N3d2b4856756(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.885) {
-            p = LeutheuserC45Classifier.N3605719e757(i);
-        } else if (((Double) i[1]).doubleValue() > 0.885) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3605719e757(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 191805.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 191805.0) {
-            p = LeutheuserC45Classifier.N3d8cf67e758(i);
-        }
-        return p;
-    }
-
-    static double N3d8cf67e758(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -1.54) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > -1.54) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1afacd74759(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.26192871093749576) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.26192871093749576) {
-            p = LeutheuserC45Classifier.N7d744f85760(i);
-        }
-        return p;
-    }
-
-    static double N7d744f85760(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.3027777777777778) {
-            p = LeutheuserC45Classifier.N60e04834761(i);
-        } else if (((Double) i[19]).doubleValue() > 1.3027777777777778) {
-            p = LeutheuserC45Classifier.N76d89609763(i);
-        }
-        return p;
-    }
-
-    static double N60e04834761(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.2361111111111111) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.2361111111111111) {
-            p = LeutheuserC45Classifier.N3a057d50762(i);
-        }
-        return p;
-    }
-
-    static double N3a057d50762(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -0.75) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -0.75) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N76d89609763(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.2305555555555556) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 1.2305555555555556) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N290fe730764(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 605340.0) {
-            p = LeutheuserC45Classifier.N4bccabcd765(i);
-        } else if (((Double) i[0]).doubleValue() > 605340.0) {
-            p = LeutheuserC45Classifier.Nb1f4429772(i);
-        }
-        return p;
-    }
-
-    static double N4bccabcd765(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.28055555555555556) {
-            p = LeutheuserC45Classifier.N5ab2b019766(i);
-        } else if (((Double) i[5]).doubleValue() > 0.28055555555555556) {
-            p = LeutheuserC45Classifier.N5f494f6a770(i);
-        }
-        return p;
-    }
-
-    static double N5ab2b019766(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.3222222222222222) {
-            p = LeutheuserC45Classifier.N68e81d98767(i);
-        } else if (((Double) i[19]).doubleValue() > 1.3222222222222222) {
-            p = LeutheuserC45Classifier.N1034170d769(i);
-        }
-        return p;
-    }
-
-    static double N68e81d98767(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.065) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.065) {
-            p = LeutheuserC45Classifier.N3e8851d2768(i);
-        }
-        return p;
-    }
-
-    static double N3e8851d2768(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.0021833917025782554) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.0021833917025782554) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1034170d769(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.37) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.37) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f494f6a770(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 181846.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 181846.0) {
-            p = LeutheuserC45Classifier.N77e58dc6771(i);
-        }
-        return p;
-    }
-
-    static double N77e58dc6771(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 16.056331314710956) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 16.056331314710956) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nb1f4429772(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6444444444444445) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6444444444444445) {
-            p = LeutheuserC45Classifier.N3ba3a638773(i);
-        }
-        return p;
-    }
-
-    static double N3ba3a638773(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.16786991596427633) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() > 0.16786991596427633) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2e049c39774(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6138888888888889) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6138888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N75d4af82775(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 246695.0) {
-            p = LeutheuserC45Classifier.N49b931d776(i);
-        } else if (((Double) i[0]).doubleValue() > 246695.0) {
-            p = LeutheuserC45Classifier.N20e3b7bc780(i);
-        }
-        return p;
-    }
-
-    static double N49b931d776(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.062273372787560934) {
-            p = LeutheuserC45Classifier.N22af67d0777(i);
-        } else if (((Double) i[18]).doubleValue() > 0.062273372787560934) {
-            p = LeutheuserC45Classifier.N2840c2e8778(i);
-        }
-        return p;
-    }
-
-    static double N22af67d0777(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.9) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.9) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2840c2e8778(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6944444444444444) {
-            p = LeutheuserC45Classifier.N7838c0dd779(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6944444444444444) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7838c0dd779(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.25609863281253226) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.25609863281253226) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N20e3b7bc780(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 618148.0) {
-            p = LeutheuserC45Classifier.N79abd597781(i);
-        } else if (((Double) i[0]).doubleValue() > 618148.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N79abd597781(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -1.555) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -1.555) {
-            p = LeutheuserC45Classifier.N57520fc8782(i);
-        }
-        return p;
-    }
-
-    static double N57520fc8782(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.78) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.78) {
-            p = LeutheuserC45Classifier.N69d203d7783(i);
-        }
-        return p;
-    }
-
-    static double N69d203d7783(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6611111111111111) {
-            p = LeutheuserC45Classifier.N54310706784(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6611111111111111) {
-            p = LeutheuserC45Classifier.N7311777a785(i);
-        }
-        return p;
-    }
-
-    static double N54310706784(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.98) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.98) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7311777a785(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.295) {
-            p = LeutheuserC45Classifier.N347a0a9f786(i);
-        } else if (((Double) i[4]).doubleValue() > 1.295) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N347a0a9f786(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.1728686031880105) {
-            p = LeutheuserC45Classifier.N4d4f6b7c787(i);
-        } else if (((Double) i[12]).doubleValue() > 3.1728686031880105) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4d4f6b7c787(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.1777777777777778) {
-            p = LeutheuserC45Classifier.N111a5ce4788(i);
-        } else if (((Double) i[2]).doubleValue() > 1.1777777777777778) {
-            p = LeutheuserC45Classifier.N3ba01c09791(i);
-        }
-        return p;
-    }
-
-    static double N111a5ce4788(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.59941903769968) {
-            p = LeutheuserC45Classifier.N69c8531a789(i);
-        } else if (((Double) i[12]).doubleValue() > 2.59941903769968) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N69c8531a789(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.17777777777777778) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.17777777777777778) {
-            p = LeutheuserC45Classifier.Nd82824e790(i);
-        }
-        return p;
-    }
-
-    static double Nd82824e790(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8416666666666667) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8416666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3ba01c09791(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 423028.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 423028.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N789e9ae5792(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 7.812872662064823) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 7.812872662064823) {
-            p = LeutheuserC45Classifier.N53e5566f793(i);
-        }
-        return p;
-    }
-
-    static double N53e5566f793(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.8897620476259727) {
-            p = LeutheuserC45Classifier.N4a6c2eaf794(i);
-        } else if (((Double) i[12]).doubleValue() > 2.8897620476259727) {
-            p = LeutheuserC45Classifier.N5edff820808(i);
-        }
-        return p;
-    }
-
-    static double N4a6c2eaf794(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.35834890247470796) {
-            p = LeutheuserC45Classifier.N711723bf795(i);
-        } else if (((Double) i[16]).doubleValue() > -0.35834890247470796) {
-            p = LeutheuserC45Classifier.N7d52c6ca796(i);
-        }
-        return p;
-    }
-
-    static double N711723bf795(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 479734.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 479734.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7d52c6ca796(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.4821705358421062) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.4821705358421062) {
-            p = LeutheuserC45Classifier.N4fda121797(i);
-        }
-        return p;
-    }
-
-    static double N4fda121797(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.03715723655923339) {
-            p = LeutheuserC45Classifier.N2f4fee47798(i);
-        } else if (((Double) i[10]).doubleValue() > 0.03715723655923339) {
-            p = LeutheuserC45Classifier.N1f13148c807(i);
-        }
-        return p;
-    }
-
-    static double N2f4fee47798(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.2583333333333333) {
-            p = LeutheuserC45Classifier.N670d2aca799(i);
-        } else if (((Double) i[2]).doubleValue() > 1.2583333333333333) {
-            p = LeutheuserC45Classifier.N219c022c804(i);
-        }
-        return p;
-    }
-
-    static double N670d2aca799(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9083333333333333) {
-            p = LeutheuserC45Classifier.Nc02c477800(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9083333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nc02c477800(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.0719998711116603) {
-            p = LeutheuserC45Classifier.N651f887f801(i);
-        } else if (((Double) i[18]).doubleValue() > 0.0719998711116603) {
-            p = LeutheuserC45Classifier.N35f26f4d802(i);
-        }
-        return p;
-    }
-
-    static double N651f887f801(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.12) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.12) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N35f26f4d802(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8527777777777777) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8527777777777777) {
-            p = LeutheuserC45Classifier.N3b275843803(i);
-        }
-        return p;
-    }
-
-    static double N3b275843803(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.2561313333970119) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.2561313333970119) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N219c022c804(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.5) {
-            p = LeutheuserC45Classifier.N38593a10805(i);
-        } else if (((Double) i[2]).doubleValue() > 1.5) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N38593a10805(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3900292968750071) {
-            p = LeutheuserC45Classifier.N1ef7b251806(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3900292968750071) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1ef7b251806(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.525) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.525) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1f13148c807(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 11.15276367187501) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 11.15276367187501) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5edff820808(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.2536202492423222) {
-            p = LeutheuserC45Classifier.N2fa7c051809(i);
-        } else if (((Double) i[17]).doubleValue() > 0.2536202492423222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2fa7c051809(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.4916666666666667) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.4916666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nc618ace810(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 16.738243157990617) {
-            p = LeutheuserC45Classifier.Nb5148ba811(i);
-        } else if (((Double) i[13]).doubleValue() > 16.738243157990617) {
-            p = LeutheuserC45Classifier.N2103f3b1826(i);
-        }
-        return p;
-    }
-
-    static double Nb5148ba811(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.7384429710672671) {
-            p = LeutheuserC45Classifier.N2aeebf08812(i);
-        } else if (((Double) i[16]).doubleValue() > 0.7384429710672671) {
-            p = LeutheuserC45Classifier.N39c2168824(i);
-        }
-        return p;
-    }
-
-    static double N2aeebf08812(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 302815.0) {
-            p = LeutheuserC45Classifier.N3bda574c813(i);
-        } else if (((Double) i[0]).doubleValue() > 302815.0) {
-            p = LeutheuserC45Classifier.Ncb8a339817(i);
-        }
-        return p;
-    }
-
-    static double N3bda574c813(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.51) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.51) {
-            p = LeutheuserC45Classifier.N3bed8d03814(i);
-        }
-        return p;
-    }
-
-    static double N3bed8d03814(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 108591.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 108591.0) {
-            p = LeutheuserC45Classifier.N3af8165c815(i);
-        }
-        return p;
-    }
-
-    static double N3af8165c815(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 123863.0) {
-            p = LeutheuserC45Classifier.N65b1e8f4816(i);
-        } else if (((Double) i[0]).doubleValue() > 123863.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N65b1e8f4816(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9638888888888889) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.9638888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Ncb8a339817(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.8450000000000002) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.8450000000000002) {
-            p = LeutheuserC45Classifier.N5beaa238818(i);
-        }
-        return p;
-    }
-
-    static double N5beaa238818(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 480451.0) {
-            p = LeutheuserC45Classifier.N21da15ef819(i);
-        } else if (((Double) i[0]).doubleValue() > 480451.0) {
-            p = LeutheuserC45Classifier.N7ddfec54823(i);
-        }
-        return p;
-    }
-
-    static double N21da15ef819(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 441487.0) {
-            p = LeutheuserC45Classifier.N4b46af68820(i);
-        } else if (((Double) i[0]).doubleValue() > 441487.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4b46af68820(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7722222222222223) {
-            p = LeutheuserC45Classifier.N2ae6c52821(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7722222222222223) {
-            p = LeutheuserC45Classifier.Nc5bf55d822(i);
-        }
-        return p;
-    }
-
-    static double N2ae6c52821(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.565) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 2.565) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nc5bf55d822(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7ddfec54823(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.25045604185711984) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 0.25045604185711984) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N39c2168824(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.9849999999999999) {
-            p = LeutheuserC45Classifier.N722101b5825(i);
-        } else if (((Double) i[4]).doubleValue() > 1.9849999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N722101b5825(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2103f3b1826(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9618329103330138) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.9618329103330138) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N23bc0689827(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 567387.0) {
-            p = LeutheuserC45Classifier.N4149f4f7828(i);
-        } else if (((Double) i[0]).doubleValue() > 567387.0) {
-            p = LeutheuserC45Classifier.N10c889e61065(i);
-        }
-        return p;
-    }
-
-    static double N4149f4f7828(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= -2.645) {
-            p = LeutheuserC45Classifier.N3b9f79c2829(i);
-        } else if (((Double) i[3]).doubleValue() > -2.645) {
-            p = LeutheuserC45Classifier.N4894f76e832(i);
-        }
-        return p;
-    }
-
-    static double N3b9f79c2829(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6361111111111111) {
-            p = LeutheuserC45Classifier.N53f8b7b830(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6361111111111111) {
-            p = LeutheuserC45Classifier.N46745d1b831(i);
-        }
-        return p;
-    }
-
-    static double N53f8b7b830(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.05901390137948286) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.05901390137948286) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N46745d1b831(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -2.585) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -2.585) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4894f76e832(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.51) {
-            p = LeutheuserC45Classifier.N885c6d7833(i);
-        } else if (((Double) i[4]).doubleValue() > 1.51) {
-            p = LeutheuserC45Classifier.N6771d5a5899(i);
-        }
-        return p;
-    }
-
-    static double N885c6d7833(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.315) {
-            p = LeutheuserC45Classifier.N7198f0ef834(i);
-        } else if (((Double) i[3]).doubleValue() > 1.315) {
-            p = LeutheuserC45Classifier.N3e2d0693895(i);
-        }
-        return p;
-    }
-
-    static double N7198f0ef834(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N15e0e742835(i);
-        } else if (((Double) i[5]).doubleValue() > 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N39f6a783848(i);
-        }
-        return p;
-    }
-
-    static double N15e0e742835(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.13) {
-            p = LeutheuserC45Classifier.N7a205d17836(i);
-        } else if (((Double) i[1]).doubleValue() > 0.13) {
-            p = LeutheuserC45Classifier.N6a1c030b838(i);
-        }
-        return p;
-    }
-
-    static double N7a205d17836(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7388888888888889) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7388888888888889) {
-            p = LeutheuserC45Classifier.N5cb59ffa837(i);
-        }
-        return p;
-    }
-
-    static double N5cb59ffa837(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 3.1239152232561636) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 3.1239152232561636) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6a1c030b838(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 8.042167968750137) {
-            p = LeutheuserC45Classifier.N785433fd839(i);
-        } else if (((Double) i[6]).doubleValue() > 8.042167968750137) {
-            p = LeutheuserC45Classifier.N7a5055f7842(i);
-        }
-        return p;
-    }
-
-    static double N785433fd839(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 4.302231445312493) {
-            p = LeutheuserC45Classifier.Ne41105840(i);
-        } else if (((Double) i[6]).doubleValue() > 4.302231445312493) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Ne41105840(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.06875603137630476) {
-            p = LeutheuserC45Classifier.N705e14ac841(i);
-        } else if (((Double) i[15]).doubleValue() > 0.06875603137630476) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N705e14ac841(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 3.851777343751708) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 3.851777343751708) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7a5055f7842(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8222222222222222) {
-            p = LeutheuserC45Classifier.N23425a9b843(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8222222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N23425a9b843(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7388888888888889) {
-            p = LeutheuserC45Classifier.N30e0bcf844(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7388888888888889) {
-            p = LeutheuserC45Classifier.N4ad58d65847(i);
-        }
-        return p;
-    }
-
-    static double N30e0bcf844(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.019919686153014354) {
-            p = LeutheuserC45Classifier.N3f58476845(i);
-        } else if (((Double) i[9]).doubleValue() > 0.019919686153014354) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3f58476845(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.11054048480636869) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() > 0.11054048480636869) {
-            p = LeutheuserC45Classifier.N7b729612846(i);
-        }
-        return p;
-    }
-
-    static double N7b729612846(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.5583360509064937) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.5583360509064937) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4ad58d65847(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.860337626401341) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > -0.860337626401341) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N39f6a783848(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.29444444444444445) {
-            p = LeutheuserC45Classifier.N168f42ff849(i);
-        } else if (((Double) i[5]).doubleValue() > 0.29444444444444445) {
-            p = LeutheuserC45Classifier.N11c760cc889(i);
-        }
-        return p;
-    }
-
-    static double N168f42ff849(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 5.192714843749885) {
-            p = LeutheuserC45Classifier.N79a2943a850(i);
-        } else if (((Double) i[6]).doubleValue() > 5.192714843749885) {
-            p = LeutheuserC45Classifier.N2d699973856(i);
-        }
-        return p;
-    }
-
-    static double N79a2943a850(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.2638888888888888) {
-            p = LeutheuserC45Classifier.N1ffa80ce851(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2638888888888888) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1ffa80ce851(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.65) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.65) {
-            p = LeutheuserC45Classifier.N13bce60d852(i);
-        }
-        return p;
-    }
-
-    static double N13bce60d852(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 351074.0) {
-            p = LeutheuserC45Classifier.N7fc8c63f853(i);
-        } else if (((Double) i[0]).doubleValue() > 351074.0) {
-            p = LeutheuserC45Classifier.N591180d2855(i);
-        }
-        return p;
-    }
-
-    static double N7fc8c63f853(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.2923271880798715) {
-            p = LeutheuserC45Classifier.N12a69eb8854(i);
-        } else if (((Double) i[12]).doubleValue() > 3.2923271880798715) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N12a69eb8854(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.20277777777777778) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.20277777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N591180d2855(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.3759198010679246) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 3.3759198010679246) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2d699973856(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.8635177198973646) {
-            p = LeutheuserC45Classifier.N14295bdf857(i);
-        } else if (((Double) i[15]).doubleValue() > 0.8635177198973646) {
-            p = LeutheuserC45Classifier.N64991b42878(i);
-        }
-        return p;
-    }
-
-    static double N14295bdf857(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6916666666666667) {
-            p = LeutheuserC45Classifier.N32dc44bc858(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6916666666666667) {
-            p = LeutheuserC45Classifier.N6e1d12d8866(i);
-        }
-        return p;
-    }
-
-    static double N32dc44bc858(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.4777928331217) {
-            p = LeutheuserC45Classifier.N679e4525859(i);
-        } else if (((Double) i[15]).doubleValue() > -0.4777928331217) {
-            p = LeutheuserC45Classifier.N1d7f2346863(i);
-        }
-        return p;
-    }
-
-    static double N679e4525859(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5611111111111111) {
-            p = LeutheuserC45Classifier.N65deaa4860(i);
-        } else if (((Double) i[2]).doubleValue() > 0.5611111111111111) {
-            p = LeutheuserC45Classifier.N85df805862(i);
-        }
-        return p;
-    }
-
-    static double N65deaa4860(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.33921195509646684) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.33921195509646684) {
-            p = LeutheuserC45Classifier.N5874be13861(i);
-        }
-        return p;
-    }
-
-    static double N5874be13861(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -2.175) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -2.175) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N85df805862(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 8.59122070312581) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 8.59122070312581) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1d7f2346863(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -1.54) {
-            p = LeutheuserC45Classifier.N749ef287864(i);
-        } else if (((Double) i[3]).doubleValue() > -1.54) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N749ef287864(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -1.935) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -1.935) {
-            p = LeutheuserC45Classifier.N9675e21865(i);
-        }
-        return p;
-    }
-
-    static double N9675e21865(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 150129.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 150129.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6e1d12d8866(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.225) {
-            p = LeutheuserC45Classifier.Na1c794e867(i);
-        } else if (((Double) i[19]).doubleValue() > 1.225) {
-            p = LeutheuserC45Classifier.N1d62cc9b874(i);
-        }
-        return p;
-    }
-
-    static double Na1c794e867(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8691447042156616) {
-            p = LeutheuserC45Classifier.N995a840868(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8691447042156616) {
-            p = LeutheuserC45Classifier.N71719ad1872(i);
-        }
-        return p;
-    }
-
-    static double N995a840868(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8027777777777778) {
-            p = LeutheuserC45Classifier.N3a306905869(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3a306905869(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.9328104826255348) {
-            p = LeutheuserC45Classifier.N3cbd3749870(i);
-        } else if (((Double) i[15]).doubleValue() > -0.9328104826255348) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3cbd3749870(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -1.405) {
-            p = LeutheuserC45Classifier.N5502ef99871(i);
-        } else if (((Double) i[1]).doubleValue() > -1.405) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5502ef99871(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= -2.31) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > -2.31) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N71719ad1872(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.015233701508603967) {
-            p = LeutheuserC45Classifier.N48b0bdbb873(i);
-        } else if (((Double) i[9]).doubleValue() > 0.015233701508603967) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N48b0bdbb873(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.725) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.725) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1d62cc9b874(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.27051482136514005) {
-            p = LeutheuserC45Classifier.N5f5e8689875(i);
-        } else if (((Double) i[18]).doubleValue() > 0.27051482136514005) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f5e8689875(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.33967625963318127) {
-            p = LeutheuserC45Classifier.N228428a1876(i);
-        } else if (((Double) i[15]).doubleValue() > 0.33967625963318127) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N228428a1876(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.0139791554418081) {
-            p = LeutheuserC45Classifier.N6f14042f877(i);
-        } else if (((Double) i[9]).doubleValue() > 0.0139791554418081) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6f14042f877(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.175) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.175) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N64991b42878(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.215) {
-            p = LeutheuserC45Classifier.N4fd8a396879(i);
-        } else if (((Double) i[1]).doubleValue() > 0.215) {
-            p = LeutheuserC45Classifier.N3b1aeb02884(i);
-        }
-        return p;
-    }
-
-    static double N4fd8a396879(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.825) {
-            p = LeutheuserC45Classifier.N4c9a5bec880(i);
-        } else if (((Double) i[3]).doubleValue() > 0.825) {
-            p = LeutheuserC45Classifier.N25c1816d883(i);
-        }
-        return p;
-    }
-
-    static double N4c9a5bec880(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.7761230468749653) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.7761230468749653) {
-            p = LeutheuserC45Classifier.N3601b2c881(i);
-        }
-        return p;
-    }
-
-    static double N3601b2c881(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.28907226562497373) {
-            p = LeutheuserC45Classifier.N2f0f4309882(i);
-        } else if (((Double) i[7]).doubleValue() > -0.28907226562497373) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2f0f4309882(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.6416666666666666) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.6416666666666666) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N25c1816d883(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.775) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.775) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3b1aeb02884(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.125) {
-            p = LeutheuserC45Classifier.N38202e36885(i);
-        } else if (((Double) i[4]).doubleValue() > 1.125) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N38202e36885(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.955) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.955) {
-            p = LeutheuserC45Classifier.N6de22530886(i);
-        }
-        return p;
-    }
-
-    static double N6de22530886(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 9.316260350437885) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 9.316260350437885) {
-            p = LeutheuserC45Classifier.N44810b08887(i);
-        }
-        return p;
-    }
-
-    static double N44810b08887(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7777777777777778) {
-            p = LeutheuserC45Classifier.N282faa61888(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7777777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N282faa61888(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.845) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.845) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N11c760cc889(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.2285791015624935) {
-            p = LeutheuserC45Classifier.N6d701c61890(i);
-        } else if (((Double) i[7]).doubleValue() > -0.2285791015624935) {
-            p = LeutheuserC45Classifier.N33d91a97894(i);
-        }
-        return p;
-    }
-
-    static double N6d701c61890(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.2361111111111112) {
-            p = LeutheuserC45Classifier.N2165938c891(i);
-        } else if (((Double) i[2]).doubleValue() > 1.2361111111111112) {
-            p = LeutheuserC45Classifier.N5e278626893(i);
-        }
-        return p;
-    }
-
-    static double N2165938c891(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.03187933912513395) {
-            p = LeutheuserC45Classifier.N744c4963892(i);
-        } else if (((Double) i[18]).doubleValue() > 0.03187933912513395) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N744c4963892(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.305) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.305) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5e278626893(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N33d91a97894(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 225022.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 225022.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e2d0693895(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.1294495433577279) {
-            p = LeutheuserC45Classifier.N283c4764896(i);
-        } else if (((Double) i[18]).doubleValue() > 0.1294495433577279) {
-            p = LeutheuserC45Classifier.N4ac8f2f3897(i);
-        }
-        return p;
-    }
-
-    static double N283c4764896(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 186839.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 186839.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4ac8f2f3897(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.009574757543103943) {
-            p = LeutheuserC45Classifier.N31be549f898(i);
-        } else if (((Double) i[9]).doubleValue() > 0.009574757543103943) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N31be549f898(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.38) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 1.38) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6771d5a5899(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 16.524851085068335) {
-            p = LeutheuserC45Classifier.N2d3ca948900(i);
-        } else if (((Double) i[13]).doubleValue() > 16.524851085068335) {
-            p = LeutheuserC45Classifier.N187cef351060(i);
-        }
-        return p;
-    }
-
-    static double N2d3ca948900(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.27) {
-            p = LeutheuserC45Classifier.N206e8976901(i);
-        } else if (((Double) i[3]).doubleValue() > 1.27) {
-            p = LeutheuserC45Classifier.N56d116ba907(i);
-        }
-        return p;
-    }
-
-    static double N206e8976901(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.15) {
-            p = LeutheuserC45Classifier.N63b72b48902(i);
-        } else if (((Double) i[5]).doubleValue() > 0.15) {
-            p = LeutheuserC45Classifier.N4cfa1875906(i);
-        }
-        return p;
-    }
-
-    static double N63b72b48902(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 9.687636718750756) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 9.687636718750756) {
-            p = LeutheuserC45Classifier.Na020666903(i);
-        }
-        return p;
-    }
-
-    static double Na020666903(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 7.714696158793563) {
-            p = LeutheuserC45Classifier.N423c9887904(i);
-        } else if (((Double) i[13]).doubleValue() > 7.714696158793563) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N423c9887904(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N16cd8c8f905(i);
-        } else if (((Double) i[5]).doubleValue() > 0.13055555555555556) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N16cd8c8f905(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7361111111111112) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7361111111111112) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4cfa1875906(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.2734257710313705) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.2734257710313705) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N56d116ba907(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9222531141353514) {
-            p = LeutheuserC45Classifier.N708f4447908(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9222531141353514) {
-            p = LeutheuserC45Classifier.N2cbfd6031008(i);
-        }
-        return p;
-    }
-
-    static double N708f4447908(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.719277285279168) {
-            p = LeutheuserC45Classifier.Nadc072d909(i);
-        } else if (((Double) i[16]).doubleValue() > -0.719277285279168) {
-            p = LeutheuserC45Classifier.N23df69ed915(i);
-        }
-        return p;
-    }
-
-    static double Nadc072d909(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.77) {
-            p = LeutheuserC45Classifier.N16798fb3910(i);
-        } else if (((Double) i[3]).doubleValue() > 1.77) {
-            p = LeutheuserC45Classifier.N42e4e723912(i);
-        }
-        return p;
-    }
-
-    static double N16798fb3910(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7888888888888889) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7888888888888889) {
-            p = LeutheuserC45Classifier.N48c33f00911(i);
-        }
-        return p;
-    }
-
-    static double N48c33f00911(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.2954683399028285) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.2954683399028285) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N42e4e723912(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.9409811024700443) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.9409811024700443) {
-            p = LeutheuserC45Classifier.N28eb753d913(i);
-        }
-        return p;
-    }
-
-    static double N28eb753d913(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 165413.0) {
-            p = LeutheuserC45Classifier.N72b56384914(i);
-        } else if (((Double) i[0]).doubleValue() > 165413.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N72b56384914(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.615) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.615) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N23df69ed915(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.9806788478128633) {
-            p = LeutheuserC45Classifier.N46e74f4a916(i);
-        } else if (((Double) i[18]).doubleValue() > 0.9806788478128633) {
-            p = LeutheuserC45Classifier.N20437f711000(i);
-        }
-        return p;
-    }
-
-    static double N46e74f4a916(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.9994694976502485) {
-            p = LeutheuserC45Classifier.N35d68836917(i);
-        } else if (((Double) i[12]).doubleValue() > 2.9994694976502485) {
-            p = LeutheuserC45Classifier.N20daac4f971(i);
-        }
-        return p;
-    }
-
-    static double N35d68836917(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 338592.0) {
-            p = LeutheuserC45Classifier.N6ca6744b918(i);
-        } else if (((Double) i[0]).doubleValue() > 338592.0) {
-            p = LeutheuserC45Classifier.N7789f22e935(i);
-        }
-        return p;
-    }
-
-    static double N6ca6744b918(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.5274641046090969) {
-            p = LeutheuserC45Classifier.N34eee833919(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5274641046090969) {
-            p = LeutheuserC45Classifier.N3473ec7c934(i);
-        }
-        return p;
-    }
-
-    static double N34eee833919(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5361111111111111) {
-            p = LeutheuserC45Classifier.N488f7cfb920(i);
-        } else if (((Double) i[2]).doubleValue() > 0.5361111111111111) {
-            p = LeutheuserC45Classifier.N552e262b923(i);
-        }
-        return p;
-    }
-
-    static double N488f7cfb920(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.027888873922392532) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.027888873922392532) {
-            p = LeutheuserC45Classifier.N4919dae4921(i);
-        }
-        return p;
-    }
-
-    static double N4919dae4921(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6333333333333333) {
-            p = LeutheuserC45Classifier.N1642fba0922(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6333333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1642fba0922(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.18831945113050427) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.18831945113050427) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N552e262b923(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8051909685164633) {
-            p = LeutheuserC45Classifier.N6675f0d1924(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8051909685164633) {
-            p = LeutheuserC45Classifier.Nda34e16928(i);
-        }
-        return p;
-    }
-
-    static double N6675f0d1924(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5888888888888889) {
-            p = LeutheuserC45Classifier.N613cd801925(i);
-        } else if (((Double) i[2]).doubleValue() > 0.5888888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N613cd801925(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6083333333333333) {
-            p = LeutheuserC45Classifier.N60a2b07d926(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6083333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N60a2b07d926(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.77) {
-            p = LeutheuserC45Classifier.N4419dd3c927(i);
-        } else if (((Double) i[3]).doubleValue() > 1.77) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4419dd3c927(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.0884765624999937) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.0884765624999937) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nda34e16928(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.8370807279315983) {
-            p = LeutheuserC45Classifier.Nad87373929(i);
-        } else if (((Double) i[15]).doubleValue() > 0.8370807279315983) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nad87373929(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.696488111519373) {
-            p = LeutheuserC45Classifier.N7f8c0b0d930(i);
-        } else if (((Double) i[12]).doubleValue() > 2.696488111519373) {
-            p = LeutheuserC45Classifier.N2bb85e65933(i);
-        }
-        return p;
-    }
-
-    static double N7f8c0b0d930(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 304755.0) {
-            p = LeutheuserC45Classifier.N7576c9fd931(i);
-        } else if (((Double) i[0]).doubleValue() > 304755.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7576c9fd931(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.15357243444595486) {
-            p = LeutheuserC45Classifier.N6232eabb932(i);
-        } else if (((Double) i[17]).doubleValue() > 0.15357243444595486) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6232eabb932(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.8909082031249907) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.8909082031249907) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2bb85e65933(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8997039485968701) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.8997039485968701) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3473ec7c934(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.3689817302432284) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.3689817302432284) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7789f22e935(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 10.589109275813275) {
-            p = LeutheuserC45Classifier.N29bb956936(i);
-        } else if (((Double) i[13]).doubleValue() > 10.589109275813275) {
-            p = LeutheuserC45Classifier.N168205b1964(i);
-        }
-        return p;
-    }
-
-    static double N29bb956936(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.37974423030586385) {
-            p = LeutheuserC45Classifier.N6b399416937(i);
-        } else if (((Double) i[17]).doubleValue() > 0.37974423030586385) {
-            p = LeutheuserC45Classifier.N4c83c3c9961(i);
-        }
-        return p;
-    }
-
-    static double N6b399416937(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.4242719997266802) {
-            p = LeutheuserC45Classifier.N40828501938(i);
-        } else if (((Double) i[16]).doubleValue() > 0.4242719997266802) {
-            p = LeutheuserC45Classifier.N546cdebf942(i);
-        }
-        return p;
-    }
-
-    static double N40828501938(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.07830878335795599) {
-            p = LeutheuserC45Classifier.N782207bd939(i);
-        } else if (((Double) i[15]).doubleValue() > 0.07830878335795599) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N782207bd939(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.745) {
-            p = LeutheuserC45Classifier.N272c50e6940(i);
-        } else if (((Double) i[4]).doubleValue() > 1.745) {
-            p = LeutheuserC45Classifier.N12e931941(i);
-        }
-        return p;
-    }
-
-    static double N272c50e6940(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.65) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.65) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N12e931941(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.2833333333333333) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.2833333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N546cdebf942(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.021264783135794493) {
-            p = LeutheuserC45Classifier.N3c1b2460943(i);
-        } else if (((Double) i[9]).doubleValue() > 0.021264783135794493) {
-            p = LeutheuserC45Classifier.N5c126f45946(i);
-        }
-        return p;
-    }
-
-    static double N3c1b2460943(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 16.532631835937046) {
-            p = LeutheuserC45Classifier.N79f5e865944(i);
-        } else if (((Double) i[6]).doubleValue() > 16.532631835937046) {
-            p = LeutheuserC45Classifier.N6eb9dd0b945(i);
-        }
-        return p;
-    }
-
-    static double N79f5e865944(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.832684177787488) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.832684177787488) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6eb9dd0b945(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.85) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.85) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5c126f45946(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.9153982958999083) {
-            p = LeutheuserC45Classifier.N39cf7883947(i);
-        } else if (((Double) i[12]).doubleValue() > 2.9153982958999083) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N39cf7883947(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.321306483739525) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 6.321306483739525) {
-            p = LeutheuserC45Classifier.N6faf191f948(i);
-        }
-        return p;
-    }
-
-    static double N6faf191f948(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 479200.0) {
-            p = LeutheuserC45Classifier.N4f5ec064949(i);
-        } else if (((Double) i[0]).doubleValue() > 479200.0) {
-            p = LeutheuserC45Classifier.N797a2038957(i);
-        }
-        return p;
-    }
-
-    static double N4f5ec064949(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.25) {
-            p = LeutheuserC45Classifier.Nf9f68d950(i);
-        } else if (((Double) i[2]).doubleValue() > 1.25) {
-            p = LeutheuserC45Classifier.N30b0b947956(i);
-        }
-        return p;
-    }
-
-    static double Nf9f68d950(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.25) {
-            p = LeutheuserC45Classifier.N42309d71951(i);
-        } else if (((Double) i[5]).doubleValue() > 0.25) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N42309d71951(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.41370605468754434) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.41370605468754434) {
-            p = LeutheuserC45Classifier.N554003c9952(i);
-        }
-        return p;
-    }
-
-    static double N554003c9952(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 382718.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 382718.0) {
-            p = LeutheuserC45Classifier.N6c24a4e5953(i);
-        }
-        return p;
-    }
-
-    static double N6c24a4e5953(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.8205371795485087) {
-            p = LeutheuserC45Classifier.N23a66a72954(i);
-        } else if (((Double) i[16]).doubleValue() > 0.8205371795485087) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N23a66a72954(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7027777777777777) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.7027777777777777) {
-            p = LeutheuserC45Classifier.N653ba062955(i);
-        }
-        return p;
-    }
-
-    static double N653ba062955(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.28873837014604076) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.28873837014604076) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N30b0b947956(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.2053294943797796) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.2053294943797796) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N797a2038957(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.5) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.5) {
-            p = LeutheuserC45Classifier.N699f209f958(i);
-        }
-        return p;
-    }
-
-    static double N699f209f958(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.37860180113600467) {
-            p = LeutheuserC45Classifier.N511fa57e959(i);
-        } else if (((Double) i[18]).doubleValue() > 0.37860180113600467) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N511fa57e959(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.08707234875723592) {
-            p = LeutheuserC45Classifier.N6450449b960(i);
-        } else if (((Double) i[18]).doubleValue() > 0.08707234875723592) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6450449b960(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 15.541733398437735) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 15.541733398437735) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4c83c3c9961(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.1647900390624968) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.1647900390624968) {
-            p = LeutheuserC45Classifier.N5c88891e962(i);
-        }
-        return p;
-    }
-
-    static double N5c88891e962(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.01) {
-            p = LeutheuserC45Classifier.N7090f3a4963(i);
-        } else if (((Double) i[3]).doubleValue() > 2.01) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7090f3a4963(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.57) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.57) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N168205b1964(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.528766765570912) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.528766765570912) {
-            p = LeutheuserC45Classifier.N444d0123965(i);
-        }
-        return p;
-    }
-
-    static double N444d0123965(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 12.987392578120616) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 12.987392578120616) {
-            p = LeutheuserC45Classifier.N5c15a0cd966(i);
-        }
-        return p;
-    }
-
-    static double N5c15a0cd966(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.6554662109365692) {
-            p = LeutheuserC45Classifier.N2b6f7538967(i);
-        } else if (((Double) i[16]).doubleValue() > 0.6554662109365692) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2b6f7538967(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 501869.0) {
-            p = LeutheuserC45Classifier.N2d465269968(i);
-        } else if (((Double) i[0]).doubleValue() > 501869.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2d465269968(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 436996.0) {
-            p = LeutheuserC45Classifier.N1ae1afb969(i);
-        } else if (((Double) i[0]).doubleValue() > 436996.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1ae1afb969(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.5806107219556695) {
-            p = LeutheuserC45Classifier.N704cc1cb970(i);
-        } else if (((Double) i[16]).doubleValue() > 0.5806107219556695) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N704cc1cb970(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7333333333333333) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.7333333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N20daac4f971(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6055555555555555) {
-            p = LeutheuserC45Classifier.N3f907727972(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6055555555555555) {
-            p = LeutheuserC45Classifier.N11141d27976(i);
-        }
-        return p;
-    }
-
-    static double N3f907727972(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.581789354313404) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 12.581789354313404) {
-            p = LeutheuserC45Classifier.N4e98cbec973(i);
-        }
-        return p;
-    }
-
-    static double N4e98cbec973(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = LeutheuserC45Classifier.N584c196d974(i);
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N584c196d974(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.7650000000000001) {
-            p = LeutheuserC45Classifier.N2d816eff975(i);
-        } else if (((Double) i[4]).doubleValue() > 1.7650000000000001) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2d816eff975(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 236270.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 236270.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N11141d27976(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 361371.0) {
-            p = LeutheuserC45Classifier.N195b7342977(i);
-        } else if (((Double) i[0]).doubleValue() > 361371.0) {
-            p = LeutheuserC45Classifier.N3a8a406e989(i);
-        }
-        return p;
-    }
-
-    static double N195b7342977(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.2488378906250136) {
-            p = LeutheuserC45Classifier.N21649675978(i);
-        } else if (((Double) i[7]).doubleValue() > -0.2488378906250136) {
-            p = LeutheuserC45Classifier.Ne57ce58985(i);
-        }
-        return p;
-    }
-
-    static double N21649675978(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.4694444444444446) {
-            p = LeutheuserC45Classifier.N734f230979(i);
-        } else if (((Double) i[19]).doubleValue() > 1.4694444444444446) {
-            p = LeutheuserC45Classifier.N26f59ef2984(i);
-        }
-        return p;
-    }
-
-    static double N734f230979(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 3.188013043869155) {
-            p = LeutheuserC45Classifier.N36783ad4980(i);
-        } else if (((Double) i[12]).doubleValue() > 3.188013043869155) {
-            p = LeutheuserC45Classifier.N712979ee982(i);
-        }
-        return p;
-    }
-
-    static double N36783ad4980(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.29444444444444445) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.29444444444444445) {
-            p = LeutheuserC45Classifier.N74fb9e3a981(i);
-        }
-        return p;
-    }
-
-    static double N74fb9e3a981(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.0149999999999997) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 2.0149999999999997) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N712979ee982(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.54) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.54) {
-            p = LeutheuserC45Classifier.N51aca089983(i);
-        }
-        return p;
-    }
-
-    static double N51aca089983(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 3.5191625903497927) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 3.5191625903497927) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N26f59ef2984(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5833333333333334) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.5833333333333334) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Ne57ce58985(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.9027777777777778) {
-            p = LeutheuserC45Classifier.N348b2075986(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N348b2075986(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.13052246093747) {
-            p = LeutheuserC45Classifier.N176685987(i);
-        } else if (((Double) i[8]).doubleValue() > 1.13052246093747) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N176685987(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.23) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.23) {
-            p = LeutheuserC45Classifier.Na1f6a7b988(i);
-        }
-        return p;
-    }
-
-    static double Na1f6a7b988(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 88586.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 88586.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3a8a406e989(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 12.645913085939798) {
-            p = LeutheuserC45Classifier.N576f57c2990(i);
-        } else if (((Double) i[6]).doubleValue() > 12.645913085939798) {
-            p = LeutheuserC45Classifier.N752b7944993(i);
-        }
-        return p;
-    }
-
-    static double N576f57c2990(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.01421504579739611) {
-            p = LeutheuserC45Classifier.N6cf720e4991(i);
-        } else if (((Double) i[9]).doubleValue() > 0.01421504579739611) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6cf720e4991(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.12208196624834229) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.12208196624834229) {
-            p = LeutheuserC45Classifier.N1d4ad3b3992(i);
-        }
-        return p;
-    }
-
-    static double N1d4ad3b3992(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.335) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 2.335) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N752b7944993(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 16.93023437500026) {
-            p = LeutheuserC45Classifier.N5857e164994(i);
-        } else if (((Double) i[6]).doubleValue() > 16.93023437500026) {
-            p = LeutheuserC45Classifier.N1221da9e999(i);
-        }
-        return p;
-    }
-
-    static double N5857e164994(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9027169571848805) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.9027169571848805) {
-            p = LeutheuserC45Classifier.Nd720a8a995(i);
-        }
-        return p;
-    }
-
-    static double Nd720a8a995(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.275) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.275) {
-            p = LeutheuserC45Classifier.N466e97dc996(i);
-        }
-        return p;
-    }
-
-    static double N466e97dc996(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7222222222222222) {
-            p = LeutheuserC45Classifier.N68a1370c997(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7222222222222222) {
-            p = LeutheuserC45Classifier.Nf9ab7bd998(i);
-        }
-        return p;
-    }
-
-    static double N68a1370c997(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.46) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 2.46) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nf9ab7bd998(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.015444248026461797) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.015444248026461797) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1221da9e999(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.545) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.545) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N20437f711000(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 16.740239257812963) {
-            p = LeutheuserC45Classifier.N41bb25221001(i);
-        } else if (((Double) i[6]).doubleValue() > 16.740239257812963) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N41bb25221001(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6166666666666667) {
-            p = LeutheuserC45Classifier.N1bc655f71002(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6166666666666667) {
-            p = LeutheuserC45Classifier.N767bc0921007(i);
-        }
-        return p;
-    }
-
-    static double N1bc655f71002(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6416666666666667) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6416666666666667) {
-            p = LeutheuserC45Classifier.N72f893b1003(i);
-        }
-        return p;
-    }
-
-    static double N72f893b1003(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.421283636888507) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.421283636888507) {
-            p = LeutheuserC45Classifier.N3c2cc6581004(i);
-        }
-        return p;
-    }
-
-    static double N3c2cc6581004(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.7000000000000002) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.7000000000000002) {
-            p = LeutheuserC45Classifier.N242676ca1005(i);
-        }
-        return p;
-    }
-
-    static double N242676ca1005(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.745) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.745) {
-            p = LeutheuserC45Classifier.Nd66f6541006(i);
-        }
-        return p;
-    }
-
-    static double Nd66f6541006(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.11666666666666667) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.11666666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N767bc0921007(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 13.716464843751092) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 13.716464843751092) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2cbfd6031008(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.36901367187501344) {
-            p = LeutheuserC45Classifier.N3b3875781009(i);
-        } else if (((Double) i[7]).doubleValue() > -0.36901367187501344) {
-            p = LeutheuserC45Classifier.N54cd6e5e1040(i);
-        }
-        return p;
-    }
-
-    static double N3b3875781009(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.17976297470613942) {
-            p = LeutheuserC45Classifier.N1d6e01d1010(i);
-        } else if (((Double) i[18]).doubleValue() > 0.17976297470613942) {
-            p = LeutheuserC45Classifier.N252da2da1021(i);
-        }
-        return p;
-    }
-
-    static double N1d6e01d1010(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8027777777777778) {
-            p = LeutheuserC45Classifier.N2901dfe51011(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2901dfe51011(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.200602601605533) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 6.200602601605533) {
-            p = LeutheuserC45Classifier.N7b5c1b081012(i);
-        }
-        return p;
-    }
-
-    static double N7b5c1b081012(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7694444444444445) {
-            p = LeutheuserC45Classifier.N3b732ae1013(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7694444444444445) {
-            p = LeutheuserC45Classifier.N5c4235891019(i);
-        }
-        return p;
-    }
-
-    static double N3b732ae1013(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.7210594151329675) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.7210594151329675) {
-            p = LeutheuserC45Classifier.N3557eccd1014(i);
-        }
-        return p;
-    }
-
-    static double N3557eccd1014(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.75) {
-            p = LeutheuserC45Classifier.N128ee3751015(i);
-        } else if (((Double) i[3]).doubleValue() > 1.75) {
-            p = LeutheuserC45Classifier.N9913e771016(i);
-        }
-        return p;
-    }
-
-    static double N128ee3751015(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6888888888888889) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6888888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N9913e771016(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 556368.0) {
-            p = LeutheuserC45Classifier.N33094fa91017(i);
-        } else if (((Double) i[0]).doubleValue() > 556368.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N33094fa91017(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9917456699818812) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9917456699818812) {
-            p = LeutheuserC45Classifier.N39b2fc811018(i);
-        }
-        return p;
-    }
-
-    static double N39b2fc811018(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 236896.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 236896.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5c4235891019(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9898588735939348) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.9898588735939348) {
-            p = LeutheuserC45Classifier.N5c20caf01020(i);
-        }
-        return p;
-    }
-
-    static double N5c20caf01020(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.956226486675776) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.956226486675776) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N252da2da1021(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.335) {
-            p = LeutheuserC45Classifier.Nb55140a1022(i);
-        } else if (((Double) i[1]).doubleValue() > 1.335) {
-            p = LeutheuserC45Classifier.N57be50841029(i);
-        }
-        return p;
-    }
-
-    static double Nb55140a1022(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.8388183593750725) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.8388183593750725) {
-            p = LeutheuserC45Classifier.N467696941023(i);
-        }
-        return p;
-    }
-
-    static double N467696941023(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.35917901306205935) {
-            p = LeutheuserC45Classifier.N1cdba3e01024(i);
-        } else if (((Double) i[17]).doubleValue() > 0.35917901306205935) {
-            p = LeutheuserC45Classifier.N444bcfbf1028(i);
-        }
-        return p;
-    }
-
-    static double N1cdba3e01024(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.585) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.585) {
-            p = LeutheuserC45Classifier.N5428f9d31025(i);
-        }
-        return p;
-    }
-
-    static double N5428f9d31025(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6638888888888889) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6638888888888889) {
-            p = LeutheuserC45Classifier.N77fe42181026(i);
-        }
-        return p;
-    }
-
-    static double N77fe42181026(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.042620790911344235) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.042620790911344235) {
-            p = LeutheuserC45Classifier.N5ceb8451027(i);
-        }
-        return p;
-    }
-
-    static double N5ceb8451027(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.845) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.845) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N444bcfbf1028(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 17.466303710937623) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 17.466303710937623) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N57be50841029(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 15.96192871093448) {
-            p = LeutheuserC45Classifier.N52d526e91030(i);
-        } else if (((Double) i[6]).doubleValue() > 15.96192871093448) {
-            p = LeutheuserC45Classifier.N9c6514d1035(i);
-        }
-        return p;
-    }
-
-    static double N52d526e91030(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 446008.0) {
-            p = LeutheuserC45Classifier.N2229b0661031(i);
-        } else if (((Double) i[0]).doubleValue() > 446008.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2229b0661031(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 366228.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 366228.0) {
-            p = LeutheuserC45Classifier.N3885a5ab1032(i);
-        }
-        return p;
-    }
-
-    static double N3885a5ab1032(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.29444444444444445) {
-            p = LeutheuserC45Classifier.N1d9ae84f1033(i);
-        } else if (((Double) i[5]).doubleValue() > 0.29444444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1d9ae84f1033(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.108682243069133) {
-            p = LeutheuserC45Classifier.N6683677b1034(i);
-        } else if (((Double) i[13]).doubleValue() > 12.108682243069133) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6683677b1034(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.4722222222222222) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.4722222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N9c6514d1035(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.58) {
-            p = LeutheuserC45Classifier.N1c7b05231036(i);
-        } else if (((Double) i[3]).doubleValue() > 2.58) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1c7b05231036(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.13055555555555556) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N56694e731037(i);
-        }
-        return p;
-    }
-
-    static double N56694e731037(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 55953.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 55953.0) {
-            p = LeutheuserC45Classifier.N2b2c537a1038(i);
-        }
-        return p;
-    }
-
-    static double N2b2c537a1038(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.08050595415513152) {
-            p = LeutheuserC45Classifier.N105b236b1039(i);
-        } else if (((Double) i[10]).doubleValue() > 0.08050595415513152) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N105b236b1039(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.85) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.85) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N54cd6e5e1040(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5027777777777778) {
-            p = LeutheuserC45Classifier.N484bb8621041(i);
-        } else if (((Double) i[2]).doubleValue() > 0.5027777777777778) {
-            p = LeutheuserC45Classifier.N483cbeb41043(i);
-        }
-        return p;
-    }
-
-    static double N484bb8621041(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.18055555555555555) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.18055555555555555) {
-            p = LeutheuserC45Classifier.N1b585921042(i);
-        }
-        return p;
-    }
-
-    static double N1b585921042(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.6) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.6) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N483cbeb41043(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.010328966864174614) {
-            p = LeutheuserC45Classifier.N773c86731044(i);
-        } else if (((Double) i[9]).doubleValue() > 0.010328966864174614) {
-            p = LeutheuserC45Classifier.N71edebf61048(i);
-        }
-        return p;
-    }
-
-    static double N773c86731044(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.4946500820199726) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.4946500820199726) {
-            p = LeutheuserC45Classifier.N62a1a85e1045(i);
-        }
-        return p;
-    }
-
-    static double N62a1a85e1045(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9919347356579582) {
-            p = LeutheuserC45Classifier.N4f95288d1046(i);
-        } else if (((Double) i[15]).doubleValue() > 0.9919347356579582) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4f95288d1046(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9888888888888889) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.9888888888888889) {
-            p = LeutheuserC45Classifier.N6271e6d51047(i);
-        }
-        return p;
-    }
-
-    static double N6271e6d51047(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.29103027343748) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.29103027343748) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N71edebf61048(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 11.208604322612683) {
-            p = LeutheuserC45Classifier.N1e615ecd1049(i);
-        } else if (((Double) i[13]).doubleValue() > 11.208604322612683) {
-            p = LeutheuserC45Classifier.N169c52681058(i);
-        }
-        return p;
-    }
-
-    static double N1e615ecd1049(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.81) {
-            p = LeutheuserC45Classifier.N78d6cccc1050(i);
-        } else if (((Double) i[3]).doubleValue() > 1.81) {
-            p = LeutheuserC45Classifier.N2b7e366d1057(i);
-        }
-        return p;
-    }
-
-    static double N78d6cccc1050(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 9.341845080475617) {
-            p = LeutheuserC45Classifier.N15fcca4d1051(i);
-        } else if (((Double) i[13]).doubleValue() > 9.341845080475617) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N15fcca4d1051(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.11117438628491945) {
-            p = LeutheuserC45Classifier.Nb50215f1052(i);
-        } else if (((Double) i[18]).doubleValue() > 0.11117438628491945) {
-            p = LeutheuserC45Classifier.N22f0888e1055(i);
-        }
-        return p;
-    }
-
-    static double Nb50215f1052(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.041895326369562044) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.041895326369562044) {
-            p = LeutheuserC45Classifier.N1fd381ce1053(i);
-        }
-        return p;
-    }
-
-    static double N1fd381ce1053(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.16111111111111112) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.16111111111111112) {
-            p = LeutheuserC45Classifier.N51ad9e541054(i);
-        }
-        return p;
-    }
-
-    static double N51ad9e541054(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9407656233963866) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9407656233963866) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N22f0888e1055(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.02443780307111288) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.02443780307111288) {
-            p = LeutheuserC45Classifier.N28200f561056(i);
-        }
-        return p;
-    }
-
-    static double N28200f561056(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8194444444444444) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8194444444444444) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2b7e366d1057(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.2509186291701906) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.2509186291701906) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N169c52681058(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.6199999999999999) {
-            p = LeutheuserC45Classifier.N308e0ccd1059(i);
-        } else if (((Double) i[4]).doubleValue() > 1.6199999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N308e0ccd1059(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 344067.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 344067.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N187cef351060(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.23312926016699262) {
-            p = LeutheuserC45Classifier.N426b6f091061(i);
-        } else if (((Double) i[17]).doubleValue() > 0.23312926016699262) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N426b6f091061(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.355) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.355) {
-            p = LeutheuserC45Classifier.N36107a3e1062(i);
-        }
-        return p;
-    }
-
-    static double N36107a3e1062(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8944444444444445) {
-            p = LeutheuserC45Classifier.N76b8f0551063(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8944444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N76b8f0551063(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N9c2bcf01064(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8805555555555555) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N9c2bcf01064(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.85) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.85) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N10c889e61065(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.5481765468755969) {
-            p = LeutheuserC45Classifier.N25bcc04b1066(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5481765468755969) {
-            p = LeutheuserC45Classifier.N7e0778d1129(i);
-        }
-        return p;
-    }
-
-    static double N25bcc04b1066(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() <= 3.400964921903546) {
-            p = LeutheuserC45Classifier.N1437b6f11067(i);
-        } else if (((Double) i[14]).doubleValue() > 3.400964921903546) {
-            p = LeutheuserC45Classifier.N4e156aa81085(i);
-        }
-        return p;
-    }
-
-    static double N1437b6f11067(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.04) {
-            p = LeutheuserC45Classifier.N80eadbb1068(i);
-        } else if (((Double) i[1]).doubleValue() > 1.04) {
-            p = LeutheuserC45Classifier.N4084ad981082(i);
-        }
-        return p;
-    }
-
-    static double N80eadbb1068(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.1061324245207102) {
-            p = LeutheuserC45Classifier.N5cdd92e51069(i);
-        } else if (((Double) i[18]).doubleValue() > 0.1061324245207102) {
-            p = LeutheuserC45Classifier.N612aeeb31074(i);
-        }
-        return p;
-    }
-
-    static double N5cdd92e51069(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 11.814913786709683) {
-            p = LeutheuserC45Classifier.N1f20bfad1070(i);
-        } else if (((Double) i[13]).doubleValue() > 11.814913786709683) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1f20bfad1070(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.11345322075235283) {
-            p = LeutheuserC45Classifier.N360902861071(i);
-        } else if (((Double) i[17]).doubleValue() > 0.11345322075235283) {
-            p = LeutheuserC45Classifier.N7bedebb41073(i);
-        }
-        return p;
-    }
-
-    static double N360902861071(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.6448242187499884) {
-            p = LeutheuserC45Classifier.N4b1702891072(i);
-        } else if (((Double) i[8]).doubleValue() > 0.6448242187499884) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4b1702891072(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -0.095) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -0.095) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7bedebb41073(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 600686.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 600686.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N612aeeb31074(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.9246868902510658) {
-            p = LeutheuserC45Classifier.N1fc9cd221075(i);
-        } else if (((Double) i[16]).doubleValue() > -0.9246868902510658) {
-            p = LeutheuserC45Classifier.N6cb997181076(i);
-        }
-        return p;
-    }
-
-    static double N1fc9cd221075(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -2.005) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > -2.005) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6cb997181076(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 630083.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 630083.0) {
-            p = LeutheuserC45Classifier.N781d71701077(i);
-        }
-        return p;
-    }
-
-    static double N781d71701077(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = LeutheuserC45Classifier.N4e7447b61078(i);
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4e7447b61078(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.579042968749989) {
-            p = LeutheuserC45Classifier.N1f0523871079(i);
-        } else if (((Double) i[8]).doubleValue() > 0.579042968749989) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1f0523871079(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.915) {
-            p = LeutheuserC45Classifier.N3f2476281080(i);
-        } else if (((Double) i[1]).doubleValue() > 0.915) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3f2476281080(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.7349112612611983) {
-            p = LeutheuserC45Classifier.N2ca1164d1081(i);
-        } else if (((Double) i[12]).doubleValue() > 2.7349112612611983) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2ca1164d1081(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.288741598763067) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() > 0.288741598763067) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4084ad981082(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.788135489256953) {
-            p = LeutheuserC45Classifier.N76aba7141083(i);
-        } else if (((Double) i[12]).doubleValue() > 2.788135489256953) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N76aba7141083(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9666666666666667) {
-            p = LeutheuserC45Classifier.N6a220adf1084(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9666666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6a220adf1084(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6861111111111111) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6861111111111111) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4e156aa81085(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.580917968749995) {
-            p = LeutheuserC45Classifier.N2b98e69f1086(i);
-        } else if (((Double) i[7]).doubleValue() > -0.580917968749995) {
-            p = LeutheuserC45Classifier.N2077ff1087(i);
-        }
-        return p;
-    }
-
-    static double N2b98e69f1086(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.1388888888888889) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.1388888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2077ff1087(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.915) {
-            p = LeutheuserC45Classifier.N7a2ef1d61088(i);
-        } else if (((Double) i[3]).doubleValue() > 1.915) {
-            p = LeutheuserC45Classifier.N656a3f241117(i);
-        }
-        return p;
-    }
-
-    static double N7a2ef1d61088(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.565) {
-            p = LeutheuserC45Classifier.N1f8b94111089(i);
-        } else if (((Double) i[4]).doubleValue() > 1.565) {
-            p = LeutheuserC45Classifier.N3392f2181105(i);
-        }
-        return p;
-    }
-
-    static double N1f8b94111089(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 595459.0) {
-            p = LeutheuserC45Classifier.N73cb35611090(i);
-        } else if (((Double) i[0]).doubleValue() > 595459.0) {
-            p = LeutheuserC45Classifier.N5d9dc3511095(i);
-        }
-        return p;
-    }
-
-    static double N73cb35611090(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.4166666666666667) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.4166666666666667) {
-            p = LeutheuserC45Classifier.N70572b681091(i);
-        }
-        return p;
-    }
-
-    static double N70572b681091(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.725667179468853) {
-            p = LeutheuserC45Classifier.N7dfac4f51092(i);
-        } else if (((Double) i[12]).doubleValue() > 2.725667179468853) {
-            p = LeutheuserC45Classifier.N1458b6d91094(i);
-        }
-        return p;
-    }
-
-    static double N7dfac4f51092(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= -0.7505138029180504) {
-            p = LeutheuserC45Classifier.N3e12fc471093(i);
-        } else if (((Double) i[16]).doubleValue() > -0.7505138029180504) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3e12fc471093(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 577847.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 577847.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1458b6d91094(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.2638888888888889) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.2638888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5d9dc3511095(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.31) {
-            p = LeutheuserC45Classifier.N76eb797b1096(i);
-        } else if (((Double) i[4]).doubleValue() > 1.31) {
-            p = LeutheuserC45Classifier.N5dd2419a1101(i);
-        }
-        return p;
-    }
-
-    static double N76eb797b1096(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.29048339843747817) {
-            p = LeutheuserC45Classifier.N5f3253251097(i);
-        } else if (((Double) i[7]).doubleValue() > -0.29048339843747817) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f3253251097(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7166666666666667) {
-            p = LeutheuserC45Classifier.Ne8dd8641098(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7166666666666667) {
-            p = LeutheuserC45Classifier.N3db905af1099(i);
-        }
-        return p;
-    }
-
-    static double Ne8dd8641098(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.08477436650443317) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.08477436650443317) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3db905af1099(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.5444444444444444) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.5444444444444444) {
-            p = LeutheuserC45Classifier.N103483c21100(i);
-        }
-        return p;
-    }
-
-    static double N103483c21100(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7666666666666667) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7666666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5dd2419a1101(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.88) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.88) {
-            p = LeutheuserC45Classifier.N3d7cecbc1102(i);
-        }
-        return p;
-    }
-
-    static double N3d7cecbc1102(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7861111111111111) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7861111111111111) {
-            p = LeutheuserC45Classifier.N481d02c11103(i);
-        }
-        return p;
-    }
-
-    static double N481d02c11103(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.275) {
-            p = LeutheuserC45Classifier.N7c03a2931104(i);
-        } else if (((Double) i[5]).doubleValue() > 0.275) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7c03a2931104(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 601801.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 601801.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3392f2181105(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.915) {
-            p = LeutheuserC45Classifier.N6951f1da1106(i);
-        } else if (((Double) i[4]).doubleValue() > 1.915) {
-            p = LeutheuserC45Classifier.N6a9313e81110(i);
-        }
-        return p;
-    }
-
-    static double N6951f1da1106(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.7371435546875137) {
-            p = LeutheuserC45Classifier.N497afd3b1107(i);
-        } else if (((Double) i[8]).doubleValue() > 0.7371435546875137) {
-            p = LeutheuserC45Classifier.N288cd9bd1108(i);
-        }
-        return p;
-    }
-
-    static double N497afd3b1107(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 589549.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 589549.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N288cd9bd1108(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.3073442566662727) {
-            p = LeutheuserC45Classifier.Ncaafc861109(i);
-        } else if (((Double) i[12]).doubleValue() > 2.3073442566662727) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Ncaafc861109(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6a9313e81110(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.2728211646445661) {
-            p = LeutheuserC45Classifier.N749ea8a41111(i);
-        } else if (((Double) i[18]).doubleValue() > 0.2728211646445661) {
-            p = LeutheuserC45Classifier.N2630698a1116(i);
-        }
-        return p;
-    }
-
-    static double N749ea8a41111(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.985) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.985) {
-            p = LeutheuserC45Classifier.N3a11c6bb1112(i);
-        }
-        return p;
-    }
-
-    static double N3a11c6bb1112(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.54) {
-            p = LeutheuserC45Classifier.N618443b31113(i);
-        } else if (((Double) i[4]).doubleValue() > 2.54) {
-            p = LeutheuserC45Classifier.N12a0517b1115(i);
-        }
-        return p;
-    }
-
-    static double N618443b31113(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.6099999999999999) {
-            p = LeutheuserC45Classifier.N137a00381114(i);
-        } else if (((Double) i[3]).doubleValue() > 1.6099999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N137a00381114(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6666666666666666) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6666666666666666) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N12a0517b1115(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7083333333333334) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.7083333333333334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2630698a1116(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.4386640550157432) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 2.4386640550157432) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N656a3f241117(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7138888888888889) {
-            p = LeutheuserC45Classifier.N26d288711118(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7138888888888889) {
-            p = LeutheuserC45Classifier.N6a5089f01123(i);
-        }
-        return p;
-    }
-
-    static double N26d288711118(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.17041875543066995) {
-            p = LeutheuserC45Classifier.N36e93e591119(i);
-        } else if (((Double) i[18]).doubleValue() > 0.17041875543066995) {
-            p = LeutheuserC45Classifier.N2717f37a1121(i);
-        }
-        return p;
-    }
-
-    static double N36e93e591119(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6138888888888889) {
-            p = LeutheuserC45Classifier.N13b06d371120(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6138888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N13b06d371120(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 597825.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 597825.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2717f37a1121(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 10.734603156687095) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 10.734603156687095) {
-            p = LeutheuserC45Classifier.N15b476e91122(i);
-        }
-        return p;
-    }
-
-    static double N15b476e91122(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6833333333333333) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6833333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6a5089f01123(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.5749999999999997) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 2.5749999999999997) {
-            p = LeutheuserC45Classifier.N7a9988581124(i);
-        }
-        return p;
-    }
-
-    static double N7a9988581124(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.1388888888888889) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.1388888888888889) {
-            p = LeutheuserC45Classifier.N620d28521125(i);
-        }
-        return p;
-    }
-
-    static double N620d28521125(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.4138783680115066) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.4138783680115066) {
-            p = LeutheuserC45Classifier.N543819c41126(i);
-        }
-        return p;
-    }
-
-    static double N543819c41126(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.07125606213218735) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.07125606213218735) {
-            p = LeutheuserC45Classifier.N3ac905ba1127(i);
-        }
-        return p;
-    }
-
-    static double N3ac905ba1127(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 3.515773352034033) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 3.515773352034033) {
-            p = LeutheuserC45Classifier.Nca481f31128(i);
-        }
-        return p;
-    }
-
-    static double Nca481f31128(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9845519913851237) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9845519913851237) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7e0778d1129(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.18) {
-            p = LeutheuserC45Classifier.N1382b88c1130(i);
-        } else if (((Double) i[1]).doubleValue() > 1.18) {
-            p = LeutheuserC45Classifier.N4917254b1132(i);
-        }
-        return p;
-    }
-
-    static double N1382b88c1130(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 615626.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 615626.0) {
-            p = LeutheuserC45Classifier.N61949b931131(i);
-        }
-        return p;
-    }
-
-    static double N61949b931131(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.0290580441913671) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.0290580441913671) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4917254b1132(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 17.654423828125264) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 17.654423828125264) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4d4f6ffb1133(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 336131.0) {
-            p = LeutheuserC45Classifier.N4b8ff8061134(i);
-        } else if (((Double) i[0]).doubleValue() > 336131.0) {
-            p = LeutheuserC45Classifier.N471a01ab1152(i);
-        }
-        return p;
-    }
-
-    static double N4b8ff8061134(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.01858058324348965) {
-            p = LeutheuserC45Classifier.Ne02aae71135(i);
-        } else if (((Double) i[9]).doubleValue() > 0.01858058324348965) {
-            p = LeutheuserC45Classifier.N3bed59241145(i);
-        }
-        return p;
-    }
-
-    static double Ne02aae71135(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.885) {
-            p = LeutheuserC45Classifier.N7ecfeb111136(i);
-        } else if (((Double) i[1]).doubleValue() > 0.885) {
-            p = LeutheuserC45Classifier.N666add3d1140(i);
-        }
-        return p;
-    }
-
-    static double N7ecfeb111136(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.12) {
-            p = LeutheuserC45Classifier.N48c973841137(i);
-        } else if (((Double) i[3]).doubleValue() > 1.12) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N48c973841137(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.1686459341356469) {
-            p = LeutheuserC45Classifier.N7c32ed531138(i);
-        } else if (((Double) i[17]).doubleValue() > 0.1686459341356469) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7c32ed531138(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9618329103330138) {
-            p = LeutheuserC45Classifier.N677c25a01139(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9618329103330138) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N677c25a01139(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.9067810566960186) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.9067810566960186) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N666add3d1140(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 15.080913359502421) {
-            p = LeutheuserC45Classifier.N65bcc7271141(i);
-        } else if (((Double) i[13]).doubleValue() > 15.080913359502421) {
-            p = LeutheuserC45Classifier.N8d883f21143(i);
-        }
-        return p;
-    }
-
-    static double N65bcc7271141(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.2916666666666667) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.2916666666666667) {
-            p = LeutheuserC45Classifier.Ne0fe6b61142(i);
-        }
-        return p;
-    }
-
-    static double Ne0fe6b61142(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N8d883f21143(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.6111111111111112) {
-            p = LeutheuserC45Classifier.N38eb34e11144(i);
-        } else if (((Double) i[19]).doubleValue() > 1.6111111111111112) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N38eb34e11144(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.355) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.355) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3bed59241145(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.91) {
-            p = LeutheuserC45Classifier.N4a2632b91146(i);
-        } else if (((Double) i[4]).doubleValue() > 2.91) {
-            p = LeutheuserC45Classifier.N36f5cea91149(i);
-        }
-        return p;
-    }
-
-    static double N4a2632b91146(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7833333333333333) {
-            p = LeutheuserC45Classifier.N62dff1c1147(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7833333333333333) {
-            p = LeutheuserC45Classifier.N67808f041148(i);
-        }
-        return p;
-    }
-
-    static double N62dff1c1147(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8027777777777778) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8027777777777778) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N67808f041148(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.255) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.255) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N36f5cea91149(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.06005469629274017) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.06005469629274017) {
-            p = LeutheuserC45Classifier.N4dbd91341150(i);
-        }
-        return p;
-    }
-
-    static double N4dbd91341150(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.491591796874999) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.491591796874999) {
-            p = LeutheuserC45Classifier.N240152801151(i);
-        }
-        return p;
-    }
-
-    static double N240152801151(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 60435.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 60435.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N471a01ab1152(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 2.718511354715694) {
-            p = LeutheuserC45Classifier.N5f821f671153(i);
-        } else if (((Double) i[12]).doubleValue() > 2.718511354715694) {
-            p = LeutheuserC45Classifier.N7e1701921154(i);
-        }
-        return p;
-    }
-
-    static double N5f821f671153(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 9.151005859375259) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 9.151005859375259) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7e1701921154(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.020187553464788552) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.020187553464788552) {
-            p = LeutheuserC45Classifier.N50acc9821155(i);
-        }
-        return p;
-    }
-
-    static double N50acc9821155(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.3899999999999997) {
-            p = LeutheuserC45Classifier.N47ac8d651156(i);
-        } else if (((Double) i[3]).doubleValue() > 2.3899999999999997) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47ac8d651156(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.2555555555555555) {
-            p = LeutheuserC45Classifier.N81adbd01157(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2555555555555555) {
-            p = LeutheuserC45Classifier.N56f89641161(i);
-        }
-        return p;
-    }
-
-    static double N81adbd01157(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 14.279419721875694) {
-            p = LeutheuserC45Classifier.N4ec740d01158(i);
-        } else if (((Double) i[13]).doubleValue() > 14.279419721875694) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4ec740d01158(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6194444444444445) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.6194444444444445) {
-            p = LeutheuserC45Classifier.N781170531159(i);
-        }
-        return p;
-    }
-
-    static double N781170531159(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9194444444444444) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.9194444444444444) {
-            p = LeutheuserC45Classifier.N5bf51d911160(i);
-        }
-        return p;
-    }
-
-    static double N5bf51d911160(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8222222222222222) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.8222222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N56f89641161(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.555) {
-            p = LeutheuserC45Classifier.N71da88d91162(i);
-        } else if (((Double) i[1]).doubleValue() > 1.555) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N71da88d91162(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.3416666666666666) {
-            p = LeutheuserC45Classifier.N2bafd591163(i);
-        } else if (((Double) i[2]).doubleValue() > 1.3416666666666666) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2bafd591163(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.435) {
-            p = LeutheuserC45Classifier.N7150610a1164(i);
-        } else if (((Double) i[1]).doubleValue() > 1.435) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7150610a1164(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7972222222222223) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.7972222222222223) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N80de2ed1165(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.2842089843749962) {
-            p = LeutheuserC45Classifier.N2d343f751166(i);
-        } else if (((Double) i[7]).doubleValue() > -0.2842089843749962) {
-            p = LeutheuserC45Classifier.N29ca91a21216(i);
-        }
-        return p;
-    }
-
-    static double N2d343f751166(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.993375764513417) {
-            p = LeutheuserC45Classifier.N78314fbf1167(i);
-        } else if (((Double) i[15]).doubleValue() > 0.993375764513417) {
-            p = LeutheuserC45Classifier.N5dc4a5781211(i);
-        }
-        return p;
-    }
-
-    static double N78314fbf1167(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= -0.01720043103448727) {
-            p = LeutheuserC45Classifier.Na9b39821168(i);
-        } else if (((Double) i[9]).doubleValue() > -0.01720043103448727) {
-            p = LeutheuserC45Classifier.N1864d5b11173(i);
-        }
-        return p;
-    }
-
-    static double Na9b39821168(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8555555555555555) {
-            p = LeutheuserC45Classifier.N6de6a8b61169(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8555555555555555) {
-            p = LeutheuserC45Classifier.N6125fde81170(i);
-        }
-        return p;
-    }
-
-    static double N6de6a8b61169(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -1.4300000000000002) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -1.4300000000000002) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6125fde81170(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.04592992322197262) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.04592992322197262) {
-            p = LeutheuserC45Classifier.N131b0ac41171(i);
-        }
-        return p;
-    }
-
-    static double N131b0ac41171(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.76) {
-            p = LeutheuserC45Classifier.N409f760c1172(i);
-        } else if (((Double) i[4]).doubleValue() > 1.76) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N409f760c1172(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.98) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.98) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1864d5b11173(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -0.73) {
-            p = LeutheuserC45Classifier.N56e0b1e81174(i);
-        } else if (((Double) i[4]).doubleValue() > -0.73) {
-            p = LeutheuserC45Classifier.N2672f66c1176(i);
-        }
-        return p;
-    }
-
-    static double N56e0b1e81174(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 11.93896597380753) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 11.93896597380753) {
-            p = LeutheuserC45Classifier.N1d66ccda1175(i);
-        }
-        return p;
-    }
-
-    static double N1d66ccda1175(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 571449.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 571449.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2672f66c1176(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.1100000000000003) {
-            p = LeutheuserC45Classifier.N1805664e1177(i);
-        } else if (((Double) i[4]).doubleValue() > 2.1100000000000003) {
-            p = LeutheuserC45Classifier.N6ca1fb4f1186(i);
-        }
-        return p;
-    }
-
-    static double N1805664e1177(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.8944444444444445) {
-            p = LeutheuserC45Classifier.N4bb9eb571178(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8944444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4bb9eb571178(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6166666666666667) {
-            p = LeutheuserC45Classifier.N6092fee61179(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6166666666666667) {
-            p = LeutheuserC45Classifier.N51e2a50e1180(i);
-        }
-        return p;
-    }
-
-    static double N6092fee61179(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= -0.3549999999999999) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > -0.3549999999999999) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N51e2a50e1180(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 12.798208007812569) {
-            p = LeutheuserC45Classifier.N62669e6a1181(i);
-        } else if (((Double) i[6]).doubleValue() > 12.798208007812569) {
-            p = LeutheuserC45Classifier.N559d88231184(i);
-        }
-        return p;
-    }
-
-    static double N62669e6a1181(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.02764231056288969) {
-            p = LeutheuserC45Classifier.N660122221182(i);
-        } else if (((Double) i[10]).doubleValue() > 0.02764231056288969) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N660122221182(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 0.84) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 0.84) {
-            p = LeutheuserC45Classifier.N119395ca1183(i);
-        }
-        return p;
-    }
-
-    static double N119395ca1183(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.28) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.28) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N559d88231184(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7722222222222223) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7722222222222223) {
-            p = LeutheuserC45Classifier.N35ec9341185(i);
-        }
-        return p;
-    }
-
-    static double N35ec9341185(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.014140557650864393) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.014140557650864393) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6ca1fb4f1186(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 502276.0) {
-            p = LeutheuserC45Classifier.N61110ed41187(i);
-        } else if (((Double) i[0]).doubleValue() > 502276.0) {
-            p = LeutheuserC45Classifier.N155bdf521201(i);
-        }
-        return p;
-    }
-
-    static double N61110ed41187(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.4416666666666667) {
-            p = LeutheuserC45Classifier.N58f45e451188(i);
-        } else if (((Double) i[2]).doubleValue() > 1.4416666666666667) {
-            p = LeutheuserC45Classifier.N7166df0b1198(i);
-        }
-        return p;
-    }
-
-    static double N58f45e451188(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.12987657098874908) {
-            p = LeutheuserC45Classifier.N2d963b061189(i);
-        } else if (((Double) i[18]).doubleValue() > 0.12987657098874908) {
-            p = LeutheuserC45Classifier.N278006d31191(i);
-        }
-        return p;
-    }
-
-    static double N2d963b061189(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 44047.0) {
-            p = LeutheuserC45Classifier.N4e8ed6781190(i);
-        } else if (((Double) i[0]).doubleValue() > 44047.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4e8ed6781190(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.18) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 2.18) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N278006d31191(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.875) {
-            p = LeutheuserC45Classifier.N5dfc62101192(i);
-        } else if (((Double) i[3]).doubleValue() > 1.875) {
-            p = LeutheuserC45Classifier.N41ae3ca21193(i);
-        }
-        return p;
-    }
-
-    static double N5dfc62101192(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 402006.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 402006.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N41ae3ca21193(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.325) {
-            p = LeutheuserC45Classifier.N792b0ff91194(i);
-        } else if (((Double) i[5]).doubleValue() > 0.325) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N792b0ff91194(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.6546142578123926) {
-            p = LeutheuserC45Classifier.N5e3a28911195(i);
-        } else if (((Double) i[7]).doubleValue() > -0.6546142578123926) {
-            p = LeutheuserC45Classifier.N60e83da41196(i);
-        }
-        return p;
-    }
-
-    static double N5e3a28911195(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.6986402886233494) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.6986402886233494) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N60e83da41196(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9643053027340903) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.9643053027340903) {
-            p = LeutheuserC45Classifier.N501346371197(i);
-        }
-        return p;
-    }
-
-    static double N501346371197(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.72) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.72) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7166df0b1198(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.5638888888888889) {
-            p = LeutheuserC45Classifier.N7e170f161199(i);
-        } else if (((Double) i[2]).doubleValue() > 1.5638888888888889) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7e170f161199(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.475795898437505) {
-            p = LeutheuserC45Classifier.N5fb3186d1200(i);
-        } else if (((Double) i[7]).doubleValue() > -0.475795898437505) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5fb3186d1200(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 265392.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 265392.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N155bdf521201(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.3536865234375002) {
-            p = LeutheuserC45Classifier.N5282c4751202(i);
-        } else if (((Double) i[8]).doubleValue() > 1.3536865234375002) {
-            p = LeutheuserC45Classifier.Ncd5570e1209(i);
-        }
-        return p;
-    }
-
-    static double N5282c4751202(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.5638281249999897) {
-            p = LeutheuserC45Classifier.N142b1e8c1203(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5638281249999897) {
-            p = LeutheuserC45Classifier.N5c93367d1206(i);
-        }
-        return p;
-    }
-
-    static double N142b1e8c1203(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.945) {
-            p = LeutheuserC45Classifier.N531c0c141204(i);
-        } else if (((Double) i[1]).doubleValue() > 1.945) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N531c0c141204(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.585) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.585) {
-            p = LeutheuserC45Classifier.N1876f86a1205(i);
-        }
-        return p;
-    }
-
-    static double N1876f86a1205(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.371772132059991) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > -0.371772132059991) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5c93367d1206(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.37222222222222223) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.37222222222222223) {
-            p = LeutheuserC45Classifier.N10809c1d1207(i);
-        }
-        return p;
-    }
-
-    static double N10809c1d1207(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7277777777777777) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.7277777777777777) {
-            p = LeutheuserC45Classifier.N23cf5eb51208(i);
-        }
-        return p;
-    }
-
-    static double N23cf5eb51208(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.018177566002115203) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.018177566002115203) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Ncd5570e1209(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.8819543506856035) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.8819543506856035) {
-            p = LeutheuserC45Classifier.N4930a8371210(i);
-        }
-        return p;
-    }
-
-    static double N4930a8371210(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.4787011718749774) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.4787011718749774) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5dc4a5781211(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 10.908950450983003) {
-            p = LeutheuserC45Classifier.N42762831212(i);
-        } else if (((Double) i[13]).doubleValue() > 10.908950450983003) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N42762831212(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.55) {
-            p = LeutheuserC45Classifier.N22ec382e1213(i);
-        } else if (((Double) i[4]).doubleValue() > 2.55) {
-            p = LeutheuserC45Classifier.N6ed15d541214(i);
-        }
-        return p;
-    }
-
-    static double N22ec382e1213(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8305555555555556) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.8305555555555556) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6ed15d541214(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.62) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.62) {
-            p = LeutheuserC45Classifier.N1646da931215(i);
-        }
-        return p;
-    }
-
-    static double N1646da931215(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.95) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.95) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N29ca91a21216(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 599065.0) {
-            p = LeutheuserC45Classifier.N6aa4e1fd1217(i);
-        } else if (((Double) i[0]).doubleValue() > 599065.0) {
-            p = LeutheuserC45Classifier.N56dee59b1242(i);
-        }
-        return p;
-    }
-
-    static double N6aa4e1fd1217(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.36666666666666664) {
-            p = LeutheuserC45Classifier.Ne7b3a001218(i);
-        } else if (((Double) i[5]).doubleValue() > 0.36666666666666664) {
-            p = LeutheuserC45Classifier.N5d8dd03c1240(i);
-        }
-        return p;
-    }
-
-    static double Ne7b3a001218(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.7138888888888889) {
-            p = LeutheuserC45Classifier.N2ec9eb1e1219(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7138888888888889) {
-            p = LeutheuserC45Classifier.N496902861222(i);
-        }
-        return p;
-    }
-
-    static double N2ec9eb1e1219(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 0.0) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 0.0) {
-            p = LeutheuserC45Classifier.N537328e41220(i);
-        }
-        return p;
-    }
-
-    static double N537328e41220(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.78) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.78) {
-            p = LeutheuserC45Classifier.N1e15907e1221(i);
-        }
-        return p;
-    }
-
-    static double N1e15907e1221(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.035) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.035) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N496902861222(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N289991ae1223(i);
-        } else if (((Double) i[19]).doubleValue() > 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N4b19bab71237(i);
-        }
-        return p;
-    }
-
-    static double N289991ae1223(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.018646226308446315) {
-            p = LeutheuserC45Classifier.N62e7b8511224(i);
-        } else if (((Double) i[10]).doubleValue() > 0.018646226308446315) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N62e7b8511224(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 244795.0) {
-            p = LeutheuserC45Classifier.N50c352131225(i);
-        } else if (((Double) i[0]).doubleValue() > 244795.0) {
-            p = LeutheuserC45Classifier.N6ab5fb1f1228(i);
-        }
-        return p;
-    }
-
-    static double N50c352131225(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -1.105) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -1.105) {
-            p = LeutheuserC45Classifier.N513f17bf1226(i);
-        }
-        return p;
-    }
-
-    static double N513f17bf1226(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.23539550781248492) {
-            p = LeutheuserC45Classifier.N354ff8d71227(i);
-        } else if (((Double) i[7]).doubleValue() > -0.23539550781248492) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N354ff8d71227(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 53150.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 53150.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6ab5fb1f1228(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 5.208477587343969) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 5.208477587343969) {
-            p = LeutheuserC45Classifier.N20ac6f901229(i);
-        }
-        return p;
-    }
-
-    static double N20ac6f901229(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.015554064063521219) {
-            p = LeutheuserC45Classifier.N90706d51230(i);
-        } else if (((Double) i[10]).doubleValue() > 0.015554064063521219) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N90706d51230(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.26) {
-            p = LeutheuserC45Classifier.N4344ce621231(i);
-        } else if (((Double) i[1]).doubleValue() > 0.26) {
-            p = LeutheuserC45Classifier.N6ecb8161232(i);
-        }
-        return p;
-    }
-
-    static double N4344ce621231(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.3416666666666667) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.3416666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6ecb8161232(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8638888888888889) {
-            p = LeutheuserC45Classifier.N457f87b41233(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8638888888888889) {
-            p = LeutheuserC45Classifier.N72e2c1781236(i);
-        }
-        return p;
-    }
-
-    static double N457f87b41233(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 560116.0) {
-            p = LeutheuserC45Classifier.N747f10601234(i);
-        } else if (((Double) i[0]).doubleValue() > 560116.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N747f10601234(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 469739.0) {
-            p = LeutheuserC45Classifier.N11adf7531235(i);
-        } else if (((Double) i[0]).doubleValue() > 469739.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N11adf7531235(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9299026088993241) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.9299026088993241) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N72e2c1781236(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 18.091511266546245) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 18.091511266546245) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4b19bab71237(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.165) {
-            p = LeutheuserC45Classifier.N47695fa41238(i);
-        } else if (((Double) i[1]).doubleValue() > 0.165) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N47695fa41238(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.33055555555555555) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.33055555555555555) {
-            p = LeutheuserC45Classifier.N39803f751239(i);
-        }
-        return p;
-    }
-
-    static double N39803f751239(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -0.88) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -0.88) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5d8dd03c1240(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7916666666666666) {
-            p = LeutheuserC45Classifier.N5bc705381241(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7916666666666666) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5bc705381241(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= -0.565555139002723) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > -0.565555139002723) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N56dee59b1242(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.01660619160885783) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.01660619160885783) {
-            p = LeutheuserC45Classifier.N6e9d13a21243(i);
-        }
-        return p;
-    }
-
-    static double N6e9d13a21243(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.483400826580681) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.483400826580681) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5d22327d1244(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.065) {
-            p = LeutheuserC45Classifier.N3eaf12241245(i);
-        } else if (((Double) i[1]).doubleValue() > 1.065) {
-            p = LeutheuserC45Classifier.N2306a9bc1253(i);
-        }
-        return p;
-    }
-
-    static double N3eaf12241245(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.1950000000000003) {
-            p = LeutheuserC45Classifier.N1f7cda571246(i);
-        } else if (((Double) i[4]).doubleValue() > 2.1950000000000003) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1f7cda571246(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.9408376811355591) {
-            p = LeutheuserC45Classifier.N197ada191247(i);
-        } else if (((Double) i[17]).doubleValue() > 0.9408376811355591) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N197ada191247(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7694444444444445) {
-            p = LeutheuserC45Classifier.N5587b2911248(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7694444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5587b2911248(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 10.546818883937943) {
-            p = LeutheuserC45Classifier.N13ffb4371249(i);
-        } else if (((Double) i[13]).doubleValue() > 10.546818883937943) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N13ffb4371249(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= -1.2249999999999999) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > -1.2249999999999999) {
-            p = LeutheuserC45Classifier.N6aa87a7d1250(i);
-        }
-        return p;
-    }
-
-    static double N6aa87a7d1250(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 22.752758789062568) {
-            p = LeutheuserC45Classifier.N25cddf231251(i);
-        } else if (((Double) i[6]).doubleValue() > 22.752758789062568) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N25cddf231251(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.135) {
-            p = LeutheuserC45Classifier.N4db6f2311252(i);
-        } else if (((Double) i[3]).doubleValue() > 1.135) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4db6f2311252(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.5944444444444444) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.5944444444444444) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2306a9bc1253(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.17714407123877796) {
-            p = LeutheuserC45Classifier.Nad454331254(i);
-        } else if (((Double) i[18]).doubleValue() > 0.17714407123877796) {
-            p = LeutheuserC45Classifier.N2dabe6681257(i);
-        }
-        return p;
-    }
-
-    static double Nad454331254(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7583333333333333) {
-            p = LeutheuserC45Classifier.N41aba68d1255(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7583333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N41aba68d1255(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.37282714843752984) {
-            p = LeutheuserC45Classifier.N3b76f3f31256(i);
-        } else if (((Double) i[7]).doubleValue() > -0.37282714843752984) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3b76f3f31256(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.859936779641867) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 6.859936779641867) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2dabe6681257(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.11666666666666667) {
-            p = LeutheuserC45Classifier.N5765a221258(i);
-        } else if (((Double) i[5]).doubleValue() > 0.11666666666666667) {
-            p = LeutheuserC45Classifier.N15108a691260(i);
-        }
-        return p;
-    }
-
-    static double N5765a221258(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.285) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.285) {
-            p = LeutheuserC45Classifier.N19f51bcf1259(i);
-        }
-        return p;
-    }
-
-    static double N19f51bcf1259(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.5833234137965109) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.5833234137965109) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N15108a691260(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.645) {
-            p = LeutheuserC45Classifier.N67faa6051261(i);
-        } else if (((Double) i[1]).doubleValue() > 1.645) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N67faa6051261(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.705) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.705) {
-            p = LeutheuserC45Classifier.N506a57921262(i);
-        }
-        return p;
-    }
-
-    static double N506a57921262(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.5319161322491484) {
-            p = LeutheuserC45Classifier.N617005331263(i);
-        } else if (((Double) i[17]).doubleValue() > 0.5319161322491484) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N617005331263(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.47655978721335573) {
-            p = LeutheuserC45Classifier.N702298b61264(i);
-        } else if (((Double) i[17]).doubleValue() > 0.47655978721335573) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N702298b61264(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6694444444444444) {
-            p = LeutheuserC45Classifier.N42dac2391265(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6694444444444444) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N42dac2391265(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8416666666666667) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.8416666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N408ecb371266(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.1361111111111111) {
-            p = LeutheuserC45Classifier.N21b607881267(i);
-        } else if (((Double) i[5]).doubleValue() > 0.1361111111111111) {
-            p = LeutheuserC45Classifier.N724a4b371287(i);
-        }
-        return p;
-    }
-
-    static double N21b607881267(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N45b5cc201268(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N45a15a901282(i);
-        }
-        return p;
-    }
-
-    static double N45b5cc201268(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.38) {
-            p = LeutheuserC45Classifier.N516a15a51269(i);
-        } else if (((Double) i[3]).doubleValue() > 2.38) {
-            p = LeutheuserC45Classifier.N1d2f6ccc1272(i);
-        }
-        return p;
-    }
-
-    static double N516a15a51269(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6333333333333333) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6333333333333333) {
-            p = LeutheuserC45Classifier.N678babcc1270(i);
-        }
-        return p;
-    }
-
-    static double N678babcc1270(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.615) {
-            p = LeutheuserC45Classifier.N76907af21271(i);
-        } else if (((Double) i[4]).doubleValue() > 2.615) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N76907af21271(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.12222222222222222) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.12222222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1d2f6ccc1272(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 3.495) {
-            p = LeutheuserC45Classifier.N1c6995f11273(i);
-        } else if (((Double) i[4]).doubleValue() > 3.495) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1c6995f11273(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6111111111111112) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.6111111111111112) {
-            p = LeutheuserC45Classifier.N2606987b1274(i);
-        }
-        return p;
-    }
-
-    static double N2606987b1274(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6638888888888889) {
-            p = LeutheuserC45Classifier.N53b431a31275(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6638888888888889) {
-            p = LeutheuserC45Classifier.N359b6e151276(i);
-        }
-        return p;
-    }
-
-    static double N53b431a31275(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 37.99600585937437) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 37.99600585937437) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N359b6e151276(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.2) {
-            p = LeutheuserC45Classifier.N658da34a1277(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N658da34a1277(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 288549.0) {
-            p = LeutheuserC45Classifier.N775a2ac01278(i);
-        } else if (((Double) i[0]).doubleValue() > 288549.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N775a2ac01278(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 282689.0) {
-            p = LeutheuserC45Classifier.N51134a11279(i);
-        } else if (((Double) i[0]).doubleValue() > 282689.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N51134a11279(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.17923685501802913) {
-            p = LeutheuserC45Classifier.N6b9419d01280(i);
-        } else if (((Double) i[10]).doubleValue() > 0.17923685501802913) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6b9419d01280(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.72) {
-            p = LeutheuserC45Classifier.N630b701b1281(i);
-        } else if (((Double) i[3]).doubleValue() > 2.72) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N630b701b1281(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.1612590470831509) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.1612590470831509) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N45a15a901282(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 3.5250000000000004) {
-            p = LeutheuserC45Classifier.N4999cab91283(i);
-        } else if (((Double) i[4]).doubleValue() > 3.5250000000000004) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4999cab91283(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.575) {
-            p = LeutheuserC45Classifier.N20800c31284(i);
-        } else if (((Double) i[19]).doubleValue() > 0.575) {
-            p = LeutheuserC45Classifier.N3abb33311285(i);
-        }
-        return p;
-    }
-
-    static double N20800c31284(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.2138888888888888) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 1.2138888888888888) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3abb33311285(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 41.39429687500071) {
-            p = LeutheuserC45Classifier.N75018b2c1286(i);
-        } else if (((Double) i[6]).doubleValue() > 41.39429687500071) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N75018b2c1286(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 499998.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 499998.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N724a4b371287(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.16753103620356302) {
-            p = LeutheuserC45Classifier.N308643a51288(i);
-        } else if (((Double) i[10]).doubleValue() > 0.16753103620356302) {
-            p = LeutheuserC45Classifier.N5820c8491302(i);
-        }
-        return p;
-    }
-
-    static double N308643a51288(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.625) {
-            p = LeutheuserC45Classifier.N53c7dc3f1289(i);
-        } else if (((Double) i[19]).doubleValue() > 0.625) {
-            p = LeutheuserC45Classifier.N310c91401296(i);
-        }
-        return p;
-    }
-
-    static double N53c7dc3f1289(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -1.375) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -1.375) {
-            p = LeutheuserC45Classifier.N2ae665801290(i);
-        }
-        return p;
-    }
-
-    static double N2ae665801290(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.7527777777777778) {
-            p = LeutheuserC45Classifier.Na5580181291(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7527777777777778) {
-            p = LeutheuserC45Classifier.N6587729e1293(i);
-        }
-        return p;
-    }
-
-    static double Na5580181291(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.32340460124783693) {
-            p = LeutheuserC45Classifier.N8cc619c1292(i);
-        } else if (((Double) i[15]).doubleValue() > -0.32340460124783693) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N8cc619c1292(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 347267.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 347267.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6587729e1293(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 1.295156250000108) {
-            p = LeutheuserC45Classifier.N7c54c1cb1294(i);
-        } else if (((Double) i[8]).doubleValue() > 1.295156250000108) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7c54c1cb1294(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 31.22684570312494) {
-            p = LeutheuserC45Classifier.N5a27cb191295(i);
-        } else if (((Double) i[6]).doubleValue() > 31.22684570312494) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5a27cb191295(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 315766.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 315766.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N310c91401296(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.6281445312500042) {
-            p = LeutheuserC45Classifier.N6fc1067d1297(i);
-        } else if (((Double) i[8]).doubleValue() > 1.6281445312500042) {
-            p = LeutheuserC45Classifier.N515ab2751299(i);
-        }
-        return p;
-    }
-
-    static double N6fc1067d1297(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.6930957031249958) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.6930957031249958) {
-            p = LeutheuserC45Classifier.N35c1d8d71298(i);
-        }
-        return p;
-    }
-
-    static double N35c1d8d71298(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.13917400986191858) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.13917400986191858) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N515ab2751299(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.28055555555555556) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.28055555555555556) {
-            p = LeutheuserC45Classifier.N489af8f1300(i);
-        }
-        return p;
-    }
-
-    static double N489af8f1300(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 511560.0) {
-            p = LeutheuserC45Classifier.N639cb38d1301(i);
-        } else if (((Double) i[0]).doubleValue() > 511560.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N639cb38d1301(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.39444444444444443) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.39444444444444443) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5820c8491302(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.5527777777777778) {
-            p = LeutheuserC45Classifier.N5c6d10221303(i);
-        } else if (((Double) i[19]).doubleValue() > 0.5527777777777778) {
-            p = LeutheuserC45Classifier.N13d7e01b1305(i);
-        }
-        return p;
-    }
-
-    static double N5c6d10221303(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 34.97872558593763) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 34.97872558593763) {
-            p = LeutheuserC45Classifier.N15d129f71304(i);
-        }
-        return p;
-    }
-
-    static double N15d129f71304(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.885) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.885) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N13d7e01b1305(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.2722222222222222) {
-            p = LeutheuserC45Classifier.N4deb10a81306(i);
-        } else if (((Double) i[5]).doubleValue() > 0.2722222222222222) {
-            p = LeutheuserC45Classifier.N79b3e5371307(i);
-        }
-        return p;
-    }
-
-    static double N4deb10a81306(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 3.3099999999999996) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 3.3099999999999996) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N79b3e5371307(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.8947070312500266) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.8947070312500266) {
-            p = LeutheuserC45Classifier.N6531e5671308(i);
-        }
-        return p;
-    }
-
-    static double N6531e5671308(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.3472222222222222) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.3472222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N49ca06e21309(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.21485276809729828) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > -0.21485276809729828) {
-            p = LeutheuserC45Classifier.N5c3131231310(i);
-        }
-        return p;
-    }
-
-    static double N5c3131231310(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 5.43907714843748) {
-            p = LeutheuserC45Classifier.N3a4dedcf1311(i);
-        } else if (((Double) i[6]).doubleValue() > 5.43907714843748) {
-            p = LeutheuserC45Classifier.N50bd2d3c1312(i);
-        }
-        return p;
-    }
-
-    static double N3a4dedcf1311(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.11666666666666667) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.11666666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N50bd2d3c1312(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.7262252800875793) {
-            p = LeutheuserC45Classifier.N4959dcdf1313(i);
-        } else if (((Double) i[15]).doubleValue() > 0.7262252800875793) {
-            p = LeutheuserC45Classifier.N49c2f1321315(i);
-        }
-        return p;
-    }
-
-    static double N4959dcdf1313(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.08333333333333333) {
-            p = LeutheuserC45Classifier.N1cb454fe1314(i);
-        } else if (((Double) i[5]).doubleValue() > 0.08333333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1cb454fe1314(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.6799999999999997) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 2.6799999999999997) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N49c2f1321315(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.27) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.27) {
-            p = LeutheuserC45Classifier.N702ff1fb1316(i);
-        }
-        return p;
-    }
-
-    static double N702ff1fb1316(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.08055555555555556) {
-            p = LeutheuserC45Classifier.N779774051317(i);
-        } else if (((Double) i[5]).doubleValue() > 0.08055555555555556) {
-            p = LeutheuserC45Classifier.N172feec91319(i);
-        }
-        return p;
-    }
-
-    static double N779774051317(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.53) {
-            p = LeutheuserC45Classifier.N49baddad1318(i);
-        } else if (((Double) i[1]).doubleValue() > 1.53) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N49baddad1318(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.95) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.95) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N172feec91319(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.14444444444444443) {
-            p = LeutheuserC45Classifier.N180065fe1320(i);
-        } else if (((Double) i[5]).doubleValue() > 0.14444444444444443) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N180065fe1320(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8777777777777778) {
-            p = LeutheuserC45Classifier.N547b1da71321(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8777777777777778) {
-            p = LeutheuserC45Classifier.N4b33e5301322(i);
-        }
-        return p;
-    }
-
-    static double N547b1da71321(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7799999999999998) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.7799999999999998) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4b33e5301322(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 205304.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 205304.0) {
-            p = LeutheuserC45Classifier.N230203391323(i);
-        }
-        return p;
-    }
-
-    static double N230203391323(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 309838.0) {
-            p = LeutheuserC45Classifier.N38b6ad321324(i);
-        } else if (((Double) i[0]).doubleValue() > 309838.0) {
-            p = LeutheuserC45Classifier.N606260761326(i);
-        }
-        return p;
-    }
-
-    static double N38b6ad321324(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.62) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.62) {
-            p = LeutheuserC45Classifier.N342c19a61325(i);
-        }
-        return p;
-    }
-
-    static double N342c19a61325(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 1.2062939453124975) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 1.2062939453124975) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N606260761326(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.4194444444444445) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.4194444444444445) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N53cabc881327(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 17.272373046874478) {
-            p = LeutheuserC45Classifier.N5e9844fe1328(i);
-        } else if (((Double) i[6]).doubleValue() > 17.272373046874478) {
-            p = LeutheuserC45Classifier.N1a31509e1345(i);
-        }
-        return p;
-    }
-
-    static double N5e9844fe1328(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.261111111111111) {
-            p = LeutheuserC45Classifier.Na2d87a21329(i);
-        } else if (((Double) i[19]).doubleValue() > 1.261111111111111) {
-            p = LeutheuserC45Classifier.N1c595531336(i);
-        }
-        return p;
-    }
-
-    static double Na2d87a21329(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.245) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.245) {
-            p = LeutheuserC45Classifier.N793f37411330(i);
-        }
-        return p;
-    }
-
-    static double N793f37411330(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.1194444444444445) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 1.1194444444444445) {
-            p = LeutheuserC45Classifier.N7f97ea121331(i);
-        }
-        return p;
-    }
-
-    static double N7f97ea121331(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.01614759563580201) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.01614759563580201) {
-            p = LeutheuserC45Classifier.N63b4feaa1332(i);
-        }
-        return p;
-    }
-
-    static double N63b4feaa1332(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.0258496093751086) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 1.0258496093751086) {
-            p = LeutheuserC45Classifier.N5c275e91333(i);
-        }
-        return p;
-    }
-
-    static double N5c275e91333(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6194444444444445) {
-            p = LeutheuserC45Classifier.N5c7cf2f1334(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6194444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5c7cf2f1334(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.5611111111111111) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.5611111111111111) {
-            p = LeutheuserC45Classifier.N454062ff1335(i);
-        }
-        return p;
-    }
-
-    static double N454062ff1335(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 79329.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 79329.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1c595531336(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.8611111111111112) {
-            p = LeutheuserC45Classifier.N17bec5bf1337(i);
-        } else if (((Double) i[2]).doubleValue() > 1.8611111111111112) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N17bec5bf1337(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= -0.3395482589336315) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > -0.3395482589336315) {
-            p = LeutheuserC45Classifier.N2cbbced01338(i);
-        }
-        return p;
-    }
-
-    static double N2cbbced01338(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.16673339843750834) {
-            p = LeutheuserC45Classifier.N6a2a16221339(i);
-        } else if (((Double) i[8]).doubleValue() > 0.16673339843750834) {
-            p = LeutheuserC45Classifier.N476879391340(i);
-        }
-        return p;
-    }
-
-    static double N6a2a16221339(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 1.0305555555555554) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 1.0305555555555554) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N476879391340(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.6166666666666667) {
-            p = LeutheuserC45Classifier.N261adf561341(i);
-        } else if (((Double) i[19]).doubleValue() > 1.6166666666666667) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N261adf561341(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.4416666666666667) {
-            p = LeutheuserC45Classifier.N54a5480b1342(i);
-        } else if (((Double) i[19]).doubleValue() > 1.4416666666666667) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N54a5480b1342(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 1.759561408231639) {
-            p = LeutheuserC45Classifier.N6e04cfbb1343(i);
-        } else if (((Double) i[12]).doubleValue() > 1.759561408231639) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6e04cfbb1343(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3907373046875252) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.3907373046875252) {
-            p = LeutheuserC45Classifier.N6aa1c2f31344(i);
-        }
-        return p;
-    }
-
-    static double N6aa1c2f31344(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.008405970748037507) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.008405970748037507) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1a31509e1345(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.25833333333333336) {
-            p = LeutheuserC45Classifier.N642ab6c31346(i);
-        } else if (((Double) i[5]).doubleValue() > 0.25833333333333336) {
-            p = LeutheuserC45Classifier.Na2aca071372(i);
-        }
-        return p;
-    }
-
-    static double N642ab6c31346(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 0.85) {
-            p = LeutheuserC45Classifier.N2c9bd4ea1347(i);
-        } else if (((Double) i[4]).doubleValue() > 0.85) {
-            p = LeutheuserC45Classifier.N73c8670a1356(i);
-        }
-        return p;
-    }
-
-    static double N2c9bd4ea1347(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9972222222222222) {
-            p = LeutheuserC45Classifier.N48c92dd01348(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9972222222222222) {
-            p = LeutheuserC45Classifier.N586c31f71349(i);
-        }
-        return p;
-    }
-
-    static double N48c92dd01348(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= -0.615) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > -0.615) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N586c31f71349(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= -0.07279391375965583) {
-            p = LeutheuserC45Classifier.N69c108971350(i);
-        } else if (((Double) i[15]).doubleValue() > -0.07279391375965583) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N69c108971350(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.6666666666666666) {
-            p = LeutheuserC45Classifier.N1b8fbdc11351(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6666666666666666) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1b8fbdc11351(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.49590332031252765) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.49590332031252765) {
-            p = LeutheuserC45Classifier.N1a29b4cd1352(i);
-        }
-        return p;
-    }
-
-    static double N1a29b4cd1352(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 347047.0) {
-            p = LeutheuserC45Classifier.N23f3ddf61353(i);
-        } else if (((Double) i[0]).doubleValue() > 347047.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N23f3ddf61353(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= 1.7172226864785831) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() > 1.7172226864785831) {
-            p = LeutheuserC45Classifier.N4217ecaf1354(i);
-        }
-        return p;
-    }
-
-    static double N4217ecaf1354(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6027777777777777) {
-            p = LeutheuserC45Classifier.N241030991355(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6027777777777777) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N241030991355(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 1.0797265624999912) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 1.0797265624999912) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N73c8670a1356(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.6805555555555556) {
-            p = LeutheuserC45Classifier.N4e6918e81357(i);
-        } else if (((Double) i[19]).doubleValue() > 0.6805555555555556) {
-            p = LeutheuserC45Classifier.N24e577981362(i);
-        }
-        return p;
-    }
-
-    static double N4e6918e81357(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7999999999999998) {
-            p = LeutheuserC45Classifier.N33e6e71e1358(i);
-        } else if (((Double) i[3]).doubleValue() > 1.7999999999999998) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N33e6e71e1358(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.08955995965259071) {
-            p = LeutheuserC45Classifier.N16d78d031359(i);
-        } else if (((Double) i[10]).doubleValue() > 0.08955995965259071) {
-            p = LeutheuserC45Classifier.N203fba961361(i);
-        }
-        return p;
-    }
-
-    static double N16d78d031359(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.7980419921875378) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.7980419921875378) {
-            p = LeutheuserC45Classifier.N261758e41360(i);
-        }
-        return p;
-    }
-
-    static double N261758e41360(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 11.5388292152212) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 11.5388292152212) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N203fba961361(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.10833333333333334) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.10833333333333334) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N24e577981362(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.7) {
-            p = LeutheuserC45Classifier.Ne7059921363(i);
-        } else if (((Double) i[19]).doubleValue() > 1.7) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Ne7059921363(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 523949.0) {
-            p = LeutheuserC45Classifier.N12bcf0c01364(i);
-        } else if (((Double) i[0]).doubleValue() > 523949.0) {
-            p = LeutheuserC45Classifier.N26ae045c1369(i);
-        }
-        return p;
-    }
-
-    static double N12bcf0c01364(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 1.136111111111111) {
-            p = LeutheuserC45Classifier.N4f8a130b1365(i);
-        } else if (((Double) i[2]).doubleValue() > 1.136111111111111) {
-            p = LeutheuserC45Classifier.N39234a381368(i);
-        }
-        return p;
-    }
-
-    static double N4f8a130b1365(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 9.23352508301054) {
-            p = LeutheuserC45Classifier.N40dce4d51366(i);
-        } else if (((Double) i[13]).doubleValue() > 9.23352508301054) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N40dce4d51366(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6055555555555555) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6055555555555555) {
-            p = LeutheuserC45Classifier.N4cec89951367(i);
-        }
-        return p;
-    }
-
-    static double N4cec89951367(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6222222222222222) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.6222222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N39234a381368(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.386111111111111) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.386111111111111) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N26ae045c1369(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 1.4737306355679896) {
-            p = LeutheuserC45Classifier.N173b6101370(i);
-        } else if (((Double) i[17]).doubleValue() > 1.4737306355679896) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N173b6101370(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.12) {
-            p = LeutheuserC45Classifier.N29fb378a1371(i);
-        } else if (((Double) i[3]).doubleValue() > 2.12) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N29fb378a1371(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 542314.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 542314.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Na2aca071372(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.9384817592234985) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() > 0.9384817592234985) {
-            p = LeutheuserC45Classifier.N5cf0b3fa1373(i);
-        }
-        return p;
-    }
-
-    static double N5cf0b3fa1373(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.275) {
-            p = LeutheuserC45Classifier.N40af5d421374(i);
-        } else if (((Double) i[4]).doubleValue() > 2.275) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N40af5d421374(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.28888888888888886) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.28888888888888886) {
-            p = LeutheuserC45Classifier.N301875ba1375(i);
-        }
-        return p;
-    }
-
-    static double N301875ba1375(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.7461083984375247) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.7461083984375247) {
-            p = LeutheuserC45Classifier.N6cbeeb4c1376(i);
-        }
-        return p;
-    }
-
-    static double N6cbeeb4c1376(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.5689062499999875) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() > -0.5689062499999875) {
-            p = LeutheuserC45Classifier.N3588ea421377(i);
-        }
-        return p;
-    }
-
-    static double N3588ea421377(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 1.7316742966234229) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() > 1.7316742966234229) {
-            p = LeutheuserC45Classifier.Nff7e4fc1378(i);
-        }
-        return p;
-    }
-
-    static double Nff7e4fc1378(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 440910.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 440910.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7c31f51d1379(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.625) {
-            p = LeutheuserC45Classifier.N674e955c1380(i);
-        } else if (((Double) i[19]).doubleValue() > 0.625) {
-            p = LeutheuserC45Classifier.N3deeca21401(i);
-        }
-        return p;
-    }
-
-    static double N674e955c1380(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.8427832031250112) {
-            p = LeutheuserC45Classifier.N15e6a90d1381(i);
-        } else if (((Double) i[8]).doubleValue() > 0.8427832031250112) {
-            p = LeutheuserC45Classifier.N1d8425d31394(i);
-        }
-        return p;
-    }
-
-    static double N15e6a90d1381(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.015694032866365178) {
-            p = LeutheuserC45Classifier.N25866f491382(i);
-        } else if (((Double) i[9]).doubleValue() > 0.015694032866365178) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N25866f491382(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.435) {
-            p = LeutheuserC45Classifier.N56eceff91383(i);
-        } else if (((Double) i[3]).doubleValue() > 1.435) {
-            p = LeutheuserC45Classifier.N60cd06471393(i);
-        }
-        return p;
-    }
-
-    static double N56eceff91383(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 595384.0) {
-            p = LeutheuserC45Classifier.N459b640d1384(i);
-        } else if (((Double) i[0]).doubleValue() > 595384.0) {
-            p = LeutheuserC45Classifier.N2f800e831392(i);
-        }
-        return p;
-    }
-
-    static double N459b640d1384(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.06) {
-            p = LeutheuserC45Classifier.N659503721385(i);
-        } else if (((Double) i[3]).doubleValue() > 1.06) {
-            p = LeutheuserC45Classifier.N425d6e1f1387(i);
-        }
-        return p;
-    }
-
-    static double N659503721385(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 13.554072265625239) {
-            p = LeutheuserC45Classifier.N737fc4ae1386(i);
-        } else if (((Double) i[6]).doubleValue() > 13.554072265625239) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N737fc4ae1386(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.0016872306035488143) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.0016872306035488143) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N425d6e1f1387(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.14444444444444443) {
-            p = LeutheuserC45Classifier.N5c78d1551388(i);
-        } else if (((Double) i[5]).doubleValue() > 0.14444444444444443) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5c78d1551388(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7333333333333333) {
-            p = LeutheuserC45Classifier.N11bbd73b1389(i);
-        } else if (((Double) i[2]).doubleValue() > 0.7333333333333333) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N11bbd73b1389(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 118217.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 118217.0) {
-            p = LeutheuserC45Classifier.N1cec2b161390(i);
-        }
-        return p;
-    }
-
-    static double N1cec2b161390(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.7501074218749971) {
-            p = LeutheuserC45Classifier.N356883021391(i);
-        } else if (((Double) i[8]).doubleValue() > 0.7501074218749971) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N356883021391(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.06944444444444445) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.06944444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2f800e831392(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 6.578930054117743) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 6.578930054117743) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N60cd06471393(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.9472222222222222) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.9472222222222222) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1d8425d31394(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.52) {
-            p = LeutheuserC45Classifier.N6c85d5f21395(i);
-        } else if (((Double) i[3]).doubleValue() > 2.52) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6c85d5f21395(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.6194444444444445) {
-            p = LeutheuserC45Classifier.N435e2af71396(i);
-        } else if (((Double) i[2]).doubleValue() > 0.6194444444444445) {
-            p = LeutheuserC45Classifier.N76c11711400(i);
-        }
-        return p;
-    }
-
-    static double N435e2af71396(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.4305555555555556) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.4305555555555556) {
-            p = LeutheuserC45Classifier.N4ba9f3e51397(i);
-        }
-        return p;
-    }
-
-    static double N4ba9f3e51397(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.30277777777777776) {
-            p = LeutheuserC45Classifier.N77bffdfe1398(i);
-        } else if (((Double) i[5]).doubleValue() > 0.30277777777777776) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N77bffdfe1398(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 11.872895507812427) {
-            p = LeutheuserC45Classifier.N35579cbe1399(i);
-        } else if (((Double) i[6]).doubleValue() > 11.872895507812427) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N35579cbe1399(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.5611111111111111) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.5611111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N76c11711400(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.905) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.905) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3deeca21401(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.275) {
-            p = LeutheuserC45Classifier.Nb06b12a1402(i);
-        } else if (((Double) i[19]).doubleValue() > 1.275) {
-            p = LeutheuserC45Classifier.Nc7733ba1559(i);
-        }
-        return p;
-    }
-
-    static double Nb06b12a1402(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.11388888888888889) {
-            p = LeutheuserC45Classifier.N2bd7e981403(i);
-        } else if (((Double) i[5]).doubleValue() > 0.11388888888888889) {
-            p = LeutheuserC45Classifier.N3529fa111452(i);
-        }
-        return p;
-    }
-
-    static double N2bd7e981403(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.005820884967674757) {
-            p = LeutheuserC45Classifier.N65bd10271404(i);
-        } else if (((Double) i[9]).doubleValue() > 0.005820884967674757) {
-            p = LeutheuserC45Classifier.N150e0e451419(i);
-        }
-        return p;
-    }
-
-    static double N65bd10271404(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.5543798828125249) {
-            p = LeutheuserC45Classifier.N11f25bce1405(i);
-        } else if (((Double) i[7]).doubleValue() > -0.5543798828125249) {
-            p = LeutheuserC45Classifier.N487dd7b91409(i);
-        }
-        return p;
-    }
-
-    static double N11f25bce1405(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.033786806303884476) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.033786806303884476) {
-            p = LeutheuserC45Classifier.N2fc3273b1406(i);
-        }
-        return p;
-    }
-
-    static double N2fc3273b1406(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 14.714721679687504) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 14.714721679687504) {
-            p = LeutheuserC45Classifier.N46e3d5e51407(i);
-        }
-        return p;
-    }
-
-    static double N46e3d5e51407(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.995940676681026) {
-            p = LeutheuserC45Classifier.N4b52c9361408(i);
-        } else if (((Double) i[16]).doubleValue() > 0.995940676681026) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4b52c9361408(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 286232.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 286232.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N487dd7b91409(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8583333333333333) {
-            p = LeutheuserC45Classifier.N7eb1cb721410(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8583333333333333) {
-            p = LeutheuserC45Classifier.N2d9f79741414(i);
-        }
-        return p;
-    }
-
-    static double N7eb1cb721410(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.3442138671874985) {
-            p = LeutheuserC45Classifier.N26a565bc1411(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3442138671874985) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N26a565bc1411(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.15154135159636714) {
-            p = LeutheuserC45Classifier.N7be313271412(i);
-        } else if (((Double) i[18]).doubleValue() > 0.15154135159636714) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7be313271412(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3832812500000371) {
-            p = LeutheuserC45Classifier.N5d05d3fd1413(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3832812500000371) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5d05d3fd1413(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.54) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.54) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N2d9f79741414(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 1;
-        } else if (((Double) i[12]).doubleValue() <= -3.2237453460061096) {
-            p = LeutheuserC45Classifier.N209a61fe1415(i);
-        } else if (((Double) i[12]).doubleValue() > -3.2237453460061096) {
-            p = LeutheuserC45Classifier.N430334e11416(i);
-        }
-        return p;
-    }
-
-    static double N209a61fe1415(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.08888888888888889) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.08888888888888889) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N430334e11416(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.9204736328124834) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.9204736328124834) {
-            p = LeutheuserC45Classifier.N306a8d471417(i);
-        }
-        return p;
-    }
-
-    static double N306a8d471417(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.0277777777777777) {
-            p = LeutheuserC45Classifier.N666806e71418(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0277777777777777) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N666806e71418(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.65) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.65) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N150e0e451419(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.9777777777777777) {
-            p = LeutheuserC45Classifier.N4f7084391420(i);
-        } else if (((Double) i[19]).doubleValue() > 0.9777777777777777) {
-            p = LeutheuserC45Classifier.N5ef9f6c91446(i);
-        }
-        return p;
-    }
-
-    static double N4f7084391420(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3984423828124964) {
-            p = LeutheuserC45Classifier.N2b1438251421(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3984423828124964) {
-            p = LeutheuserC45Classifier.N236e073b1424(i);
-        }
-        return p;
-    }
-
-    static double N2b1438251421(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 8.654490471243978) {
-            p = LeutheuserC45Classifier.Nd6d5c9e1422(i);
-        } else if (((Double) i[13]).doubleValue() > 8.654490471243978) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nd6d5c9e1422(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7722222222222223) {
-            p = LeutheuserC45Classifier.N68f407501423(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7722222222222223) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N68f407501423(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8861111111111111) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.8861111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N236e073b1424(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.027852774784502498) {
-            p = LeutheuserC45Classifier.N2931c6631425(i);
-        } else if (((Double) i[9]).doubleValue() > 0.027852774784502498) {
-            p = LeutheuserC45Classifier.N624992361445(i);
-        }
-        return p;
-    }
-
-    static double N2931c6631425(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.83) {
-            p = LeutheuserC45Classifier.N4edff6771426(i);
-        } else if (((Double) i[3]).doubleValue() > 1.83) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4edff6771426(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 13.874853515622702) {
-            p = LeutheuserC45Classifier.N659a67b1427(i);
-        } else if (((Double) i[6]).doubleValue() > 13.874853515622702) {
-            p = LeutheuserC45Classifier.N69900f911441(i);
-        }
-        return p;
-    }
-
-    static double N659a67b1427(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N555d3e541428(i);
-        } else if (((Double) i[19]).doubleValue() > 0.8805555555555555) {
-            p = LeutheuserC45Classifier.N49c12cb31436(i);
-        }
-        return p;
-    }
-
-    static double N555d3e541428(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.34) {
-            p = LeutheuserC45Classifier.N7278f8421429(i);
-        } else if (((Double) i[1]).doubleValue() > 1.34) {
-            p = LeutheuserC45Classifier.N3497e89f1432(i);
-        }
-        return p;
-    }
-
-    static double N7278f8421429(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8138888888888889) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() > 0.8138888888888889) {
-            p = LeutheuserC45Classifier.N4325c4341430(i);
-        }
-        return p;
-    }
-
-    static double N4325c4341430(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.865) {
-            p = LeutheuserC45Classifier.N804c8551431(i);
-        } else if (((Double) i[1]).doubleValue() > 0.865) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N804c8551431(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9751001067141026) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9751001067141026) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3497e89f1432(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() <= 10.77308593749949) {
-            p = 1;
-        } else if (((Double) i[6]).doubleValue() > 10.77308593749949) {
-            p = LeutheuserC45Classifier.N118aca71433(i);
-        }
-        return p;
-    }
-
-    static double N118aca71433(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.35) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.35) {
-            p = LeutheuserC45Classifier.N6cf1dcd41434(i);
-        }
-        return p;
-    }
-
-    static double N6cf1dcd41434(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.8399999999999999) {
-            p = LeutheuserC45Classifier.N4219f77f1435(i);
-        } else if (((Double) i[4]).doubleValue() > 1.8399999999999999) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4219f77f1435(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() <= 0.043032706065659704) {
-            p = 1;
-        } else if (((Double) i[10]).doubleValue() > 0.043032706065659704) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N49c12cb31436(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.011698309536620691) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.011698309536620691) {
-            p = LeutheuserC45Classifier.Ndf8dcb81437(i);
-        }
-        return p;
-    }
-
-    static double Ndf8dcb81437(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() <= 0.9880182987616779) {
-            p = 1;
-        } else if (((Double) i[16]).doubleValue() > 0.9880182987616779) {
-            p = LeutheuserC45Classifier.N6f0da6af1438(i);
-        }
-        return p;
-    }
-
-    static double N6f0da6af1438(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.04560114649610265) {
-            p = LeutheuserC45Classifier.N62a2063e1439(i);
-        } else if (((Double) i[10]).doubleValue() > 0.04560114649610265) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N62a2063e1439(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.1617675781250538) {
-            p = LeutheuserC45Classifier.N22c61a6d1440(i);
-        } else if (((Double) i[8]).doubleValue() > 1.1617675781250538) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N22c61a6d1440(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.20010639830647695) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.20010639830647695) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N69900f911441(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 0;
-        } else if (((Double) i[7]).doubleValue() <= -0.3492041015624868) {
-            p = LeutheuserC45Classifier.N6baaf4d21442(i);
-        } else if (((Double) i[7]).doubleValue() > -0.3492041015624868) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6baaf4d21442(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7349999999999999) {
-            p = LeutheuserC45Classifier.N194b8c6f1443(i);
-        } else if (((Double) i[3]).doubleValue() > 1.7349999999999999) {
-            p = LeutheuserC45Classifier.Nbccf8591444(i);
-        }
-        return p;
-    }
-
-    static double N194b8c6f1443(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.68) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 1.68) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nbccf8591444(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() <= 0.021842985751766814) {
-            p = 1;
-        } else if (((Double) i[17]).doubleValue() > 0.021842985751766814) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N624992361445(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7472222222222222) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.7472222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5ef9f6c91446(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.9805555555555555) {
-            p = LeutheuserC45Classifier.N1b14318d1447(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9805555555555555) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1b14318d1447(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.0166666666666666) {
-            p = LeutheuserC45Classifier.N77760c861448(i);
-        } else if (((Double) i[19]).doubleValue() > 1.0166666666666666) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N77760c861448(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 2.24) {
-            p = LeutheuserC45Classifier.N5980f87c1449(i);
-        } else if (((Double) i[3]).doubleValue() > 2.24) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5980f87c1449(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.1) {
-            p = LeutheuserC45Classifier.N48de023b1450(i);
-        } else if (((Double) i[5]).doubleValue() > 0.1) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N48de023b1450(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.014362169989214711) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.014362169989214711) {
-            p = LeutheuserC45Classifier.N72fccaf41451(i);
-        }
-        return p;
-    }
-
-    static double N72fccaf41451(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 162643.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 162643.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3529fa111452(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 9.886379281803018) {
-            p = LeutheuserC45Classifier.N6b34a7d01453(i);
-        } else if (((Double) i[13]).doubleValue() > 9.886379281803018) {
-            p = LeutheuserC45Classifier.N3bf45afd1481(i);
-        }
-        return p;
-    }
-
-    static double N6b34a7d01453(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.920185883576316) {
-            p = LeutheuserC45Classifier.N5343bf571454(i);
-        } else if (((Double) i[12]).doubleValue() > 2.920185883576316) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5343bf571454(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 21.236811523437474) {
-            p = LeutheuserC45Classifier.N47fc64a11455(i);
-        } else if (((Double) i[6]).doubleValue() > 21.236811523437474) {
-            p = LeutheuserC45Classifier.N55743edd1479(i);
-        }
-        return p;
-    }
-
-    static double N47fc64a11455(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 7.102839050069239) {
-            p = LeutheuserC45Classifier.N3d7ff73d1456(i);
-        } else if (((Double) i[13]).doubleValue() > 7.102839050069239) {
-            p = LeutheuserC45Classifier.N5bb515321460(i);
-        }
-        return p;
-    }
-
-    static double N3d7ff73d1456(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7444444444444445) {
-            p = LeutheuserC45Classifier.N73bbcd651457(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7444444444444445) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N73bbcd651457(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.775) {
-            p = LeutheuserC45Classifier.N3dcc7d421458(i);
-        } else if (((Double) i[2]).doubleValue() > 0.775) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N3dcc7d421458(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.9249999999999998) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.9249999999999998) {
-            p = LeutheuserC45Classifier.N1931df361459(i);
-        }
-        return p;
-    }
-
-    static double N1931df361459(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 284359.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 284359.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5bb515321460(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.27072234695461916) {
-            p = LeutheuserC45Classifier.N76c83bc41461(i);
-        } else if (((Double) i[18]).doubleValue() > 0.27072234695461916) {
-            p = LeutheuserC45Classifier.N3c3b2b821478(i);
-        }
-        return p;
-    }
-
-    static double N76c83bc41461(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.75) {
-            p = LeutheuserC45Classifier.N28307e321462(i);
-        } else if (((Double) i[19]).doubleValue() > 0.75) {
-            p = LeutheuserC45Classifier.N2ebaa2e81469(i);
-        }
-        return p;
-    }
-
-    static double N28307e321462(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.030870936918555452) {
-            p = LeutheuserC45Classifier.N3fefcc6d1463(i);
-        } else if (((Double) i[10]).doubleValue() > 0.030870936918555452) {
-            p = LeutheuserC45Classifier.N4c8042271464(i);
-        }
-        return p;
-    }
-
-    static double N3fefcc6d1463(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.56) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.56) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4c8042271464(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.08031634372240501) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.08031634372240501) {
-            p = LeutheuserC45Classifier.N7ba156681465(i);
-        }
-        return p;
-    }
-
-    static double N7ba156681465(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7305555555555555) {
-            p = LeutheuserC45Classifier.N504b66c01466(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7305555555555555) {
-            p = LeutheuserC45Classifier.N5f59bd7d1468(i);
-        }
-        return p;
-    }
-
-    static double N504b66c01466(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.033355670797394356) {
-            p = LeutheuserC45Classifier.N110654001467(i);
-        } else if (((Double) i[9]).doubleValue() > 0.033355670797394356) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N110654001467(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9905071005172292) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.9905071005172292) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N5f59bd7d1468(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 17.66772460937496) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 17.66772460937496) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2ebaa2e81469(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.0051494140625430495) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.0051494140625430495) {
-            p = LeutheuserC45Classifier.N254cbc991470(i);
-        }
-        return p;
-    }
-
-    static double N254cbc991470(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.7916666666666666) {
-            p = LeutheuserC45Classifier.N6c95a641471(i);
-        } else if (((Double) i[19]).doubleValue() > 0.7916666666666666) {
-            p = LeutheuserC45Classifier.N3a5d580c1476(i);
-        }
-        return p;
-    }
-
-    static double N6c95a641471(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.8111111111111111) {
-            p = LeutheuserC45Classifier.N1469ad951472(i);
-        } else if (((Double) i[2]).doubleValue() > 0.8111111111111111) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N1469ad951472(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 287164.0) {
-            p = LeutheuserC45Classifier.N6f3ff0121473(i);
-        } else if (((Double) i[0]).doubleValue() > 287164.0) {
-            p = LeutheuserC45Classifier.N2f5721181474(i);
-        }
-        return p;
-    }
-
-    static double N6f3ff0121473(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 9.134808095404754) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() > 9.134808095404754) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2f5721181474(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9934752400197809) {
-            p = LeutheuserC45Classifier.N638154ec1475(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9934752400197809) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N638154ec1475(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.742460937500043) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.742460937500043) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3a5d580c1476(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9681420395780794) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9681420395780794) {
-            p = LeutheuserC45Classifier.N2a7290351477(i);
-        }
-        return p;
-    }
-
-    static double N2a7290351477(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.225) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.225) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3c3b2b821478(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.605) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 0.605) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N55743edd1479(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 515691.0) {
-            p = LeutheuserC45Classifier.N5b991471480(i);
-        } else if (((Double) i[0]).doubleValue() > 515691.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N5b991471480(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9949851417024238) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.9949851417024238) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3bf45afd1481(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 0.26) {
-            p = LeutheuserC45Classifier.N5e76113a1482(i);
-        } else if (((Double) i[1]).doubleValue() > 0.26) {
-            p = LeutheuserC45Classifier.N6eb0ba091490(i);
-        }
-        return p;
-    }
-
-    static double N5e76113a1482(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= -2.575) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > -2.575) {
-            p = LeutheuserC45Classifier.N2a004eff1483(i);
-        }
-        return p;
-    }
-
-    static double N2a004eff1483(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.007405879579748638) {
-            p = LeutheuserC45Classifier.N63fac1511484(i);
-        } else if (((Double) i[9]).doubleValue() > 0.007405879579748638) {
-            p = LeutheuserC45Classifier.N3c0ebe111487(i);
-        }
-        return p;
-    }
-
-    static double N63fac1511484(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.95) {
-            p = LeutheuserC45Classifier.N7ac05c611485(i);
-        } else if (((Double) i[2]).doubleValue() > 0.95) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N7ac05c611485(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= -2.11) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > -2.11) {
-            p = LeutheuserC45Classifier.N14d16dc21486(i);
-        }
-        return p;
-    }
-
-    static double N14d16dc21486(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 0.155) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 0.155) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3c0ebe111487(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9846621442920465) {
-            p = LeutheuserC45Classifier.N94b00881488(i);
-        } else if (((Double) i[16]).doubleValue() > 0.9846621442920465) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N94b00881488(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9839972286863203) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.9839972286863203) {
-            p = LeutheuserC45Classifier.N711066941489(i);
-        }
-        return p;
-    }
-
-    static double N711066941489(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 202195.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 202195.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N6eb0ba091490(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.2999999999999998) {
-            p = LeutheuserC45Classifier.N27076ff81491(i);
-        } else if (((Double) i[3]).doubleValue() > 1.2999999999999998) {
-            p = LeutheuserC45Classifier.N794765a41506(i);
-        }
-        return p;
-    }
-
-    static double N27076ff81491(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 1;
-        } else if (((Double) i[18]).doubleValue() <= 0.3603497718053161) {
-            p = LeutheuserC45Classifier.N769974d01492(i);
-        } else if (((Double) i[18]).doubleValue() > 0.3603497718053161) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N769974d01492(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 612182.0) {
-            p = LeutheuserC45Classifier.N4cf98511493(i);
-        } else if (((Double) i[0]).doubleValue() > 612182.0) {
-            p = LeutheuserC45Classifier.N339eb2e01505(i);
-        }
-        return p;
-    }
-
-    static double N4cf98511493(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.144040004031105) {
-            p = LeutheuserC45Classifier.N6fc40a331494(i);
-        } else if (((Double) i[13]).doubleValue() > 12.144040004031105) {
-            p = LeutheuserC45Classifier.N790d10321498(i);
-        }
-        return p;
-    }
-
-    static double N6fc40a331494(Object[] i) {
-        double p = Double.NaN;
-        if (i[14] == null) {
-            p = 1;
-        } else if (((Double) i[14]).doubleValue() <= 1.7957007592439675) {
-            p = LeutheuserC45Classifier.N7320d09c1495(i);
-        } else if (((Double) i[14]).doubleValue() > 1.7957007592439675) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N7320d09c1495(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.2777777777777778) {
-            p = LeutheuserC45Classifier.N4ea205dc1496(i);
-        } else if (((Double) i[5]).doubleValue() > 0.2777777777777778) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4ea205dc1496(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.125) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() > 0.125) {
-            p = LeutheuserC45Classifier.N36d711491497(i);
-        }
-        return p;
-    }
-
-    static double N36d711491497(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 0.5087304687499896) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() > 0.5087304687499896) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N790d10321498(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.3238476562500397) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.3238476562500397) {
-            p = LeutheuserC45Classifier.Nc5c8bbf1499(i);
-        }
-        return p;
-    }
-
-    static double Nc5c8bbf1499(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.0169058795797413) {
-            p = LeutheuserC45Classifier.N528ef30d1500(i);
-        } else if (((Double) i[9]).doubleValue() > 0.0169058795797413) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N528ef30d1500(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.16666666666666666) {
-            p = LeutheuserC45Classifier.N5c5ded4c1501(i);
-        } else if (((Double) i[5]).doubleValue() > 0.16666666666666666) {
-            p = LeutheuserC45Classifier.N25a991011503(i);
-        }
-        return p;
-    }
-
-    static double N5c5ded4c1501(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.7659472656249853) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.7659472656249853) {
-            p = LeutheuserC45Classifier.N4dc0ea751502(i);
-        }
-        return p;
-    }
-
-    static double N4dc0ea751502(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.775) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.775) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N25a991011503(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.004208075161707047) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.004208075161707047) {
-            p = LeutheuserC45Classifier.N1a18221504(i);
-        }
-        return p;
-    }
-
-    static double N1a18221504(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 0.95) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() > 0.95) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N339eb2e01505(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.065) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() > 1.065) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N794765a41506(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.3) {
-            p = LeutheuserC45Classifier.N100fd2141507(i);
-        } else if (((Double) i[5]).doubleValue() > 0.3) {
-            p = LeutheuserC45Classifier.N51fe3b8c1557(i);
-        }
-        return p;
-    }
-
-    static double N100fd2141507(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.9873076395671796) {
-            p = LeutheuserC45Classifier.N4084033f1508(i);
-        } else if (((Double) i[12]).doubleValue() > 2.9873076395671796) {
-            p = LeutheuserC45Classifier.N272210e11529(i);
-        }
-        return p;
-    }
-
-    static double N4084033f1508(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 2.225) {
-            p = LeutheuserC45Classifier.N64bb07d1509(i);
-        } else if (((Double) i[4]).doubleValue() > 2.225) {
-            p = LeutheuserC45Classifier.Nb1443041527(i);
-        }
-        return p;
-    }
-
-    static double N64bb07d1509(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.15371005081466033) {
-            p = LeutheuserC45Classifier.N44638f551510(i);
-        } else if (((Double) i[17]).doubleValue() > 0.15371005081466033) {
-            p = LeutheuserC45Classifier.N788df1ec1519(i);
-        }
-        return p;
-    }
-
-    static double N44638f551510(Object[] i) {
-        double p = Double.NaN;
-        if (i[18] == null) {
-            p = 0;
-        } else if (((Double) i[18]).doubleValue() <= 0.1018937003986963) {
-            p = LeutheuserC45Classifier.N2a927abf1511(i);
-        } else if (((Double) i[18]).doubleValue() > 0.1018937003986963) {
-            p = LeutheuserC45Classifier.N49bdbc1c1514(i);
-        }
-        return p;
-    }
-
-    static double N2a927abf1511(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.975071679920026) {
-            p = LeutheuserC45Classifier.N4a6f09291512(i);
-        } else if (((Double) i[15]).doubleValue() > 0.975071679920026) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4a6f09291512(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 2.9293662232546924) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() > 2.9293662232546924) {
-            p = LeutheuserC45Classifier.N117c80411513(i);
-        }
-        return p;
-    }
-
-    static double N117c80411513(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.01768628771547311) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > 0.01768628771547311) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N49bdbc1c1514(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 306574.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 306574.0) {
-            p = LeutheuserC45Classifier.N70c360161515(i);
-        }
-        return p;
-    }
-
-    static double N70c360161515(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.6305555555555555) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.6305555555555555) {
-            p = LeutheuserC45Classifier.N425719661516(i);
-        }
-        return p;
-    }
-
-    static double N425719661516(Object[] i) {
-        double p = Double.NaN;
-        if (i[17] == null) {
-            p = 0;
-        } else if (((Double) i[17]).doubleValue() <= 0.11343805890970458) {
-            p = LeutheuserC45Classifier.N37dce7e51517(i);
-        } else if (((Double) i[17]).doubleValue() > 0.11343805890970458) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N37dce7e51517(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 485914.0) {
-            p = LeutheuserC45Classifier.N13a5f05e1518(i);
-        } else if (((Double) i[0]).doubleValue() > 485914.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N13a5f05e1518(Object[] i) {
-        double p = Double.NaN;
-        if (i[16] == null) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() <= 0.9925287056123655) {
-            p = 0;
-        } else if (((Double) i[16]).doubleValue() > 0.9925287056123655) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N788df1ec1519(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.632208153204985) {
-            p = LeutheuserC45Classifier.N2eb4bb21520(i);
-        } else if (((Double) i[13]).doubleValue() > 12.632208153204985) {
-            p = LeutheuserC45Classifier.N21b8b6261524(i);
-        }
-        return p;
-    }
-
-    static double N2eb4bb21520(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.045) {
-            p = LeutheuserC45Classifier.N525877c51521(i);
-        } else if (((Double) i[4]).doubleValue() > 2.045) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N525877c51521(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 0.8638888888888889) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 0.8638888888888889) {
-            p = LeutheuserC45Classifier.N6ec34ad01522(i);
-        }
-        return p;
-    }
-
-    static double N6ec34ad01522(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.42) {
-            p = LeutheuserC45Classifier.N79d6d4751523(i);
-        } else if (((Double) i[1]).doubleValue() > 1.42) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N79d6d4751523(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() <= 0.7583333333333333) {
-            p = 1;
-        } else if (((Double) i[2]).doubleValue() > 0.7583333333333333) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N21b8b6261524(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.2277777777777779) {
-            p = LeutheuserC45Classifier.N304f1b8b1525(i);
-        } else if (((Double) i[19]).doubleValue() > 1.2277777777777779) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N304f1b8b1525(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() <= 405081.0) {
-            p = 0;
-        } else if (((Double) i[0]).doubleValue() > 405081.0) {
-            p = LeutheuserC45Classifier.N44ae52981526(i);
-        }
-        return p;
-    }
-
-    static double N44ae52981526(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 539573.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 539573.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nb1443041527(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.795) {
-            p = LeutheuserC45Classifier.N6f79cdc61528(i);
-        } else if (((Double) i[3]).doubleValue() > 2.795) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N6f79cdc61528(Object[] i) {
-        double p = Double.NaN;
-        if (i[10] == null) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() <= 0.02799346043030879) {
-            p = 0;
-        } else if (((Double) i[10]).doubleValue() > 0.02799346043030879) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N272210e11529(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 12.891137219917336) {
-            p = LeutheuserC45Classifier.N11aeac0f1530(i);
-        } else if (((Double) i[13]).doubleValue() > 12.891137219917336) {
-            p = LeutheuserC45Classifier.N19bd3c671532(i);
-        }
-        return p;
-    }
-
-    static double N11aeac0f1530(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 2.125) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() > 2.125) {
-            p = LeutheuserC45Classifier.N380bc15d1531(i);
-        }
-        return p;
-    }
-
-    static double N380bc15d1531(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() <= 11.566716502238629) {
-            p = 1;
-        } else if (((Double) i[13]).doubleValue() > 11.566716502238629) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N19bd3c671532(Object[] i) {
-        double p = Double.NaN;
-        if (i[12] == null) {
-            p = 0;
-        } else if (((Double) i[12]).doubleValue() <= 3.8815739798971207) {
-            p = LeutheuserC45Classifier.N2eaf82a91533(i);
-        } else if (((Double) i[12]).doubleValue() > 3.8815739798971207) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2eaf82a91533(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 388656.0) {
-            p = LeutheuserC45Classifier.N4a058da71534(i);
-        } else if (((Double) i[0]).doubleValue() > 388656.0) {
-            p = LeutheuserC45Classifier.N603fcd231550(i);
-        }
-        return p;
-    }
-
-    static double N4a058da71534(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.107700195312498) {
-            p = LeutheuserC45Classifier.N2ce2bc931535(i);
-        } else if (((Double) i[8]).doubleValue() > 1.107700195312498) {
-            p = LeutheuserC45Classifier.N51956bf21539(i);
-        }
-        return p;
-    }
-
-    static double N2ce2bc931535(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() <= 0.8605419921874924) {
-            p = 0;
-        } else if (((Double) i[8]).doubleValue() > 0.8605419921874924) {
-            p = LeutheuserC45Classifier.N5c4ce36c1536(i);
-        }
-        return p;
-    }
-
-    static double N5c4ce36c1536(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.18) {
-            p = LeutheuserC45Classifier.Ne2488861537(i);
-        } else if (((Double) i[1]).doubleValue() > 1.18) {
-            p = LeutheuserC45Classifier.N68aa54501538(i);
-        }
-        return p;
-    }
-
-    static double Ne2488861537(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() <= 0.9915803211205201) {
-            p = 0;
-        } else if (((Double) i[15]).doubleValue() > 0.9915803211205201) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N68aa54501538(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 371712.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 371712.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N51956bf21539(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.83) {
-            p = LeutheuserC45Classifier.N6a79a52f1540(i);
-        } else if (((Double) i[3]).doubleValue() > 1.83) {
-            p = LeutheuserC45Classifier.Nddcdccc1549(i);
-        }
-        return p;
-    }
-
-    static double N6a79a52f1540(Object[] i) {
-        double p = Double.NaN;
-        if (i[2] == null) {
-            p = 0;
-        } else if (((Double) i[2]).doubleValue() <= 0.9472222222222222) {
-            p = LeutheuserC45Classifier.N4033705e1541(i);
-        } else if (((Double) i[2]).doubleValue() > 0.9472222222222222) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4033705e1541(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 0;
-        } else if (((Double) i[5]).doubleValue() <= 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N7a81a4dc1542(i);
-        } else if (((Double) i[5]).doubleValue() > 0.13055555555555556) {
-            p = LeutheuserC45Classifier.N318a851543(i);
-        }
-        return p;
-    }
-
-    static double N7a81a4dc1542(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.015) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.015) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N318a851543(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 13.439213867187576) {
-            p = LeutheuserC45Classifier.N27c617711544(i);
-        } else if (((Double) i[6]).doubleValue() > 13.439213867187576) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N27c617711544(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 0.875) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 0.875) {
-            p = LeutheuserC45Classifier.N7cac22571545(i);
-        }
-        return p;
-    }
-
-    static double N7cac22571545(Object[] i) {
-        double p = Double.NaN;
-        if (i[8] == null) {
-            p = 1;
-        } else if (((Double) i[8]).doubleValue() <= 1.2194824218750087) {
-            p = LeutheuserC45Classifier.Nbfcde5a1546(i);
-        } else if (((Double) i[8]).doubleValue() > 1.2194824218750087) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nbfcde5a1546(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.23) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > 1.23) {
-            p = LeutheuserC45Classifier.N79518021547(i);
-        }
-        return p;
-    }
-
-    static double N79518021547(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 0;
-        } else if (((Double) i[3]).doubleValue() <= 1.7) {
-            p = LeutheuserC45Classifier.N10fffa1e1548(i);
-        } else if (((Double) i[3]).doubleValue() > 1.7) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N10fffa1e1548(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() <= 1.31) {
-            p = 1;
-        } else if (((Double) i[1]).doubleValue() > 1.31) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double Nddcdccc1549(Object[] i) {
-        double p = Double.NaN;
-        if (i[15] == null) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() <= 0.9956127650902781) {
-            p = 1;
-        } else if (((Double) i[15]).doubleValue() > 0.9956127650902781) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N603fcd231550(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= 0.03158863146550048) {
-            p = LeutheuserC45Classifier.N4fc59c2e1551(i);
-        } else if (((Double) i[9]).doubleValue() > 0.03158863146550048) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N4fc59c2e1551(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= 1.635) {
-            p = LeutheuserC45Classifier.N2005a0c21552(i);
-        } else if (((Double) i[1]).doubleValue() > 1.635) {
-            p = LeutheuserC45Classifier.N559ca82e1554(i);
-        }
-        return p;
-    }
-
-    static double N2005a0c21552(Object[] i) {
-        double p = Double.NaN;
-        if (i[13] == null) {
-            p = 0;
-        } else if (((Double) i[13]).doubleValue() <= 13.814944236747419) {
-            p = LeutheuserC45Classifier.N4b5422b21553(i);
-        } else if (((Double) i[13]).doubleValue() > 13.814944236747419) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N4b5422b21553(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.025896753771555286) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() > 0.025896753771555286) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N559ca82e1554(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 3.13) {
-            p = LeutheuserC45Classifier.N365b7a5f1555(i);
-        } else if (((Double) i[4]).doubleValue() > 3.13) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N365b7a5f1555(Object[] i) {
-        double p = Double.NaN;
-        if (i[7] == null) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() <= -0.38933105468753476) {
-            p = 1;
-        } else if (((Double) i[7]).doubleValue() > -0.38933105468753476) {
-            p = LeutheuserC45Classifier.N3b55cfe61556(i);
-        }
-        return p;
-    }
-
-    static double N3b55cfe61556(Object[] i) {
-        double p = Double.NaN;
-        if (i[5] == null) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() <= 0.14166666666666666) {
-            p = 1;
-        } else if (((Double) i[5]).doubleValue() > 0.14166666666666666) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N51fe3b8c1557(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 1;
-        } else if (((Double) i[9]).doubleValue() <= 0.012178340517233183) {
-            p = LeutheuserC45Classifier.N611324451558(i);
-        } else if (((Double) i[9]).doubleValue() > 0.012178340517233183) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N611324451558(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() <= 1.795) {
-            p = 0;
-        } else if (((Double) i[4]).doubleValue() > 1.795) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double Nc7733ba1559(Object[] i) {
-        double p = Double.NaN;
-        if (i[9] == null) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() <= -0.026987675107777588) {
-            p = 0;
-        } else if (((Double) i[9]).doubleValue() > -0.026987675107777588) {
-            p = LeutheuserC45Classifier.N19c8e72d1560(i);
-        }
-        return p;
-    }
-
-    static double N19c8e72d1560(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 2.75) {
-            p = LeutheuserC45Classifier.N39ca8dc31561(i);
-        } else if (((Double) i[3]).doubleValue() > 2.75) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N39ca8dc31561(Object[] i) {
-        double p = Double.NaN;
-        if (i[4] == null) {
-            p = 1;
-        } else if (((Double) i[4]).doubleValue() <= 1.945) {
-            p = LeutheuserC45Classifier.N4183a7b31562(i);
-        } else if (((Double) i[4]).doubleValue() > 1.945) {
-            p = LeutheuserC45Classifier.N3ed36f2e1568(i);
-        }
-        return p;
-    }
-
-    static double N4183a7b31562(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 367702.0) {
-            p = LeutheuserC45Classifier.N74dcb6da1563(i);
-        } else if (((Double) i[0]).doubleValue() > 367702.0) {
-            p = LeutheuserC45Classifier.N47bae2eb1565(i);
-        }
-        return p;
-    }
-
-    static double N74dcb6da1563(Object[] i) {
-        double p = Double.NaN;
-        if (i[1] == null) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() <= -0.945) {
-            p = 0;
-        } else if (((Double) i[1]).doubleValue() > -0.945) {
-            p = LeutheuserC45Classifier.N2af3c6e31564(i);
-        }
-        return p;
-    }
-
-    static double N2af3c6e31564(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() <= 1.7722222222222221) {
-            p = 1;
-        } else if (((Double) i[19]).doubleValue() > 1.7722222222222221) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N47bae2eb1565(Object[] i) {
-        double p = Double.NaN;
-        if (i[3] == null) {
-            p = 1;
-        } else if (((Double) i[3]).doubleValue() <= 1.33) {
-            p = LeutheuserC45Classifier.N1bd86b901566(i);
-        } else if (((Double) i[3]).doubleValue() > 1.33) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N1bd86b901566(Object[] i) {
-        double p = Double.NaN;
-        if (i[6] == null) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() <= 7.956030273437581) {
-            p = 0;
-        } else if (((Double) i[6]).doubleValue() > 7.956030273437581) {
-            p = LeutheuserC45Classifier.Na2374571567(i);
-        }
-        return p;
-    }
-
-    static double Na2374571567(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 628912.0) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() > 628912.0) {
-            p = 0;
-        }
-        return p;
-    }
-
-    static double N3ed36f2e1568(Object[] i) {
-        double p = Double.NaN;
-        if (i[0] == null) {
-            p = 1;
-        } else if (((Double) i[0]).doubleValue() <= 108288.0) {
-            p = LeutheuserC45Classifier.N2eee7fa51569(i);
-        } else if (((Double) i[0]).doubleValue() > 108288.0) {
-            p = 1;
-        }
-        return p;
-    }
-
-    static double N2eee7fa51569(Object[] i) {
-        double p = Double.NaN;
-        if (i[19] == null) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() <= 1.3055555555555556) {
-            p = 0;
-        } else if (((Double) i[19]).doubleValue() > 1.3055555555555556) {
-            p = 1;
-        }
-        return p;
+    @Override
+    public List<QrsClass> classify(BeatTable table) {
+        return BatchClassification.toQrsClasses(classifyAll(table, null));
+    }
+
+    /**
+     * Classifies all beats of a table with the C4.5 tree. The features of a beat only depend on the templates and the
+     * preceding RR interval, so all partitions are classified concurrently. As for a list, the first and the last
+     * beat are classified as normal.
+     *
+     * @param table    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code of every row of the table
+     */
+    @Override
+    public int[] classifyAll(final BeatTable table, Executor executor) {
+        final FlatDecisionTree tree = getTree();
+        BatchClassification.prepareTemplate(template1);
+        BatchClassification.prepareTemplate(template2);
+        return BatchClassification.run(table.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                double[] features = new double[NUMBER_OF_FEATURES];
+                for (int row = start; row < end; row++) {
+                    codes[row] = QrsClass.NORMAL.ordinal();
+                    if (row > 0 && row < table.size() - 1) {
+                        extractFeatures(table.getQrsComplex(row), table.getRRInterval(row - 1), features);
+                        if (tree.classify(features) == 1)
+                            codes[row] = QrsClass.ABNORMAL.ordinal();
+                    }
+                }
+            }
+        });
     }
 
     @Override
-    public BeatClass classify(QrsComplex qrs) {
-        // TODO Auto-generated method stub
-        return null;
-    }
-
-    @Override
-    public BeatClass classify(Heartbeat beat) {
-        // TODO Auto-generated method stub
-        return null;
-    }
-
-    @Override
-    public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
-        // TODO Auto-generated method stub
-        return null;
+    public int[] classifyAll(final List<Heartbeat> beats, Executor executor) {
+        final FlatDecisionTree tree = getTree();
+        BatchClassification.prepareTemplate(template1);
+        BatchClassification.prepareTemplate(template2);
+        return BatchClassification.run(beats.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                double[] features = new double[NUMBER_OF_FEATURES];
+                for (int i = start; i < end; i++) {
+                    codes[i] = QrsClass.NORMAL.ordinal();
+                    if (i > 0 && i < beats.size() - 1) {
+                        extractFeatures(beats.get(i).getQrs(), beats.get(i - 1).getQrs().getRRInterval(), features);
+                        if (tree.classify(features) == 1)
+                            codes[i] = QrsClass.ABNORMAL.ordinal();
+                    }
+                }
+            }
+        });
     }
 
 }
@@ -0,0 +1,419 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatTable;
+import de.fau.mad.jely.EcgSignal;
+import de.fau.mad.jely.Heartbeat;
+import de.fau.mad.jely.QrsClass;
+import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.util.TemplateMatcher;
+
+/**
+ * Incremental clustering of beat morphologies.
+ * <p>
+ * Every beat is cut out of the signal in a fixed window around its R peak and compared by normalized correlation
+ * against the centroid of every cluster, allowing a small alignment jitter. The beat joins the best matching cluster
+ * if the correlation reaches the threshold, otherwise it starts a new cluster. Centroids are running means that turn
+ * into exponential averages after a number of beats, so clusters follow a slowly drifting morphology. The number of
+ * clusters is bounded; when the limit is reached, the unlabeled cluster that was matched least recently is replaced.
+ * If all clusters are labeled, a beat matching none of them is left unassigned.
+ * <p>
+ * Cluster IDs are stable and never reused. Clusters can be labeled with a class, which is then returned for every beat
+ * assigned to them, so reviewing a recording comes down to labeling its clusters. The other classifiers do not use
+ * the clusters, the IDs are only exposed through the cluster ID column of a {@link BeatTable}.
+ */
+public class MorphologyClusterer implements Classifier {
+    public static final double DEFAULT_THRESHOLD = 0.9;
+    public static final int DEFAULT_MAX_CLUSTERS = 32;
+    public static final int DEFAULT_MAX_WEIGHT = 64;
+
+    /**
+     * A morphology cluster.
+     */
+    public static class Cluster {
+        private final int mId;
+        private final double[] mCentroid;
+        private final TemplateMatcher mMatcher = new TemplateMatcher();
+        private boolean mCentroidChanged = true;
+        private int mCount;
+        private int mFirstRPosition;
+        private int mLastRPosition;
+        private long mLastMatch;
+        private QrsClass mLabel;
+
+        private Cluster(int id, int length) {
+            mId = id;
+            mCentroid = new double[length];
+        }
+
+        public int getId() {
+            return mId;
+        }
+
+        /**
+         * @return the number of beats assigned to this cluster.
+         */
+        public int getCount() {
+            return mCount;
+        }
+
+        /**
+         * @return a copy of the centroid, aligned at the R peak.
+         */
+        public double[] getCentroid() {
+            return Arrays.copyOf(mCentroid, mCentroid.length);
+        }
+
+        /**
+         * @return the R peak position of the first beat assigned to this cluster.
+         */
+        public int getFirstRPosition() {
+            return mFirstRPosition;
+        }
+
+        /**
+         * @return the R peak position of the last beat assigned to this cluster.
+         */
+        public int getLastRPosition() {
+            return mLastRPosition;
+        }
+
+        /**
+         * @return the label of this cluster, or <code>null</code> if it was not labeled.
+         */
+        public QrsClass getLabel() {
+            return mLabel;
+        }
+
+        private TemplateMatcher getMatcher() {
+            if (mCentroidChanged) {
+                mMatcher.setTemplate(mCentroid, 0, mCentroid.length);
+                mCentroidChanged = false;
+            }
+            return mMatcher;
+        }
+    }
+
+    private final int mSamplesLeft;
+    private final int mSamplesRight;
+    private final int mMaxLag;
+    private double mThreshold = DEFAULT_THRESHOLD;
+    private int mMaxClusters = DEFAULT_MAX_CLUSTERS;
+    private int mMaxWeight = DEFAULT_MAX_WEIGHT;
+
+    private final ArrayList<Cluster> mClusters = new ArrayList<>();
+    private int mNextId = 0;
+    private long mNumAssigned = 0;
+    private final double[] mWindow;
+
+    private int mLastClusterId = -1;
+    private double mLastCorrelation = Double.NaN;
+
+    /**
+     * Creates a clusterer comparing 100 ms before to 150 ms after the R peak, with up to 10 ms of alignment jitter.
+     *
+     * @param samplingRate the sampling rate of the signals the beats are taken from.
+     */
+    public MorphologyClusterer(double samplingRate) {
+        this((int) Math.round(samplingRate * 0.1), (int) Math.round(samplingRate * 0.15),
+                (int) Math.round(samplingRate * 0.01));
+    }
+
+    /**
+     * Creates a clusterer.
+     *
+     * @param samplesLeft  number of samples before the R peak.
+     * @param samplesRight number of samples after the R peak.
+     * @param maxLag       maximum alignment jitter in samples.
+     */
+    public MorphologyClusterer(int samplesLeft, int samplesRight, int maxLag) {
+        mSamplesLeft = samplesLeft;
+        mSamplesRight = samplesRight;
+        mMaxLag = maxLag;
+        mWindow = new double[samplesLeft + samplesRight + 1 + 2 * maxLag];
+    }
+
+    /**
+     * Sets the minimum correlation for a beat to join a cluster.
+     *
+     * @param threshold
+     */
+    public void setThreshold(double threshold) {
+        mThreshold = threshold;
+    }
+
+    /**
+     * Sets the maximum number of clusters kept.
+     *
+     * @param maxClusters at least 1.
+     */
+    public void setMaxClusters(int maxClusters) {
+        if (maxClusters < 1)
+            throw new IllegalArgumentException("At least one cluster must be kept.");
+        mMaxClusters = maxClusters;
+    }
+
+    /**
+     * Sets the number of beats after which a centroid stops being a plain mean and new beats are blended in with a
+     * weight of 1 / maxWeight.
+     *
+     * @param maxWeight at least 1.
+     */
+    public void setMaxWeight(int maxWeight) {
+        if (maxWeight < 1)
+            throw new IllegalArgumentException("The maximum weight must be at least 1.");
+        mMaxWeight = maxWeight;
+    }
+
+    /**
+     * Assigns the beat with the given R peak to a cluster.
+     *
+     * @param signal    the signal the beat was detected in.
+     * @param rPosition the R peak position in the entire signal.
+     * @return the cluster ID, or -1 if the samples around the R peak are not available or if the beat matches no
+     * cluster and none can be replaced because the cluster limit is reached and all clusters are labeled.
+     */
+    public int assign(EcgSignal signal, int rPosition) {
+        int first = rPosition - mSamplesLeft - mMaxLag;
+        int last = rPosition + mSamplesRight + mMaxLag;
+        if (first < Math.max(0, signal.getTotalLength() - signal.size()) || last >= signal.getTotalLength()) {
+            mLastClusterId = -1;
+            mLastCorrelation = Double.NaN;
+            return -1;
+        }
+        for (int i = 0; i < mWindow.length; i++)
+            mWindow[i] = signal.get(first + i);
+
+        // find the best matching cluster
+        Cluster best = null;
+        double bestCorrelation = Double.NEGATIVE_INFINITY;
+        int bestLag = 0;
+        for (int c = 0; c < mClusters.size(); c++) {
+            Cluster cluster = mClusters.get(c);
+            TemplateMatcher matcher = cluster.getMatcher();
+            double correlation = matcher.match(mWindow, mMaxLag, -mMaxLag, mMaxLag);
+            if (correlation > bestCorrelation) {
+                bestCorrelation = correlation;
+                bestLag = matcher.getBestLag();
+                best = cluster;
+            }
+        }
+
+        if (best == null || bestCorrelation < mThreshold) {
+            best = createCluster();
+            bestLag = 0;
+            if (best == null) {
+                // a labeled cluster must not take up a beat of a different morphology
+                mLastClusterId = -1;
+                mLastCorrelation = Double.NaN;
+                return -1;
+            }
+        }
+
+        mNumAssigned++;
+        update(best, bestLag, rPosition);
+        mLastClusterId = best.mId;
+        mLastCorrelation = best.mCount == 1 ? 1 : bestCorrelation;
+        return best.mId;
+    }
+
+    /**
+     * Assigns the QRS complex to a cluster.
+     *
+     * @param qrs
+     * @return the cluster ID, or -1 if the beat could not be assigned.
+     */
+    public int assign(QrsComplex qrs) {
+        return assign(qrs.getSignal(), qrs.getRPosition());
+    }
+
+    /**
+     * Assigns every beat of the table to a cluster and stores the IDs in its cluster column. The table needs its
+     * source signal.
+     *
+     * @param table
+     * @return the cluster IDs per row.
+     */
+    public int[] assign(BeatTable table) {
+        if (table.getSignal() == null)
+            throw new IllegalStateException("No source signal set.");
+
+        int[] ids = new int[table.size()];
+        for (int row = 0; row < table.size(); row++) {
+            ids[row] = assign(table.getSignal(), table.getRPosition(row));
+            table.setClusterId(row, ids[row]);
+        }
+        return ids;
+    }
+
+    // returns null if the cluster limit is reached and all clusters are labeled
+    private Cluster createCluster() {
+        if (mClusters.size() >= mMaxClusters) {
+            Cluster oldest = null;
+            for (int c = 0; c < mClusters.size(); c++) {
+                Cluster cluster = mClusters.get(c);
+                if (cluster.mLabel == null && (oldest == null || cluster.mLastMatch < oldest.mLastMatch))
+                    oldest = cluster;
+            }
+            if (oldest == null)
+                return null;
+            mClusters.remove(oldest);
+        }
+
+        Cluster cluster = new Cluster(mNextId++, mSamplesLeft + mSamplesRight + 1);
+        mClusters.add(cluster);
+        return cluster;
+    }
+
+    private void update(Cluster cluster, int lag, int rPosition) {
+        if (cluster.mCount == 0)
+            cluster.mFirstRPosition = rPosition;
+        cluster.mCount++;
+        cluster.mLastRPosition = rPosition;
+        cluster.mLastMatch = mNumAssigned;
+
+        double weight = 1d / Math.min(cluster.mCount, mMaxWeight);
+        int offset = mMaxLag + lag;
+        for (int k = 0; k < cluster.mCentroid.length; k++)
+            cluster.mCentroid[k] += weight * (mWindow[offset + k] - cluster.mCentroid[k]);
+        cluster.mCentroidChanged = true;
+    }
+
+    /**
+     * @return the ID of the cluster of the last assigned beat, or -1.
+     */
+    public int getLastClusterId() {
+        return mLastClusterId;
+    }
+
+    /**
+     * @return the correlation of the last assigned beat with its cluster before the centroid was updated.
+     */
+    public double getLastCorrelation() {
+        return mLastCorrelation;
+    }
+
+    /**
+     * @return the current clusters.
+     */
+    public List<Cluster> getClusters() {
+        return new ArrayList<>(mClusters);
+    }
+
+    /**
+     * @param id
+     * @return the cluster with the given ID, or <code>null</code> if it does not exist (anymore).
+     */
+    public Cluster getCluster(int id) {
+        for (int c = 0; c < mClusters.size(); c++) {
+            if (mClusters.get(c).mId == id)
+                return mClusters.get(c);
+        }
+        return null;
+    }
+
+    /**
+     * Labels a whole cluster. Labeled clusters are never replaced.
+     *
+     * @param id    the cluster ID.
+     * @param label the class of all beats in the cluster, or <code>null</code> to remove the label.
+     */
+    public void setClusterLabel(int id, QrsClass label) {
+        Cluster cluster = getCluster(id);
+        if (cluster == null)
+            throw new IllegalArgumentException("Unknown cluster " + id);
+        cluster.mLabel = label;
+    }
+
+    /**
+     * @param id the cluster ID.
+     * @return the label of the cluster, or UNKNOWN if it is not labeled or does not exist.
+     */
+    public QrsClass getClusterClass(int id) {
+        Cluster cluster = getCluster(id);
+        if (cluster == null || cluster.mLabel == null)
+            return QrsClass.UNKNOWN;
+        return cluster.mLabel;
+    }
+
+    @Override
+    public BeatClass classify(Heartbeat beat) {
+        int id = assign(beat.getQrs());
+        return new BeatClass(beat, getClusterClass(id), "Morphology cluster " + id);
+    }
+
+    @Override
+    public BeatClass classify(QrsComplex qrs) {
+        return classify(Heartbeat.getHeartbeat(qrs));
+    }
+
+    @Override
+    public List<QrsClass> classify(List<QrsComplex> qrsComplexes) {
+        ArrayList<QrsClass> qrsClasses = new ArrayList<>(qrsComplexes.size());
+        for (int i = 0; i < qrsComplexes.size(); i++)
+            qrsClasses.add(getClusterClass(assign(qrsComplexes.get(i))));
+        return qrsClasses;
+    }
+
+    @Override
+    public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
+        ArrayList<QrsClass> qrsClasses = new ArrayList<>(beatList.size());
+        for (int i = 0; i < beatList.size(); i++)
+            qrsClasses.add(getClusterClass(assign(beatList.get(i).getQrs())));
+        return qrsClasses;
+    }
+
+    @Override
+    public List<QrsClass> classify(BeatTable table) {
+        int[] ids = assign(table);
+        ArrayList<QrsClass> qrsClasses = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++)
+            qrsClasses.add(getClusterClass(ids[i]));
+        return qrsClasses;
+    }
+
+    /**
+     * Assigns all beats of a table to clusters and returns the class codes of their clusters. The clusters depend on
+     * all beats seen before, so the table is always processed in order in the calling thread.
+     *
+     * @param table    the beats to be classified
+     * @param executor ignored
+     * @return the class code of every row of the table
+     */
+    @Override
+    public int[] classifyAll(BeatTable table, Executor executor) {
+        int[] codes = assign(table);
+        for (int i = 0; i < codes.length; i++)
+            codes[i] = getClusterClass(codes[i]).ordinal();
+        return codes;
+    }
+
+    @Override
+    public int[] classifyAll(List<Heartbeat> beats, Executor executor) {
+        int[] codes = new int[beats.size()];
+        for (int i = 0; i < codes.length; i++)
+            codes[i] = getClusterClass(assign(beats.get(i).getQrs())).ordinal();
+        return codes;
+    }
+}
@@ -18,8 +18,11 @@ package de.fau.mad.jely.classifiers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatFeatures;
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.PWave;
 import de.fau.mad.jely.QrsClass;
@@ -34,25 +37,90 @@ public class PhysiologicalClassifier implements Classifier {
 
     @Override
     public List<QrsClass> classify(List<QrsComplex> qrsComplexes) {
-        // TODO Auto-generated method stub
-        return null;
+        ArrayList<QrsClass> qrsClasses = new ArrayList<>(qrsComplexes.size());
+        for (int i = 0; i < qrsComplexes.size(); i++)
+            qrsClasses.add(classify(qrsComplexes.get(i)).getQrsClass());
+        return qrsClasses;
     }
 
     @Override
     public BeatClass classify(QrsComplex qrs) {
-        double qrsWidth = qrs.getQRSWidth();
+        Heartbeat beat = Heartbeat.getHeartbeat(qrs);
+        BeatFeatures features = beat.getFeatures();
+        double qrsWidth = features.get(BeatFeatures.QRS_WIDTH);
 
         // ========= QRS width =========
         // detect QRS width outside of normal range (60-100ms), including ~20% error since we still suck at detecting the deflection points, TODO: this needs to be determine by some ROC-decision
-        if (qrsWidth < 0.05 || qrsWidth > 0.13)
-            return new BeatClass(new Heartbeat(qrs), QrsClass.ABNORMAL, "Abnormal QRS width: " + String.format("%.4f", qrsWidth) + "s");
+        if (isAbnormalQrsWidth(qrsWidth))
+            return new BeatClass(beat, QrsClass.ABNORMAL, "Abnormal QRS width: " + String.format("%.4f", qrsWidth) + "s");
 
         // ========= Q height =========
-        double q2r = Math.abs(qrs.getQValue() - qrs.getBaselineValue()) / Math.abs(qrs.getRValue() - qrs.getBaselineValue());
-        if (q2r > 0.35) // starting at 0.25 it becomes abnormal, but we include some error
-            return new BeatClass(new Heartbeat(qrs), QrsClass.ABNORMAL, "Abnormal Q wave height: " + String.format("%.2f", q2r));
+        double q2r = getQToRRatio(features.get(BeatFeatures.Q_VALUE), features.get(BeatFeatures.R_VALUE),
+                features.get(BeatFeatures.BASELINE));
+        if (isAbnormalQToRRatio(q2r))
+            return new BeatClass(beat, QrsClass.ABNORMAL, "Abnormal Q wave height: " + String.format("%.2f", q2r));
 
-        return new BeatClass(new Heartbeat(qrs), QrsClass.NORMAL);
+        return new BeatClass(beat, QrsClass.NORMAL);
+    }
+
+    /**
+     * Classifies all beats of a table by their QRS width and Q wave height, directly from the table columns.
+     *
+     * @param table the beats to be classified
+     * @return a list of QRS classes corresponding to the rows of the table
+     */
+    @Override
+    public List<QrsClass> classify(BeatTable table) {
+        return BatchClassification.toQrsClasses(classifyAll(table, null));
+    }
+
+    /**
+     * Classifies all beats of a table by their QRS width and Q wave height, directly from the table columns. The beats
+     * are independent of each other, so all partitions are classified concurrently.
+     *
+     * @param table    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code of every row of the table
+     */
+    @Override
+    public int[] classifyAll(final BeatTable table, Executor executor) {
+        return BatchClassification.run(table.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                for (int row = start; row < end; row++) {
+                    double q2r = getQToRRatio(table.getDouble(BeatTable.DoubleColumn.Q_VALUE, row),
+                            table.getRValue(row), table.getDouble(BeatTable.DoubleColumn.BASELINE, row));
+                    if (isAbnormalQrsWidth(table.getQRSWidth(row)) || isAbnormalQToRRatio(q2r))
+                        codes[row] = QrsClass.ABNORMAL.ordinal();
+                    else
+                        codes[row] = QrsClass.NORMAL.ordinal();
+                }
+            }
+        });
+    }
+
+    @Override
+    public int[] classifyAll(final List<Heartbeat> beats, Executor executor) {
+        return BatchClassification.run(beats.size(), executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                for (int i = start; i < end; i++)
+                    codes[i] = PhysiologicalClassifier.this.classify(beats.get(i)).getQrsClass().ordinal();
+            }
+        });
+    }
+
+    private static boolean isAbnormalQrsWidth(double qrsWidth) {
+        return qrsWidth < 0.05 || qrsWidth > 0.13;
+    }
+
+    private static double getQToRRatio(double qValue, double rValue, double baselineValue) {
+        return Math.abs(qValue - baselineValue) / Math.abs(rValue - baselineValue);
+    }
+
+    private static boolean isAbnormalQToRRatio(double q2r) {
+        // starting at 0.25 it becomes abnormal, but we include some error
+        return q2r > 0.35;
     }
 
     @Override
@@ -74,8 +142,7 @@ public class PhysiologicalClassifier implements Classifier {
 
     @Override
     public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
-        // TODO Auto-generated method stub
-        return null;
+        return BatchClassification.toQrsClasses(classifyAll(beatList, null));
     }
 
 }
@@ -17,9 +17,12 @@
 package de.fau.mad.jely.classifiers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.BeatClass;
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsClass;
 import de.fau.mad.jely.QrsComplex;
@@ -37,6 +40,11 @@ public class TsipourasRuleBasedClassifier implements Classifier {
         BII
     }
 
+    /**
+     * Minimum number of beats of a VF episode.
+     */
+    static final int MIN_VF_BEATS = 4;
+
     /**
      * Creates a default <code>TsipourasRuleBasedClassifier<code> object
      */
@@ -50,45 +58,167 @@ public class TsipourasRuleBasedClassifier implements Classifier {
      * @return a list of QRS classes corresponding to the QRS complexes.
      */
     public List<QrsClass> classify(List<QrsComplex> qrsComplexes) {
+        double[] rr = new double[qrsComplexes.size()];
+        for (int i = 0; i < rr.length; i++) {
+            rr[i] = qrsComplexes.get(i).getRRInterval();
+        }
+        return classifyRRIntervals(rr);
+    }
 
-        //initialize QRS classes
-        ArrayList<TsipourasClass> tsipourasClasses = new ArrayList<TsipourasClass>();
-        for (int i = 0; i < qrsComplexes.size(); i++) {
-            tsipourasClasses.add(TsipourasClass.NORMAL);
+    /**
+     * Classifies all beats of a table using the rule based classifier of Tsipouras. Only the R peak column is used.
+     *
+     * @param table the beats to be classified
+     * @return a list of QRS classes corresponding to the rows of the table
+     */
+    @Override
+    public List<QrsClass> classify(BeatTable table) {
+        return classifyRRIntervals(table.getRRIntervals());
+    }
+
+    /**
+     * Classifies all beats of a table using the rule based classifier of Tsipouras. A VF episode may continue over
+     * many beats, so each partition restarts the rules at the last beat before it where an episode cannot continue.
+     * The result is identical to the sequential classification.
+     *
+     * @param table    the beats to be classified
+     * @param executor the executor running the partitions, or <code>null</code> to classify in the calling thread
+     * @return the class code of every row of the table
+     */
+    @Override
+    public int[] classifyAll(BeatTable table, Executor executor) {
+        return classifyAll(table.getRRIntervals(), executor);
+    }
+
+    @Override
+    public int[] classifyAll(List<Heartbeat> beats, Executor executor) {
+        double[] rr = new double[beats.size()];
+        for (int i = 0; i < rr.length; i++) {
+            rr[i] = beats.get(i).getQrs().getRRInterval();
         }
+        return classifyAll(rr, executor);
+    }
+
+    // the rules only depend on the RR interval preceding each beat (in s)
+    private List<QrsClass> classifyRRIntervals(double[] rr) {
+        return BatchClassification.toQrsClasses(classifyAll(rr, null));
+    }
+
+    private int[] classifyAll(final double[] rr, Executor executor) {
+        int[] codes = BatchClassification.run(rr.length, executor, new BatchClassification.Partition() {
+            @Override
+            public void classify(int start, int end, int[] codes) {
+                classifyRange(rr, start, end, codes);
+            }
+        });
+
+        //map QRS classes
+        if (codes.length > 0) {
+            codes[0] = QrsClass.UNKNOWN.ordinal();
+            codes[codes.length - 1] = QrsClass.UNKNOWN.ordinal();
+            if (codes.length > 1) {
+                codes[1] = QrsClass.UNKNOWN.ordinal();
+            }
+        }
+        return codes;
+    }
+
+    // a VF episode started before beat k continues at beat k (1 <= k < rr.length - 1)
+    private static boolean isVfContinued(double[] rr, int k) {
+        return isVfContinued(rr[k - 1], rr[k], rr[k + 1]);
+    }
+
+    /**
+     * RULE1: a VF episode starts at a beat.
+     *
+     * @param rr1 the RR interval before the previous beat (in s)
+     * @param rr2 the RR interval before the beat (in s)
+     * @return true if a VF episode starts
+     */
+    static boolean isVfStart(double rr1, double rr2) {
+        return (rr2 < 0.6d) && (1.8 * rr2 < rr1);
+    }
+
+    /**
+     * RULE1: a VF episode started before a beat continues at the beat.
+     *
+     * @param rr1 the RR interval before the previous beat (in s)
+     * @param rr2 the RR interval before the beat (in s)
+     * @param rr3 the RR interval after the beat (in s)
+     * @return true if the episode continues
+     */
+    static boolean isVfContinued(double rr1, double rr2, double rr3) {
+        return ((rr1 < 0.7) && (rr2 < 0.7) && (rr3 < 0.7)) || (rr1 + rr2 + rr3 < 1.7);
+    }
+
+    /**
+     * RULE2: premature ventricular contraction (PVC).
+     *
+     * @param rr1 the RR interval before the previous beat (in s)
+     * @param rr2 the RR interval before the beat (in s)
+     * @param rr3 the RR interval after the beat (in s)
+     * @return true if the beat is a PVC
+     */
+    static boolean isPvc(double rr1, double rr2, double rr3) {
+        return ((1.15 * rr2 < rr1) && (1.15 * rr2 < rr3)) || ((Math.abs(rr1 - rr2) < 0.3) &&
+                (rr1 < 0.8) && (rr2 < 0.8) && (rr3 > 1.2 * ((rr1 + rr2) / 2))) ||
+                ((Math.abs(rr2 - rr3) < 0.3) && (rr2 < 0.8) && (rr3 < 0.8) &&
+                        (rr1 > 1.2 * ((rr2 + rr3) / 2)));
+    }
+
+    /**
+     * RULE3: 2nd degree heart block (BII).
+     *
+     * @param rr1 the RR interval before the previous beat (in s)
+     * @param rr2 the RR interval before the beat (in s)
+     * @param rr3 the RR interval after the beat (in s)
+     * @return true if the beat is a BII
+     */
+    static boolean isSecondDegreeBlock(double rr1, double rr2, double rr3) {
+        return ((rr2 > 2.2) && (rr2 < 3.0)) && ((Math.abs(rr1 - rr2) < 0.2) ||
+                (Math.abs(rr2 - rr3) < 0.2));
+    }
+
+    // classifies the beats [start, end). Only a VF episode carries state from one beat to the following ones, and no
+    // episode reaches beyond a beat where it cannot continue, so the rules are restarted at the last such beat.
+    private void classifyRange(double[] rr, int start, int end, int[] codes) {
+        int from = start;
+        while (from > 1 && from < rr.length - 1 && isVfContinued(rr, from)) {
+            from--;
+        }
+
+        //initialize QRS classes
+        TsipourasClass[] tsipourasClasses = new TsipourasClass[end - from];
+        Arrays.fill(tsipourasClasses, TsipourasClass.NORMAL);
 
         //loop over all QRS complexes
-        for (int i = 1; i < qrsComplexes.size() - 1; i++) {
+        for (int i = Math.max(1, from); i < Math.min(end, rr.length - 1); i++) {
 
             //current QRS complex already classified
-            if (tsipourasClasses.get(i) != TsipourasClass.NORMAL) {
+            if (tsipourasClasses[i - from] != TsipourasClass.NORMAL) {
                 //skip current QRS complex
                 continue;
             }
 
             //get RR intervals of interest
-            double rr1 = qrsComplexes.get(i - 1).getRRInterval();
-            double rr2 = qrsComplexes.get(i).getRRInterval();
-            double rr3 = qrsComplexes.get(i + 1).getRRInterval();
+            double rr1 = rr[i - 1];
+            double rr2 = rr[i];
+            double rr3 = rr[i + 1];
 
             //RULE1: ventricular flutter/fibrilliation (VF)
             //VF episode started
-            if ((rr2 < 0.6d) && (1.8 * rr2 < rr1)) {
+            if (isVfStart(rr1, rr2)) {
                 //classify QRS complex as VF
-                tsipourasClasses.set(i, TsipourasClass.VF);
+                tsipourasClasses[i - from] = TsipourasClass.VF;
                 //initialize number of QRS complexes in VF episode
                 int nbr_vf = 1;
-                //loop over all successive QRS complexes
-                for (int k = i + 1; k < qrsComplexes.size() - 1; k++) {
-                    //get RR intervals of interest
-                    double rr1_tmp = qrsComplexes.get(k - 1).getRRInterval();
-                    double rr2_tmp = qrsComplexes.get(k).getRRInterval();
-                    double rr3_tmp = qrsComplexes.get(k + 1).getRRInterval();
+                //loop over all successive QRS complexes, beyond the partition only for counting
+                for (int k = i + 1; k < rr.length - 1; k++) {
                     //VF episode continued
-                    if (((rr1_tmp < 0.7) && (rr2_tmp < 0.7) && (rr3_tmp < 0.7)) ||
-                            (rr1_tmp + rr2_tmp + rr3_tmp < 1.7)) {
+                    if (isVfContinued(rr, k)) {
                         //classify QRS complex as VF
-                        tsipourasClasses.set(k, TsipourasClass.VF);
+                        if (k < end)
+                            tsipourasClasses[k - from] = TsipourasClass.VF;
                         //increment number of QRS complexes in VF episode
                         nbr_vf++;
                         //VF episode ended
@@ -97,10 +227,10 @@ public class TsipourasRuleBasedClassifier implements Classifier {
                     }
                 }
                 //VF episode too short
-                if (nbr_vf < 4) {
+                if (nbr_vf < MIN_VF_BEATS) {
                     //reset QRS classes
-                    for (int k = i; k < i + nbr_vf; k++) {
-                        tsipourasClasses.set(k, TsipourasClass.NORMAL);
+                    for (int k = i; k < Math.min(end, i + nbr_vf); k++) {
+                        tsipourasClasses[k - from] = TsipourasClass.NORMAL;
                     }
                 } else {
                     //skip QRS complex
@@ -109,40 +239,25 @@ public class TsipourasRuleBasedClassifier implements Classifier {
             }
 
             //RULE2: premature ventricular contraction (PVC)
-            if (((1.15 * rr2 < rr1) && (1.15 * rr2 < rr3)) || ((Math.abs(rr1 - rr2) < 0.3) &&
-                    (rr1 < 0.8) && (rr2 < 0.8) && (rr3 > 1.2 * ((rr1 + rr2) / 2))) ||
-                    ((Math.abs(rr2 - rr3) < 0.3) && (rr2 < 0.8) && (rr3 < 0.8) &&
-                            (rr1 > 1.2 * ((rr2 + rr3) / 2)))) {
+            if (isPvc(rr1, rr2, rr3)) {
                 //classify QRS complex as PVC
-                tsipourasClasses.set(i, TsipourasClass.PVC);
+                tsipourasClasses[i - from] = TsipourasClass.PVC;
                 //skip QRS complex
                 continue;
             }
 
             //RULE3: 2nd heart block (BII)
-            if (((rr2 > 2.2) && (rr2 < 3.0)) && ((Math.abs(rr1 - rr2) < 0.2) ||
-                    (Math.abs(rr2 - rr3) < 0.2))) {
+            if (isSecondDegreeBlock(rr1, rr2, rr3)) {
                 //classify QRS complex as BII
-                tsipourasClasses.set(i, TsipourasClass.BII);
+                tsipourasClasses[i - from] = TsipourasClass.BII;
                 //skip QRS complex
                 continue;
             }
         }
 
-        //map QRS classes
-        if (!tsipourasClasses.isEmpty()) {
-            tsipourasClasses.set(0, TsipourasClass.UNKNOWN);
-            tsipourasClasses.set(tsipourasClasses.size() - 1, TsipourasClass.UNKNOWN);
-            if (tsipourasClasses.size() > 1) {
-                tsipourasClasses.set(1, TsipourasClass.UNKNOWN);
-            }
-        }
-        ArrayList<QrsClass> qrsClasses = new ArrayList<QrsClass>();
-        for (int i = 0; i < qrsComplexes.size(); i++) {
-            qrsClasses.add(mapQrsClass(tsipourasClasses.get(i)));
+        for (int i = start; i < end; i++) {
+            codes[i] = mapQrsClass(tsipourasClasses[i - from]).ordinal();
         }
-
-        return qrsClasses;
     }
 
     private QrsClass mapQrsClass(TsipourasClass tsipourasClass) {
@@ -169,8 +284,7 @@ public class TsipourasRuleBasedClassifier implements Classifier {
 
     @Override
     public List<QrsClass> classify(ArrayList<Heartbeat> beatList) {
-        // TODO Auto-generated method stub
-        return null;
+        return BatchClassification.toQrsClasses(classifyAll(beatList, null));
     }
 
 }
@@ -0,0 +1,240 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import de.fau.mad.jely.Heartbeat;
+import de.fau.mad.jely.QrsClass;
+import de.fau.mad.jely.detectors.HeartbeatDetector;
+
+/**
+ * Incremental version of the rule based classifier of Tsipouras. Beats are consumed one at a time and every label is
+ * reported as soon as it is final. The labels are identical to those of
+ * {@link TsipourasRuleBasedClassifier#classify(java.util.List)} for the same sequence of beats.
+ * <p>
+ * The rules need the RR interval after a beat, so a beat is usually labeled when the next beat arrives. A possible
+ * VF onset is only final once the episode reached {@link TsipourasRuleBasedClassifier#MIN_VF_BEATS} beats or ended,
+ * which delays the labels by up to four beats. Only this bounded window of beats is kept, so the work per beat is
+ * constant.
+ * <p>
+ * The classifier can be registered as listener of a {@link HeartbeatDetector}. Since the batch classifier labels the
+ * first two and the last beat as unknown, {@link #finish()} must be called at the end of the recording to report the
+ * remaining beats.
+ */
+public class TsipourasStreamClassifier implements HeartbeatDetector.HeartbeatDetectionListener {
+
+    /**
+     * A listener for classified heartbeats.
+     */
+    public interface ClassificationListener {
+        /**
+         * Gets called in the order of the beats every time the label of a beat is final.
+         *
+         * @param heartbeat the classified heartbeat, or <code>null</code> if only its RR interval was given.
+         * @param qrsClass  the class of the heartbeat.
+         */
+        void onHeartbeatClassified(Heartbeat heartbeat, QrsClass qrsClass);
+    }
+
+    // must be a power of two and larger than the maximum number of pending beats plus one
+    private static final int CAPACITY = 16;
+    private static final int MASK = CAPACITY - 1;
+
+    private final double[] mRRIntervals = new double[CAPACITY];
+    private final QrsClass[] mLabels = new QrsClass[CAPACITY];
+    private final Heartbeat[] mBeats = new Heartbeat[CAPACITY];
+
+    private ClassificationListener mListener;
+
+    /**
+     * Number of beats received.
+     */
+    private int mCount;
+    /**
+     * Number of beats whose label was reported.
+     */
+    private int mReported;
+    /**
+     * The next beat the rules are applied to.
+     */
+    private int mNext;
+    /**
+     * The first beat of the VF episode currently counted, or -1.
+     */
+    private int mEpisodeStart;
+    private int mEpisodeLength;
+
+    /**
+     * Creates a new streaming classifier.
+     *
+     * @param listener the listener that receives the labels.
+     */
+    public TsipourasStreamClassifier(ClassificationListener listener) {
+        mListener = listener;
+        reset();
+    }
+
+    /**
+     * @param listener the listener that receives the labels.
+     */
+    public void setListener(ClassificationListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Discards all pending beats and starts a new sequence.
+     */
+    public void reset() {
+        for (int i = 0; i < CAPACITY; i++)
+            mBeats[i] = null;
+        mCount = 0;
+        mReported = 0;
+        mNext = 1;
+        mEpisodeStart = -1;
+        mEpisodeLength = 0;
+    }
+
+    /**
+     * Adds a detected heartbeat using the RR interval of its QRS complex.
+     *
+     * @param heartbeat the detected heartbeat.
+     */
+    @Override
+    public void onHeartbeatDetected(Heartbeat heartbeat) {
+        add(heartbeat, heartbeat.getQrs().getRRInterval());
+    }
+
+    /**
+     * Adds the next beat.
+     *
+     * @param heartbeat  the beat that is passed back to the listener, may be <code>null</code>.
+     * @param rrInterval the RR interval preceding the beat (in s).
+     */
+    public void add(Heartbeat heartbeat, double rrInterval) {
+        int slot = mCount & MASK;
+        mRRIntervals[slot] = rrInterval;
+        mLabels[slot] = QrsClass.NORMAL;
+        mBeats[slot] = heartbeat;
+        mCount++;
+
+        applyRules(false);
+        report(getFinalCount());
+    }
+
+    /**
+     * Labels and reports all pending beats at the end of the sequence, then starts a new sequence.
+     */
+    public void finish() {
+        applyRules(true);
+        report(Math.min(mNext, mCount));
+        while (mReported < mCount)
+            report(mReported, QrsClass.UNKNOWN);
+        reset();
+    }
+
+    /**
+     * @return the number of beats that were added but not yet reported.
+     */
+    public int getPendingCount() {
+        return mCount - mReported;
+    }
+
+    // runs the rules of the batch classifier as far as the received RR intervals allow
+    private void applyRules(boolean end) {
+        while (true) {
+            if (mEpisodeStart >= 0) {
+                // count the beats of the current VF episode
+                int k = mEpisodeStart + mEpisodeLength;
+                if (k + 1 < mCount && TsipourasRuleBasedClassifier.isVfContinued(getRR(k - 1), getRR(k),
+                        getRR(k + 1))) {
+                    mLabels[k & MASK] = QrsClass.ABNORMAL;
+                    mEpisodeLength++;
+                    continue;
+                }
+                if (k + 1 >= mCount && !end)
+                    return;
+                endEpisode();
+                continue;
+            }
+
+            int i = mNext;
+            if (i + 1 >= mCount)
+                return;
+            mNext++;
+
+            double rr1 = getRR(i - 1);
+            double rr2 = getRR(i);
+            double rr3 = getRR(i + 1);
+            if (TsipourasRuleBasedClassifier.isVfStart(rr1, rr2)) {
+                mLabels[i & MASK] = QrsClass.ABNORMAL;
+                mEpisodeStart = i;
+                mEpisodeLength = 1;
+                continue;
+            }
+            mLabels[i & MASK] = applyBeatRules(rr1, rr2, rr3);
+        }
+    }
+
+    private void endEpisode() {
+        int start = mEpisodeStart;
+        if (mEpisodeLength < TsipourasRuleBasedClassifier.MIN_VF_BEATS) {
+            // episode too short, the beats after its start are classified again
+            for (int k = start; k < start + mEpisodeLength; k++)
+                mLabels[k & MASK] = QrsClass.NORMAL;
+            mLabels[start & MASK] = applyBeatRules(getRR(start - 1), getRR(start), getRR(start + 1));
+            mNext = start + 1;
+        } else {
+            // all beats of the episode are VF, the rules continue after it
+            mNext = start + mEpisodeLength;
+        }
+        mEpisodeStart = -1;
+        mEpisodeLength = 0;
+    }
+
+    // RULE2 and RULE3
+    private static QrsClass applyBeatRules(double rr1, double rr2, double rr3) {
+        if (TsipourasRuleBasedClassifier.isPvc(rr1, rr2, rr3)
+                || TsipourasRuleBasedClassifier.isSecondDegreeBlock(rr1, rr2, rr3))
+            return QrsClass.ABNORMAL;
+        return QrsClass.NORMAL;
+    }
+
+    // the number of beats whose label cannot change anymore
+    private int getFinalCount() {
+        if (mEpisodeStart < 0)
+            return mNext;
+        if (mEpisodeLength >= TsipourasRuleBasedClassifier.MIN_VF_BEATS)
+            return mEpisodeStart + mEpisodeLength;
+        return mEpisodeStart;
+    }
+
+    private void report(int count) {
+        while (mReported < count)
+            report(mReported, mReported < 2 ? QrsClass.UNKNOWN : mLabels[mReported & MASK]);
+    }
+
+    private void report(int beat, QrsClass qrsClass) {
+        Heartbeat heartbeat = mBeats[beat & MASK];
+        mBeats[beat & MASK] = null;
+        mReported++;
+        if (mListener != null)
+            mListener.onHeartbeatClassified(heartbeat, qrsClass);
+    }
+
+    private double getRR(int beat) {
+        return mRRIntervals[beat & MASK];
+    }
+}
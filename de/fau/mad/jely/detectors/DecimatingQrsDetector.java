@@ -0,0 +1,191 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import de.fau.mad.jely.Ecg;
+import de.fau.mad.jely.EcgSignal;
+import de.fau.mad.jely.Ecglib;
+import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.filter.PolyphaseDecimator;
+import de.fau.mad.jely.processors.RPeakMaxRefinement;
+import de.fau.mad.jely.processors.RPeakRefinement;
+import de.fau.shiftlist.ShiftListObject;
+
+/**
+ * Runs a QRS detector on a decimated copy of a high-rate ECG. QRS detection only needs about 250 Hz, so recordings
+ * taken at 1 kHz or more are low-pass filtered and down-sampled by an integer factor before detection. The detected R
+ * peaks are mapped back and refined on the original signal, so the positions keep the accuracy of the original
+ * sampling rate while the detection cost drops with the decimation factor.
+ */
+public class DecimatingQrsDetector extends QrsDetector {
+    /**
+     * Creates the detector working on the decimated ECG.
+     */
+    public interface DetectorFactory {
+        /**
+         * @param decimatedEcg the decimated ECG the detector has to work on.
+         * @return a new detector.
+         */
+        QrsDetector createDetector(Ecg decimatedEcg);
+    }
+
+    /**
+     * Creates an {@link ElgendiFastQrsDetector}.
+     */
+    public static final DetectorFactory ELGENDI_FACTORY = new DetectorFactory() {
+        @Override
+        public QrsDetector createDetector(Ecg decimatedEcg) {
+            return new ElgendiFastQrsDetector(decimatedEcg);
+        }
+    };
+
+    private static final double DEFAULT_TARGET_RATE = 250;
+
+    private final Ecg mDecimatedEcg;
+    private final QrsDetector mDetector;
+    private final PolyphaseDecimator[] mDecimators;
+    private final int mFactor;
+    private final int mDelay;
+    private RPeakRefinement mRefinement;
+    private int mDecimatedIndex = 0;
+
+    /**
+     * Constructs a decimating front-end for an {@link ElgendiFastQrsDetector} running at about 250 Hz.
+     *
+     * @param ecg the high-rate ECG to detect QRS complexes in.
+     */
+    public DecimatingQrsDetector(Ecg ecg) {
+        this(ecg, DEFAULT_TARGET_RATE, ELGENDI_FACTORY);
+    }
+
+    /**
+     * Constructs a decimating front-end for the detector created by the given factory.
+     *
+     * @param ecg        the high-rate ECG to detect QRS complexes in.
+     * @param targetRate the lowest sampling rate in Hz the detector should run at.
+     * @param factory    creates the detector for the decimated ECG.
+     */
+    public DecimatingQrsDetector(Ecg ecg, double targetRate, DetectorFactory factory) {
+        super(ecg);
+        mFactor = PolyphaseDecimator.getFactorFor(ecg.getSamplingRate(), targetRate);
+
+        int numLeads = ecg.getNumLeads();
+        mDecimators = new PolyphaseDecimator[numLeads];
+        for (int i = 0; i < numLeads; i++)
+            mDecimators[i] = new PolyphaseDecimator(mFactor);
+        mDelay = mDecimators.length > 0 ? mDecimators[0].getGroupDelay() : 0;
+
+        mDecimatedEcg = new Ecg(ecg.getSamplingRate() / mFactor, ecg.getLeads());
+        mDecimatedEcg.init(ecg.getSignalFromIndex(0).size() / mFactor + 1);
+        mDetector = factory.createDetector(mDecimatedEcg);
+        mDetector.setContext(mContext);
+
+        // the peak found at the decimated rate is off by at most one decimated sample
+        mRefinement = new RPeakMaxRefinement(ecg.getSamplingRate(), 2.0 * (mFactor + 1) / ecg.getSamplingRate());
+        mRefinement.setContext(mContext);
+        mQrsList = new ShiftListObject(30);
+    }
+
+    /**
+     * Sets the refinement applied to the R peaks on the original signal.
+     *
+     * @param refinement the refinement, or <code>null</code> to keep the positions mapped from the decimated signal.
+     */
+    public void setRefinement(RPeakRefinement refinement) {
+        mRefinement = refinement;
+        if (mRefinement != null)
+            mRefinement.setContext(mContext);
+    }
+
+    @Override
+    public void setContext(Ecglib context) {
+        super.setContext(context);
+        if (mDetector != null)
+            mDetector.setContext(mContext);
+        if (mRefinement != null)
+            mRefinement.setContext(mContext);
+    }
+
+    /**
+     * @return the decimation factor.
+     */
+    public int getFactor() {
+        return mFactor;
+    }
+
+    /**
+     * @return the decimated ECG the detector works on.
+     */
+    public Ecg getDecimatedEcg() {
+        return mDecimatedEcg;
+    }
+
+    /**
+     * @return the detector working on the decimated ECG.
+     */
+    public QrsDetector getDetector() {
+        return mDetector;
+    }
+
+    @Override
+    public QrsComplex next(int sampleIndex) {
+        if (sampleIndex < 0)
+            sampleIndex = mEcg.getSignalFromIndex(0).getTotalLength() - 1;
+
+        boolean ready = false;
+        for (int i = 0; i < mDecimators.length; i++)
+            ready = mDecimators[i].next(mEcg.getSignalFromIndex(i).get(sampleIndex));
+        if (!ready)
+            return null;
+
+        for (int i = 0; i < mDecimators.length; i++)
+            mDecimatedEcg.getSignalFromIndex(i).add(mDecimators[i].current());
+        QrsComplex decimated = mDetector.next(mDecimatedIndex++);
+        if (decimated == null)
+            return null;
+
+        QrsComplex qrs = mapToOriginal(decimated, sampleIndex);
+        if (!onQrsComplexFound(qrs))
+            return null;
+        return qrs;
+    }
+
+    /**
+     * Creates a QRS complex on the original signal from one found in the decimated signal.
+     */
+    private QrsComplex mapToOriginal(QrsComplex decimated, int lastIndex) {
+        EcgSignal signal = mEcg.getSignalFromIndex(0);
+        for (int i = 0; i < mDecimatedEcg.getNumLeads(); i++) {
+            if (mDecimatedEcg.getSignalFromIndex(i) == decimated.getSignal())
+                signal = mEcg.getSignalFromIndex(i);
+        }
+
+        int r = toOriginalIndex(decimated.getRPosition(), lastIndex);
+        QrsComplex qrs = new QrsComplex(signal);
+        qrs.setRPeak(r, signal.get(r));
+        if (mRefinement != null)
+            mRefinement.process(qrs);
+        qrs.setSampleIndexStart(toOriginalIndex(decimated.getSampleIndexStart(), lastIndex));
+        qrs.setSampleIndexEnd(toOriginalIndex(decimated.getSampleIndexEnd(), lastIndex));
+        return qrs;
+    }
+
+    private int toOriginalIndex(int decimatedIndex, int lastIndex) {
+        int index = decimatedIndex * mFactor - mDelay;
+        return Math.max(0, Math.min(lastIndex, index));
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import de.fau.mad.jely.Ecg;
+import de.fau.mad.jely.EcgSignal;
+import de.fau.mad.jely.Heartbeat;
+import de.fau.mad.jely.detectors.HeartbeatDetector.HeartbeatDetectionListener;
+
+/**
+ * Push-based ingest of live ECG data. Sample blocks of all leads are appended to the attached (streaming) ECG and the
+ * heartbeat detection is advanced sample by sample in a single loop. Detected heartbeats are reported through the
+ * given {@link HeartbeatDetectionListener}.
+ * <p>
+ * A heartbeat is usually reported when the following QRS complex is found. To guarantee a bounded latency, a beat is
+ * reported on its own once its R peak lies more than the maximum latency in the past (see
+ * {@link HeartbeatDetector#flushPendingHeartbeat()}).
+ * <p>
+ * The detection lead is checked again once per block and only switched between two beats, so the samples are read
+ * from a cached signal without searching the leads again.
+ * <p>
+ * The timestamp of the first block sets the time of the first sample of the ECG. The following blocks are assumed to
+ * continue the stream without gaps at the sampling rate, their timestamps are ignored, so dropouts and clock drift of
+ * the source are not detected.
+ * <p>
+ * The ECG should be created in streaming mode, i.e. with a limited number of seconds to keep in memory.
+ */
+public class EcgStreamProcessor {
+    private Ecg mEcg;
+    private HeartbeatDetector mDetector;
+    private QrsDetector mQrsDetector;
+    private EcgSignal[] mSignals;
+    private int mNumLeads;
+
+    /**
+     * Factor to convert raw short values to physical values.
+     */
+    private double mGain = 1d;
+    /**
+     * Maximum latency in samples between an R peak and the report of its heartbeat.
+     */
+    private int mMaxLatency;
+    /**
+     * Global index of the next sample.
+     */
+    private int mSampleIndex = 0;
+
+    /**
+     * Creates a stream processor using the default QRS, P and T wave detectors.
+     *
+     * @param ecg      the (streaming) ECG the samples are appended to.
+     * @param listener the listener that receives all detected heartbeats.
+     */
+    public EcgStreamProcessor(Ecg ecg, HeartbeatDetectionListener listener) {
+        this(ecg, null, null, null, listener);
+    }
+
+    /**
+     * Creates a stream processor.
+     *
+     * @param ecg           the (streaming) ECG the samples are appended to.
+     * @param qrsDetector   the QRS detector to use, or <code>null</code> to use the default one.
+     * @param pWaveDetector the P wave detector to use, or <code>null</code> to use the default one.
+     * @param tWaveDetector the T wave detector to use, or <code>null</code> to use the default one.
+     * @param listener      the listener that receives all detected heartbeats.
+     */
+    public EcgStreamProcessor(Ecg ecg, QrsDetector qrsDetector, PWaveDetector pWaveDetector,
+                              TWaveDetector tWaveDetector, HeartbeatDetectionListener listener) {
+        mEcg = ecg;
+        mDetector = new HeartbeatDetector(ecg, qrsDetector, pWaveDetector, tWaveDetector, listener);
+        mQrsDetector = mDetector.getQrsDetector();
+
+        mNumLeads = ecg.getNumLeads();
+        mSignals = new EcgSignal[mNumLeads];
+        for (int i = 0; i < mNumLeads; i++) {
+            mSignals[i] = ecg.getSignalFromIndex(i);
+        }
+
+        setMaxLatency(2d);
+    }
+
+    /**
+     * @return the heartbeat detector driven by this stream processor.
+     */
+    public HeartbeatDetector getHeartbeatDetector() {
+        return mDetector;
+    }
+
+    /**
+     * @param gain factor that converts raw <code>short</code> sample values to physical values.
+     */
+    public void setGain(double gain) {
+        mGain = gain;
+    }
+
+    /**
+     * Sets the maximum time between an R peak and the report of its heartbeat.
+     *
+     * @param seconds the maximum latency in seconds.
+     */
+    public void setMaxLatency(double seconds) {
+        mMaxLatency = (int) Math.round(seconds * mEcg.getSamplingRate());
+    }
+
+    /**
+     * @return the number of samples per lead processed so far.
+     */
+    public int getSampleCount() {
+        return mSampleIndex;
+    }
+
+    /**
+     * Processes a block of interleaved samples, i.e. <code>[lead0, lead1, ..., lead0, lead1, ...]</code>.
+     *
+     * @param samples   the interleaved sample values.
+     * @param numFrames the number of samples per lead contained in the block.
+     * @param timestamp timestamp of the first sample of the block in system nanoseconds, only used for the first block.
+     */
+    public void processInterleaved(double[] samples, int numFrames, long timestamp) {
+        beginBlock(timestamp);
+
+        int pos = 0;
+        for (int n = 0; n < numFrames; n++) {
+            for (int lead = 0; lead < mNumLeads; lead++) {
+                mSignals[lead].add(samples[pos++]);
+            }
+            advance();
+        }
+    }
+
+    /**
+     * Processes a block of interleaved raw samples, which are scaled by the gain.
+     *
+     * @param samples   the interleaved sample values.
+     * @param numFrames the number of samples per lead contained in the block.
+     * @param timestamp timestamp of the first sample of the block in system nanoseconds, only used for the first block.
+     * @see #setGain(double)
+     */
+    public void processInterleaved(short[] samples, int numFrames, long timestamp) {
+        beginBlock(timestamp);
+
+        int pos = 0;
+        for (int n = 0; n < numFrames; n++) {
+            for (int lead = 0; lead < mNumLeads; lead++) {
+                mSignals[lead].add(samples[pos++] * mGain);
+            }
+            advance();
+        }
+    }
+
+    /**
+     * Processes a block of samples given separately for each lead.
+     *
+     * @param samples    the sample values, one array per lead.
+     * @param numSamples the number of samples per lead contained in the block.
+     * @param timestamp  timestamp of the first sample of the block in system nanoseconds, only used for the first
+     *                   block.
+     */
+    public void processLeads(double[][] samples, int numSamples, long timestamp) {
+        beginBlock(timestamp);
+
+        for (int n = 0; n < numSamples; n++) {
+            for (int lead = 0; lead < mNumLeads; lead++) {
+                mSignals[lead].add(samples[lead][n]);
+            }
+            advance();
+        }
+    }
+
+    /**
+     * Processes a block of raw samples given separately for each lead, which are scaled by the gain.
+     *
+     * @param samples    the sample values, one array per lead.
+     * @param numSamples the number of samples per lead contained in the block.
+     * @param timestamp  timestamp of the first sample of the block in system nanoseconds, only used for the first
+     *                   block.
+     * @see #setGain(double)
+     */
+    public void processLeads(short[][] samples, int numSamples, long timestamp) {
+        beginBlock(timestamp);
+
+        for (int n = 0; n < numSamples; n++) {
+            for (int lead = 0; lead < mNumLeads; lead++) {
+                mSignals[lead].add(samples[lead][n] * mGain);
+            }
+            advance();
+        }
+    }
+
+    /**
+     * Prepares the processing of the next block.
+     *
+     * @param timestamp timestamp of the first sample of the block in system nanoseconds.
+     */
+    private void beginBlock(long timestamp) {
+        if (mSampleIndex == 0)
+            mEcg.setFirstSampleTimestamp(timestamp);
+        mQrsDetector.updateDetectionSignal();
+    }
+
+    /**
+     * Advances the detection by one sample and enforces the latency bound.
+     */
+    private void advance() {
+        mDetector.processNextSample(mSampleIndex);
+
+        Heartbeat pending = mDetector.getPendingHeartbeat();
+        if (pending != null && mSampleIndex - pending.getQrs().getRPosition() > mMaxLatency)
+            mDetector.flushPendingHeartbeat();
+
+        mSampleIndex++;
+    }
+}
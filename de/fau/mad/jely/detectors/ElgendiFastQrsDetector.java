@@ -19,11 +19,11 @@ package de.fau.mad.jely.detectors;
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.EcgLead;
 import de.fau.mad.jely.EcgSignal;
-import de.fau.mad.jely.Ecglib;
 import de.fau.mad.jely.LeadConfiguration;
 import de.fau.mad.jely.QrsComplex;
 import de.fau.mad.jely.filter.BandpassButterworth8To21;
 import de.fau.mad.jely.filter.DigitalFilter;
+import de.fau.mad.jely.filter.FilterGraph;
 import de.fau.mad.jely.filter.LmeFilter;
 import de.fau.mad.jely.filter.TimeDelayedFilterArray;
 import de.fau.mad.jely.processors.RPeakMaxRefinement;
@@ -53,6 +53,13 @@ public class ElgendiFastQrsDetector extends QrsDetector {
     private DigitalFilter ma2Filter;
     private DigitalFilter ma3Filter;
     private TimeDelayedFilterArray maFilters;
+    // SHARED FILTER STAGES
+    private FilterGraph mGraph = null;
+    private FilterGraph.Node mBandpassNode;
+    private FilterGraph.Node mSquaredNode;
+    private FilterGraph.Node mMa1Node;
+    private FilterGraph.Node mMa2Node;
+    private FilterGraph.Node mMa3Node;
     // THRESHOLDS
     private final double BETA = 0.07;
     private double thr1, thr2;
@@ -67,6 +74,9 @@ public class ElgendiFastQrsDetector extends QrsDetector {
     private int qrsStart;
     private int qrsEnd;
     private int counter;
+    // no threshold crossings are evaluated before this sample after a lead switch
+    private int warmUpEnd = 0;
+    private boolean qrsCompleted = false;
     private List<Double> originalValues;
     private List<Double> squaredValues;
     private QrsComplex previousQrsComplex;
@@ -102,39 +112,27 @@ public class ElgendiFastQrsDetector extends QrsDetector {
      * correction of the R peaks has to be applied or not.
      */
     public ElgendiFastQrsDetector(Ecg ecg, boolean applyPostProcessing) {
-        super(ecg);
+        this(ecg, null, applyPostProcessing);
+    }
 
-        bpFilter = BandpassButterworth8To21.newEcgFilter(mEcg.getSamplingRate());
+    /**
+     * Creates a <code>ElgendiFastQrsDetector</code> object taking its filter
+     * stages from the given graph. Detectors sharing a graph compute identical
+     * stages only once per sample and must be driven with the same sample
+     * indices. The stages are bound to the detection lead when the first sample
+     * is processed.
+     *
+     * @param ecg                 the ECG to detect QRS complexes in.
+     * @param graph               the graph to take the filter stages from, or
+     *                            <code>null</code> to use private filters.
+     * @param applyPostProcessing whether the temporal correction of the R peaks
+     *                            has to be applied.
+     */
+    public ElgendiFastQrsDetector(Ecg ecg, FilterGraph graph, boolean applyPostProcessing) {
+        super(ecg);
+        mGraph = graph;
 
-        // set first moving average filter (QRS complex)
-        w1 = (int) Math.round(0.0972222 * mEcg.getSamplingRate());
-        double[] ma1_a = {1};
-        double[] ma1_b = new double[w1];
-        for (int i = 0; i < w1; i++) {
-            ma1_b[i] = 1.0 / ((double) w1);
-        }
-        ma1Filter = new DigitalFilter(ma1_b, ma1_a, w1 / 2);
-        // set second moving average filter (heart beat)
-        w2 = (int) Math.round(0.6111 * mEcg.getSamplingRate());
-        double[] ma2_a = {1};
-        double[] ma2_b = new double[w2];
-        for (int i = 0; i < w2; i++) {
-            ma2_b[i] = 1.0 / ((double) w2);
-        }
-        ma2Filter = new DigitalFilter(ma2_b, ma2_a, w2 / 2);
-        // set third moving average filter (threshold)
-        w3 = (int) Math.round(2 * mEcg.getSamplingRate());
-        double[] ma3_a = {1};
-        double[] ma3_b = new double[w3];
-        for (int i = 0; i < w3; i++) {
-            ma3_b[i] = 1.0 / ((double) w3);
-        }
-        ma3Filter = new DigitalFilter(ma3_b, ma3_a, w3 / 2);
-        ArrayList<DigitalFilter> filterArray = new ArrayList<DigitalFilter>();
-        filterArray.add(ma1Filter);
-        filterArray.add(ma2Filter);
-        filterArray.add(ma3Filter);
-        maFilters = new TimeDelayedFilterArray(filterArray);
+        createFilters();
         // init thresholds
         thr1Flag = false;
         thr2 = w1;
@@ -171,6 +169,45 @@ public class ElgendiFastQrsDetector extends QrsDetector {
 
     }
 
+    /**
+     * Creates the band pass and moving average filters. A lead switch creates
+     * new ones, so filter stages shared through a graph are never fed with two
+     * leads.
+     */
+    private void createFilters() {
+        bpFilter = BandpassButterworth8To21.newEcgFilter(mEcg.getSamplingRate());
+
+        // set first moving average filter (QRS complex)
+        w1 = (int) Math.round(0.0972222 * mEcg.getSamplingRate());
+        double[] ma1_a = {1};
+        double[] ma1_b = new double[w1];
+        for (int i = 0; i < w1; i++) {
+            ma1_b[i] = 1.0 / ((double) w1);
+        }
+        ma1Filter = new DigitalFilter(ma1_b, ma1_a, w1 / 2);
+        // set second moving average filter (heart beat)
+        w2 = (int) Math.round(0.6111 * mEcg.getSamplingRate());
+        double[] ma2_a = {1};
+        double[] ma2_b = new double[w2];
+        for (int i = 0; i < w2; i++) {
+            ma2_b[i] = 1.0 / ((double) w2);
+        }
+        ma2Filter = new DigitalFilter(ma2_b, ma2_a, w2 / 2);
+        // set third moving average filter (threshold)
+        w3 = (int) Math.round(2 * mEcg.getSamplingRate());
+        double[] ma3_a = {1};
+        double[] ma3_b = new double[w3];
+        for (int i = 0; i < w3; i++) {
+            ma3_b[i] = 1.0 / ((double) w3);
+        }
+        ma3Filter = new DigitalFilter(ma3_b, ma3_a, w3 / 2);
+        ArrayList<DigitalFilter> filterArray = new ArrayList<DigitalFilter>();
+        filterArray.add(ma1Filter);
+        filterArray.add(ma2Filter);
+        filterArray.add(ma3Filter);
+        maFilters = new TimeDelayedFilterArray(filterArray);
+    }
+
     public ArrayList<Double> mDebugSignal = new ArrayList<>();
 
     public double[] getDebugSignal() {
@@ -204,13 +241,54 @@ public class ElgendiFastQrsDetector extends QrsDetector {
         return out;
     }
 
+    /**
+     * Subscribes to the filter stages in the graph, replacing the private
+     * filters. The moving averages are delayed like in the
+     * <code>TimeDelayedFilterArray</code>, so they stay aligned.
+     */
+    private void subscribe(EcgSignal signal) {
+        FilterGraph.Node source = mGraph.source(signal);
+        mBandpassNode = mGraph.add(source, FilterGraph.of(bpFilter));
+        mSquaredNode = mGraph.add(mBandpassNode, FilterGraph.square());
+        int maxDelay = maFilters.getMaxGroupDelay();
+        mMa1Node = mGraph.add(mGraph.add(mSquaredNode, FilterGraph.of(ma1Filter)),
+                FilterGraph.delay(maxDelay - ma1Filter.getGroupDelay()));
+        mMa2Node = mGraph.add(mGraph.add(mSquaredNode, FilterGraph.of(ma2Filter)),
+                FilterGraph.delay(maxDelay - ma2Filter.getGroupDelay()));
+        mMa3Node = mGraph.add(mGraph.add(mSquaredNode, FilterGraph.of(ma3Filter)),
+                FilterGraph.delay(maxDelay - ma3Filter.getGroupDelay()));
+    }
+
     public double getBandpassFilteredValue() {
         return bpFiltered;
     }
 
+    /**
+     * Restarts the detection after a lead switch. The filters and buffers only
+     * hold values of the previous lead, so they are discarded and no QRS
+     * complexes are searched until the new filters have settled.
+     */
+    private void restart() {
+        createFilters();
+        mBandpassNode = null;
+        thr1Flag = false;
+        qrsStart = 0;
+        qrsEnd = 0;
+        originalValues.clear();
+        squaredValues.clear();
+        warmUpEnd = counter + Math.max(w3, bufferSize);
+    }
+
     @Override
     public QrsComplex next(int sampleIndex) {
-        EcgSignal signal = mEcg.getSignalFromBestMatchingLead(EcgLead.II);
+        // the lead may only change between two beats
+        if (currentQrsComplex == null && !thr1Flag) {
+            int index = sampleIndex >= 0 ? sampleIndex : mEcg.getSignalFromIndex(0).getTotalLength() - 1;
+            if (selectDetectionSignal(EcgLead.II, index, qrsCompleted))
+                restart();
+            qrsCompleted = false;
+        }
+        EcgSignal signal = getDetectionSignal(EcgLead.II);
 
         double value;
         if (sampleIndex >= 0) {
@@ -222,25 +300,35 @@ public class ElgendiFastQrsDetector extends QrsDetector {
         // init return value
         QrsComplex detectedQrsComplex = null;
 
-        // apply bandpass filter
-        bpFiltered = bpFilter.next(value);
-
-        // square bandpass filtered value
-        squared = bpFiltered * bpFiltered;
-        // apply moving average filters
-        // ma1Filtered = ma1Filter.next( squared );
-        // ma2Filtered = ma2Filter.next( squared );
-        // ma3Filtered = ma3Filter.next( squared );
-
-        double[] res = maFilters.next(squared);
-        ma1Filtered = res[0];
-        ma2Filtered = res[1];
-        ma3Filtered = res[2];
+        if (mGraph != null) {
+            if (mBandpassNode == null)
+                subscribe(signal);
+            ma1Filtered = mMa1Node.valueAt(sampleIndex);
+            ma2Filtered = mMa2Node.valueAt(sampleIndex);
+            ma3Filtered = mMa3Node.valueAt(sampleIndex);
+            bpFiltered = mBandpassNode.getValue();
+            squared = mSquaredNode.getValue();
+        } else {
+            // apply bandpass filter
+            bpFiltered = bpFilter.next(value);
+
+            // square bandpass filtered value
+            squared = bpFiltered * bpFiltered;
+            // apply moving average filters
+            // ma1Filtered = ma1Filter.next( squared );
+            // ma2Filtered = ma2Filter.next( squared );
+            // ma3Filtered = ma3Filter.next( squared );
+
+            double[] res = maFilters.next(squared);
+            ma1Filtered = res[0];
+            ma2Filtered = res[1];
+            ma3Filtered = res[2];
+        }
 
         // compute threshold
         thr1 = (BETA * ma3Filtered) + ma2Filtered;
 
-        if (Ecglib.isDebugMode()) {
+        if (mContext.isDebugEnabled()) {
             mDebugSignal.add(ma2Filtered);
         }
 
@@ -250,15 +338,16 @@ public class ElgendiFastQrsDetector extends QrsDetector {
             // QRS detection finished
             if (currentQrsBuffer.size() >= numberOfValuesLeftToRPeak + numberOfValuesRightToRPeak) {
                 currentQrsComplex.setSampleIndexEnd(currentQrsComplex.getRPosition() + numberOfValuesRightToRPeak);
-                detectedQrsComplex = currentQrsComplex;
-                onQrsComplexFound(currentQrsComplex);
+                if (onQrsComplexFound(currentQrsComplex))
+                    detectedQrsComplex = currentQrsComplex;
                 previousQrsComplex = currentQrsComplex;
                 currentQrsComplex = null;
+                qrsCompleted = true;
             }
         }
 
         // test for threshold crossing (below thr1 -> above thr1)
-        if (ma1Filtered > thr1 && !thr1Flag) {
+        if (ma1Filtered > thr1 && !thr1Flag && counter >= warmUpEnd) {
             // test for valid QRS complex
             if (qrsEnd - qrsStart >= thr2) {
                 // test for minimum blanking interval
@@ -306,10 +395,11 @@ public class ElgendiFastQrsDetector extends QrsDetector {
                     if (currentQrsBuffer.size() >= numberOfValuesLeftToRPeak + numberOfValuesRightToRPeak) {
                         currentQrsComplex
                                 .setSampleIndexEnd(currentQrsComplex.getRPosition() + numberOfValuesRightToRPeak);
-                        detectedQrsComplex = currentQrsComplex;
-                        onQrsComplexFound(currentQrsComplex);
+                        if (onQrsComplexFound(currentQrsComplex))
+                            detectedQrsComplex = currentQrsComplex;
                         previousQrsComplex = currentQrsComplex;
                         currentQrsComplex = null;
+                        qrsCompleted = true;
                     }
 
                     if (originalValues.size() < bufferSize) {
@@ -18,15 +18,15 @@
 package de.fau.mad.jely.detectors;
 
 import java.lang.Math;
+import java.util.HashMap;
 
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.EcgLead;
 import de.fau.mad.jely.EcgSignal;
-import de.fau.mad.jely.MutableEcgSignal;
 import de.fau.mad.jely.QrsComplex;
 import de.fau.mad.jely.TWave;
 import de.fau.mad.jely.filter.BandpassButterworth05To10;
-import de.fau.mad.jely.filter.DigitalFilter;
+import de.fau.mad.jely.filter.FilteredSignalCache;
 
 /**
  * Implementation of Elgendis twave detector.
@@ -36,9 +36,28 @@ import de.fau.mad.jely.filter.DigitalFilter;
 
 public class ElgendiTWaveDetector implements TWaveDetector {
 
+    /**
+     * Length of the bandpass filtered signal history, has to cover the last few RR intervals.
+     */
+    private static final double FILTER_BUFFER_SECONDS = 15;
+
     private Ecg mEcg;
     private EcgSignal mSignal;
-    private EcgSignal mSignalFiltered;
+    /**
+     * Continuously bandpass filtered signals, shared by all beats. Each lead keeps its own, so a lead switch does not
+     * filter the lead again.
+     */
+    private HashMap<EcgSignal, FilteredSignalCache> mFilteredSignals = new HashMap<>();
+    private FilteredSignalCache mSignalFiltered;
+    /**
+     * Global index of the first sample of the current signal window.
+     */
+    private int mSignalOffset;
+    /**
+     * Range of the current signal window that is treated as flattened (QRS removal).
+     */
+    private int mFlatlineFrom;
+    private int mFlatlineTo;
     private double mSamplingRate;
 
     private double mQrsCompensationMean;
@@ -55,8 +74,7 @@ public class ElgendiTWaveDetector implements TWaveDetector {
     public ElgendiTWaveDetector(Ecg ecg) {
 
         this.mEcg = ecg;
-        this.mSignal = mEcg.getSignalFromBestMatchingLead(EcgLead.II);
-        this.mSamplingRate = mSignal.getSamplingRate();
+        this.mSamplingRate = ecg.getSamplingRate();
 
         this.mQrsCompensationMean = 0;
         this.mQrsCompensationCount = 0;
@@ -78,10 +96,6 @@ public class ElgendiTWaveDetector implements TWaveDetector {
     @Override
     public TWave findTWave(Ecg ecg, QrsComplex qrs) {
 
-        this.mEcg = ecg;
-        this.mSignal = mEcg.getSignalFromBestMatchingLead(EcgLead.II);
-        this.mSamplingRate = mSignal.getSamplingRate();
-
         // we need three qrs complexes
         QrsComplex qrsNext = qrs;
         QrsComplex qrsCurrent = qrs.getPreviousQrs();
@@ -92,6 +106,11 @@ public class ElgendiTWaveDetector implements TWaveDetector {
         if (qrsCurrent == null || qrsPrevious == null)
             return null;
 
+        // the lead is selected per beat, by its usability at the beat
+        this.mEcg = ecg;
+        this.mSignal = mEcg.getSignalFromBestMatchingLead(EcgLead.II, qrsCurrent.getRPosition());
+        this.mSamplingRate = mSignal.getSamplingRate();
+
 
         /*
          * Bandpass Filtering
@@ -107,12 +126,19 @@ public class ElgendiTWaveDetector implements TWaveDetector {
         int signalRPositionPrevious = qrsPrevious.getRPosition() - signalOffset;
         int signalRPositionNext = qrsNext.getRPosition() - signalOffset;
 
-        // copy relevant range to mSignalFiltered
-        mSignalFiltered = new MutableEcgSignal(mSignal, signalWindowLowerBound, signalWindowUpperBound);
-
-        // apply filter
-        DigitalFilter bPFilter = BandpassButterworth05To10.newEcgFilter(mEcg.getSamplingRate());
-        mSignalFiltered = mSignalFiltered.applyFilter(bPFilter);
+        // the filter runs continuously over the signal, the window is only a view onto its output
+        mSignalFiltered = mFilteredSignals.get(mSignal);
+        if (mSignalFiltered == null) {
+            mSignalFiltered = new FilteredSignalCache(mSignal,
+                    BandpassButterworth05To10.newEcgFilter(mEcg.getSamplingRate()),
+                    (int) (FILTER_BUFFER_SECONDS * mSamplingRate));
+            mFilteredSignals.put(mSignal, mSignalFiltered);
+        }
+        if (signalWindowLowerBound < mSignalFiltered.getFirstCachedIndex())
+            return null;
+        mSignalOffset = signalOffset;
+        mFlatlineFrom = 1;
+        mFlatlineTo = 0;
 
 
         /*
@@ -298,11 +324,22 @@ public class ElgendiTWaveDetector implements TWaveDetector {
         // assuming threshold equals w1 in seconds
         int thr1 = w1 / 1000;
 
+        // moving average sums, updated while sliding over the search range
+        int h1 = (w1 - 1) / 2;
+        int h2 = (w2 - 1) / 2;
+        double sum1 = movingSum(tMin, w1);
+        double sum2 = movingSum(tMin, w2);
+
         // searching for 'block of interest' by the calculated bounds tMin and tMax
         for (int n = tMin; n <= tMax; ++n) {
 
-            double maPeak = movingAverage(n, w1);
-            double maTwave = movingAverage(n, w2) + thr1;
+            if (n > tMin) {
+                sum1 += getSignalValue(n + h1) - getSignalValue(n - 1 - h1);
+                sum2 += getSignalValue(n + h2) - getSignalValue(n - 1 - h2);
+            }
+
+            double maPeak = sum1 / w1;
+            double maTwave = sum2 / w2 + thr1;
 
             // searching lower bound of first twave block
             if (maPeak > maTwave &&
@@ -354,38 +391,31 @@ public class ElgendiTWaveDetector implements TWaveDetector {
      */
 
     /**
-     * Returns the signals value at specific position
+     * Returns the filtered signals value at specific position of the current window. Flattened positions and
+     * positions outside the filtered signal history are 0.
      *
      * @param position [int]
      * @return value [double]
      */
     private double getSignalValue(int position) {
 
-        double value = mSignalFiltered.get(position);
-
-        return value;
-    }
-
-    /**
-     * Sets the signal at specific position to the given value
-     *
-     * @param position [int], value [double]
-     * @return void
-     */
-    private void setSignalValue(int position, double value) {
+        if (position >= mFlatlineFrom && position <= mFlatlineTo)
+            return 0.0;
 
-        mSignalFiltered.set(position, value);
+        int index = position + mSignalOffset;
+        if (index < mSignalFiltered.getFirstCachedIndex() || index >= mSignalFiltered.getAvailableLength())
+            return 0.0;
 
-        return;
+        return mSignalFiltered.get(index);
     }
 
     /**
-     * Calculates the moving average peak over the given window size and position n
+     * Calculates the moving sum over the given window size centered at position n
      *
      * @param n [int], window [int]
      * @return result [double]
      */
-    private double movingAverage(int n, int window) {
+    private double movingSum(int n, int window) {
 
         double sum = 0;
 
@@ -398,7 +428,7 @@ public class ElgendiTWaveDetector implements TWaveDetector {
 
         }
 
-        return sum / window;
+        return sum;
     }
 
     /**
@@ -467,7 +497,7 @@ public class ElgendiTWaveDetector implements TWaveDetector {
     }
 
     /**
-     * Flattens the ECG signal in the given range
+     * Flattens the filtered ECG signal in the given range of the current window
      *
      * @param from [int], to [int]
      * @return void
@@ -475,10 +505,8 @@ public class ElgendiTWaveDetector implements TWaveDetector {
     private void flatLine(int from, int to) {
 
         if (from > 0 && to > 0) {
-            for (int i = from; i <= to; ++i) {
-
-                setSignalValue(i, 0.0);
-            }
+            mFlatlineFrom = from;
+            mFlatlineTo = to;
         }
 
         return;
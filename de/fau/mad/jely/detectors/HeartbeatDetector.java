@@ -18,8 +18,8 @@ package de.fau.mad.jely.detectors;
 
 import java.util.ArrayList;
 
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Ecg;
-import de.fau.mad.jely.Ecglib;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsComplex;
 import de.fau.mad.jely.processors.RPeakMaxRefinement;
@@ -37,6 +37,10 @@ public class HeartbeatDetector {
     Ecg mEcg;
     HeartbeatDetectionListener mHeartbeatListener;
     protected ShiftListObject mBeatList;
+    /**
+     * The most recent beat that was already reported ahead of time by {@link #flushPendingHeartbeat()}.
+     */
+    private Heartbeat mFlushedBeat;
 
     /**
      * A listener for new detected heartbeats.
@@ -96,20 +100,25 @@ public class HeartbeatDetector {
             mQrsDetector = new ElgendiFastQrsDetector(ecg);
         }
 
+        // the default P and T wave detectors share one instance, so the signal is only filtered once
+        NaivePtDetector defaultPtDetector = null;
+        if (pWaveDetector == null || tWaveDetector == null)
+            defaultPtDetector = new NaivePtDetector(ecg);
+
         if (pWaveDetector != null)
             mPWaveDetector = pWaveDetector;
         else
-            mPWaveDetector = new NaivePtDetector(ecg);
+            mPWaveDetector = defaultPtDetector;
 
         if (tWaveDetector != null)
             mTWaveDetector = tWaveDetector;
         else
-            mTWaveDetector = new NaivePtDetector(ecg);
+            mTWaveDetector = defaultPtDetector;
 
         mHeartbeatListener = heartbeatListener;
         mBeatList = new ShiftListObject(32);
 
-        if (Ecglib.isDebugMode())
+        if (mQrsDetector.getContext().isDebugEnabled())
             System.out.println("HeatbeatDetector initiated " + mQrsDetector + "; " + mPWaveDetector + "; " + mTWaveDetector + "; " + mHeartbeatListener);
     }
     
@@ -135,18 +144,59 @@ public class HeartbeatDetector {
                 prevBeat.setNextBeat(qrs.getHeartbeat());
                 qrs.getHeartbeat().setPreviousBeat(prevBeat);
 
-                findHeartbeat(prevBeat);
+                if (prevBeat == mFlushedBeat) {
+                    // the beat was already reported, only the T wave was missing
+                    if (mTWaveDetector != null)
+                        prevBeat.setTWave(mTWaveDetector.findTWave(mEcg, prevBeat.getQrs()));
+                } else {
+                    findHeartbeat(prevBeat);
 
-                // always the previous beat detection is reported so we have
-                // enough signal samples in real-time mode for processing
-                if (mHeartbeatListener != null)
-                    mHeartbeatListener.onHeartbeatDetected(prevBeat);
+                    // always the previous beat detection is reported so we have
+                    // enough signal samples in real-time mode for processing
+                    if (mHeartbeatListener != null)
+                        mHeartbeatListener.onHeartbeatDetected(prevBeat);
+                }
             }
 
             mBeatList.add(qrs.getHeartbeat());
         }
     }
 
+    /**
+     * @return the most recently detected heartbeat that has not been reported to the listener yet, or
+     * <code>null</code> if there is none.
+     */
+    public Heartbeat getPendingHeartbeat() {
+        if (mBeatList.size() == 0)
+            return null;
+
+        Heartbeat beat = (Heartbeat) mBeatList.getHeadValue();
+        if (beat == mFlushedBeat)
+            return null;
+        return beat;
+    }
+
+    /**
+     * Reports the most recently detected heartbeat to the listener without waiting for the next QRS complex. This
+     * bounds the reporting latency during pauses or asystole. The T wave of a flushed beat can only be searched once
+     * the next beat is found, it is then set on the already reported object.
+     *
+     * @return true if a pending heartbeat was reported, false if there was none.
+     */
+    public boolean flushPendingHeartbeat() {
+        Heartbeat beat = getPendingHeartbeat();
+        if (beat == null)
+            return false;
+
+        if (mPWaveDetector != null)
+            beat.setPWave(mPWaveDetector.findPWave(mEcg, beat.getQrs()));
+
+        mFlushedBeat = beat;
+        if (mHeartbeatListener != null)
+            mHeartbeatListener.onHeartbeatDetected(beat);
+        return true;
+    }
+
     /**
      * Finishes heartbeat detection for the given beat
      *
@@ -170,7 +220,7 @@ public class HeartbeatDetector {
         mHeartbeatListener = new HeartbeatDetectionListener() {
             @Override
             public void onHeartbeatDetected(Heartbeat heartbeat) {
-                if (Ecglib.isDebugMode())
+                if (mQrsDetector.getContext().isDebugEnabled())
                     System.out.println("Detected heartbeat: " + heartbeat);
 
                 beatList.add(heartbeat);
@@ -186,6 +236,36 @@ public class HeartbeatDetector {
         return beatList;
     }
     
+    /**
+     * Finds all heartbeats in the current ECG signal and appends them to the given table. Only the last few beats stay
+     * linked to each other, so the detected objects can be garbage collected once they were copied into the table.
+     *
+     * @param table the table to append to.
+     * @return the given table.
+     */
+    public BeatTable findHeartbeats(final BeatTable table) {
+        HeartbeatDetectionListener oldListener = mHeartbeatListener;
+        mHeartbeatListener = new HeartbeatDetectionListener() {
+            @Override
+            public void onHeartbeatDetected(Heartbeat heartbeat) {
+                if (mQrsDetector.getContext().isDebugEnabled())
+                    System.out.println("Detected heartbeat: " + heartbeat);
+
+                table.add(heartbeat);
+                // the T wave search of the next beat still looks back two beats
+                BeatTable.detachHistory(heartbeat.getQrs(), 3);
+            }
+        };
+
+        for (int i = 0; i < mEcg.getSignalFromIndex(0).size(); i++) {
+            processNextSample(i);
+        }
+
+        mHeartbeatListener = oldListener;
+
+        return table;
+    }
+
     /**
      * Convert an ArrayList of Heartbeats to an array of R-peak positions.
      * @param beatList
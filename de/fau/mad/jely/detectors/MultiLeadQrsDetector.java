@@ -0,0 +1,453 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import de.fau.mad.jely.Ecg;
+import de.fau.mad.jely.EcgSignal;
+import de.fau.mad.jely.Ecglib;
+import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.SignalQualityAssessor;
+import de.fau.shiftlist.ShiftListObject;
+
+/**
+ * QRS detector that runs a single-lead detector on every lead of the ECG and fuses the candidates into one stream of
+ * QRS complexes. Candidates from different leads whose R peaks lie within a tolerance window are treated as the same
+ * beat, which is accepted by a majority or a signal-to-noise weighted vote of the leads.
+ * <p>
+ * When running over a whole recording with {@link #findQrsComplexes()} the leads are processed concurrently. When
+ * streaming with {@link #next(int)} the leads are processed one after another, since the per-sample work is too small
+ * to be worth handing to other threads.
+ * <p>
+ * Every lead runs the complete preprocessing chain of its own detector. The leads carry different signals, so no stage
+ * of one lead could be reused by another through a {@link de.fau.mad.jely.filter.FilterGraph}. The lead detectors
+ * must not share a graph either, since the graph is not thread-safe and {@link #findQrsComplexes()} runs them
+ * concurrently.
+ */
+public class MultiLeadQrsDetector extends QrsDetector {
+    /**
+     * Creates the single-lead detector for one lead of the ECG.
+     */
+    public interface LeadDetectorFactory {
+        /**
+         * @param ecg       the ECG the detector works on.
+         * @param leadIndex the index of the lead the detector has to be bound to.
+         * @return a new detector working only on the given lead.
+         */
+        QrsDetector createDetector(Ecg ecg, int leadIndex);
+    }
+
+    /**
+     * Creates an {@link ElgendiFastQrsDetector} for each lead.
+     */
+    public static final LeadDetectorFactory ELGENDI_FACTORY = new LeadDetectorFactory() {
+        @Override
+        public QrsDetector createDetector(Ecg ecg, int leadIndex) {
+            QrsDetector detector = new ElgendiFastQrsDetector(ecg);
+            detector.setLeadIndex(leadIndex);
+            return detector;
+        }
+    };
+
+    /**
+     * How the votes of the leads are counted.
+     */
+    public enum VotingMode {
+        /**
+         * A beat is accepted if it was detected in more than half of the leads.
+         */
+        MAJORITY,
+        /**
+         * Each lead votes with its current signal-to-noise estimate. A beat is accepted if the leads that detected it
+         * hold more than half of the total weight.
+         */
+        SNR_WEIGHTED
+    }
+
+    private static final double DEFAULT_TOLERANCE_SECONDS = 0.1;
+    private static final double DEFAULT_FUSION_DELAY_SECONDS = 0.5;
+    private static final double NOISE_AVERAGING_SECONDS = 2.0;
+    private static final double WEIGHT_ADAPTATION = 0.2;
+
+    /**
+     * A QRS complex found in a single lead.
+     */
+    private static class Candidate {
+        final int lead;
+        final int detectionIndex;
+        final QrsComplex qrs;
+        final double snr;
+
+        Candidate(int lead, int detectionIndex, QrsComplex qrs, double snr) {
+            this.lead = lead;
+            this.detectionIndex = detectionIndex;
+            this.qrs = qrs;
+            this.snr = snr;
+        }
+    }
+
+    /**
+     * Candidates from different leads belonging to the same beat.
+     */
+    private static class Cluster {
+        final int anchorPosition;
+        final int firstDetectionIndex;
+        final ArrayList<Candidate> candidates = new ArrayList<>();
+
+        Cluster(Candidate first) {
+            anchorPosition = first.qrs.getRPosition();
+            firstDetectionIndex = first.detectionIndex;
+            candidates.add(first);
+        }
+
+        boolean hasLead(int lead) {
+            for (Candidate c : candidates) {
+                if (c.lead == lead)
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The detector of one lead together with its running noise estimate.
+     */
+    private class LeadChannel {
+        final int mLead;
+        final QrsDetector mDetector;
+        double mNoise = 0;
+        double mLastValue = Double.NaN;
+
+        LeadChannel(int lead, QrsDetector detector) {
+            mLead = lead;
+            mDetector = detector;
+        }
+
+        Candidate process(int sampleIndex) {
+            EcgSignal signal = mEcg.getSignalFromIndex(mLead);
+            double value = sampleIndex >= 0 ? signal.get(sampleIndex) : signal.getSignal().getHeadValue();
+            if (!Double.isNaN(mLastValue))
+                mNoise += (Math.abs(value - mLastValue) - mNoise) * mNoiseAlpha;
+            mLastValue = value;
+
+            QrsComplex qrs = mDetector.next(sampleIndex);
+            if (qrs == null)
+                return null;
+            int index = sampleIndex >= 0 ? sampleIndex : signal.getTotalLength() - 1;
+            double amplitude = Math.abs(qrs.getRValue() - qrs.getBaselineValue());
+            return new Candidate(mLead, index, qrs, amplitude / (mNoise + 1e-12));
+        }
+    }
+
+    private final LeadChannel[] mChannels;
+    private final double[] mWeights;
+    private final double mNoiseAlpha;
+    private VotingMode mVotingMode = VotingMode.SNR_WEIGHTED;
+    private int mTolerance;
+    private int mFusionDelay;
+    private ExecutorService mExecutor = null;
+    private final ArrayList<Cluster> mPendingClusters = new ArrayList<>();
+    private final ArrayDeque<QrsComplex> mFusedQueue = new ArrayDeque<>();
+    private int mLastFusedPosition = Integer.MIN_VALUE;
+
+    /**
+     * Constructs a multi-lead detector using the {@link ElgendiFastQrsDetector} on every lead of the given ECG.
+     *
+     * @param ecg the ECG to detect QRS complexes in.
+     */
+    public MultiLeadQrsDetector(Ecg ecg) {
+        this(ecg, ELGENDI_FACTORY);
+    }
+
+    /**
+     * Constructs a multi-lead detector using detectors from the given factory on every lead of the given ECG.
+     *
+     * @param ecg     the ECG to detect QRS complexes in.
+     * @param factory creates the single-lead detectors.
+     */
+    public MultiLeadQrsDetector(Ecg ecg, LeadDetectorFactory factory) {
+        super(ecg);
+        int numLeads = ecg.getNumLeads();
+        mChannels = new LeadChannel[numLeads];
+        for (int i = 0; i < numLeads; i++) {
+            QrsDetector detector = factory.createDetector(ecg, i);
+            detector.setContext(mContext);
+            mChannels[i] = new LeadChannel(i, detector);
+        }
+        mWeights = new double[numLeads];
+        Arrays.fill(mWeights, 1.0);
+        mNoiseAlpha = 1.0 / (NOISE_AVERAGING_SECONDS * ecg.getSamplingRate());
+        mTolerance = (int) Math.round(DEFAULT_TOLERANCE_SECONDS * ecg.getSamplingRate());
+        mFusionDelay = (int) Math.round(DEFAULT_FUSION_DELAY_SECONDS * ecg.getSamplingRate());
+        mQrsList = new ShiftListObject(30);
+    }
+
+    /**
+     * @param mode how the votes of the leads are counted.
+     */
+    public void setVotingMode(VotingMode mode) {
+        mVotingMode = mode;
+    }
+
+    public VotingMode getVotingMode() {
+        return mVotingMode;
+    }
+
+    /**
+     * Sets the maximum distance between R peaks of different leads that are considered the same beat.
+     *
+     * @param seconds the tolerance in seconds.
+     */
+    public void setTolerance(double seconds) {
+        mTolerance = (int) Math.round(seconds * mEcg.getSamplingRate());
+    }
+
+    /**
+     * Sets how long to wait for the other leads after the first lead has reported a beat. This adds to the latency of
+     * the fused detections.
+     *
+     * @param seconds the delay in seconds.
+     */
+    public void setFusionDelay(double seconds) {
+        mFusionDelay = (int) Math.round(seconds * mEcg.getSamplingRate());
+    }
+
+    /**
+     * Sets the executor used to process the leads concurrently in {@link #findQrsComplexes()}. If none is set, a
+     * temporary thread pool is used for each call.
+     *
+     * @param executor the executor to use, or <code>null</code>.
+     */
+    public void setExecutor(ExecutorService executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * @param leadIndex the index of a lead.
+     * @return the detector working on the given lead.
+     */
+    public QrsDetector getLeadDetector(int leadIndex) {
+        return mChannels[leadIndex].mDetector;
+    }
+
+    /**
+     * @param leadIndex the index of a lead.
+     * @return the current voting weight of the given lead.
+     */
+    public double getLeadWeight(int leadIndex) {
+        return mWeights[leadIndex];
+    }
+
+    @Override
+    public void setContext(Ecglib context) {
+        super.setContext(context);
+        if (mChannels != null) {
+            for (LeadChannel channel : mChannels)
+                channel.mDetector.setContext(mContext);
+        }
+    }
+
+    /**
+     * Sets the signal quality assessor for all single-lead detectors. Leads in an unusable stretch do not vote.
+     *
+     * @param assessor the signal quality assessor, or <code>null</code> to let all leads vote.
+     */
+    @Override
+    public void setSignalQualityAssessor(SignalQualityAssessor assessor) {
+        super.setSignalQualityAssessor(assessor);
+        for (LeadChannel channel : mChannels)
+            channel.mDetector.setSignalQualityAssessor(assessor);
+    }
+
+    @Override
+    public QrsComplex next(int sampleIndex) {
+        for (LeadChannel channel : mChannels) {
+            Candidate candidate = channel.process(sampleIndex);
+            if (candidate != null)
+                addCandidate(candidate);
+        }
+
+        if (sampleIndex < 0 && mChannels.length > 0)
+            sampleIndex = mEcg.getSignalFromIndex(0).getTotalLength() - 1;
+        fuseClusters(sampleIndex);
+        return mFusedQueue.poll();
+    }
+
+    /**
+     * Runs the single-lead detectors concurrently over the entire ECG and fuses their results. The result is the same
+     * as calling {@link #next(int)} for every sample, except that beats still waiting for a vote at the end of the
+     * signal are decided as well.
+     */
+    @Override
+    public ArrayList<QrsComplex> findQrsComplexes() {
+        final int numSamples = mChannels.length > 0 ? mEcg.getSignalFromIndex(0).size() : 0;
+
+        ExecutorService executor = mExecutor;
+        boolean ownExecutor = false;
+        if (executor == null) {
+            int threads = Math.max(1, Math.min(mChannels.length, Runtime.getRuntime().availableProcessors()));
+            executor = Executors.newFixedThreadPool(threads);
+            ownExecutor = true;
+        }
+
+        ArrayList<Candidate> candidates = new ArrayList<>();
+        try {
+            ArrayList<Future<List<Candidate>>> futures = new ArrayList<>();
+            for (final LeadChannel channel : mChannels) {
+                futures.add(executor.submit(new Callable<List<Candidate>>() {
+                    @Override
+                    public List<Candidate> call() {
+                        ArrayList<Candidate> result = new ArrayList<>();
+                        for (int i = 0; i < numSamples; i++) {
+                            Candidate candidate = channel.process(i);
+                            if (candidate != null)
+                                result.add(candidate);
+                        }
+                        return result;
+                    }
+                }));
+            }
+            for (Future<List<Candidate>> future : futures)
+                candidates.addAll(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("QRS detection was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("QRS detection failed in one of the leads.", e.getCause());
+        } finally {
+            if (ownExecutor)
+                executor.shutdown();
+        }
+
+        // replay the candidates in the order the streaming detection would have seen them
+        Collections.sort(candidates, new Comparator<Candidate>() {
+            @Override
+            public int compare(Candidate a, Candidate b) {
+                if (a.detectionIndex != b.detectionIndex)
+                    return a.detectionIndex < b.detectionIndex ? -1 : 1;
+                return a.lead - b.lead;
+            }
+        });
+
+        ArrayList<QrsComplex> qrsList = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            fuseClusters(candidate.detectionIndex - 1);
+            addCandidate(candidate);
+        }
+        fuseClusters(Integer.MAX_VALUE);
+        qrsList.addAll(mFusedQueue);
+        mFusedQueue.clear();
+        return qrsList;
+    }
+
+    private void addCandidate(Candidate candidate) {
+        int r = candidate.qrs.getRPosition();
+        for (Cluster cluster : mPendingClusters) {
+            if (Math.abs(r - cluster.anchorPosition) <= mTolerance && !cluster.hasLead(candidate.lead)) {
+                cluster.candidates.add(candidate);
+                return;
+            }
+        }
+        mPendingClusters.add(new Cluster(candidate));
+    }
+
+    /**
+     * Decides on all clusters that waited long enough for the other leads.
+     *
+     * @param sampleIndex the index of the most recently processed sample.
+     */
+    private void fuseClusters(int sampleIndex) {
+        while (!mPendingClusters.isEmpty()) {
+            Cluster cluster = mPendingClusters.get(0);
+            if (sampleIndex != Integer.MAX_VALUE && sampleIndex - cluster.firstDetectionIndex < mFusionDelay)
+                break;
+            mPendingClusters.remove(0);
+            if (isAccepted(cluster)) {
+                Candidate best = updateWeights(cluster);
+                if (best.qrs.getRPosition() > mLastFusedPosition + mTolerance) {
+                    QrsComplex fused = createFusedQrs(best.qrs);
+                    mLastFusedPosition = fused.getRPosition();
+                    if (onQrsComplexFound(fused))
+                        mFusedQueue.add(fused);
+                }
+            }
+        }
+    }
+
+    private boolean isAccepted(Cluster cluster) {
+        if (mVotingMode == VotingMode.MAJORITY) {
+            int leads = 0;
+            for (int i = 0; i < mChannels.length; i++) {
+                if (mQualityAssessor == null || mQualityAssessor.isUsable(i, cluster.anchorPosition))
+                    leads++;
+            }
+            return cluster.candidates.size() * 2 > leads;
+        }
+
+        // leads in an unusable stretch abstain
+        double total = 0;
+        for (int i = 0; i < mWeights.length; i++) {
+            if (mQualityAssessor == null || mQualityAssessor.isUsable(i, cluster.anchorPosition))
+                total += mWeights[i];
+        }
+        double votes = 0;
+        for (Candidate c : cluster.candidates)
+            votes += mWeights[c.lead];
+        return votes * 2 > total;
+    }
+
+    /**
+     * Adapts the lead weights to the signal-to-noise ratios seen in an accepted beat. Leads that missed the beat lose
+     * weight.
+     *
+     * @return the candidate from the lead with the highest weight.
+     */
+    private Candidate updateWeights(Cluster cluster) {
+        double[] snr = new double[mWeights.length];
+        for (Candidate c : cluster.candidates)
+            snr[c.lead] = c.snr;
+
+        Candidate best = cluster.candidates.get(0);
+        for (Candidate c : cluster.candidates) {
+            if (mWeights[c.lead] > mWeights[best.lead])
+                best = c;
+        }
+
+        for (int i = 0; i < mWeights.length; i++)
+            mWeights[i] += (snr[i] - mWeights[i]) * WEIGHT_ADAPTATION;
+        return best;
+    }
+
+    private QrsComplex createFusedQrs(QrsComplex source) {
+        QrsComplex qrs = new QrsComplex(source.getSignal());
+        qrs.setRPeak(source.getRPosition(), source.getRValue());
+        qrs.setSampleIndexStart(source.getSampleIndexStart());
+        qrs.setSampleIndexEnd(source.getSampleIndexEnd());
+        return qrs;
+    }
+}
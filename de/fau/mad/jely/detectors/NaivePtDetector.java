@@ -16,16 +16,19 @@
  */
 package de.fau.mad.jely.detectors;
 
+import java.util.HashMap;
+import java.util.List;
+
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.EcgLead;
 import de.fau.mad.jely.EcgSignal;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.PWave;
 import de.fau.mad.jely.QrsComplex;
-import de.fau.mad.jely.SignalView;
 import de.fau.mad.jely.TWave;
 import de.fau.mad.jely.filter.BandpassButterworth05To10;
 import de.fau.mad.jely.filter.DigitalFilter;
+import de.fau.mad.jely.filter.FilteredSignalCache;
 import de.fau.mad.jely.util.DescriptiveStatistics;
 import de.fau.mad.jely.util.DescriptiveStatistics.IndexValue;
 
@@ -43,6 +46,11 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
 
     private double mSamplingRate = 0;
     private DigitalFilter mBpFilter = null;
+    /**
+     * The filtered signals shared by the P and T wave search, one per lead, so each sample is filtered only once and
+     * a lead switch does not filter the lead again from its start.
+     */
+    private HashMap<EcgSignal, FilteredSignalCache> mFilteredSignals = new HashMap<>();
 
     private double mTsearchRegionEndRRfrac = 0.5;
     private double mTsearchRegionStart = 0.04;
@@ -61,8 +69,15 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
         this(ecg.getSamplingRate());
     }
 
+    /**
+     * Sets the filter applied before the peak search. Every further lead is filtered by a new instance of it, see
+     * {@link DigitalFilter#newInstance()}.
+     *
+     * @param filter the filter, or <code>null</code> to search the unfiltered signal.
+     */
     public void setFilter(DigitalFilter filter) {
         mBpFilter = filter;
+        mFilteredSignals.clear();
     }
 
     public void useAbsoluteMaximum(boolean useAbsoluteMax) {
@@ -90,7 +105,8 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
 
     @Override
     public TWave findTWave(Ecg ecg, QrsComplex currentQrs) {
-        EcgSignal signal = ecg.getSignalFromBestMatchingLead(EcgLead.II);
+        // the lead is selected per beat, by its usability at the beat
+        EcgSignal signal = ecg.getSignalFromBestMatchingLead(EcgLead.II, currentQrs.getRPosition());
 
         QrsComplex nextQrs = currentQrs.getNextQrs();
 
@@ -106,29 +122,11 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
         if (stopSearch <= startSearch)
             return null;
 
-        // filter the signal?
-        EcgSignal sigFiltered = signal;
-        int searchOffsetDueToFilterDelay = 0;
-        if (mBpFilter != null) {
-            // apply filter
-            sigFiltered = signal.applyFilter(mBpFilter);
-            searchOffsetDueToFilterDelay = mBpFilter.getGroupDelay();
-        }
-
-        startSearch += searchOffsetDueToFilterDelay;
-        stopSearch += searchOffsetDueToFilterDelay;
-
-        // search for the max peak
-        SignalView pSearchArea = sigFiltered.getSignalView(startSearch, stopSearch);
-        IndexValue iv;
-
-        if (mUseAbsoluteMaximum)
-            iv = DescriptiveStatistics.maxAbs(pSearchArea);
-        else
-            iv = DescriptiveStatistics.max(pSearchArea);
+        int globalPeakIndex = findPeak(signal, startSearch, stopSearch);
+        if (globalPeakIndex < 0)
+            return null;
 
         TWave tw = new TWave(currentQrs.getHeartbeat());
-        int globalPeakIndex = pSearchArea.toGlobalIndex(iv.getIndex()) - searchOffsetDueToFilterDelay;
         tw.setPeakValue(signal.get(globalPeakIndex)); // delay of 3 for 360 Hz only!
         tw.setPeakPosition(globalPeakIndex);
         tw.setOnsetPosition(tw.getPeakPosition() - 10);
@@ -139,7 +137,8 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
 
     @Override
     public PWave findPWave(Ecg ecg, QrsComplex currentQrs) {
-        EcgSignal signal = ecg.getSignalFromBestMatchingLead(EcgLead.II);
+        // the lead is selected per beat, by its usability at the beat
+        EcgSignal signal = ecg.getSignalFromBestMatchingLead(EcgLead.II, currentQrs.getRPosition());
 
         if (currentQrs.getPreviousQrs() == null)
             return null;
@@ -153,35 +152,62 @@ public class NaivePtDetector implements PWaveDetector, TWaveDetector {
         if (stopSearch <= startSearch)
             return null;
 
-        // filter the signal?
-        EcgSignal sigFiltered = signal;
+        int globalPeakIndex = findPeak(signal, startSearch, stopSearch);
+        if (globalPeakIndex < 0)
+            return null;
+
+        PWave pw = new PWave(currentQrs.getHeartbeat());
+        pw.setPeakValue(signal.get(globalPeakIndex));
+        pw.setPeakPosition(globalPeakIndex);
+        pw.setOnsetPosition(pw.getPeakPosition() - 10);
+        pw.setOffsetPosition(pw.getPeakPosition() + 10);
+
+        return pw;
+    }
+
+    /**
+     * Searches for the (absolute) maximum in the given region of the (filtered) signal.
+     *
+     * @param signal      the original signal.
+     * @param startSearch first global index of the search region.
+     * @param stopSearch  global index after the search region.
+     * @return the global index of the peak in the original signal, or -1 if the region is not available.
+     */
+    private int findPeak(EcgSignal signal, int startSearch, int stopSearch) {
+        List<Double> searchArea;
         int searchOffsetDueToFilterDelay = 0;
+
+        // filter the signal?
         if (mBpFilter != null) {
-            // apply filter
-            sigFiltered = signal.applyFilter(mBpFilter);
-            searchOffsetDueToFilterDelay = mBpFilter.getGroupDelay();
+            FilteredSignalCache filteredSignal = mFilteredSignals.get(signal);
+            if (filteredSignal == null) {
+                // each lead needs its own filter state, so further leads filter with a copy
+                DigitalFilter filter = mBpFilter;
+                if (!mFilteredSignals.isEmpty())
+                    filter = mBpFilter.newInstance();
+                filteredSignal = new FilteredSignalCache(signal, filter);
+                mFilteredSignals.put(signal, filteredSignal);
+            }
+
+            searchOffsetDueToFilterDelay = filteredSignal.getGroupDelay();
+            startSearch += searchOffsetDueToFilterDelay;
+            stopSearch = Math.min(stopSearch + searchOffsetDueToFilterDelay, filteredSignal.getAvailableLength());
+            if (startSearch < filteredSignal.getFirstCachedIndex() || stopSearch <= startSearch)
+                return -1;
+
+            searchArea = filteredSignal.subList(startSearch, stopSearch);
+        } else {
+            searchArea = signal.getSignalView(startSearch, stopSearch);
         }
 
-        startSearch += searchOffsetDueToFilterDelay;
-        stopSearch += searchOffsetDueToFilterDelay;
-
         // search for the max peak
-        SignalView pSearchArea = sigFiltered.getSignalView(startSearch, stopSearch);
         IndexValue iv;
-
         if (mUseAbsoluteMaximum)
-            iv = DescriptiveStatistics.maxAbs(pSearchArea);
+            iv = DescriptiveStatistics.maxAbs(searchArea);
         else
-            iv = DescriptiveStatistics.max(pSearchArea);
+            iv = DescriptiveStatistics.max(searchArea);
 
-        PWave pw = new PWave(currentQrs.getHeartbeat());
-        int globalPeakIndex = pSearchArea.toGlobalIndex(iv.getIndex()) - searchOffsetDueToFilterDelay;
-        pw.setPeakValue(signal.get(globalPeakIndex));
-        pw.setPeakPosition(globalPeakIndex);
-        pw.setOnsetPosition(pw.getPeakPosition() - 10);
-        pw.setOffsetPosition(pw.getPeakPosition() + 10);
-
-        return pw;
+        return startSearch + iv.getIndex() - searchOffsetDueToFilterDelay;
     }
 
 }
@@ -22,6 +22,9 @@ import de.fau.mad.jely.RRInterval;
 import java.util.ArrayList;
 
 /**
+ * Outlier detection working in place on a linked list of RR intervals. {@link RRSeriesOutlierDetector} applies the
+ * same rules to primitive arrays in linear time.
+ *
  * @author Axel Heinrich
  */
 public class OutlierDetector {
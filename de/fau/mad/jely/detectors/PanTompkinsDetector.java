@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.EcgSignal;
 import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.filter.FilterGraph;
 import de.fau.mad.jely.filter.LmeFilter;
 import de.fau.mad.jely.filter.LmeFilter.MinDetectionFilter;
 import de.fau.mad.jely.filter.LmeFilter.PeakDetectionFilter;
@@ -28,6 +29,7 @@ import de.fau.mad.jely.filter.LmeFilter.StatFilter;
 import de.fau.mad.jely.filter.LmeFilter.WndIntFilter;
 import de.fau.mad.jely.filter.MeanFilter;
 import de.fau.mad.jely.util.DescriptiveStatistics;
+import de.fau.mad.jely.util.TemplateMatcher;
 import de.fau.shiftlist.ShiftListDouble;
 import de.fau.shiftlist.ShiftListObject;
 
@@ -75,7 +77,8 @@ public class PanTompkinsDetector extends QrsDetector {
 	public int postSegment = 1;
 	public int rPassNum = 0;
 
-	public static boolean learning = true;
+	/** true until the two QRS templates have been selected from the first beats */
+	public boolean learning = true;
 
 	public StepHistory bandOut = null;
 	public StepHistory intOut = null;
@@ -111,6 +114,24 @@ public class PanTompkinsDetector extends QrsDetector {
 	public QRS qrsRefTemp = null;
 	public QRS qrsRefTemp2 = null;
 
+	/** template slot 1 of this detector */
+	public QRS template1 = null;
+	/** template slot 2 of this detector */
+	public QRS template2 = null;
+	/** the QRS currently being segmented */
+	public QRS qrsCurrent = null;
+
+	/** graph providing the shared filter stages, or null to use the own filters */
+	private FilterGraph mGraph = null;
+	private FilterGraph.Node mLowpassNode;
+	private FilterGraph.Node mBandNode;
+	private FilterGraph.Node mDiffNode;
+	private FilterGraph.Node mSquaredNode;
+	private FilterGraph.Node mIntNode;
+	private FilterGraph.Node mThresholdNode;
+	/** the previously segmented QRS */
+	public QRS qrsPrevious = null;
+
 	public static class StepHistory {
 		public ShiftListDouble history = null;
 		public double peakOverall = 0f;
@@ -274,15 +295,6 @@ public class PanTompkinsDetector extends QrsDetector {
 		/** qrs from filtered signal */
 		public ShiftListDouble values = null;
 
-		/** Static reference to the template slot 1 */
-		public static QRS template1 = null;
-		/** Static reference to the template slot 2 */
-		public static QRS template2 = null;
-		/** Static reference to the current QRS */
-		public static QRS qrsCurrent = null;
-		/** Static reference to the previous QRS */
-		public static QRS qrsPrevious = null;
-
 		/**
 		 * 
 		 */
@@ -339,11 +351,15 @@ public class PanTompkinsDetector extends QrsDetector {
 		private transient double _x, _y, _sumx, _sumy;
 		
 		/**
-		 * @param template
-		 *            Specific QRS-template to use for correlation classification
+		 * @param qrsPrevious
+		 *            the QRS preceding this one
+		 * @param template1
+		 *            first QRS-template to use for correlation classification
+		 * @param template2
+		 *            second QRS-template to use for correlation classification
 		 * @return the class most likely to fit this QRS
 		 */
-		public QrsClass classify ()
+		public QrsClass classify (QRS qrsPrevious, QRS template1, QRS template2)
 		{
 			if (rIdx == -1)
 			{
@@ -382,8 +398,9 @@ public class PanTompkinsDetector extends QrsDetector {
 
 
 				// calculate correlation to templates
-				feat_cct1 = maxCorr( template1 );
-				feat_cct2 = maxCorr( template2 );
+				TemplateMatcher matcher = prepareMatcher();
+				feat_cct1 = maxCorr( matcher, template1 );
+				feat_cct2 = maxCorr( matcher, template2 );
 
 				feat_arT1diff = arDiff( template1 );
 				feat_arT2diff = arDiff( template2 );
@@ -510,33 +527,64 @@ public class PanTompkinsDetector extends QrsDetector {
 			return classification;
 		}
 
-		private transient double _cc, _maxcc;
-		private transient int _n;
-
-		public double maxCorr(QRS other) {
-			_maxcc = 0d;
+		/** Range of lags tried by {@link #maxCorr(QRS)}. */
+		private static final int MAX_CORR_MIN_LAG = -8;
+		private static final int MAX_CORR_MAX_LAG = 7;
 
-			for (_n = -8; _n < 8; ++_n) {
-				_x = _y = _sumx = _sumy = _cc = 0d;
+		private static final ThreadLocal<TemplateMatcher> sMatcher = new ThreadLocal<TemplateMatcher>();
+		private static final ThreadLocal<double[]> sCorrelationBuffer = new ThreadLocal<double[]>();
 
-				for (_i = 0; _i < values.getFilledSize(); ++_i) {
-					_x = (values.get(_i) - mean);
-					_y = (other.values.get(_n + _i) - other.mean);
+		private static double[] getCorrelationBuffer(int size) {
+			double[] buffer = sCorrelationBuffer.get();
+			if (buffer == null || buffer.length < size) {
+				buffer = new double[size];
+				sCorrelationBuffer.set(buffer);
+			}
+			return buffer;
+		}
 
-					_cc += _x * _y;
+		/**
+		 * Prepares the shared template matcher with the values of this QRS, so
+		 * it can be matched against several other QRS complexes.
+		 * 
+		 * @return the prepared matcher
+		 */
+		private TemplateMatcher prepareMatcher() {
+			TemplateMatcher matcher = sMatcher.get();
+			if (matcher == null) {
+				matcher = new TemplateMatcher();
+				sMatcher.set(matcher);
+			}
 
-					_sumx += _x * _x;
-					_sumy += _y * _y;
-				}
+			int length = values.getFilledSize();
+			double[] buffer = getCorrelationBuffer(length);
+			for (int i = 0; i < length; ++i)
+				buffer[i] = values.get(i);
+			matcher.setTemplate(buffer, 0, length);
+			return matcher;
+		}
 
-				if (_cc != 0) {
-					_cc = _cc / (Math.sqrt(_sumx * _sumy));
-					if (_cc > _maxcc)
-						_maxcc = _cc;
-				}
-			}
+		/**
+		 * @param other
+		 *            the QRS to correlate with
+		 * @return the maximum correlation coefficient of this QRS with the other
+		 *         one over a small range of lags, or 0 if it is not positive
+		 */
+		public double maxCorr(QRS other) {
+			return maxCorr(prepareMatcher(), other);
+		}
 
-			return _maxcc;
+		private static double maxCorr(TemplateMatcher matcher, QRS other) {
+			int length = matcher.getTemplateLength();
+			int size = length + MAX_CORR_MAX_LAG - MAX_CORR_MIN_LAG;
+			double[] buffer = getCorrelationBuffer(size);
+			for (int i = 0; i < size; ++i)
+				buffer[i] = other.values.get(MAX_CORR_MIN_LAG + i);
+
+			// the other QRS is centered at its overall mean, not at the mean of each window
+			matcher.setSignalCenter(other.mean);
+			double cc = matcher.match(buffer, -MAX_CORR_MIN_LAG, MAX_CORR_MIN_LAG, MAX_CORR_MAX_LAG);
+			return Math.max(cc, 0d);
 		}
 
 		public double arDiff(QRS other) {
@@ -551,7 +599,22 @@ public class PanTompkinsDetector extends QrsDetector {
 	}
 
 	public PanTompkinsDetector(Ecg ecg) {
+		this(ecg, null);
+	}
+
+	/**
+	 * Constructs a Pan-Tompkins detector taking its filter stages from the given
+	 * graph. Detectors sharing a graph compute identical stages only once per
+	 * sample and must be driven with the same sample indices. The stages are bound
+	 * to the detection lead when the first sample is processed.
+	 *
+	 * @param ecg   the ECG to detect QRS complexes in.
+	 * @param graph the graph to take the filter stages from, or <code>null</code>
+	 *              to use private filters.
+	 */
+	public PanTompkinsDetector(Ecg ecg, FilterGraph graph) {
 		super(ecg);
+		mGraph = graph;
 
 		samplingRate = this.mEcg.getSamplingRate();
 		samplingTime = 1000f / samplingRate;
@@ -586,15 +649,15 @@ public class PanTompkinsDetector extends QrsDetector {
 			qrsHistory.add(new QRS(maxQrsSize));
 		}
 
-		QRS.template1 = new QRS(maxQrsSize);
-		QRS.template2 = new QRS(maxQrsSize);
+		template1 = new QRS(maxQrsSize);
+		template2 = new QRS(maxQrsSize);
 
-		QRS.qrsCurrent = new QRS(maxQrsSize);
-		qrsHistory.add(QRS.qrsCurrent);
-		//QRS.qrsCurrent = (QRS) qrsHistory.getHeadValue();
-		QRS.qrsCurrent.reset();
+		qrsCurrent = new QRS(maxQrsSize);
+		qrsHistory.add(qrsCurrent);
+		//qrsCurrent = (QRS) qrsHistory.getHeadValue();
+		qrsCurrent.reset();
 
-		QRS.qrsPrevious = null;
+		qrsPrevious = null;
 
 		// start processing after 2 seconds
 		startProcessing = (int) (samplingRate * 2);
@@ -609,12 +672,42 @@ public class PanTompkinsDetector extends QrsDetector {
 	private transient int _i;
 	private double y[] = null;
 
+	/**
+	 * Subscribes to the filter stages in the graph, replacing the own filters.
+	 */
+	private void subscribe(EcgSignal signal) {
+		mLowpassNode = mGraph.add(mGraph.source(signal), stageOf(lowpass));
+		mBandNode = mGraph.add(mLowpassNode, stageOf(highpass));
+		mDiffNode = mGraph.add(mBandNode, stageOf(diff));
+		mSquaredNode = mGraph.add(mDiffNode, FilterGraph.square());
+		mIntNode = mGraph.add(mSquaredNode, stageOf(wndInt));
+		mThresholdNode = mGraph.add(mIntNode, FilterGraph.of(wndMean));
+	}
+
+	/**
+	 * Wraps one of the legacy filters of this detector as a graph stage.
+	 */
+	@SuppressWarnings("deprecation")
+	private static FilterGraph.Stage stageOf(final LmeFilter filter) {
+		return new FilterGraph.Stage() {
+			@Override
+			public double next(double x) {
+				return filter.next(x);
+			}
+
+			@Override
+			public String getKey() {
+				return filter.getResponseKey();
+			}
+		};
+	}
+
 	@Override
 	public QrsComplex next(int sampleIndex) {
 
 		double xnow = 0;
 		QrsComplex currentQrsComplex = null;
-		EcgSignal signal = this.mEcg.getSignal(0);
+		EcgSignal signal = mLeadIndex >= 0 ? this.mEcg.getSignal(mLeadIndex) : this.mEcg.getSignal(0);
 		if (sampleIndex >= 0) {
             xnow = signal.get(sampleIndex);
         } else {
@@ -627,38 +720,49 @@ public class PanTompkinsDetector extends QrsDetector {
 
 		// runtimeCounter += samplingTime;
 
-		// LOW PASS (5 samples delay)
-		y[2] = lowpass.next(y[1]);
+		if (mGraph != null) {
+			if (mThresholdNode == null)
+				subscribe(signal);
+			y[7] = mThresholdNode.valueAt(sampleIndex);
+			y[2] = mLowpassNode.getValue();
+			y[3] = mBandNode.getValue();
+			y[4] = mDiffNode.getValue();
+			y[5] = mSquaredNode.getValue();
+			y[6] = mIntNode.getValue();
+		} else {
+			// LOW PASS (5 samples delay)
+			y[2] = lowpass.next(y[1]);
 
-		// HIGH PASS (16 samples delay)
-		y[3] = highpass.next(y[2]);
+			// HIGH PASS (16 samples delay)
+			y[3] = highpass.next(y[2]);
 
-		// save original ecg after bandpass filtering
-		bandOut.add(y[3]);
+			// Log.d( "lme.pants", "band " + y[ 3 ] );
+
+			// Log.d( "pants", "event " + xnow );
 
-		// Log.d( "lme.pants", "band " + y[ 3 ] );
+			// DIFFERENTIATOR (2 samples delay)
+			y[4] = diff.next(y[3]);
 
-		// Log.d( "pants", "event " + xnow );
+			// SQUARING
+			y[5] = y[4] * y[4];
 
-		// DIFFERENTIATOR (2 samples delay)
-		y[4] = diff.next(y[3]);
+			// hard limit to 255
+			// if (y[ 5 ] > 1024)
+			// y[ 5 ] = 1024;
 
-		// SQUARING
-		y[5] = y[4] * y[4];
+			// WND INTEGRATOR
+			y[6] = wndInt.next(y[5]);
 
-		// hard limit to 255
-		// if (y[ 5 ] > 1024)
-		// y[ 5 ] = 1024;
+			// wndOut-mean
+			y[7] = wndMean.next(y[6]);
+		}
 
-		// WND INTEGRATOR
-		y[6] = wndInt.next(y[5]);
+		// save original ecg after bandpass filtering
+		bandOut.add(y[3]);
 
 		// save value in history
 		intOut.add(y[6]);
 
-		// wndOut-mean
-		y[7] = wndMean.next(y[6]);
-
 		// Log.d( "sd", " " + y[ 1 ] + " " + y[ 3 ] + " " + y[ 4 ] + " " + y[ 6 ] + " "
 		// + y[ 7 ] );
 
@@ -668,13 +772,13 @@ public class PanTompkinsDetector extends QrsDetector {
 		if (startProcessing <= 0) {
 			// check for potential cardiac arrest
 			/*if (lastBeat > 3500) {
-				QRS.qrsCurrent.rIdx = 0;
-				QRS.qrsCurrent.rTimestamp = timestamp;
-				QRS.qrsCurrent.rAmplitude = y[3];
-				QRS.qrsCurrent.classification = QrsClass.VIRTUAL;
-				QRS.qrsCurrent.arrhythmia = QrsArrhythmia.CARDIAC_ARREST;
-				QRS.qrsCurrent.feat_width = lastBeat;
-				QRS.qrsCurrent.segState = SegmentationStatus.FINISHED;
+				qrsCurrent.rIdx = 0;
+				qrsCurrent.rTimestamp = timestamp;
+				qrsCurrent.rAmplitude = y[3];
+				qrsCurrent.classification = QrsClass.VIRTUAL;
+				qrsCurrent.arrhythmia = QrsArrhythmia.CARDIAC_ARREST;
+				qrsCurrent.feat_width = lastBeat;
+				qrsCurrent.segState = SegmentationStatus.FINISHED;
 				return y[6];
 			}*/
 
@@ -685,10 +789,10 @@ public class PanTompkinsDetector extends QrsDetector {
 			qrsThreshold = y[7];
 
 			// is intOut or bandOut above threshold?
-			if (y[3] > qrsThreshold || y[6] > qrsThreshold || QRS.qrsCurrent.segState == QRS.SegmentationStatus.R_FOUND) {
+			if (y[3] > qrsThreshold || y[6] > qrsThreshold || qrsCurrent.segState == QRS.SegmentationStatus.R_FOUND) {
 				++lastCrossing;
 
-				if (QRS.qrsCurrent.segState == QRS.SegmentationStatus.INVALID) {
+				if (qrsCurrent.segState == QRS.SegmentationStatus.INVALID) {
 					// initialize R peak detector
 					rPeak.reset();
 					//rPeak.next(bandOut.history.getPastValue(2));
@@ -698,23 +802,23 @@ public class PanTompkinsDetector extends QrsDetector {
 
 					lastCrossing = 0;
 
-					QRS.qrsCurrent.segState = QRS.SegmentationStatus.THESHOLD_CROSSED;
+					qrsCurrent.segState = QRS.SegmentationStatus.THESHOLD_CROSSED;
 				}
 
-				if (QRS.qrsCurrent.segState == QRS.SegmentationStatus.THESHOLD_CROSSED) {
-					if (lastCrossing > preSegment && QRS.template2.classification == QRS.QrsClass.NORMAL) {
+				if (qrsCurrent.segState == QRS.SegmentationStatus.THESHOLD_CROSSED) {
+					if (lastCrossing > preSegment && template2.classification == QRS.QrsClass.NORMAL) {
 						// if lastCrossing is larger than preSegment samples but no R peak was found it
 						// probably was an
 						// aberrant beat
 						// it is only considered if we already have two template beats
 						//Log.d("lme.pants", "abb beat " + lastCrossing);
-						QRS.qrsCurrent.rIdx = 0;
-						//QRS.qrsCurrent.rTimestamp = timestamp;
-						QRS.qrsCurrent.rAmplitude = y[3];
-						QRS.qrsCurrent.classification = QRS.QrsClass.ABERRANT;
-						QRS.qrsCurrent.arrhythmia = QRS.QrsArrhythmia.ARTIFACT;
-						QRS.qrsCurrent.feat_width = lastCrossing;
-						QRS.qrsCurrent.segState = QRS.SegmentationStatus.FINISHED;
+						qrsCurrent.rIdx = 0;
+						//qrsCurrent.rTimestamp = timestamp;
+						qrsCurrent.rAmplitude = y[3];
+						qrsCurrent.classification = QRS.QrsClass.ABERRANT;
+						qrsCurrent.arrhythmia = QRS.QrsArrhythmia.ARTIFACT;
+						qrsCurrent.feat_width = lastCrossing;
+						qrsCurrent.segState = QRS.SegmentationStatus.FINISHED;
 						// qrsCurrent.feat_rr = 1;
 					}
 				}
@@ -723,17 +827,17 @@ public class PanTompkinsDetector extends QrsDetector {
 				if (lastCrossing > 0)
 					--lastCrossing;
 
-				if (QRS.qrsCurrent.segState == QRS.SegmentationStatus.PROCESSED) {
+				if (qrsCurrent.segState == QRS.SegmentationStatus.PROCESSED) {
 					// QRS was processed, reset
-					//QRS.qrsCurrent = (QRS) qrsHistory.next();
-					QRS.qrsCurrent = new QRS(maxQrsSize);
-					qrsHistory.add(QRS.qrsCurrent);
-					QRS.qrsCurrent.reset();
+					//qrsCurrent = (QRS) qrsHistory.next();
+					qrsCurrent = new QRS(maxQrsSize);
+					qrsHistory.add(qrsCurrent);
+					qrsCurrent.reset();
 				}
 			}
 
 			// check for mean crossing
-			if (QRS.qrsCurrent.segState == QRS.SegmentationStatus.THESHOLD_CROSSED) {
+			if (qrsCurrent.segState == QRS.SegmentationStatus.THESHOLD_CROSSED) {
 				// R peak detector
 				rPeak.next(y[3]);
 
@@ -750,7 +854,7 @@ public class PanTompkinsDetector extends QrsDetector {
 					if (y[6] < qrsThreshold) {
 						if (lastCrossing > 0) {
 							rPeak.reset();
-							QRS.qrsCurrent.segState = QRS.SegmentationStatus.THESHOLD_CROSSED;
+							qrsCurrent.segState = QRS.SegmentationStatus.THESHOLD_CROSSED;
 							lastCrossing = (int) (-1000 * samplingTime);
 							//return y[6];
 							return null;
@@ -764,46 +868,46 @@ public class PanTompkinsDetector extends QrsDetector {
 						y[8] = bandOut.history.get(- preSegment + _i);
 
 						// to current qrs object
-						QRS.qrsCurrent.values.add(y[8]);
+						qrsCurrent.values.add(y[8]);
 
 						// find Q only if it hasn't been found yet
-						if (QRS.qrsCurrent.qIdx == -1) {
+						if (qrsCurrent.qIdx == -1) {
 							// find q-min
 							//qPeak.next(bandOut.history.getPastValue(_i));
 							qPeak.next(bandOut.history.get(-_i));
 							if (qPeak.peakIdx != -1) {
-								QRS.qrsCurrent.qAmplitude = qPeak.peakValue;
-								QRS.qrsCurrent.qIdx = preSegment - _i;
+								qrsCurrent.qAmplitude = qPeak.peakValue;
+								qrsCurrent.qIdx = preSegment - _i;
 							}
 						}
 					}
 
 					// if no Q has been found, we use the first sample
-					if (QRS.qrsCurrent.qIdx == -1) {
-						//QRS.qrsCurrent.qAmplitude = QRS.qrsCurrent.values.values[0];
-						QRS.qrsCurrent.qAmplitude = QRS.qrsCurrent.values.get(0);
-						QRS.qrsCurrent.qIdx = 0;
+					if (qrsCurrent.qIdx == -1) {
+						//qrsCurrent.qAmplitude = qrsCurrent.values.values[0];
+						qrsCurrent.qAmplitude = qrsCurrent.values.get(0);
+						qrsCurrent.qIdx = 0;
 					}
 
 					// r peak in filtered signal
-					//QRS.qrsCurrent.rIdx = QRS.qrsCurrent.values.head - rPeak.peakIdx;
-					QRS.qrsCurrent.rIdx = QRS.qrsCurrent.values.getHeadIndex() - rPeak.peakIdx;
-					QRS.qrsCurrent.rAmplitude = rPeak.peakValue;
-					//QRS.qrsCurrent.rTimestamp = (long) (timestamp - rPeak.peakIdx * samplingTime);
+					//qrsCurrent.rIdx = qrsCurrent.values.head - rPeak.peakIdx;
+					qrsCurrent.rIdx = qrsCurrent.values.getHeadIndex() - rPeak.peakIdx;
+					qrsCurrent.rAmplitude = rPeak.peakValue;
+					//qrsCurrent.rTimestamp = (long) (timestamp - rPeak.peakIdx * samplingTime);
 					rPassNum = 1;
 
 					// Log.d( "pants", "rtime " + qrsCurrent.rTimestamp );
 
 					// check if the amplitudes are valid
-					if (QRS.qrsCurrent.rAmplitude - QRS.qrsCurrent.qAmplitude < bandOut.range * 0.1) {
+					if (qrsCurrent.rAmplitude - qrsCurrent.qAmplitude < bandOut.range * 0.1) {
 						//Log.d("lme.pants", "Amplitude validation error "
-						//		+ (QRS.qrsCurrent.rAmplitude - QRS.qrsCurrent.qAmplitude));
+						//		+ (qrsCurrent.rAmplitude - qrsCurrent.qAmplitude));
 						// probably misdetected
-						QRS.qrsCurrent.reset();
+						qrsCurrent.reset();
 					} else {
 						// wait for S min
 						lastBandPeak = 0;
-						QRS.qrsCurrent.segState = QRS.SegmentationStatus.R_FOUND;
+						qrsCurrent.segState = QRS.SegmentationStatus.R_FOUND;
 
 						// pre-initialize sPeak detector
 						sPeak.next(y[3]);
@@ -814,9 +918,9 @@ public class PanTompkinsDetector extends QrsDetector {
 			// ==============================================
 			// == R peak found... looking for S min
 			// ====>
-			else if (QRS.qrsCurrent.segState == QRS.SegmentationStatus.R_FOUND) {
+			else if (qrsCurrent.segState == QRS.SegmentationStatus.R_FOUND) {
 				// R has been found, we wait for S min
-				QRS.qrsCurrent.values.add(y[3]);
+				qrsCurrent.values.add(y[3]);
 
 				// continue looking for rising peak
 				if (rPassNum > 0) {
@@ -825,7 +929,7 @@ public class PanTompkinsDetector extends QrsDetector {
 					if (risingPeak.peakIdx != -1) {
 						// rising peak of integration window found
 						// the length of the ridge equals the width of the QRS complex
-						QRS.qrsCurrent.feat_width = (long) (rPassNum * wndIntCompensation * samplingTime);
+						qrsCurrent.feat_width = (long) (rPassNum * wndIntCompensation * samplingTime);
 						rPassNum = 0;
 					}
 				}
@@ -833,12 +937,12 @@ public class PanTompkinsDetector extends QrsDetector {
 				++lastBandPeak;
 
 				// find S
-				if (QRS.qrsCurrent.sIdx == -1) {
+				if (qrsCurrent.sIdx == -1) {
 					// find S as min
 					sPeak.next(y[3]);
 					if (sPeak.peakIdx != -1) {
-						QRS.qrsCurrent.sAmplitude = sPeak.peakValue;
-						QRS.qrsCurrent.sIdx = QRS.qrsCurrent.values.getHeadIndex() - sPeak.peakIdx;
+						qrsCurrent.sAmplitude = sPeak.peakValue;
+						qrsCurrent.sIdx = qrsCurrent.values.getHeadIndex() - sPeak.peakIdx;
 					}
 				}
 
@@ -847,29 +951,29 @@ public class PanTompkinsDetector extends QrsDetector {
 					// ==============================================
 					// == segmentation finished
 					// ====>
-					QRS.qrsCurrent.segState = QRS.SegmentationStatus.FINISHED;
+					qrsCurrent.segState = QRS.SegmentationStatus.FINISHED;
 
 					// if no S has been found, we use the last sample
-					if (QRS.qrsCurrent.sIdx == -1) {
-						QRS.qrsCurrent.sAmplitude = y[3];
-						QRS.qrsCurrent.sIdx = QRS.qrsCurrent.values.getHeadIndex();
+					if (qrsCurrent.sIdx == -1) {
+						qrsCurrent.sAmplitude = y[3];
+						qrsCurrent.sIdx = qrsCurrent.values.getHeadIndex();
 					}
 
-					QRS.qrsPrevious = (QRS) qrsHistory.get(-1);
+					qrsPrevious = (QRS) qrsHistory.get(-1);
 
 					// make sure that we have a width
-					if (QRS.qrsCurrent.feat_width < 1) {
+					if (qrsCurrent.feat_width < 1) {
 						// substitute width estimation
-						QRS.qrsCurrent.feat_width = (long) ((QRS.qrsCurrent.sIdx - QRS.qrsCurrent.qIdx)
+						qrsCurrent.feat_width = (long) ((qrsCurrent.sIdx - qrsCurrent.qIdx)
 								* wndIntCompensation * samplingTime);
 					}
 
 					// find a template
-					if (QRS.template1.classification == QRS.QrsClass.INVALID
-							|| QRS.template2.classification == QRS.QrsClass.INVALID) {
+					if (template1.classification == QRS.QrsClass.INVALID
+							|| template2.classification == QRS.QrsClass.INVALID) {
 						// no templates, wait for six beats
 						++beatCounter;
-						if (QRS.qrsCurrent.classify() == QRS.QrsClass.INVALID) {
+						if (qrsCurrent.classify(qrsPrevious, template1, template2) == QRS.QrsClass.INVALID) {
 							--beatCounter;
 						}
 						if (beatCounter == 6) {
@@ -907,20 +1011,20 @@ public class PanTompkinsDetector extends QrsDetector {
 								qrsRefTemp2 = (QRS) qrsHistory.get(-sortList.get(i + 1));
 								if (qrsRefTemp.maxCorr(qrsRefTemp2) > 0.9) {
 									// take those two as templates
-									QRS.template1.copy(qrsRefTemp);
-									QRS.template2.copy(qrsRefTemp2);
-									QRS.template1.classification = QRS.QrsClass.NORMAL;
-									QRS.template2.classification = QRS.QrsClass.NORMAL;
+									template1.copy(qrsRefTemp);
+									template2.copy(qrsRefTemp2);
+									template1.classification = QRS.QrsClass.NORMAL;
+									template2.classification = QRS.QrsClass.NORMAL;
 								}
 							}
 
 							// see if we have two templates
-							if (QRS.template2.classification != QRS.QrsClass.NORMAL) {
+							if (template2.classification != QRS.QrsClass.NORMAL) {
 								// no, only one template, so take the two smallest
-								QRS.template1.copy((QRS) qrsHistory.get(-sortList.get(0)));
-								QRS.template2.copy((QRS) qrsHistory.get(-sortList.get(1)));
-								QRS.template1.classification = QRS.QrsClass.NORMAL;
-								QRS.template2.classification = QRS.QrsClass.NORMAL;
+								template1.copy((QRS) qrsHistory.get(-sortList.get(0)));
+								template2.copy((QRS) qrsHistory.get(-sortList.get(1)));
+								template1.classification = QRS.QrsClass.NORMAL;
+								template2.classification = QRS.QrsClass.NORMAL;
 							}
 
 							// end learning time
@@ -929,53 +1033,54 @@ public class PanTompkinsDetector extends QrsDetector {
 					} else {
 
 						// classify current QRS and only proceed if beat is not invalid
-						if (QRS.qrsCurrent.classify() != QRS.QrsClass.INVALID) {
+						if (qrsCurrent.classify(qrsPrevious, template1, template2) != QRS.QrsClass.INVALID) {
 							// missed beat?
-							if (QRS.qrsCurrent.classification == QRS.QrsClass.ESCAPE) {
+							if (qrsCurrent.classification == QRS.QrsClass.ESCAPE) {
 								// insert copy of current beat between current and last beat
-								QRS.qrsPrevious = QRS.qrsCurrent;
-								//QRS.qrsCurrent = (QRS) qrsHistory.next();
-								QRS.qrsCurrent = new QRS(maxQrsSize);
-								qrsHistory.add(QRS.qrsCurrent);
-								//QRS.qrsCurrent = (QRS) qrsHistory.getHeadValue();
-								QRS.qrsCurrent.copy(QRS.qrsPrevious);
+								qrsPrevious = qrsCurrent;
+								//qrsCurrent = (QRS) qrsHistory.next();
+								qrsCurrent = new QRS(maxQrsSize);
+								qrsHistory.add(qrsCurrent);
+								//qrsCurrent = (QRS) qrsHistory.getHeadValue();
+								qrsCurrent.copy(qrsPrevious);
 
-								QRS.qrsPrevious.classification = QRS.QrsClass.VIRTUAL;
+								qrsPrevious.classification = QRS.QrsClass.VIRTUAL;
 
 								// estimate the timestamps of the inserted (missed/virtual) beat
-								QRS.qrsPrevious.estimateMissedTimestamps();
+								qrsPrevious.estimateMissedTimestamps();
 
 								// reclassify the beat
-								QRS.qrsCurrent.classify();
+								qrsCurrent.classify(qrsPrevious, template1, template2);
 								// make sure it is not classified normal, since it certainly is the escape beat
-								if (QRS.qrsCurrent.classification == QRS.QrsClass.NORMAL)
-									QRS.qrsCurrent.classification = QRS.QrsClass.ESCAPE;
+								if (qrsCurrent.classification == QRS.QrsClass.NORMAL)
+									qrsCurrent.classification = QRS.QrsClass.ESCAPE;
 
-							} else if (QRS.qrsCurrent.classification == QRS.QrsClass.NORMAL) {
-								if (QRS.qrsCurrent.feat_cct1 > QRS.qrsCurrent.feat_cct2) {
+							} else if (qrsCurrent.classification == QRS.QrsClass.NORMAL) {
+								if (qrsCurrent.feat_cct1 > qrsCurrent.feat_cct2) {
 									// replace template 1
-									QRS.template1.copy(QRS.qrsCurrent);
+									template1.copy(qrsCurrent);
 								} else {
 									// replace template 2
-									QRS.template2.copy(QRS.qrsCurrent);
+									template2.copy(qrsCurrent);
 								}
 							}
 
 							// calculate averages
-							rrMeanLong.next(QRS.qrsCurrent.feat_rr);
+							rrMeanLong.next(qrsCurrent.feat_rr);
 
-							if (QRS.qrsCurrent.feat_rr > 180 && QRS.qrsCurrent.feat_rr < 4000) {
-								rrStats.next(QRS.qrsCurrent.feat_rr);
+							if (qrsCurrent.feat_rr > 180 && qrsCurrent.feat_rr < 4000) {
+								rrStats.next(qrsCurrent.feat_rr);
 
 								// calculate heart rate
 								heartRateStats.next(60000 / rrStats.value);
 
-								qrstaStats.next(QRS.qrsCurrent.feat_qrsta);
+								qrstaStats.next(qrsCurrent.feat_qrsta);
 							}
 							
-							System.out.println("QRS found");
+							if (mContext.isDebugEnabled())
+								System.out.println("QRS found");
 							currentQrsComplex = new QrsComplex(signal);
-							currentQrsComplex.setRPeak(QRS.qrsCurrent.rIdx, QRS.qrsCurrent.rAmplitude);
+							currentQrsComplex.setRPeak(qrsCurrent.rIdx, qrsCurrent.rAmplitude);
 						}
 					}
 
@@ -990,6 +1095,9 @@ public class PanTompkinsDetector extends QrsDetector {
 			--startProcessing;
 		}
 
+		if (currentQrsComplex != null && !isInUsableSegment(currentQrsComplex))
+			currentQrsComplex = null;
+
 		// return y[ 6 ];
 		return currentQrsComplex;
 	}
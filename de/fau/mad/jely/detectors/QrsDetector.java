@@ -18,12 +18,14 @@ package de.fau.mad.jely.detectors;
 
 import java.util.ArrayList;
 
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.EcgLead;
 import de.fau.mad.jely.EcgSignal;
 import de.fau.mad.jely.Ecglib;
 import de.fau.mad.jely.LeadConfiguration;
 import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.SignalQualityAssessor;
 import de.fau.mad.jely.processors.PostProcessor;
 import de.fau.mad.jely.processors.QrsDetectionPostProcessor;
 import de.fau.mad.jely.processors.RPeakRefinement;
@@ -39,6 +41,12 @@ public abstract class QrsDetector {
 	protected ArrayList<PostProcessor> mPostProcessors = new ArrayList<>();
 	protected ShiftListObject mQrsList;
 	protected boolean mDebugMode = false;
+	protected Ecglib mContext = Ecglib.getDefaultContext();
+	protected int mLeadIndex = -1;
+	protected SignalQualityAssessor mQualityAssessor = null;
+	private EcgSignal mDetectionSignal = null;
+	private boolean mDetectionSignalOutdated = false;
+	private int mLastLeadSelection = 0;
 
 	/**
 	 * Constructs a QRS detector sensitive to the given sampling rate and requiring
@@ -60,6 +68,8 @@ public abstract class QrsDetector {
 	public void addPostProcessor(PostProcessor processor) {
 		// TODO: search for a similar processor and replace it
 		// processor.getClass().getSuperclass() ??
+		if (processor instanceof RPeakRefinement)
+			((RPeakRefinement) processor).setContext(mContext);
 		mPostProcessors.add(processor);
 	}
 
@@ -86,18 +96,24 @@ public abstract class QrsDetector {
 
 	/**
 	 * This is called every time a new QRS complex has been found by the detection
-	 * algorithm.
+	 * algorithm. QRS complexes in stretches which the signal quality assessor
+	 * considers unusable are dropped.
 	 *
 	 * @param qrs the new QRS complex that was found.
+	 * @return <code>true</code> if the QRS complex was accepted,
+	 *         <code>false</code> if it was dropped.
 	 */
-	protected void onQrsComplexFound(QrsComplex qrs) {
+	protected boolean onQrsComplexFound(QrsComplex qrs) {
+		if (!isInUsableSegment(qrs))
+			return false;
+
 		// TODO: maybe we should differentiate between found R-peaks and found
 		// QrsComplexes. Some detectors only find
 		// the R-peak and some, e.g. Pan-Tompkins, also infer the QRS-width from
 		// their algorithms.
 		qrs.findQrsWidth();
 
-		if (Ecglib.isDebugMode())
+		if (mContext.isDebugEnabled())
 			System.out.println("R-pos: " + qrs.getRPosition());
 		
 		mQrsList.add(qrs);
@@ -125,16 +141,151 @@ public abstract class QrsDetector {
 					output = ((QrsDetectionPostProcessor) postProcessor).process(qrs.getPreviousQrs());
 
 				// write some debug output?
-				if (postProcessor instanceof RPeakRefinement && Ecglib.isDebugMode())
+				if (postProcessor instanceof RPeakRefinement && mContext.isDebugEnabled())
 					System.out.println("Refinement distance: " + output);
 			}
 		}
+		return true;
+	}
+
+	/**
+	 * Sets the assessor deciding which stretches of the signal are unusable. QRS
+	 * complexes found in these stretches are dropped.
+	 *
+	 * @param assessor the signal quality assessor, or <code>null</code> to accept
+	 *                 all QRS complexes.
+	 */
+	public void setSignalQualityAssessor(SignalQualityAssessor assessor) {
+		mQualityAssessor = assessor;
+	}
+
+	/**
+	 * @return the signal quality assessor, or <code>null</code> if none is set.
+	 */
+	public SignalQualityAssessor getSignalQualityAssessor() {
+		return mQualityAssessor;
+	}
+
+	/**
+	 * @param qrs a QRS complex found by this detector.
+	 * @return <code>false</code> if the R peak lies in a stretch the signal quality
+	 *         assessor considers unusable.
+	 */
+	protected boolean isInUsableSegment(QrsComplex qrs) {
+		if (mQualityAssessor == null)
+			return true;
+		return mQualityAssessor.isUsable(qrs.getSignal(), qrs.getRPosition());
 	}
 
 	public void setDebugMode(boolean activate) {
 		mDebugMode = activate;
 	}
 
+	/**
+	 * Sets the context holding the global settings for this detector and its R
+	 * peak refinements. Detectors that run concurrently may share a context or
+	 * use separate ones.
+	 *
+	 * @param context the context to use, or <code>null</code> to use the default
+	 *                context.
+	 */
+	public void setContext(Ecglib context) {
+		mContext = context != null ? context : Ecglib.getDefaultContext();
+		for (PostProcessor postProcessor : mPostProcessors) {
+			if (postProcessor instanceof RPeakRefinement)
+				((RPeakRefinement) postProcessor).setContext(mContext);
+		}
+	}
+
+	/**
+	 * @return the context holding the global settings for this detector.
+	 */
+	public Ecglib getContext() {
+		return mContext;
+	}
+
+	/**
+	 * Binds this detector to a single lead of the attached ECG. By default each
+	 * detector picks the lead it was designed for.
+	 *
+	 * @param leadIndex the index of the lead to detect QRS complexes in, or -1 to
+	 *                  let the detector choose.
+	 */
+	public void setLeadIndex(int leadIndex) {
+		mLeadIndex = leadIndex;
+		mDetectionSignal = null;
+	}
+
+	/**
+	 * @return the index of the lead this detector is bound to, or -1 if the
+	 *         detector chooses the lead itself.
+	 */
+	public int getLeadIndex() {
+		return mLeadIndex;
+	}
+
+	/**
+	 * Returns the signal the detection runs on. The lead is resolved once and
+	 * kept until {@link #selectDetectionSignal(EcgLead, int, boolean)} moves the
+	 * detection to another lead, so the per-sample path does not search the
+	 * leads again.
+	 *
+	 * @param preferredLead the lead to use if this detector is not bound to a
+	 *                      specific lead.
+	 * @return the lead set by {@link #setLeadIndex(int)}, or the signal best
+	 *         matching the preferred lead.
+	 */
+	protected EcgSignal getDetectionSignal(EcgLead preferredLead) {
+		if (mDetectionSignal == null) {
+			if (mLeadIndex >= 0)
+				mDetectionSignal = mEcg.getSignalFromIndex(mLeadIndex);
+			else
+				mDetectionSignal = mEcg.getSignalFromBestMatchingLead(preferredLead);
+		}
+		return mDetectionSignal;
+	}
+
+	/**
+	 * Resolves the detection lead again from the signal quality at the given
+	 * sample. Detectors call this only between two beats, because a lead switch
+	 * inside a beat would feed two signals into one filter chain. The lead is
+	 * resolved right after a beat, after {@link #updateDetectionSignal()} and
+	 * otherwise about once per second, so a lead which became unusable is left
+	 * even if no beats are found in it anymore.
+	 *
+	 * @param preferredLead the lead to use if this detector is not bound to a
+	 *                      specific lead.
+	 * @param sampleIndex   the index of the current sample.
+	 * @param afterBeat     whether a beat has just been completed.
+	 * @return <code>true</code> if the detection moved to another lead, in which
+	 *         case the detector has to restart its filters.
+	 */
+	protected boolean selectDetectionSignal(EcgLead preferredLead, int sampleIndex, boolean afterBeat) {
+		if (mLeadIndex >= 0) {
+			getDetectionSignal(preferredLead);
+			return false;
+		}
+		if (mDetectionSignal != null && !afterBeat && !mDetectionSignalOutdated
+				&& sampleIndex - mLastLeadSelection < mEcg.getSamplingRate())
+			return false;
+
+		mDetectionSignalOutdated = false;
+		mLastLeadSelection = sampleIndex;
+		EcgSignal signal = mEcg.getSignalFromBestMatchingLead(preferredLead, sampleIndex);
+		boolean changed = mDetectionSignal != null && signal != mDetectionSignal;
+		mDetectionSignal = signal;
+		return changed;
+	}
+
+	/**
+	 * Lets the detector check its detection lead again at the next boundary
+	 * between two beats, e.g. once per block of streamed samples, so it can move
+	 * away from a lead which became unusable.
+	 */
+	public void updateDetectionSignal() {
+		mDetectionSignalOutdated = true;
+	}
+
 	/**
 	 * Returns the most recently found QRS complex.
 	 *
@@ -177,6 +328,28 @@ public abstract class QrsDetector {
 		return qrsList;
 	}
 
+	/**
+	 * Runs this QrsDetector on the entire ECG and appends every detected QRS
+	 * complex to the given table. Only the last few complexes stay linked to
+	 * each other, so the detected objects can be garbage collected as soon as
+	 * they were copied into the table.
+	 *
+	 * @param table
+	 *            the table to append to.
+	 * @return the given table.
+	 */
+	public BeatTable findQrsComplexes(BeatTable table) {
+		for (int i = 0; i < mEcg.getSignalFromIndex(0).size(); i++) {
+			QrsComplex complex = this.next(i);
+			if (complex != null) {
+				table.add(complex);
+				BeatTable.detachHistory(complex, 3);
+			}
+		}
+
+		return table;
+	}
+
 	/**
 	 * Runs this QrsDetector on the entire signal array and returns an array of
 	 * detected R-peak positions.
@@ -0,0 +1,367 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import java.util.Arrays;
+
+import de.fau.mad.jely.util.CubicSpline;
+
+/**
+ * Outlier detection and correction of an RR interval series in a single pass over primitive arrays. It applies the
+ * rules of {@link OutlierDetector}, but reads the input series and writes a corrected output series, so no list
+ * elements are removed, inserted or relinked and the reference value is a rolling median of the last accepted RR
+ * intervals. The whole series is processed in O(n).
+ * <p>
+ * The first plausible RR interval (300 ms to 1200 ms) starts the series, the following intervals up to the length of
+ * the reference window are only accepted if they are no outliers. Afterwards every outlier is classified with the
+ * flags of {@link de.fau.mad.jely.Outlier#evaluateOutlier}:
+ * <ul>
+ * <li>{@link #FLAG_UNKNOWN} (0): unknown origin, the RR interval is removed.</li>
+ * <li>{@link #FLAG_MISSED_BEAT} (1): a missed beat, the RR interval is split into two.</li>
+ * <li>{@link #FLAG_ECTOPIC_BEAT} (2): an ectopic beat, the RR interval and the following one are moved to the
+ * expected beat times.</li>
+ * </ul>
+ * The values of the corrected RR intervals are finally replaced by a cubic spline through the two valid RR intervals
+ * before and after them. If there are not enough valid RR intervals after an outlier, the series ends before it.
+ * <p>
+ * Values and time stamps are in samples.
+ */
+public class RRSeriesOutlierDetector {
+    /**
+     * The outlier has an unknown origin and is removed.
+     */
+    public static final int FLAG_UNKNOWN = 0;
+
+    /**
+     * The outlier spans two beats because a beat was missed and it is split.
+     */
+    public static final int FLAG_MISSED_BEAT = 1;
+
+    /**
+     * The outlier and the following RR interval are caused by an ectopic beat and moved to the expected beat times.
+     */
+    public static final int FLAG_ECTOPIC_BEAT = 2;
+
+    private static final double PERCENT_HIGH = 0.2;
+    private static final double PERCENT_LOW = 0.1;
+    private static final int REFERENCE_LENGTH = 6;
+
+    private final double mSamplingRate;
+    private boolean mInterpolation = true;
+
+    /**
+     * @param samplingRate the sampling rate of the values and time stamps.
+     */
+    public RRSeriesOutlierDetector(double samplingRate) {
+        mSamplingRate = samplingRate;
+    }
+
+    /**
+     * @param interpolation whether the values of corrected RR intervals are replaced by spline interpolation, true by
+     *                      default.
+     */
+    public void setInterpolation(boolean interpolation) {
+        mInterpolation = interpolation;
+    }
+
+    /**
+     * Detects and corrects the outliers of an RR interval series.
+     *
+     * @param timeStamps the time stamps of the RR intervals.
+     * @param values     the RR intervals.
+     * @return the corrected series and the detected outliers.
+     */
+    public Result process(double[] timeStamps, double[] values) {
+        int n = values.length;
+        if (timeStamps.length != n)
+            throw new IllegalArgumentException("timeStamps and values must have the same length.");
+
+        Result result = new Result(n);
+        RollingMedian reference = new RollingMedian(REFERENCE_LENGTH);
+
+        for (int i = 0; i < n; i++) {
+            double value = values[i];
+            if (value == 0.0)
+                continue;
+
+            if (result.mSize == 0) {
+                // the first RR interval has to be plausible
+                double ms = value / mSamplingRate * 1000;
+                if (ms > 300 && ms < 1200) {
+                    reference.add(value);
+                    result.append(timeStamps[i], value, false);
+                }
+                continue;
+            }
+
+            boolean outlier = isOutlier(value, reference.getMedian(), result);
+            if (result.mSize < REFERENCE_LENGTH) {
+                // outliers are removed while the reference window fills
+                if (!outlier) {
+                    reference.add(value);
+                    result.append(timeStamps[i], value, false);
+                }
+                continue;
+            }
+
+            if (!outlier) {
+                reference.add(value);
+                result.append(timeStamps[i], value, false);
+                continue;
+            }
+
+            double ref = reference.getMedian();
+            double previousTime = result.mTimeStamps[result.mSize - 1];
+            int flag = FLAG_UNKNOWN;
+            if (value > 1.8 * ref && value < 2.2 * ref) {
+                flag = FLAG_MISSED_BEAT;
+            } else if (i + 1 < n && value > 0.675 * ref && value < 0.825 * ref
+                    && value + values[i + 1] > 1.8 * ref && value + values[i + 1] < 2.2 * ref) {
+                flag = FLAG_ECTOPIC_BEAT;
+            }
+
+            switch (flag) {
+                case FLAG_MISSED_BEAT:
+                    result.append(previousTime + ref, ref, true);
+                    result.append(previousTime + 2 * ref, value, true);
+                    result.addOutlier(previousTime + 2 * ref, value, flag);
+                    break;
+                case FLAG_ECTOPIC_BEAT:
+                    result.append(previousTime + ref, value, true);
+                    result.append(previousTime + 2 * ref, values[i + 1], true);
+                    result.addOutlier(previousTime + ref, value, flag);
+                    // the following RR interval is part of the correction
+                    i++;
+                    break;
+                default:
+                    result.addOutlier(timeStamps[i], value, flag);
+                    break;
+            }
+        }
+
+        if (mInterpolation)
+            result.interpolate();
+        return result;
+    }
+
+    /**
+     * Compares an RR interval with the reference and, if that is no outlier, the previous RR interval.
+     */
+    private boolean isOutlier(double value, double ref, Result result) {
+        double diffRef = Math.abs(value - ref) / ref;
+        double diffPrevious = diffRef;
+        if (!result.mCorrected[result.mSize - 1]) {
+            double previous = result.mValues[result.mSize - 1];
+            diffPrevious = Math.abs(value - previous) / previous;
+        }
+        if (value / mSamplingRate * 1000 > 500)
+            return diffRef > PERCENT_HIGH && diffPrevious > PERCENT_HIGH;
+        return diffRef > PERCENT_LOW;
+    }
+
+    /**
+     * Median of the last values added, kept sorted by insertion.
+     */
+    private static final class RollingMedian {
+        private final double[] mWindow;
+        private final double[] mSorted;
+        private int mHead;
+        private int mSize;
+
+        RollingMedian(int length) {
+            mWindow = new double[length];
+            mSorted = new double[length];
+        }
+
+        void add(double value) {
+            if (mSize == mWindow.length) {
+                // remove the oldest value from the sorted values
+                double oldest = mWindow[mHead];
+                int pos = 0;
+                while (mSorted[pos] != oldest)
+                    pos++;
+                System.arraycopy(mSorted, pos + 1, mSorted, pos, mSize - pos - 1);
+                mSize--;
+                mWindow[mHead] = value;
+                mHead = (mHead + 1) % mWindow.length;
+            } else {
+                mWindow[(mHead + mSize) % mWindow.length] = value;
+            }
+            int pos = mSize;
+            while (pos > 0 && mSorted[pos - 1] > value) {
+                mSorted[pos] = mSorted[pos - 1];
+                pos--;
+            }
+            mSorted[pos] = value;
+            mSize++;
+        }
+
+        double getMedian() {
+            int middle = mSize / 2;
+            if (mSize % 2 == 1)
+                return mSorted[middle];
+            return (mSorted[middle - 1] + mSorted[middle]) / 2.0;
+        }
+    }
+
+    /**
+     * The corrected RR interval series and the detected outliers.
+     */
+    public static class Result {
+        private double[] mTimeStamps;
+        private double[] mValues;
+        private boolean[] mCorrected;
+        private int mSize;
+
+        private double[] mOutlierTimeStamps = new double[16];
+        private double[] mOutlierValues = new double[16];
+        private int[] mOutlierFlags = new int[16];
+        private int mOutlierCount;
+
+        private Result(int capacity) {
+            mTimeStamps = new double[Math.max(capacity, 16)];
+            mValues = new double[mTimeStamps.length];
+            mCorrected = new boolean[mTimeStamps.length];
+        }
+
+        /**
+         * @return the number of RR intervals of the corrected series.
+         */
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * @return the time stamps of the corrected series.
+         */
+        public double[] getTimeStamps() {
+            return Arrays.copyOf(mTimeStamps, mSize);
+        }
+
+        /**
+         * @return the RR intervals of the corrected series.
+         */
+        public double[] getValues() {
+            return Arrays.copyOf(mValues, mSize);
+        }
+
+        /**
+         * @return for every RR interval of the corrected series whether it was inserted or moved by a correction.
+         */
+        public boolean[] getCorrected() {
+            return Arrays.copyOf(mCorrected, mSize);
+        }
+
+        /**
+         * @return the number of detected outliers after the reference window was filled.
+         */
+        public int getOutlierCount() {
+            return mOutlierCount;
+        }
+
+        /**
+         * @return the time stamps of the outliers, after their correction for the flags 1 and 2.
+         */
+        public double[] getOutlierTimeStamps() {
+            return Arrays.copyOf(mOutlierTimeStamps, mOutlierCount);
+        }
+
+        /**
+         * @return the original RR intervals of the outliers.
+         */
+        public double[] getOutlierValues() {
+            return Arrays.copyOf(mOutlierValues, mOutlierCount);
+        }
+
+        /**
+         * @return the flags of the outliers, see {@link RRSeriesOutlierDetector}.
+         */
+        public int[] getOutlierFlags() {
+            return Arrays.copyOf(mOutlierFlags, mOutlierCount);
+        }
+
+        private void append(double timeStamp, double value, boolean corrected) {
+            if (mSize == mTimeStamps.length) {
+                mTimeStamps = Arrays.copyOf(mTimeStamps, 2 * mSize);
+                mValues = Arrays.copyOf(mValues, 2 * mSize);
+                mCorrected = Arrays.copyOf(mCorrected, 2 * mSize);
+            }
+            mTimeStamps[mSize] = timeStamp;
+            mValues[mSize] = value;
+            mCorrected[mSize] = corrected;
+            mSize++;
+        }
+
+        private void addOutlier(double timeStamp, double value, int flag) {
+            if (mOutlierCount == mOutlierFlags.length) {
+                mOutlierTimeStamps = Arrays.copyOf(mOutlierTimeStamps, 2 * mOutlierCount);
+                mOutlierValues = Arrays.copyOf(mOutlierValues, 2 * mOutlierCount);
+                mOutlierFlags = Arrays.copyOf(mOutlierFlags, 2 * mOutlierCount);
+            }
+            mOutlierTimeStamps[mOutlierCount] = timeStamp;
+            mOutlierValues[mOutlierCount] = value;
+            mOutlierFlags[mOutlierCount] = flag;
+            mOutlierCount++;
+        }
+
+        /**
+         * Replaces the values of the corrected RR intervals in chronological order by a cubic spline through the two
+         * valid RR intervals before and after them. Replaced values count as valid for later corrections.
+         */
+        private void interpolate() {
+            // next valid index at or after every index, replaced values only become valid behind the current index
+            int[] nextValid = new int[mSize + 1];
+            nextValid[mSize] = mSize;
+            for (int i = mSize - 1; i >= 0; i--) {
+                nextValid[i] = mCorrected[i] ? nextValid[i + 1] : i;
+            }
+
+            int before1 = -1;
+            int before2 = -1;
+            for (int i = 0; i < mSize; i++) {
+                if (mCorrected[i]) {
+                    int after1 = nextValid[i + 1];
+                    int after2 = after1 < mSize ? nextValid[after1 + 1] : mSize;
+                    if (after2 >= mSize) {
+                        // not enough valid RR intervals left, the series ends before this outlier
+                        mSize = i;
+                        break;
+                    }
+
+                    int known = (before1 >= 0 ? 1 : 0) + (before2 >= 0 ? 1 : 0) + 2;
+                    double[] x = new double[known];
+                    double[] y = new double[known];
+                    int k = 0;
+                    for (int j : new int[]{before1, before2, after1, after2}) {
+                        // corrected time stamps may overlap their neighbours, the spline needs increasing knots
+                        if (j >= 0 && (k == 0 || mTimeStamps[j] > x[k - 1])) {
+                            x[k] = mTimeStamps[j];
+                            y[k] = mValues[j];
+                            k++;
+                        }
+                    }
+                    CubicSpline spline = new CubicSpline(Arrays.copyOf(x, k), Arrays.copyOf(y, k),
+                            CubicSpline.Type.NOT_A_KNOT);
+                    mValues[i] = spline.value(mTimeStamps[i]);
+                    mCorrected[i] = false;
+                }
+                before1 = before2;
+                before2 = i;
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package de.fau.mad.jely.filter;
 
 import java.security.InvalidParameterException;
+import java.util.Arrays;
 
 /**
  * 1-D digital filter that filters the input data, x, using a rational transfer function defined by the numerator and
@@ -117,6 +118,42 @@ public class DigitalFilter {
         return y[0];
     }
 
+    /**
+     * Resets the filter state, so the next value is filtered as if it were the first one.
+     */
+    public void reset() {
+        if (x != null)
+            Arrays.fill(x, 0d);
+        if (y != null)
+            Arrays.fill(y, 0d);
+    }
+
+    /**
+     * Returns a key describing the response of this filter, used to share identical filters, e.g. in a
+     * {@link FilterGraph}. Subclasses with additional state must override this method.
+     *
+     * @return a key which is equal for filters producing the same output, or <code>null</code> if this filter must
+     * not be shared.
+     */
+    public String getResponseKey() {
+        if (getClass() != DigitalFilter.class)
+            return null;
+        return "DigitalFilter" + Arrays.toString(b) + Arrays.toString(a) + groupDelay;
+    }
+
+    /**
+     * Creates a filter with the same response as this one and a reset state, e.g. to filter another signal with it.
+     * Subclasses with additional state must override this method.
+     *
+     * @return a new filter.
+     * @throws UnsupportedOperationException if a subclass does not override this method.
+     */
+    public DigitalFilter newInstance() {
+        if (getClass() != DigitalFilter.class)
+            throw new UnsupportedOperationException(getClass().getName() + " cannot create new instances.");
+        return new DigitalFilter(b, a, groupDelay);
+    }
+
     /**
      * @return The current y[0] value from last calculation step
      */
@@ -0,0 +1,239 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import de.fau.mad.jely.EcgSignal;
+
+/**
+ * A graph of filter stages shared by several consumers, e.g. detectors compared on the same recording. Each node
+ * applies one stage to the output of its input node. Adding a stage that is identical to an existing one on the same
+ * input returns the existing node, so the stage is computed only once per sample no matter how many consumers
+ * subscribe to it.
+ * <p>
+ * Nodes are evaluated lazily: {@link Node#valueAt(int)} computes the value for a sample index the first time it is
+ * requested and returns the stored value afterwards. All consumers therefore have to request the samples in the same
+ * ascending order, like detectors driven by the same loop do. The graph is not thread-safe.
+ */
+public class FilterGraph {
+    /**
+     * A processing step transforming one value per sample.
+     */
+    public interface Stage {
+        /**
+         * @param x the next input value.
+         * @return the next output value.
+         */
+        double next(double x);
+
+        /**
+         * @return a key which is equal for two stages exactly if they produce the same output for the same input, or
+         * <code>null</code> if the stage must never be shared.
+         */
+        String getKey();
+    }
+
+    private static final Stage SQUARE = new Stage() {
+        @Override
+        public double next(double x) {
+            return x * x;
+        }
+
+        @Override
+        public String getKey() {
+            return "square";
+        }
+    };
+
+    /**
+     * @return a stage squaring its input.
+     */
+    public static Stage square() {
+        return SQUARE;
+    }
+
+    /**
+     * @param samples the number of samples to delay the input by.
+     * @return a stage delaying its input, starting with zeros.
+     */
+    public static Stage delay(final int samples) {
+        return new Stage() {
+            private final double[] mBuffer = new double[Math.max(1, samples)];
+            private int mPosition = 0;
+
+            @Override
+            public double next(double x) {
+                if (samples <= 0)
+                    return x;
+                double y = mBuffer[mPosition];
+                mBuffer[mPosition] = x;
+                mPosition = (mPosition + 1) % samples;
+                return y;
+            }
+
+            @Override
+            public String getKey() {
+                return "delay:" + samples;
+            }
+        };
+    }
+
+    /**
+     * @param filter the filter to apply. It is owned by the graph afterwards and must not be used elsewhere.
+     * @return a stage applying the given filter.
+     */
+    public static Stage of(final DigitalFilter filter) {
+        return new Stage() {
+            @Override
+            public double next(double x) {
+                return filter.next(x);
+            }
+
+            @Override
+            public String getKey() {
+                return filter.getResponseKey();
+            }
+        };
+    }
+
+    /**
+     * A signal in the graph, either a source signal or the output of a stage.
+     */
+    public class Node {
+        private final int mId;
+        private final Node mInput;
+        private final Stage mStage;
+        private final EcgSignal mSignal;
+        private int mIndex = -1;
+        private double mValue = 0;
+
+        private Node(int id, Node input, Stage stage, EcgSignal signal) {
+            mId = id;
+            mInput = input;
+            mStage = stage;
+            mSignal = signal;
+        }
+
+        /**
+         * Returns the value of this node at the given sample, computing it and all its inputs if necessary.
+         *
+         * @param sampleIndex the index of the sample in the source signal, or -1 for the most recent one.
+         * @return the value at the given sample.
+         */
+        public double valueAt(int sampleIndex) {
+            if (sampleIndex < 0)
+                sampleIndex = mSignal.getTotalLength() - 1;
+            if (sampleIndex != mIndex) {
+                double x = mInput == null ? mSignal.get(sampleIndex) : mInput.valueAt(sampleIndex);
+                mValue = mStage == null ? x : mStage.next(x);
+                mIndex = sampleIndex;
+            }
+            return mValue;
+        }
+
+        /**
+         * @return the most recently computed value.
+         */
+        public double getValue() {
+            return mValue;
+        }
+
+        /**
+         * @return the source signal this node is computed from.
+         */
+        public EcgSignal getSignal() {
+            return mSignal;
+        }
+    }
+
+    private final ArrayList<Node> mNodes = new ArrayList<>();
+    private final HashMap<String, Node> mNodesByKey = new HashMap<>();
+    private final HashMap<String, Node> mNodesByName = new HashMap<>();
+
+    /**
+     * @param signal a signal to process.
+     * @return the node delivering the samples of the given signal.
+     */
+    public Node source(EcgSignal signal) {
+        for (Node node : mNodes) {
+            if (node.mInput == null && node.mSignal == signal)
+                return node;
+        }
+        Node node = new Node(mNodes.size(), null, null, signal);
+        mNodes.add(node);
+        return node;
+    }
+
+    /**
+     * Adds a stage to the graph or returns the existing node if an identical stage is already applied to the same
+     * input.
+     *
+     * @param input the node to take the input values from.
+     * @param stage the stage to apply.
+     * @return the node delivering the output of the stage.
+     */
+    public Node add(Node input, Stage stage) {
+        String stageKey = stage.getKey();
+        String key = stageKey == null ? null : input.mId + "|" + stageKey;
+        if (key != null) {
+            Node existing = mNodesByKey.get(key);
+            if (existing != null)
+                return existing;
+        }
+
+        Node node = new Node(mNodes.size(), input, stage, input.mSignal);
+        mNodes.add(node);
+        if (key != null)
+            mNodesByKey.put(key, node);
+        return node;
+    }
+
+    /**
+     * Adds a stage to the graph like {@link #add(Node, Stage)} and makes its output available under the given name.
+     *
+     * @param name  the name of the output.
+     * @param input the node to take the input values from.
+     * @param stage the stage to apply.
+     * @return the node delivering the output of the stage.
+     * @throws IllegalArgumentException if the name is already used for a different output.
+     */
+    public Node add(String name, Node input, Stage stage) {
+        Node node = add(input, stage);
+        Node named = mNodesByName.get(name);
+        if (named != null && named != node)
+            throw new IllegalArgumentException("The output name " + name + " is already in use.");
+        mNodesByName.put(name, node);
+        return node;
+    }
+
+    /**
+     * @param name the name of an output.
+     * @return the node with the given name, or <code>null</code> if there is none.
+     */
+    public Node get(String name) {
+        return mNodesByName.get(name);
+    }
+
+    /**
+     * @return the number of distinct nodes including the sources.
+     */
+    public int size() {
+        return mNodes.size();
+    }
+}
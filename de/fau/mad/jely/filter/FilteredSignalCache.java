@@ -0,0 +1,146 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.filter;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import de.fau.mad.jely.EcgSignal;
+
+/**
+ * Incrementally maintained filtered version of an EcgSignal. Each sample of the signal is filtered exactly once, when
+ * it is first requested. The filtered values are kept in a ring buffer with the same capacity as the signal, so the
+ * cache acts as a single precomputed array for recordings loaded from files and as a sliding window over the most
+ * recent samples for streaming ECGs.
+ *
+ * @author Stefan Gradl
+ */
+public class FilteredSignalCache {
+    private EcgSignal mSignal;
+    private DigitalFilter mFilter;
+    private double[] mBuffer;
+    /**
+     * Number of signal samples that have been filtered so far, equals the global index of the next sample to filter.
+     */
+    private int mFilteredCount = 0;
+
+    /**
+     * @param signal the signal to filter.
+     * @param filter the filter, its state is reset before it is used.
+     */
+    public FilteredSignalCache(EcgSignal signal, DigitalFilter filter) {
+        this(signal, filter, signal.size());
+    }
+
+    /**
+     * @param signal   the signal to filter.
+     * @param filter   the filter, its state is reset before it is used.
+     * @param capacity the number of filtered samples to keep.
+     */
+    public FilteredSignalCache(EcgSignal signal, DigitalFilter filter, int capacity) {
+        mSignal = signal;
+        mFilter = filter;
+        mFilter.reset();
+        mBuffer = new double[Math.max(capacity, 1)];
+    }
+
+    public EcgSignal getSignal() {
+        return mSignal;
+    }
+
+    public DigitalFilter getFilter() {
+        return mFilter;
+    }
+
+    /**
+     * @return the group delay of the filter in samples.
+     */
+    public int getGroupDelay() {
+        return mFilter.getGroupDelay();
+    }
+
+    /**
+     * @return the number of signal samples that can currently be filtered, i.e. the exclusive upper bound for the
+     * global index in {@link #get(int)}.
+     */
+    public int getAvailableLength() {
+        return mSignal.getTotalLength();
+    }
+
+    /**
+     * @return the smallest global index still held in the cache.
+     */
+    public int getFirstCachedIndex() {
+        return Math.max(0, mFilteredCount - mBuffer.length);
+    }
+
+    /**
+     * Filters all signal samples up to and including the given index that have not been filtered yet.
+     *
+     * @param index global sample index.
+     */
+    public void update(int index) {
+        // a cache attached to a long running stream, or not queried for longer than its window, restarts the
+        // filter within its window, the skipped samples may not be available anymore
+        if (index - mFilteredCount >= mBuffer.length) {
+            if (mFilteredCount > 0)
+                mFilter.reset();
+            mFilteredCount = index - mBuffer.length + 1;
+        }
+
+        while (mFilteredCount <= index) {
+            mBuffer[mFilteredCount % mBuffer.length] = mFilter.next(mSignal.get(mFilteredCount));
+            mFilteredCount++;
+        }
+    }
+
+    /**
+     * @param index global sample index.
+     * @return the filtered value at the given index.
+     */
+    public double get(int index) {
+        if (index >= getAvailableLength() || index < getFirstCachedIndex())
+            throw new IndexOutOfBoundsException("Filtered sample " + index + " is not available.");
+
+        update(index);
+        return mBuffer[index % mBuffer.length];
+    }
+
+    /**
+     * Provides a read-only view onto the filtered values in the global index range [from, to).
+     *
+     * @param from first global index, inclusive.
+     * @param to   last global index, exclusive.
+     * @return a list backed by this cache.
+     */
+    public List<Double> subList(final int from, final int to) {
+        if (to > from)
+            update(to - 1);
+
+        return new AbstractList<Double>() {
+            @Override
+            public Double get(int index) {
+                return FilteredSignalCache.this.get(from + index);
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+}
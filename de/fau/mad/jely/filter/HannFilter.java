@@ -38,6 +38,11 @@ public class HannFilter extends DigitalFilter {
         x = new double[b.length];
     }
 
+    @Override
+    public DigitalFilter newInstance() {
+        return new HannFilter();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -17,6 +17,7 @@
 package de.fau.mad.jely.filter;
 
 import java.security.InvalidParameterException;
+import java.util.Arrays;
 
 import de.fau.mad.jely.util.DoubleCircularList;
 
@@ -139,6 +140,20 @@ public class LmeFilter {
     }
 
 
+    /**
+     * Returns a key describing the response of this filter, used to share identical filters, e.g. in a
+     * {@link FilterGraph}. Subclasses with additional state must override this method.
+     *
+     * @return a key which is equal for filters producing the same output, or <code>null</code> if this filter must
+     * not be shared.
+     */
+    public String getResponseKey() {
+        if (getClass() != LmeFilter.class)
+            return null;
+        return "LmeFilter" + Arrays.toString(b) + Arrays.toString(a);
+    }
+
+
     /**
      * Implements running <i>mean</i> filter.
      * <p>
@@ -182,6 +197,14 @@ public class LmeFilter {
         }
 
 
+        @Override
+        public String getResponseKey() {
+            if (getClass() != MeanFilter.class)
+                return null;
+            return "LmeFilter.MeanFilter:" + maxNum;
+        }
+
+
         /* (non-Javadoc)
          * @see de.lme.plotview.LmeFilter#next(double)
          */
@@ -580,6 +603,14 @@ public class LmeFilter {
             y[0] = m_int.getMean();
             return y[0];
         }
+
+
+        @Override
+        public String getResponseKey() {
+            if (getClass() != WndIntFilter.class)
+                return null;
+            return "WndIntFilter:" + (int) a[0];
+        }
     }
 
 
@@ -610,6 +641,14 @@ public class LmeFilter {
 
             return y[0];
         }
+
+
+        @Override
+        public String getResponseKey() {
+            if (getClass() != AccuFilter.class)
+                return null;
+            return "AccuFilter:" + (int) a[0];
+        }
     }
 
 
@@ -35,6 +35,21 @@ public class MeanFilter extends DigitalFilter {
         this.orderN = orderN;
     }
 
+    @Override
+    public void reset() {
+        xarray.clear();
+    }
+
+    @Override
+    public String getResponseKey() {
+        return "MeanFilter:" + orderN;
+    }
+
+    @Override
+    public DigitalFilter newInstance() {
+        return new MeanFilter(orderN);
+    }
+
     /* (non-Javadoc)
      * @see de.fau.mad.jely.filter.DigitalFilter#next(double)
      */
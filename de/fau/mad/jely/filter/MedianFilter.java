@@ -35,6 +35,21 @@ public class MedianFilter extends DigitalFilter {
         this.orderN = orderN;
     }
 
+    @Override
+    public void reset() {
+        xarray.clear();
+    }
+
+    @Override
+    public String getResponseKey() {
+        return "MedianFilter:" + orderN;
+    }
+
+    @Override
+    public DigitalFilter newInstance() {
+        return new MedianFilter(orderN);
+    }
+
     /* (non-Javadoc)
      * @see de.fau.mad.jely.filter.DigitalFilter#next(double)
      */
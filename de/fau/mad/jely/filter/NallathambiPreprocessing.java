@@ -33,6 +33,23 @@ public class NallathambiPreprocessing extends DigitalFilter {
         medFilt600 = new MedianFilter((int) (samplingRate * 0.6));
     }
 
+    private NallathambiPreprocessing(MedianFilter medFilt200, MedianFilter medFilt600) {
+        this.medFilt200 = medFilt200;
+        this.medFilt600 = medFilt600;
+    }
+
+    @Override
+    public DigitalFilter newInstance() {
+        return new NallathambiPreprocessing((MedianFilter) medFilt200.newInstance(),
+                (MedianFilter) medFilt600.newInstance());
+    }
+
+    @Override
+    public void reset() {
+        medFilt200.reset();
+        medFilt600.reset();
+    }
+
     /*
      * (non-Javadoc)
      *
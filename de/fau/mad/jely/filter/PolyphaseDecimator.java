@@ -0,0 +1,157 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.filter;
+
+import java.util.Arrays;
+
+/**
+ * Anti-aliasing FIR low-pass filter combined with integer down-sampling. Only every <code>factor</code>-th output is
+ * needed, so only those are computed, which is the polyphase form of the filter: the cost per input sample is the
+ * number of taps divided by the decimation factor.
+ */
+public class PolyphaseDecimator {
+    private static final int DEFAULT_TAPS_PER_PHASE = 8;
+
+    private final int mFactor;
+    private final double[] mTaps;
+    /**
+     * Input history, stored twice in a row so the newest <code>taps</code> values are always contiguous.
+     */
+    private final double[] mHistory;
+    private int mPosition = 0;
+    private int mPhase = 0;
+    private double mCurrent = 0;
+
+    /**
+     * Constructs a decimator with a windowed-sinc low-pass filter.
+     *
+     * @param factor the decimation factor.
+     */
+    public PolyphaseDecimator(int factor) {
+        this(designLowpass(factor, DEFAULT_TAPS_PER_PHASE), factor);
+    }
+
+    /**
+     * Constructs a decimator using the given anti-aliasing filter.
+     *
+     * @param taps   the coefficients of the FIR low-pass filter.
+     * @param factor the decimation factor.
+     */
+    public PolyphaseDecimator(double[] taps, int factor) {
+        if (factor < 1 || taps == null || taps.length < 1)
+            throw new IllegalArgumentException("Invalid decimation factor or filter.");
+        mFactor = factor;
+        mTaps = new double[taps.length];
+        // reversed, so the dot product runs over the history in storage order
+        for (int i = 0; i < taps.length; i++)
+            mTaps[i] = taps[taps.length - 1 - i];
+        mHistory = new double[2 * taps.length];
+    }
+
+    /**
+     * Designs a linear-phase low-pass filter with a Blackman window and a cutoff at 80% of the Nyquist frequency
+     * after decimation.
+     *
+     * @param factor       the decimation factor.
+     * @param tapsPerPhase the number of taps per output sample.
+     * @return the filter coefficients with unit gain at DC.
+     */
+    public static double[] designLowpass(int factor, int tapsPerPhase) {
+        if (factor == 1)
+            return new double[]{1};
+        int numTaps = factor * tapsPerPhase + 1;
+        double[] taps = new double[numTaps];
+        double cutoff = 0.8 * 0.5 / factor;
+        double center = (numTaps - 1) * 0.5;
+        double sum = 0;
+        for (int i = 0; i < numTaps; i++) {
+            double t = i - center;
+            double sinc = t == 0 ? 2 * cutoff : Math.sin(2 * Math.PI * cutoff * t) / (Math.PI * t);
+            double window = 0.42 - 0.5 * Math.cos(2 * Math.PI * i / (numTaps - 1))
+                    + 0.08 * Math.cos(4 * Math.PI * i / (numTaps - 1));
+            taps[i] = sinc * window;
+            sum += taps[i];
+        }
+        for (int i = 0; i < numTaps; i++)
+            taps[i] /= sum;
+        return taps;
+    }
+
+    /**
+     * Calculates the decimation factor that reduces the given sampling rate as far as possible without going below
+     * the target rate.
+     *
+     * @param samplingRate the input sampling rate in Hz.
+     * @param targetRate   the lowest acceptable output sampling rate in Hz.
+     * @return the decimation factor, at least 1.
+     */
+    public static int getFactorFor(double samplingRate, double targetRate) {
+        return Math.max(1, (int) Math.floor(samplingRate / targetRate));
+    }
+
+    /**
+     * Delivers the next input sample.
+     *
+     * @param x the next input value.
+     * @return <code>true</code> if a new output value is available through {@link #current()}.
+     */
+    public boolean next(double x) {
+        int n = mTaps.length;
+        mHistory[mPosition] = x;
+        mHistory[mPosition + n] = x;
+        mPosition = (mPosition + 1) % n;
+
+        boolean ready = mPhase == 0;
+        if (ready) {
+            // the oldest value is at mPosition, the newest at mPosition + n - 1
+            double y = 0;
+            for (int i = 0; i < n; i++)
+                y += mTaps[i] * mHistory[mPosition + i];
+            mCurrent = y;
+        }
+        mPhase = (mPhase + 1) % mFactor;
+        return ready;
+    }
+
+    /**
+     * @return the most recent output value.
+     */
+    public double current() {
+        return mCurrent;
+    }
+
+    public int getFactor() {
+        return mFactor;
+    }
+
+    /**
+     * @return the delay of the filter in input samples.
+     */
+    public int getGroupDelay() {
+        return (mTaps.length - 1) / 2;
+    }
+
+    /**
+     * Resets the decimator, so the next value is treated as the first one.
+     */
+    public void reset() {
+        Arrays.fill(mHistory, 0);
+        mPosition = 0;
+        mPhase = 0;
+        mCurrent = 0;
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import de.fau.mad.jely.util.ParallelTasks;
+import de.fau.mad.jely.util.PiecewiseLinearSegmentation;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Detrended fluctuation analysis (Peng et al., 1995) of a series of RR intervals. The profile, i.e. the cumulative sum
+ * of the series without its mean, is split into boxes of n samples, the least squares line of every box is removed
+ * and the fluctuation F(n) is the root mean square of the residuals. The scaling exponents are the slopes of
+ * log F(n) over log n, alpha1 for the short term box sizes 4 to 16 and alpha2 for the long term box sizes 16 to 64.
+ * <p>
+ * Every box is fitted from its own samples relative to the box mean, since the profile of a series with a drifting mean
+ * grows far beyond the fluctuations and differences of global sums would cancel them. A box size costs O(N). The boxes
+ * are laid out from the start and from the end of the series, so no sample is left out. Box sizes can be evaluated
+ * concurrently.
+ */
+public class DetrendedFluctuationAnalysis {
+    /**
+     * Smallest box size of the short term exponent alpha1.
+     */
+    public static final int SHORT_TERM_MIN = 4;
+
+    /**
+     * Largest box size of the short term exponent alpha1 and smallest of the long term exponent alpha2.
+     */
+    public static final int SHORT_TERM_MAX = 16;
+
+    /**
+     * Largest box size of the long term exponent alpha2.
+     */
+    public static final int LONG_TERM_MAX = 64;
+
+    private final int mLength;
+    private final double[] mProfile;
+
+    /**
+     * @param rr the RR intervals.
+     */
+    public DetrendedFluctuationAnalysis(double[] rr) {
+        mLength = rr.length;
+        double mean = 0;
+        for (int i = 0; i < mLength; i++) {
+            mean += rr[i];
+        }
+        mean /= mLength;
+
+        mProfile = new double[mLength];
+        double sum = 0;
+        for (int i = 0; i < mLength; i++) {
+            sum += rr[i] - mean;
+            mProfile[i] = sum;
+        }
+    }
+
+    /**
+     * @return the length of the series.
+     */
+    public int size() {
+        return mLength;
+    }
+
+    /**
+     * @param boxSize the number of samples per box, at least 2 and at most the length of the series.
+     * @return the fluctuation F(boxSize) in the unit of the RR intervals.
+     */
+    public double getFluctuation(int boxSize) {
+        if (boxSize < 2 || boxSize > mLength)
+            throw new IllegalArgumentException("Invalid box size " + boxSize + ".");
+
+        int boxes = mLength / boxSize;
+        int rest = mLength - boxes * boxSize;
+        double squares = 0;
+        for (int b = 0; b < boxes; b++) {
+            int from = b * boxSize;
+            squares += getSquaredResiduals(from, boxSize);
+            if (rest > 0)
+                squares += getSquaredResiduals(rest + from, boxSize);
+        }
+        return Math.sqrt(squares / ((rest > 0 ? 2 * boxes : boxes) * (double) boxSize));
+    }
+
+    /**
+     * Computes the fluctuations of several box sizes.
+     *
+     * @param boxSizes the box sizes.
+     * @param executor the executor evaluating the box sizes, or <code>null</code> to evaluate them in the calling
+     *                 thread.
+     * @return the fluctuations in the order of the box sizes.
+     */
+    public double[] getFluctuations(final int[] boxSizes, Executor executor) {
+        final double[] fluctuations = new double[boxSizes.length];
+        ParallelTasks.run(boxSizes.length, 1, executor, "Detrended fluctuation analysis", new ParallelTasks.Range() {
+            @Override
+            public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    fluctuations[i] = getFluctuation(boxSizes[i]);
+                }
+            }
+        });
+        return fluctuations;
+    }
+
+    /**
+     * Computes the scaling exponent of a range of box sizes, the least squares slope of log F(n) over log n.
+     *
+     * @param minBoxSize the smallest box size.
+     * @param maxBoxSize the largest box size, it is limited to the length of the series.
+     * @param executor   the executor evaluating the box sizes, or <code>null</code> to evaluate them in the calling
+     *                   thread.
+     * @return the scaling exponent.
+     */
+    public double getAlpha(int minBoxSize, int maxBoxSize, Executor executor) {
+        int max = Math.min(maxBoxSize, mLength);
+        if (minBoxSize < 2 || max - minBoxSize < 1)
+            throw new IllegalArgumentException("At least two box sizes from 2 up to the length are required.");
+
+        int[] boxSizes = new int[max - minBoxSize + 1];
+        for (int i = 0; i < boxSizes.length; i++) {
+            boxSizes[i] = minBoxSize + i;
+        }
+        double[] fluctuations = getFluctuations(boxSizes, executor);
+
+        double[] logSize = new double[boxSizes.length];
+        double[] logFluctuation = new double[boxSizes.length];
+        for (int i = 0; i < boxSizes.length; i++) {
+            logSize[i] = Math.log10(boxSizes[i]);
+            logFluctuation[i] = Math.log10(fluctuations[i]);
+        }
+        PiecewiseLinearSegmentation fit = new PiecewiseLinearSegmentation(logSize, logFluctuation);
+        return fit.getSlope(0, boxSizes.length);
+    }
+
+    /**
+     * @return the short term scaling exponent alpha1 of the box sizes 4 to 16.
+     */
+    public double getAlpha1() {
+        return getAlpha(SHORT_TERM_MIN, SHORT_TERM_MAX, null);
+    }
+
+    /**
+     * @return the long term scaling exponent alpha2 of the box sizes 16 to 64.
+     */
+    public double getAlpha2() {
+        return getAlpha(SHORT_TERM_MAX, LONG_TERM_MAX, null);
+    }
+
+    /**
+     * @param from    the first index of the box.
+     * @param boxSize the number of samples of the box.
+     * @return the sum of the squared residuals of the least squares line of the profile in the box.
+     */
+    private double getSquaredResiduals(int from, int boxSize) {
+        double mean = 0;
+        for (int i = from; i < from + boxSize; i++) {
+            mean += mProfile[i];
+        }
+        mean /= boxSize;
+
+        // x relative to the center of the box, so the sum of x vanishes
+        double center = (boxSize - 1) / 2.0;
+        double sxx = boxSize * ((double) boxSize * boxSize - 1) / 12;
+        double sxy = 0;
+        for (int i = 0; i < boxSize; i++) {
+            sxy += (i - center) * (mProfile[from + i] - mean);
+        }
+        double slope = sxy / sxx;
+
+        double squares = 0;
+        for (int i = 0; i < boxSize; i++) {
+            double residual = mProfile[from + i] - mean - slope * (i - center);
+            squares += residual * residual;
+        }
+        return squares;
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+/**
+ * Frequency bands of heart rate variability as defined by the Task Force of the European Society of Cardiology and
+ * the North American Society of Pacing and Electrophysiology (1996).
+ */
+public enum FrequencyBand {
+    /**
+     * Ultra low frequency band, only meaningful for 24 h recordings.
+     */
+    ULF(0.0, 0.003),
+    /**
+     * Very low frequency band.
+     */
+    VLF(0.003, 0.04),
+    /**
+     * Low frequency band.
+     */
+    LF(0.04, 0.15),
+    /**
+     * High frequency band, the respiratory sinus arrhythmia.
+     */
+    HF(0.15, 0.4);
+
+    private final double mLowerBound;
+    private final double mUpperBound;
+
+    FrequencyBand(double lowerBound, double upperBound) {
+        mLowerBound = lowerBound;
+        mUpperBound = upperBound;
+    }
+
+    /**
+     * @return the lower edge of the band in Hz, inclusive.
+     */
+    public double getLowerBound() {
+        return mLowerBound;
+    }
+
+    /**
+     * @return the upper edge of the band in Hz, exclusive.
+     */
+    public double getUpperBound() {
+        return mUpperBound;
+    }
+
+    /**
+     * @param frequency a frequency in Hz.
+     * @return true if the frequency lies within this band.
+     */
+    public boolean contains(double frequency) {
+        return frequency >= mLowerBound && frequency < mUpperBound;
+    }
+}
@@ -32,6 +32,8 @@ public class HRVFrequencyDomain {
     double[] y;
     double[] x;
     double samplingRate;
+    double reSamplingRate;
+    double[] signal;
     double[] real;
     double[] imag;
 
@@ -46,6 +48,7 @@ public class HRVFrequencyDomain {
         }
 
         this.samplingRate = samplingRate;
+        this.reSamplingRate = reSamplingRate;
 
         double x_start = rrITs[0];
         double x_end = rrITs[rrITs.length - 1];
@@ -61,47 +64,13 @@ public class HRVFrequencyDomain {
         for (int i = 0; i < y.length; i++) {
             y[i] = (y[i] - y_mean) * 1000;
         }
+        signal = y.clone();
 
         y = HammingWindow(y, 0, y.length);
-
-        real = y.clone();
-        imag = new double[y.length];
-        FFT.transform(real, imag);
-
     }
 
     public HRVFrequencyDomain(Double[] rrIValues, Double[] rrITimestamps, double samplingRate, double reSamplingRate) {
-
-        double[] rrIVal = new double[rrIValues.length];
-        double[] rrITs = new double[rrITimestamps.length];
-
-        for (int i = 0; i < rrIValues.length; i++) {
-            rrIVal[i] = rrIValues[i].doubleValue() / samplingRate;
-            rrITs[i] = rrITimestamps[i].doubleValue() / samplingRate;
-        }
-
-        this.samplingRate = samplingRate;
-
-        double x_start = rrITs[0];
-        double x_end = rrITs[rrITs.length - 1];
-        x = new double[(int) Math.floor((x_end - x_start) * reSamplingRate)];
-
-        for (int i = 0; i < x.length; i++) {
-            x[i] = x_start + (i / reSamplingRate);
-        }
-
-        y = Interpolator.interpolate(rrITs, rrIVal, x, reSamplingRate);
-
-        double y_mean = mean(y);
-        for (int i = 0; i < y.length; i++) {
-            y[i] = (y[i] - y_mean) * 1000;
-        }
-
-        y = HammingWindow(y, 0, y.length);
-        real = y.clone();
-        imag = new double[y.length];
-        FFT.transform(real, imag);
-
+        this(toPrimitive(rrIValues), toPrimitive(rrITimestamps), samplingRate, reSamplingRate);
     }
 
     // Constructor receives interpolated values of original RRInterval series
@@ -118,15 +87,80 @@ public class HRVFrequencyDomain {
     }
 
     public double[] compPSD() {
-        double[] power = new double[real.length / 2];
-        for (int i = 0; i < real.length / 2; i++) {
+        int n = y.length;
+        if (n == 0)
+            return new double[0];
+        // the transform of the whole record is only needed here, spectral estimates with Welch's method do without;
+        // as the signal is real, real and imag only hold the bins 0 to n / 2
+        if (real == null) {
+            real = new double[n / 2 + 1];
+            imag = new double[n / 2 + 1];
+            FftPlan.forSize(n).realTransform(y, real, imag);
+        }
+        double[] power = new double[n / 2];
+        for (int i = 0; i < n / 2; i++) {
             double mag = Math.pow(real[i], 2.0) + Math.pow(imag[i], 2.0);
             mag = Math.sqrt(mag);
-            power[i] = (mag * mag) / (samplingRate * real.length);
+            power[i] = (mag * mag) / (samplingRate * n);
         }
         return power;
     }
 
+    /**
+     * Estimates the power spectral density of the resampled RR intervals with Welch's method.
+     *
+     * @param segmentDuration the duration of a segment in s.
+     * @param overlap         the fraction of a segment two consecutive segments share, in [0, 1).
+     * @return the power spectral density in ms^2/Hz.
+     */
+    public PowerSpectralDensity compWelchPSD(double segmentDuration, double overlap) {
+        return compWelchPSD(WelchEstimator.forDuration(segmentDuration, overlap, reSamplingRate));
+    }
+
+    /**
+     * Estimates the power spectral density of the resampled RR intervals with Welch's method. Reusing one estimator
+     * for many records avoids recomputing its window and transform tables.
+     *
+     * @param estimator the estimator, for the resampling rate of this instance.
+     * @return the power spectral density in ms^2/Hz.
+     */
+    public PowerSpectralDensity compWelchPSD(WelchEstimator estimator) {
+        return estimator.estimate(signal, reSamplingRate);
+    }
+
+    /**
+     * Estimates the power spectral density of RR intervals at their beat times with the Lomb-Scargle periodogram,
+     * without resampling.
+     *
+     * @param rrIValues     the RR intervals in samples.
+     * @param rrITimestamps the time stamps of the RR intervals in samples.
+     * @param samplingRate  the sampling rate of the ECG.
+     * @return the power spectral density in ms^2/Hz up to the upper edge of the HF band.
+     */
+    public static PowerSpectralDensity compLombScarglePSD(double[] rrIValues, double[] rrITimestamps, double samplingRate) {
+        return compLombScarglePSD(rrIValues, rrITimestamps, samplingRate, new LombScargle());
+    }
+
+    /**
+     * Estimates the power spectral density of RR intervals at their beat times with the given Lomb-Scargle
+     * periodogram, without resampling.
+     *
+     * @param rrIValues     the RR intervals in samples.
+     * @param rrITimestamps the time stamps of the RR intervals in samples.
+     * @param samplingRate  the sampling rate of the ECG.
+     * @param periodogram   the periodogram settings.
+     * @return the power spectral density in ms^2/Hz.
+     */
+    public static PowerSpectralDensity compLombScarglePSD(double[] rrIValues, double[] rrITimestamps, double samplingRate, LombScargle periodogram) {
+        double[] rrIVal = new double[rrIValues.length];
+        double[] rrITs = new double[rrITimestamps.length];
+        for (int i = 0; i < rrIValues.length; i++) {
+            rrIVal[i] = rrIValues[i] / samplingRate * 1000;
+            rrITs[i] = rrITimestamps[i] / samplingRate;
+        }
+        return periodogram.estimate(rrITs, rrIVal);
+    }
+
     public double[] HanningWindow(double[] signal_in, int pos, int size) {
         for (int i = pos; i < pos + size; i++) {
             int j = i - pos; // j = index into Hann window function
@@ -156,6 +190,14 @@ public class HRVFrequencyDomain {
         return mean;
     }
 
+    private static double[] toPrimitive(Double[] array) {
+        double[] values = new double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            values[i] = array[i].doubleValue();
+        }
+        return values;
+    }
+
     private double mean(Double[] array) {
         double mean = 0;
         double sum = 0;
@@ -16,7 +16,6 @@
  */
 package de.fau.mad.jely.hrv;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
 
 /**
@@ -30,183 +29,108 @@ public class HRVTimeDomain {
         this.samplingRate = samplingRate;
     }
 
+    /**
+     * Accumulates all time domain parameters of a series in a single pass. The <code>comp*</code> methods taking an
+     * accumulator scale its results exactly like the corresponding methods taking the series.
+     *
+     * @param rrIVal the RR intervals.
+     * @return the accumulator.
+     */
+    public HrvAccumulator accumulate(double[] rrIVal) {
+        HrvAccumulator accumulator = new HrvAccumulator();
+        accumulator.addAll(rrIVal);
+        return accumulator;
+    }
+
+    private HrvAccumulator accumulate(ArrayList<Double> rrIVal) {
+        HrvAccumulator accumulator = new HrvAccumulator();
+        for (int i = 0; i < rrIVal.size(); i++) {
+            accumulator.add(rrIVal.get(i));
+        }
+        return accumulator;
+    }
+
     public int[] compHR(double[] trend) {
         int[] HR = new int[trend.length];
-//        ArrayList<Double> rriInSeconds = new ArrayList();
         for (int i = 0; i < trend.length; i++) {
-/*            if(i < 10) {
-                rriInSeconds.add(rrIValues[i]/samplingRate);
-            }else{
-                rriInSeconds.remove(0);
-                rriInSeconds.add(rrIValues[i]/samplingRate);
-            }
-            double meanRRI = mean(rriInSeconds);*/
-            Double hr = new Double(60.0 / (trend[i] / samplingRate));
-            HR[i] = hr.intValue();
+            HR[i] = (int) (60.0 / (trend[i] / samplingRate));
         }
         return HR;
     }
 
     public int compMeanHR(ArrayList<Double> rrIVal) {
-        double meanRRI = mean(rrIVal);
-        Double hr = new Double(60.0 / (meanRRI / samplingRate));
-        int meanHR = hr.intValue();
-        return meanHR;
+        double meanRRI = accumulate(rrIVal).getMean();
+        return (int) (60.0 / (meanRRI / samplingRate));
     }
 
     public double compSDNN(double[] rrIVal) {
+        return compSDNN(accumulate(rrIVal));
+    }
 
-        double SDNN = std(rrIVal);
-
-        return SDNN * 1000;
+    public double compSDNN(HrvAccumulator accumulator) {
+        return accumulator.getSDNN() * 1000;
     }
 
     public double compRMSSD(double[] rrIVal) {
-        int n = rrIVal.length;
-        double RMSSD = Math.sqrt(sumSquaredDiff(rrIVal) / (double) (n - 1));
+        return compRMSSD(accumulate(rrIVal));
+    }
 
-        return RMSSD * 1000;
+    public double compRMSSD(HrvAccumulator accumulator) {
+        return accumulator.getRMSSD() * 1000;
     }
 
     public double compRMSSD(ArrayList<Double> rrIVal) {
-        int n = rrIVal.size();
-
-        Double[] rrIValArr = new Double[n];
-        rrIValArr = rrIVal.toArray(rrIValArr);
-        double RMSSD = Math.sqrt(sumSquaredDiff(rrIValArr) / (double) (n - 1));
-
-        return RMSSD * 1000 / samplingRate;
+        return accumulate(rrIVal).getRMSSD() * 1000 / samplingRate;
     }
 
     public int compNN50(double[] rrIVal) {
-        int nn50 = 0;
-        int n = rrIVal.length;
-        for (int i = 1; i < n; i++) {
-            double diff = Math.abs(rrIVal[i] - rrIVal[i - 1]);
-            if (diff > 50) {
-                nn50++;
-            }
-        }
-        return nn50;
+        return compNN50(accumulate(rrIVal));
     }
 
-    public double compPNN50(double[] rrIVal) {
-        int nn50 = compNN50(rrIVal);
-        int n = rrIVal.length;
-        return (double) nn50 / (n - 1);
+    public int compNN50(HrvAccumulator accumulator) {
+        return (int) accumulator.getNN50();
     }
 
-    public double compSD1(double[] rrIVal) {
-        double SD1 = compSDSD(rrIVal) / Math.sqrt(2);
-        return SD1;
-    }
-
-    public double compSD1(ArrayList<Double> rrIVal) {
-        double SD1 = compSDSD(rrIVal) / Math.sqrt(2);
-        return SD1;
-    }
-
-    public double compSD2(double[] rrIVal) {
-        double SD2 = Math.sqrt(2 * Math.pow(compSDNN(rrIVal), 2) - (0.5 * Math.pow(compSDSD(rrIVal), 2)));
-        return SD2;
-    }
-
-    public double compSDSD(double[] rrIVal) {
-        double[] drri = diff(rrIVal);
-        double SDSD = std(drri);
-
-        return SDSD * 1000 / samplingRate;
+    public double compPNN50(double[] rrIVal) {
+        return compPNN50(accumulate(rrIVal));
     }
 
-    public double compSDSD(ArrayList<Double> rrIVal) {
-        ArrayList<Double> drri = diff(rrIVal);
-        double SDSD = std(drri);
-
-        return SDSD * 1000 / samplingRate;
+    public double compPNN50(HrvAccumulator accumulator) {
+        return accumulator.getPNN50();
     }
 
-    private double std(double[] array) {
-        double mean = mean(array);
-        double sum = 0.0;
-        int n = array.length;
-        for (int i = 0; i < array.length; i++) {
-            sum = sum + Math.pow((array[i] - mean), 2);
-        }
-        double std = Math.sqrt(sum / (n - 1));
-
-        return std;
+    public double compSD1(double[] rrIVal) {
+        return compSD1(accumulate(rrIVal));
     }
 
-    private double std(ArrayList<Double> array) {
-        double mean = mean(array);
-        double sum = 0.0;
-        int n = array.size();
-        for (int i = 0; i < array.size(); i++) {
-            sum = sum + Math.pow((array.get(i) - mean), 2);
-        }
-        double std = Math.sqrt(sum / (n - 1));
-
-        return std;
+    public double compSD1(HrvAccumulator accumulator) {
+        return compSDSD(accumulator) / Math.sqrt(2);
     }
 
-    private double[] diff(double[] array) {
-        double[] diff = new double[array.length - 1];
-        for (int i = 1; i < array.length; i++) {
-            diff[i - 1] = array[i] - array[i - 1];
-        }
-
-        return diff;
+    public double compSD1(ArrayList<Double> rrIVal) {
+        double SD1 = compSDSD(rrIVal) / Math.sqrt(2);
+        return SD1;
     }
 
-    private ArrayList<Double> diff(ArrayList<Double> array) {
-        ArrayList<Double> diff = new ArrayList(array.size() - 1);
-        for (int i = 1; i < array.size(); i++) {
-            diff.add(array.get(i) - array.get(i - 1));
-        }
-        return diff;
+    public double compSD2(double[] rrIVal) {
+        return compSD2(accumulate(rrIVal));
     }
 
-
-    private double sumSquaredDiff(double[] array) {
-        double diff = 0.0;
-        for (int i = 1; i < array.length; i++) {
-            diff = diff + Math.pow(array[i] - array[i - 1], 2);
-        }
-        return diff;
+    public double compSD2(HrvAccumulator accumulator) {
+        double sdnn = compSDNN(accumulator);
+        double sdsd = compSDSD(accumulator);
+        return Math.sqrt(2 * sdnn * sdnn - 0.5 * sdsd * sdsd);
     }
 
-    private Double sumSquaredDiff(Double[] array) {
-        Double diff = 0.0;
-        for (int i = 1; i < array.length; i++) {
-            diff = diff + Math.pow(array[i] - array[i - 1], 2);
-        }
-        return diff;
+    public double compSDSD(double[] rrIVal) {
+        return compSDSD(accumulate(rrIVal));
     }
 
-    private double mean(double[] array) {
-        double mean = 0;
-        double sum = 0;
-        int n = array.length;
-
-        for (int i = 0; i < array.length; i++) {
-            sum = sum + array[i];
-        }
-        mean = sum / n;
-
-        return mean;
+    public double compSDSD(HrvAccumulator accumulator) {
+        return accumulator.getSDSD() * 1000 / samplingRate;
     }
 
-    private double mean(ArrayList<Double> arrayList) {
-        double mean = 0;
-        double sum = 0;
-        int n = arrayList.size();
-
-        for (int i = 0; i < arrayList.size(); i++) {
-            sum = sum + arrayList.get(i);
-        }
-        mean = sum / n;
-
-        return mean;
+    public double compSDSD(ArrayList<Double> rrIVal) {
+        return accumulate(rrIVal).getSDSD() * 1000 / samplingRate;
     }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,338 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import de.fau.mad.jely.util.ParallelTasks;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Single pass accumulator of the time domain and Poincar&eacute; parameters of a series of RR intervals. The RR
+ * intervals and their successive differences are accumulated with Welford's algorithm, the squared successive
+ * differences with Kahan summation, so all parameters are available after one pass without storing the series.
+ * <p>
+ * Accumulators of consecutive parts of a recording can be merged, which gives the same result as accumulating the whole
+ * recording, including the successive difference across the border. This allows to accumulate segments concurrently,
+ * see {@link #forSegments}, and to compute SDANN and the SDNN index from the segments.
+ * <p>
+ * The parameters are in the unit of the RR intervals, the NN50 threshold and the heart rate assume ms.
+ */
+public class HrvAccumulator {
+    /**
+     * Default threshold of the successive differences counted by NN50.
+     */
+    public static final double DEFAULT_NN50_THRESHOLD = 50;
+
+    /**
+     * Default segment duration for SDANN and the SDNN index in s.
+     */
+    public static final double DEFAULT_SEGMENT_DURATION = 300;
+
+    private final double mThreshold;
+
+    private long mCount;
+    private double mMean;
+    private double mM2;
+    private double mFirst = Double.NaN;
+    private double mLast = Double.NaN;
+
+    private long mDiffCount;
+    private double mDiffMean;
+    private double mDiffM2;
+    private double mDiffSquares;
+    private double mDiffSquaresCompensation;
+    private long mNN50;
+
+    /**
+     * Creates an accumulator with the default NN50 threshold.
+     */
+    public HrvAccumulator() {
+        this(DEFAULT_NN50_THRESHOLD);
+    }
+
+    /**
+     * @param nn50Threshold the threshold of the successive differences counted by NN50, in the unit of the RR
+     *                      intervals.
+     */
+    public HrvAccumulator(double nn50Threshold) {
+        mThreshold = nn50Threshold;
+    }
+
+    /**
+     * Adds the next RR interval.
+     *
+     * @param rr the RR interval.
+     */
+    public void add(double rr) {
+        if (mCount > 0)
+            addDiff(rr - mLast);
+        else
+            mFirst = rr;
+        mLast = rr;
+
+        mCount++;
+        double delta = rr - mMean;
+        mMean += delta / mCount;
+        mM2 += delta * (rr - mMean);
+    }
+
+    /**
+     * Adds the next RR intervals.
+     *
+     * @param rr the RR intervals.
+     */
+    public void addAll(double[] rr) {
+        addAll(rr, 0, rr.length);
+    }
+
+    /**
+     * Adds the next RR intervals.
+     *
+     * @param rr   the RR intervals.
+     * @param from the first index to add.
+     * @param to   the end (exclusive) of the range to add.
+     */
+    public void addAll(double[] rr, int from, int to) {
+        for (int i = from; i < to; i++) {
+            add(rr[i]);
+        }
+    }
+
+    /**
+     * Merges the RR intervals accumulated by another accumulator as if they were added after the ones of this
+     * accumulator.
+     *
+     * @param following the accumulator of the RR intervals that follow, it is not modified.
+     * @return this accumulator.
+     */
+    public HrvAccumulator merge(HrvAccumulator following) {
+        if (following.mCount == 0)
+            return this;
+        if (mCount == 0) {
+            copy(following);
+            return this;
+        }
+
+        // the successive difference across the border
+        addDiff(following.mFirst - mLast);
+
+        long n = mCount + following.mCount;
+        double delta = following.mMean - mMean;
+        mMean += delta * following.mCount / n;
+        mM2 += following.mM2 + delta * delta * mCount / n * following.mCount;
+        mCount = n;
+        mLast = following.mLast;
+
+        if (following.mDiffCount > 0) {
+            long m = mDiffCount + following.mDiffCount;
+            double diffDelta = following.mDiffMean - mDiffMean;
+            mDiffMean += diffDelta * following.mDiffCount / m;
+            mDiffM2 += following.mDiffM2 + diffDelta * diffDelta * mDiffCount / m * following.mDiffCount;
+            mDiffCount = m;
+            addDiffSquare(following.mDiffSquares);
+            addDiffSquare(-following.mDiffSquaresCompensation);
+            mNN50 += following.mNN50;
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of RR intervals.
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    /**
+     * @return the mean RR interval.
+     */
+    public double getMean() {
+        return mCount > 0 ? mMean : Double.NaN;
+    }
+
+    /**
+     * @return the mean heart rate in beats per minute, for RR intervals in ms.
+     */
+    public double getMeanHeartRate() {
+        return 60000.0 / getMean();
+    }
+
+    /**
+     * @return the standard deviation of the RR intervals.
+     */
+    public double getSDNN() {
+        return Math.sqrt(mM2 / (mCount - 1));
+    }
+
+    /**
+     * @return the root mean square of the successive differences.
+     */
+    public double getRMSSD() {
+        return Math.sqrt(mDiffSquares / mDiffCount);
+    }
+
+    /**
+     * @return the standard deviation of the successive differences.
+     */
+    public double getSDSD() {
+        return Math.sqrt(mDiffM2 / (mDiffCount - 1));
+    }
+
+    /**
+     * @return the number of successive differences larger than the NN50 threshold.
+     */
+    public long getNN50() {
+        return mNN50;
+    }
+
+    /**
+     * @return the fraction of successive differences larger than the NN50 threshold.
+     */
+    public double getPNN50() {
+        return (double) mNN50 / mDiffCount;
+    }
+
+    /**
+     * @return the short term variability SD1 of the Poincar&eacute; plot.
+     */
+    public double getSD1() {
+        return getSDSD() / Math.sqrt(2);
+    }
+
+    /**
+     * @return the long term variability SD2 of the Poincar&eacute; plot.
+     */
+    public double getSD2() {
+        double sdsd = getSDSD();
+        return Math.sqrt(2 * mM2 / (mCount - 1) - 0.5 * sdsd * sdsd);
+    }
+
+    /**
+     * Accumulates consecutive segments of a fixed duration of a recording. Segment i contains the RR intervals from
+     * <code>time[0] + i * segmentDuration</code> up to but excluding the start of the next segment. The segments are
+     * accumulated concurrently.
+     *
+     * @param time            the times of the RR intervals in s, increasing.
+     * @param rr              the RR intervals.
+     * @param segmentDuration the duration of a segment in s.
+     * @param executor        the executor accumulating the segments, or <code>null</code> to accumulate in the calling
+     *                        thread.
+     * @return the accumulators of all non-empty segments in chronological order.
+     */
+    public static HrvAccumulator[] forSegments(double[] time, final double[] rr, double segmentDuration, Executor executor) {
+        if (time.length != rr.length)
+            throw new IllegalArgumentException("time and rr must have the same length.");
+
+        // start index of every non-empty segment and the end of the last one
+        final ArrayList<Integer> bounds = new ArrayList<>();
+        long segment = -1;
+        for (int i = 0; i < time.length; i++) {
+            long s = (long) Math.floor((time[i] - time[0]) / segmentDuration);
+            if (s != segment) {
+                bounds.add(i);
+                segment = s;
+            }
+        }
+        bounds.add(time.length);
+
+        final HrvAccumulator[] segments = new HrvAccumulator[bounds.size() - 1];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new HrvAccumulator();
+        }
+        ParallelTasks.run(segments.length, 1, executor, "Accumulation", new ParallelTasks.Range() {
+            @Override
+            public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    segments[i].addAll(rr, bounds.get(i), bounds.get(i + 1));
+                }
+            }
+        });
+        return segments;
+    }
+
+    /**
+     * Merges the accumulators of consecutive segments.
+     *
+     * @param segments the accumulators in chronological order, they are not modified.
+     * @return an accumulator of the whole recording.
+     */
+    public static HrvAccumulator mergeAll(HrvAccumulator[] segments) {
+        HrvAccumulator all = new HrvAccumulator(segments.length > 0 ? segments[0].mThreshold : DEFAULT_NN50_THRESHOLD);
+        for (HrvAccumulator segment : segments) {
+            all.merge(segment);
+        }
+        return all;
+    }
+
+    /**
+     * @param segments the accumulators of the segments, usually of 5 min each.
+     * @return SDANN, the standard deviation of the mean RR intervals of the segments.
+     */
+    public static double getSDANN(HrvAccumulator[] segments) {
+        HrvAccumulator means = new HrvAccumulator();
+        for (HrvAccumulator segment : segments) {
+            means.add(segment.getMean());
+        }
+        return means.getSDNN();
+    }
+
+    /**
+     * @param segments the accumulators of the segments, usually of 5 min each.
+     * @return the SDNN index, the mean of the standard deviations of the RR intervals of the segments with at least two
+     * RR intervals.
+     */
+    public static double getSDNNIndex(HrvAccumulator[] segments) {
+        HrvAccumulator sdnn = new HrvAccumulator();
+        for (HrvAccumulator segment : segments) {
+            if (segment.mCount > 1)
+                sdnn.add(segment.getSDNN());
+        }
+        return sdnn.getMean();
+    }
+
+    private void addDiff(double diff) {
+        mDiffCount++;
+        double delta = diff - mDiffMean;
+        mDiffMean += delta / mDiffCount;
+        mDiffM2 += delta * (diff - mDiffMean);
+        addDiffSquare(diff * diff);
+        if (Math.abs(diff) > mThreshold)
+            mNN50++;
+    }
+
+    private void addDiffSquare(double value) {
+        double y = value - mDiffSquaresCompensation;
+        double t = mDiffSquares + y;
+        mDiffSquaresCompensation = (t - mDiffSquares) - y;
+        mDiffSquares = t;
+    }
+
+    private void copy(HrvAccumulator other) {
+        mCount = other.mCount;
+        mMean = other.mMean;
+        mM2 = other.mM2;
+        mFirst = other.mFirst;
+        mLast = other.mLast;
+        mDiffCount = other.mDiffCount;
+        mDiffMean = other.mDiffMean;
+        mDiffM2 = other.mDiffM2;
+        mDiffSquares = other.mDiffSquares;
+        mDiffSquaresCompensation = other.mDiffSquaresCompensation;
+        mNN50 = other.mNN50;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import de.fau.mad.jely.util.FFT;
+
+/**
+ * Lomb-Scargle periodogram for unevenly sampled signals, e.g. RR intervals at their beat times, which makes resampling
+ * unnecessary. The trigonometric sums of all frequencies are evaluated with the fast algorithm of Press and Rybicki
+ * (1989): the samples are extirpolated onto an even grid and all sums are taken from a single FFT, so the periodogram
+ * costs O(n log n) instead of O(n m) for m frequencies.
+ * <p>
+ * The frequencies are multiples of <code>1 / (oversampling * T)</code> for a signal of duration T. The power is scaled
+ * to a one-sided density with the mean sampling rate, so that it integrates to the variance of the signal and can be
+ * compared with {@link WelchEstimator}.
+ */
+public class LombScargle {
+    /**
+     * Default factor by which the frequency grid is finer than the inverse signal duration.
+     */
+    public static final double DEFAULT_OVERSAMPLING = 4;
+
+    /**
+     * Default highest frequency, the upper edge of the HF band.
+     */
+    public static final double DEFAULT_MAX_FREQUENCY = 0.4;
+
+    // Number of grid points each sample is extirpolated to
+    private static final int EXTIRPOLATION_ORDER = 4;
+
+    private final double mOversampling;
+    private final double mMaxFrequency;
+
+    /**
+     * Creates a periodogram with the default oversampling up to the upper edge of the HF band.
+     */
+    public LombScargle() {
+        this(DEFAULT_OVERSAMPLING, DEFAULT_MAX_FREQUENCY);
+    }
+
+    /**
+     * @param oversampling factor by which the frequency grid is finer than the inverse signal duration, at least 1.
+     * @param maxFrequency the highest frequency in Hz.
+     */
+    public LombScargle(double oversampling, double maxFrequency) {
+        if (oversampling < 1)
+            throw new IllegalArgumentException("The oversampling factor must be at least 1.");
+        if (maxFrequency <= 0)
+            throw new IllegalArgumentException("The maximum frequency must be positive.");
+        mOversampling = oversampling;
+        mMaxFrequency = maxFrequency;
+    }
+
+    /**
+     * Estimates the power spectral density of an unevenly sampled signal.
+     *
+     * @param time   the sample times in s, increasing.
+     * @param signal the sample values.
+     * @return the one-sided power spectral density at the frequencies <code>k / (oversampling * T)</code>, k &gt; 0,
+     * up to the maximum frequency, in the squared unit of the signal per Hz.
+     */
+    public PowerSpectralDensity estimate(double[] time, double[] signal) {
+        int n = time.length;
+        if (signal.length != n)
+            throw new IllegalArgumentException("time and signal must have the same length.");
+        if (n < 3)
+            throw new IllegalArgumentException("At least three samples are required.");
+        double duration = time[n - 1] - time[0];
+        if (!(duration > 0))
+            throw new IllegalArgumentException("The samples must span a positive duration.");
+
+        double resolution = 1.0 / (mOversampling * duration);
+        int bins = (int) (mMaxFrequency / resolution);
+        if (bins < 1)
+            throw new IllegalArgumentException("The signal is too short for the maximum frequency.");
+
+        // grid size so that the highest frequency is sampled at least 2 * EXTIRPOLATION_ORDER times per period
+        int size = Integer.highestOneBit(2 * EXTIRPOLATION_ORDER * bins - 1) << 1;
+
+        double mean = 0;
+        for (int i = 0; i < n; i++) {
+            mean += signal[i];
+        }
+        mean /= n;
+
+        // real part: the signal at phase w t, imaginary part: unit weights at phase 2 w t
+        double[] real = new double[size];
+        double[] imag = new double[size];
+        double scale = resolution * size;
+        for (int i = 0; i < n; i++) {
+            double position = ((time[i] - time[0]) * scale) % size;
+            extirpolate(real, position, signal[i] - mean);
+            extirpolate(imag, (2 * position) % size, 1.0);
+        }
+        FFT.transform(real, imag);
+
+        double[] frequencies = new double[bins];
+        double[] power = new double[bins];
+        // to a one-sided density with the mean sampling rate
+        double density = 2.0 * duration / (n - 1);
+        for (int k = 1; k <= bins; k++) {
+            int m = size - k;
+            // the transforms of both real grids separated from the transform of the complex grid
+            double ch = 0.5 * (real[k] + real[m]);
+            double sh = 0.5 * (imag[m] - imag[k]);
+            double c2 = 0.5 * (imag[k] + imag[m]);
+            double s2 = 0.5 * (real[k] - real[m]);
+
+            // time offset tau which makes the sine and cosine terms orthogonal, tan(2 w tau) = s2 / c2
+            double hypot = Math.hypot(c2, s2);
+            double cos2 = hypot > 0 ? c2 / hypot : 1.0;
+            double cosWt = Math.sqrt(0.5 * (1.0 + cos2));
+            double sinWt = Math.copySign(Math.sqrt(0.5 * (1.0 - cos2)), s2);
+
+            double c = ch * cosWt + sh * sinWt;
+            double s = sh * cosWt - ch * sinWt;
+            double cosSquares = 0.5 * (n + hypot);
+            double sinSquares = 0.5 * (n - hypot);
+            double p = c * c / cosSquares;
+            if (sinSquares > 0)
+                p += s * s / sinSquares;
+
+            frequencies[k - 1] = k * resolution;
+            power[k - 1] = 0.5 * p * density;
+        }
+        return new PowerSpectralDensity(frequencies, power, resolution);
+    }
+
+    /**
+     * Adds a value at a fractional position of a periodic grid by Lagrange extirpolation, i.e. to the neighbouring
+     * grid points with the weights that would interpolate the grid at that position.
+     *
+     * @param grid     the periodic grid.
+     * @param position the position, in [0, grid.length).
+     * @param value    the value to add.
+     */
+    private static void extirpolate(double[] grid, double position, double value) {
+        int size = grid.length;
+        int index = (int) position;
+        if (index == position) {
+            grid[index % size] += value;
+            return;
+        }
+
+        // the four grid points lo .. lo + 3 around the position
+        int lo = index - EXTIRPOLATION_ORDER / 2 + 1;
+        double d0 = position - lo;
+        double d1 = d0 - 1;
+        double d2 = d0 - 2;
+        double d3 = d0 - 3;
+        grid[(lo + size) % size] -= value * d1 * d2 * d3 / 6.0;
+        grid[(lo + 1) % size] += value * d0 * d2 * d3 / 2.0;
+        grid[(lo + 2) % size] -= value * d0 * d1 * d3 / 2.0;
+        grid[(lo + 3) % size] += value * d0 * d1 * d2 / 6.0;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+/**
+ * One-sided power spectral density estimate on a grid of frequencies with constant spacing, as computed by
+ * {@link WelchEstimator} and {@link LombScargle}. The power is a density, i.e. in the squared unit of the input per Hz,
+ * so the power in a band is the sum of its bins times the frequency resolution.
+ */
+public class PowerSpectralDensity {
+    private final double[] mFrequencies;
+    private final double[] mPower;
+    private final double mResolution;
+
+    /**
+     * @param frequencies the frequency of each bin in Hz, increasing with constant spacing.
+     * @param power       the power density of each bin.
+     * @param resolution  the spacing of the bins in Hz.
+     */
+    public PowerSpectralDensity(double[] frequencies, double[] power, double resolution) {
+        if (frequencies.length != power.length)
+            throw new IllegalArgumentException("frequencies and power must have the same length.");
+        mFrequencies = frequencies;
+        mPower = power;
+        mResolution = resolution;
+    }
+
+    /**
+     * @return the frequency of each bin in Hz.
+     */
+    public double[] getFrequencies() {
+        return mFrequencies;
+    }
+
+    /**
+     * @return the power density of each bin.
+     */
+    public double[] getPower() {
+        return mPower;
+    }
+
+    /**
+     * @return the spacing of the bins in Hz.
+     */
+    public double getResolution() {
+        return mResolution;
+    }
+
+    /**
+     * @return the number of bins.
+     */
+    public int size() {
+        return mPower.length;
+    }
+
+    /**
+     * Integrates the power density over a frequency range.
+     *
+     * @param lowerBound the lower edge in Hz, inclusive.
+     * @param upperBound the upper edge in Hz, exclusive.
+     * @return the power within the range.
+     */
+    public double getBandPower(double lowerBound, double upperBound) {
+        double sum = 0;
+        for (int i = 0; i < mFrequencies.length && mFrequencies[i] < upperBound; i++) {
+            if (mFrequencies[i] >= lowerBound)
+                sum += mPower[i];
+        }
+        return sum * mResolution;
+    }
+
+    /**
+     * @param band the frequency band.
+     * @return the power within the band.
+     */
+    public double getBandPower(FrequencyBand band) {
+        return getBandPower(band.getLowerBound(), band.getUpperBound());
+    }
+
+    /**
+     * @return the total power up to the upper edge of the HF band, i.e. ULF + VLF + LF + HF.
+     */
+    public double getTotalPower() {
+        return getBandPower(0, FrequencyBand.HF.getUpperBound());
+    }
+
+    /**
+     * @return the ratio of LF to HF power.
+     */
+    public double getLfHfRatio() {
+        return getBandPower(FrequencyBand.LF) / getBandPower(FrequencyBand.HF);
+    }
+
+    /**
+     * Power of a band in normalized units, i.e. relative to the sum of the LF and HF power.
+     *
+     * @param band the frequency band, usually LF or HF.
+     * @return the normalized power in percent.
+     */
+    public double getNormalizedPower(FrequencyBand band) {
+        double lf = getBandPower(FrequencyBand.LF);
+        double hf = getBandPower(FrequencyBand.HF);
+        return 100.0 * getBandPower(band) / (lf + hf);
+    }
+
+    /**
+     * Finds the frequency of the largest power density within a range.
+     *
+     * @param lowerBound the lower edge in Hz, inclusive.
+     * @param upperBound the upper edge in Hz, exclusive.
+     * @return the peak frequency in Hz or NaN if no bin lies within the range.
+     */
+    public double getPeakFrequency(double lowerBound, double upperBound) {
+        double peak = Double.NaN;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < mFrequencies.length && mFrequencies[i] < upperBound; i++) {
+            if (mFrequencies[i] >= lowerBound && mPower[i] > max) {
+                max = mPower[i];
+                peak = mFrequencies[i];
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * @param band the frequency band.
+     * @return the peak frequency within the band in Hz or NaN if no bin lies within the band.
+     */
+    public double getPeakFrequency(FrequencyBand band) {
+        return getPeakFrequency(band.getLowerBound(), band.getUpperBound());
+    }
+}
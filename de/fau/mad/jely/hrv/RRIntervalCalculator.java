@@ -16,6 +16,7 @@
  */
 package de.fau.mad.jely.hrv;
 
+import de.fau.mad.jely.BeatTable;
 import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.Ecg;
 import de.fau.mad.jely.detectors.HeartbeatDetector;
@@ -58,6 +59,26 @@ public class RRIntervalCalculator {
         extractRRIFromBeatList();
     }
 
+    // Constructor to calculate RRIntervals from the R peak column of a beat table
+    public RRIntervalCalculator(BeatTable beatTable) {
+        samplingRate = beatTable.getSamplingRate();
+        int[] rPeaks = beatTable.getRPositions();
+        rrIntervalList = new ArrayList<RRInterval>(Math.max(rPeaks.length - 1, 0));
+
+        // same layout as extractRRIFromBeatList()
+        RRInterval prevRRI = null;
+        for (int i = 1; i < rPeaks.length; i++) {
+            RRInterval currRRI = new RRInterval(rPeaks[i] - rPeaks[i - 1], (rPeaks[i - 1] + rPeaks[i]) / 2d, 0, prevRRI,
+                    null, false, rPeaks[i - 1], rPeaks[i]);
+            if (i > 1) {
+                prevRRI.setNextRRInterval(currRRI);
+                rrIntervalList.add(prevRRI);
+            }
+
+            prevRRI = currRRI;
+        }
+    }
+
     private void extractRRIFromBeatList() {
         RRInterval prevRRI = null;
 
@@ -0,0 +1,394 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import de.fau.mad.jely.util.ParallelTasks;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Sample entropy (Richman and Moorman, 2000) and approximate entropy (Pincus, 1991) of a series of RR intervals. Two
+ * templates, i.e. runs of <code>dimension</code> consecutive RR intervals, match if none of their values differ by more
+ * than the tolerance r. The tolerance is the tolerance factor times the standard deviation of the series.
+ * <p>
+ * Instead of comparing all pairs of templates, the templates of length m and m + 1 are stored in k-d trees and the
+ * matches of every template are counted by a range query. Nodes inside the tolerance box are counted at once, so only
+ * the templates near its border are compared, which makes the entropies feasible for 24 h recordings.
+ * <p>
+ * Multiscale entropy (Costa et al., 2002) evaluates the sample entropy of coarse-grained series, the scales can be
+ * evaluated concurrently.
+ */
+public class SampleEntropy {
+    /**
+     * Default template length m.
+     */
+    public static final int DEFAULT_DIMENSION = 2;
+
+    /**
+     * Default tolerance factor, the tolerance is 0.2 times the standard deviation.
+     */
+    public static final double DEFAULT_TOLERANCE_FACTOR = 0.2;
+
+    private final int mDimension;
+    private final double mToleranceFactor;
+
+    public SampleEntropy() {
+        this(DEFAULT_DIMENSION, DEFAULT_TOLERANCE_FACTOR);
+    }
+
+    /**
+     * @param dimension       the template length m.
+     * @param toleranceFactor the tolerance as a multiple of the standard deviation of the series.
+     */
+    public SampleEntropy(int dimension, double toleranceFactor) {
+        if (dimension < 1)
+            throw new IllegalArgumentException("The dimension must be at least 1.");
+        if (!(toleranceFactor > 0))
+            throw new IllegalArgumentException("The tolerance factor must be positive.");
+        mDimension = dimension;
+        mToleranceFactor = toleranceFactor;
+    }
+
+    /**
+     * @return the template length m.
+     */
+    public int getDimension() {
+        return mDimension;
+    }
+
+    /**
+     * @param rr the RR intervals.
+     * @return the tolerance r for a series, the tolerance factor times its standard deviation.
+     */
+    public double getTolerance(double[] rr) {
+        HrvAccumulator accumulator = new HrvAccumulator();
+        accumulator.addAll(rr);
+        return mToleranceFactor * accumulator.getSDNN();
+    }
+
+    /**
+     * @param rr the RR intervals.
+     * @return the sample entropy, see {@link #compSampleEntropy(double[], double)}.
+     */
+    public double compSampleEntropy(double[] rr) {
+        return compSampleEntropy(rr, getTolerance(rr));
+    }
+
+    /**
+     * Computes the sample entropy <code>-ln(A / B)</code>, where B and A are the numbers of matching pairs of the
+     * first n - m templates of length m and m + 1. Self matches are not counted.
+     *
+     * @param rr        the RR intervals.
+     * @param tolerance the tolerance r in the unit of the RR intervals.
+     * @return the sample entropy, infinite if no templates of length m + 1 match and NaN if no templates of length m
+     * match.
+     */
+    public double compSampleEntropy(double[] rr, double tolerance) {
+        long[] pairs = new long[2];
+        countMatches(rr, mDimension, tolerance, pairs, null, null);
+        if (pairs[0] == 0)
+            return Double.NaN;
+        return -Math.log((double) pairs[1] / pairs[0]);
+    }
+
+    /**
+     * @param rr the RR intervals.
+     * @return the approximate entropy, see {@link #compApproximateEntropy(double[], double)}.
+     */
+    public double compApproximateEntropy(double[] rr) {
+        return compApproximateEntropy(rr, getTolerance(rr));
+    }
+
+    /**
+     * Computes the approximate entropy <code>Phi_m - Phi_(m+1)</code>, where Phi_m is the mean logarithm of the
+     * fraction of templates of length m matching each template, including the template itself.
+     *
+     * @param rr        the RR intervals.
+     * @param tolerance the tolerance r in the unit of the RR intervals.
+     * @return the approximate entropy.
+     */
+    public double compApproximateEntropy(double[] rr, double tolerance) {
+        int n = rr.length;
+        int m = mDimension;
+        if (n <= m)
+            throw new IllegalArgumentException("The series must be longer than the dimension.");
+
+        int[] countsM = new int[n - m + 1];
+        int[] countsM1 = new int[n - m];
+        countMatches(rr, m, tolerance, new long[2], countsM, countsM1);
+
+        double phiM = 0;
+        for (int i = 0; i < countsM.length; i++) {
+            phiM += Math.log((countsM[i] + 1.0) / countsM.length);
+        }
+        double phiM1 = 0;
+        for (int i = 0; i < countsM1.length; i++) {
+            phiM1 += Math.log((countsM1[i] + 1.0) / countsM1.length);
+        }
+        return phiM / countsM.length - phiM1 / countsM1.length;
+    }
+
+    /**
+     * Computes the sample entropy of the coarse-grained series of the scales 1 to maxScale, with the tolerance of the
+     * original series for all scales.
+     *
+     * @param rr       the RR intervals.
+     * @param maxScale the largest scale.
+     * @param executor the executor evaluating the scales, or <code>null</code> to evaluate them in the calling
+     *                 thread.
+     * @return the sample entropy of scale s at index s - 1.
+     */
+    public double[] compMultiscaleEntropy(final double[] rr, int maxScale, Executor executor) {
+        if (maxScale < 1)
+            throw new IllegalArgumentException("The largest scale must be at least 1.");
+
+        final double tolerance = getTolerance(rr);
+        final double[] entropy = new double[maxScale];
+        // the largest scales have the shortest series, start with the most expensive ones
+        ParallelTasks.run(maxScale, 1, executor, "Multiscale entropy", new ParallelTasks.Range() {
+            @Override
+            public void run(int from, int to) {
+                for (int s = from + 1; s <= to; s++) {
+                    entropy[s - 1] = compSampleEntropy(coarseGrain(rr, s), tolerance);
+                }
+            }
+        });
+        return entropy;
+    }
+
+    /**
+     * Averages non-overlapping windows of a series.
+     *
+     * @param rr    the RR intervals.
+     * @param scale the window length.
+     * @return the means of the complete windows.
+     */
+    public static double[] coarseGrain(double[] rr, int scale) {
+        if (scale < 1)
+            throw new IllegalArgumentException("The scale must be at least 1.");
+        double[] grained = new double[rr.length / scale];
+        for (int i = 0; i < grained.length; i++) {
+            double sum = 0;
+            for (int k = 0; k < scale; k++) {
+                sum += rr[i * scale + k];
+            }
+            grained[i] = sum / scale;
+        }
+        return grained;
+    }
+
+    /**
+     * Counts the matching templates of length m and m + 1. The templates of length m start at 0 to n - m; the pair
+     * counts only include the first n - m of them, so that both lengths are counted on the same templates.
+     *
+     * @param x        the series.
+     * @param m        the template length.
+     * @param r        the tolerance.
+     * @param pairs    receives the number of matching pairs of length m and m + 1.
+     * @param countsM  receives the number of other templates of length m matching every template, or null.
+     * @param countsM1 receives the number of other templates of length m + 1 matching every template, or null.
+     */
+    private static void countMatches(double[] x, int m, double r, long[] pairs, int[] countsM, int[] countsM1) {
+        int n = x.length;
+        int last = n - m;
+        if (last < 1)
+            return;
+
+        // every template matches itself, every pair of different templates is counted from both of them
+        TemplateTree treeM = new TemplateTree(x, m, last + 1);
+        long sumM = 0;
+        // in tree order, consecutive queries visit the same nodes
+        for (int p = 0; p <= last; p++) {
+            int i = treeM.getTemplate(p);
+            int count = treeM.count(x, i, r) - 1;
+            if (i < last)
+                sumM += count;
+            else
+                sumM -= count;  // the matches with the last template, which has no length m + 1
+            if (countsM != null)
+                countsM[i] = count;
+        }
+
+        TemplateTree treeM1 = new TemplateTree(x, m + 1, last);
+        long sumM1 = 0;
+        for (int p = 0; p < last; p++) {
+            int i = treeM1.getTemplate(p);
+            int count = treeM1.count(x, i, r) - 1;
+            sumM1 += count;
+            if (countsM1 != null)
+                countsM1[i] = count;
+        }
+        pairs[0] = sumM / 2;
+        pairs[1] = sumM1 / 2;
+    }
+
+    /**
+     * k-d tree of the templates of a series with the bounding box of every node. A range count adds the size of every
+     * node inside the tolerance box at once and only compares the templates of the nodes crossing its border.
+     */
+    private static final class TemplateTree {
+        private static final int LEAF_SIZE = 16;
+
+        private final int mDimension;
+        // template coordinates in tree order
+        private final double[] mPoints;
+        private final int[] mOrder;
+        private final int[] mStart;
+        private final int[] mEnd;
+        private final int[] mLeft;
+        private final int[] mRight;
+        private final double[] mMin;
+        private final double[] mMax;
+        private int mNodes;
+
+        /**
+         * @param x         the series.
+         * @param dimension the template length.
+         * @param templates the number of templates, starting at 0.
+         */
+        TemplateTree(double[] x, int dimension, int templates) {
+            mDimension = dimension;
+            int[] order = new int[templates];
+            for (int i = 0; i < templates; i++) {
+                order[i] = i;
+            }
+            // leaves hold more than LEAF_SIZE / 2 templates unless the tree is a single leaf
+            int capacity = 2 * (templates / (LEAF_SIZE / 2) + 1);
+            mStart = new int[capacity];
+            mEnd = new int[capacity];
+            mLeft = new int[capacity];
+            mRight = new int[capacity];
+            mMin = new double[capacity * dimension];
+            mMax = new double[capacity * dimension];
+            build(x, order, 0, templates);
+
+            mOrder = order;
+            mPoints = new double[templates * dimension];
+            for (int p = 0; p < templates; p++) {
+                System.arraycopy(x, order[p], mPoints, p * dimension, dimension);
+            }
+        }
+
+        private int build(double[] x, int[] order, int start, int end) {
+            int node = mNodes++;
+            mStart[node] = start;
+            mEnd[node] = end;
+            mLeft[node] = -1;
+            mRight[node] = -1;
+
+            int split = 0;
+            double widest = -1;
+            for (int k = 0; k < mDimension; k++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int p = start; p < end; p++) {
+                    double v = x[order[p] + k];
+                    if (v < min)
+                        min = v;
+                    if (v > max)
+                        max = v;
+                }
+                mMin[node * mDimension + k] = min;
+                mMax[node * mDimension + k] = max;
+                if (max - min > widest) {
+                    widest = max - min;
+                    split = k;
+                }
+            }
+
+            if (end - start > LEAF_SIZE && widest > 0) {
+                int middle = (start + end) >>> 1;
+                select(x, order, start, end - 1, middle, split);
+                mLeft[node] = build(x, order, start, middle);
+                mRight[node] = build(x, order, middle, end);
+            }
+            return node;
+        }
+
+        // partially sorts order[lo..hi] by coordinate k so that position p holds its final element
+        private static void select(double[] x, int[] order, int lo, int hi, int p, int k) {
+            while (hi > lo) {
+                double pivot = x[order[(lo + hi) >>> 1] + k];
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (x[order[i] + k] < pivot)
+                        i++;
+                    while (x[order[j] + k] > pivot)
+                        j--;
+                    if (i <= j) {
+                        int temp = order[i];
+                        order[i] = order[j];
+                        order[j] = temp;
+                        i++;
+                        j--;
+                    }
+                }
+                if (p <= j)
+                    hi = j;
+                else if (p >= i)
+                    lo = i;
+                else
+                    return;
+            }
+        }
+
+        /**
+         * @param position the position in tree order.
+         * @return the start index of the template at the position.
+         */
+        int getTemplate(int position) {
+            return mOrder[position];
+        }
+
+        /**
+         * @return the number of templates within the tolerance of the template at an index of the series, including
+         * the template itself.
+         */
+        int count(double[] x, int index, double r) {
+            return count(0, x, index, r);
+        }
+
+        private int count(int node, double[] x, int index, double r) {
+            int d = mDimension;
+            int offset = node * d;
+            boolean inside = true;
+            for (int k = 0; k < d; k++) {
+                double q = x[index + k];
+                if (mMin[offset + k] > q + r || mMax[offset + k] < q - r)
+                    return 0;
+                if (mMin[offset + k] < q - r || mMax[offset + k] > q + r)
+                    inside = false;
+            }
+            if (inside)
+                return mEnd[node] - mStart[node];
+            if (mLeft[node] >= 0)
+                return count(mLeft[node], x, index, r) + count(mRight[node], x, index, r);
+
+            int count = 0;
+            for (int p = mStart[node]; p < mEnd[node]; p++) {
+                int base = p * d;
+                int k = 0;
+                while (k < d && Math.abs(mPoints[base + k] - x[index + k]) <= r)
+                    k++;
+                if (k == d)
+                    count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,547 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Heart rate variability of a sliding window over a stream of RR intervals. Adding a beat and evicting the oldest beat
+ * both take constant time for the time domain parameters: the window keeps running sums of the RR intervals, their
+ * squares and of the successive differences and their squares.
+ * <p>
+ * The spectrum is kept up to date in the same way for a fixed grid of frequencies. For every frequency the window holds
+ * the trigonometric sums of a Lomb-Scargle periodogram, so the beats are used at their actual times without resampling.
+ * Adding or evicting a beat updates all sums in O(m) for m frequencies and a spectrum costs O(m) per window instead of
+ * a transform of the whole window. The sums are recomputed from the buffered beats from time to time to keep rounding
+ * errors from accumulating.
+ * <p>
+ * RR intervals are given in ms and beat times in s. Parameters of windows with less than three beats are NaN.
+ */
+public class SlidingWindowHrv {
+    /**
+     * Default factor by which the frequency grid is finer than the inverse window duration.
+     */
+    public static final double DEFAULT_OVERSAMPLING = 2;
+
+    // the running sums are recomputed after this many window lengths of evictions
+    private static final int REFRESH_FACTOR = 16;
+
+    private final double mWindowDuration;
+    private final double mResolution;
+    private final int mBins;
+
+    // ring buffer of the beats in the window
+    private double[] mTimes = new double[64];
+    private double[] mValues = new double[64];
+    private int mHead;
+    private int mSize;
+
+    // values are summed relative to mShift to avoid cancellation in the variance
+    private double mShift;
+    private double mSum;
+    private double mSumSquares;
+    private double mDiffSum;
+    private double mDiffSumSquares;
+    private int mNN50;
+
+    // Lomb-Scargle sums, index k for the frequency k * mResolution
+    private final double[] mValueCos;
+    private final double[] mValueSin;
+    private final double[] mCos;
+    private final double[] mSin;
+    private final double[] mWorkCos;
+    private final double[] mWorkSin;
+    private double mOrigin = Double.NaN;
+    private int mEvictions;
+
+    /**
+     * Creates a window with the default frequency grid up to the upper edge of the HF band.
+     *
+     * @param windowDuration the duration of the window in s.
+     */
+    public SlidingWindowHrv(double windowDuration) {
+        this(windowDuration, 1.0 / (DEFAULT_OVERSAMPLING * windowDuration), FrequencyBand.HF.getUpperBound());
+    }
+
+    /**
+     * @param windowDuration the duration of the window in s.
+     * @param resolution     the spacing of the frequency grid in Hz.
+     * @param maxFrequency   the highest frequency of the grid in Hz.
+     */
+    public SlidingWindowHrv(double windowDuration, double resolution, double maxFrequency) {
+        if (!(windowDuration > 0))
+            throw new IllegalArgumentException("The window duration must be positive.");
+        if (!(resolution > 0) || maxFrequency < resolution)
+            throw new IllegalArgumentException("The frequency grid must contain at least one frequency.");
+        mWindowDuration = windowDuration;
+        mResolution = resolution;
+        mBins = (int) (maxFrequency / resolution);
+
+        mValueCos = new double[mBins + 1];
+        mValueSin = new double[mBins + 1];
+        // the sums over 2 w t are the sums of frequency 2 k
+        mCos = new double[2 * mBins + 1];
+        mSin = new double[2 * mBins + 1];
+        mWorkCos = new double[2 * mBins + 1];
+        mWorkSin = new double[2 * mBins + 1];
+    }
+
+    /**
+     * Adds a beat and evicts all beats that are more than the window duration older.
+     *
+     * @param time the time of the beat in s, not before the previous beat.
+     * @param rr   the RR interval ending at this beat in ms.
+     */
+    public void add(double time, double rr) {
+        if (mSize > 0 && time < getEndTime())
+            throw new IllegalArgumentException("Beats must be added in chronological order.");
+        if (Double.isNaN(mOrigin))
+            mOrigin = time;
+
+        if (mSize == 0) {
+            mShift = rr;
+            resetSums();
+        } else {
+            addDiff(rr - mValues[index(mSize - 1)], 1);
+        }
+
+        if (mSize == mTimes.length)
+            grow();
+        int i = index(mSize);
+        mTimes[i] = time;
+        mValues[i] = rr;
+        mSize++;
+        accumulate(time, rr, 1);
+
+        evictBefore(time - mWindowDuration);
+    }
+
+    /**
+     * Evicts all beats before the given time.
+     *
+     * @param time the time in s.
+     */
+    public void evictBefore(double time) {
+        while (mSize > 0 && mTimes[mHead] < time) {
+            accumulate(mTimes[mHead], mValues[mHead], -1);
+            if (mSize > 1)
+                addDiff(mValues[index(1)] - mValues[mHead], -1);
+            mHead = index(1);
+            mSize--;
+            mEvictions++;
+        }
+        if (mEvictions > REFRESH_FACTOR * Math.max(mSize, 16))
+            refresh();
+    }
+
+    /**
+     * Removes all beats.
+     */
+    public void clear() {
+        mHead = 0;
+        mSize = 0;
+        mOrigin = Double.NaN;
+        resetSums();
+    }
+
+    /**
+     * @return the duration of the window in s.
+     */
+    public double getWindowDuration() {
+        return mWindowDuration;
+    }
+
+    /**
+     * @return the number of beats in the window.
+     */
+    public int getCount() {
+        return mSize;
+    }
+
+    /**
+     * @return the time of the oldest beat in the window in s.
+     */
+    public double getStartTime() {
+        return mSize > 0 ? mTimes[mHead] : Double.NaN;
+    }
+
+    /**
+     * @return the time of the latest beat in the window in s.
+     */
+    public double getEndTime() {
+        return mSize > 0 ? mTimes[index(mSize - 1)] : Double.NaN;
+    }
+
+    /**
+     * @return the mean RR interval in ms.
+     */
+    public double getMeanRR() {
+        return mSize > 0 ? mShift + mSum / mSize : Double.NaN;
+    }
+
+    /**
+     * @return the mean heart rate in beats per minute.
+     */
+    public double getMeanHeartRate() {
+        return 60000.0 / getMeanRR();
+    }
+
+    /**
+     * @return the standard deviation of the RR intervals in ms.
+     */
+    public double getSDNN() {
+        if (mSize < 3)
+            return Double.NaN;
+        return Math.sqrt(Math.max(mSumSquares - mSum * mSum / mSize, 0) / (mSize - 1));
+    }
+
+    /**
+     * @return the root mean square of the successive differences in ms.
+     */
+    public double getRMSSD() {
+        if (mSize < 3)
+            return Double.NaN;
+        return Math.sqrt(mDiffSumSquares / (mSize - 1));
+    }
+
+    /**
+     * @return the standard deviation of the successive differences in ms.
+     */
+    public double getSDSD() {
+        if (mSize < 3)
+            return Double.NaN;
+        int n = mSize - 1;
+        return Math.sqrt(Math.max(mDiffSumSquares - mDiffSum * mDiffSum / n, 0) / (n - 1));
+    }
+
+    /**
+     * @return the number of successive differences larger than 50 ms.
+     */
+    public int getNN50() {
+        return mNN50;
+    }
+
+    /**
+     * @return the fraction of successive differences larger than 50 ms.
+     */
+    public double getPNN50() {
+        return mSize > 1 ? (double) mNN50 / (mSize - 1) : Double.NaN;
+    }
+
+    /**
+     * @return the short term variability SD1 of the Poincar&eacute; plot in ms.
+     */
+    public double getSD1() {
+        return getSDSD() / Math.sqrt(2);
+    }
+
+    /**
+     * @return the long term variability SD2 of the Poincar&eacute; plot in ms.
+     */
+    public double getSD2() {
+        double sdnn = getSDNN();
+        double sdsd = getSDSD();
+        return Math.sqrt(2 * sdnn * sdnn - 0.5 * sdsd * sdsd);
+    }
+
+    /**
+     * @param band the frequency band.
+     * @return the power of the RR intervals within the band in ms^2.
+     */
+    public double getBandPower(FrequencyBand band) {
+        if (mSize < 3)
+            return Double.NaN;
+        double sum = 0;
+        for (int k = 1; k <= mBins; k++) {
+            if (band.contains(k * mResolution))
+                sum += power(k);
+        }
+        return sum * mResolution;
+    }
+
+    /**
+     * @return the ratio of LF to HF power.
+     */
+    public double getLfHfRatio() {
+        return getBandPower(FrequencyBand.LF) / getBandPower(FrequencyBand.HF);
+    }
+
+    /**
+     * @return the Lomb-Scargle power spectral density of the window in ms^2/Hz, or null for less than three beats.
+     */
+    public PowerSpectralDensity getPowerSpectralDensity() {
+        if (mSize < 3)
+            return null;
+        double[] frequencies = new double[mBins];
+        double[] power = new double[mBins];
+        for (int k = 1; k <= mBins; k++) {
+            frequencies[k - 1] = k * mResolution;
+            power[k - 1] = power(k);
+        }
+        return new PowerSpectralDensity(frequencies, power, mResolution);
+    }
+
+    /**
+     * Computes the parameters of windows of a fixed duration that are moved over a whole recording in fixed steps.
+     * Window i contains the beats from <code>time[0] + i * step</code> up to but excluding
+     * <code>time[0] + i * step + windowDuration</code>.
+     *
+     * @param time           the beat times in s, increasing.
+     * @param rr             the RR intervals in ms.
+     * @param windowDuration the duration of a window in s.
+     * @param step           the time between the starts of two windows in s.
+     * @return the parameters of every window that lies completely within the recording.
+     * @throws IllegalArgumentException if the window duration or the step is not positive and finite.
+     */
+    public static ArrayList<Snapshot> trend(double[] time, double[] rr, double windowDuration, double step) {
+        if (!(windowDuration > 0) || Double.isInfinite(windowDuration))
+            throw new IllegalArgumentException("The window duration must be positive and finite.");
+        if (!(step > 0) || Double.isInfinite(step))
+            throw new IllegalArgumentException("The step must be positive and finite.");
+
+        ArrayList<Snapshot> trend = new ArrayList<>();
+        if (time.length == 0)
+            return trend;
+        SlidingWindowHrv window = new SlidingWindowHrv(windowDuration);
+        int j = 0;
+        for (int i = 0; time[0] + i * step + windowDuration <= time[time.length - 1]; i++) {
+            double start = time[0] + i * step;
+            window.evictBefore(start);
+            while (j < time.length && time[j] < start + windowDuration) {
+                if (time[j] >= start)
+                    window.add(time[j], rr[j]);
+                j++;
+            }
+            trend.add(window.snapshot(start));
+        }
+        return trend;
+    }
+
+    /**
+     * @param start the start time of the window in s.
+     * @return the current parameters of the window.
+     */
+    public Snapshot snapshot(double start) {
+        return new Snapshot(this, start);
+    }
+
+    /**
+     * Parameters of a window at one step.
+     */
+    public static class Snapshot {
+        private final double mStartTime;
+        private final int mCount;
+        private final double mMeanRR;
+        private final double mSDNN;
+        private final double mRMSSD;
+        private final double mSD1;
+        private final double mSD2;
+        private final double mLF;
+        private final double mHF;
+
+        private Snapshot(SlidingWindowHrv window, double start) {
+            mStartTime = start;
+            mCount = window.getCount();
+            mMeanRR = window.getMeanRR();
+            mSDNN = window.getSDNN();
+            mRMSSD = window.getRMSSD();
+            mSD1 = window.getSD1();
+            mSD2 = window.getSD2();
+            mLF = window.getBandPower(FrequencyBand.LF);
+            mHF = window.getBandPower(FrequencyBand.HF);
+        }
+
+        /**
+         * @return the start time of the window in s.
+         */
+        public double getStartTime() {
+            return mStartTime;
+        }
+
+        /**
+         * @return the number of beats in the window.
+         */
+        public int getCount() {
+            return mCount;
+        }
+
+        /**
+         * @return the mean RR interval in ms.
+         */
+        public double getMeanRR() {
+            return mMeanRR;
+        }
+
+        /**
+         * @return the mean heart rate in beats per minute.
+         */
+        public double getMeanHeartRate() {
+            return 60000.0 / mMeanRR;
+        }
+
+        /**
+         * @return SDNN in ms.
+         */
+        public double getSDNN() {
+            return mSDNN;
+        }
+
+        /**
+         * @return RMSSD in ms.
+         */
+        public double getRMSSD() {
+            return mRMSSD;
+        }
+
+        /**
+         * @return SD1 in ms.
+         */
+        public double getSD1() {
+            return mSD1;
+        }
+
+        /**
+         * @return SD2 in ms.
+         */
+        public double getSD2() {
+            return mSD2;
+        }
+
+        /**
+         * @return LF power in ms^2.
+         */
+        public double getLF() {
+            return mLF;
+        }
+
+        /**
+         * @return HF power in ms^2.
+         */
+        public double getHF() {
+            return mHF;
+        }
+    }
+
+    /**
+     * Lomb-Scargle power density of frequency k, see {@link LombScargle}.
+     */
+    private double power(int k) {
+        int n = mSize;
+        double mean = mSum / n;
+        double ch = mValueCos[k] - mean * mCos[k];
+        double sh = mValueSin[k] - mean * mSin[k];
+        double c2 = mCos[2 * k];
+        double s2 = mSin[2 * k];
+
+        double hypot = Math.hypot(c2, s2);
+        double cos2 = hypot > 0 ? c2 / hypot : 1.0;
+        double cosWt = Math.sqrt(0.5 * (1.0 + cos2));
+        double sinWt = Math.copySign(Math.sqrt(0.5 * (1.0 - cos2)), s2);
+
+        double c = ch * cosWt + sh * sinWt;
+        double s = sh * cosWt - ch * sinWt;
+        double p = c * c / (0.5 * (n + hypot));
+        double sinSquares = 0.5 * (n - hypot);
+        if (sinSquares > 0)
+            p += s * s / sinSquares;
+
+        double duration = getEndTime() - getStartTime();
+        return duration > 0 ? p * duration / (n - 1) : 0;
+    }
+
+    /**
+     * Adds a beat to or removes it from all running sums.
+     */
+    private void accumulate(double time, double rr, int sign) {
+        double value = rr - mShift;
+        mSum += sign * value;
+        mSumSquares += sign * value * value;
+
+        // cos and sin of k w t for all k by the angle addition theorem
+        double phase = 2 * Math.PI * mResolution * (time - mOrigin);
+        double c1 = Math.cos(phase);
+        double s1 = Math.sin(phase);
+        double c = 1;
+        double s = 0;
+        for (int k = 1; k <= 2 * mBins; k++) {
+            double next = c * c1 - s * s1;
+            s = s * c1 + c * s1;
+            c = next;
+            mWorkCos[k] = c;
+            mWorkSin[k] = s;
+        }
+        for (int k = 1; k <= 2 * mBins; k++) {
+            mCos[k] += sign * mWorkCos[k];
+            mSin[k] += sign * mWorkSin[k];
+        }
+        double weighted = sign * value;
+        for (int k = 1; k <= mBins; k++) {
+            mValueCos[k] += weighted * mWorkCos[k];
+            mValueSin[k] += weighted * mWorkSin[k];
+        }
+    }
+
+    private void addDiff(double diff, int sign) {
+        mDiffSum += sign * diff;
+        mDiffSumSquares += sign * diff * diff;
+        if (Math.abs(diff) > 50)
+            mNN50 += sign;
+    }
+
+    /**
+     * Recomputes all sums from the buffered beats.
+     */
+    private void refresh() {
+        resetSums();
+        if (mSize == 0)
+            return;
+        mShift = mValues[mHead];
+        for (int i = 0; i < mSize; i++) {
+            int idx = index(i);
+            accumulate(mTimes[idx], mValues[idx], 1);
+            if (i > 0)
+                addDiff(mValues[idx] - mValues[index(i - 1)], 1);
+        }
+    }
+
+    private void resetSums() {
+        mSum = mSumSquares = mDiffSum = mDiffSumSquares = 0;
+        mNN50 = 0;
+        mEvictions = 0;
+        Arrays.fill(mValueCos, 0);
+        Arrays.fill(mValueSin, 0);
+        Arrays.fill(mCos, 0);
+        Arrays.fill(mSin, 0);
+    }
+
+    private int index(int offset) {
+        return (mHead + offset) % mTimes.length;
+    }
+
+    private void grow() {
+        double[] times = new double[mTimes.length * 2];
+        double[] values = new double[mTimes.length * 2];
+        for (int i = 0; i < mSize; i++) {
+            times[i] = mTimes[index(i)];
+            values[i] = mValues[index(i)];
+        }
+        mTimes = times;
+        mValues = values;
+        mHead = 0;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import de.fau.mad.jely.util.FftPlan;
+
+import java.util.Arrays;
+
+/**
+ * Welch's averaged periodogram for evenly sampled signals, e.g. a resampled RR interval series. The signal is split
+ * into overlapping segments, each segment is freed from its mean, multiplied with a Hamming window and zero padded to
+ * the next power of two. The periodograms of all segments are averaged.
+ * <p>
+ * The window is computed once when the estimator is created, the transform uses the cached {@link FftPlan} of its
+ * size. Two real segments are transformed at once as real and imaginary part of one complex transform. An estimator
+ * holds work buffers and must not be shared between threads.
+ */
+public class WelchEstimator {
+    private final int mSegmentLength;
+    private final int mOverlap;
+    private final int mFftSize;
+    private final double[] mWindow;
+    private final double mWindowPower;
+
+    private final FftPlan mPlan;
+    private final double[] mReal;
+    private final double[] mImag;
+
+    /**
+     * @param segmentLength the number of samples per segment.
+     * @param overlap       the number of samples two consecutive segments share.
+     */
+    public WelchEstimator(int segmentLength, int overlap) {
+        if (segmentLength < 2)
+            throw new IllegalArgumentException("A segment must contain at least two samples.");
+        if (overlap < 0 || overlap >= segmentLength)
+            throw new IllegalArgumentException("The overlap must be non-negative and shorter than a segment.");
+
+        mSegmentLength = segmentLength;
+        mOverlap = overlap;
+        mFftSize = Integer.highestOneBit(segmentLength - 1) << 1;
+
+        mWindow = new double[segmentLength];
+        double power = 0;
+        for (int i = 0; i < segmentLength; i++) {
+            mWindow[i] = 0.54 - 0.46 * Math.cos(2.0 * Math.PI * i / (segmentLength - 1));
+            power += mWindow[i] * mWindow[i];
+        }
+        mWindowPower = power;
+
+        mPlan = FftPlan.forSize(mFftSize);
+        mReal = new double[mFftSize];
+        mImag = new double[mFftSize];
+    }
+
+    /**
+     * Creates an estimator for segments of a given duration.
+     *
+     * @param segmentDuration the duration of a segment in s.
+     * @param overlap         the fraction of a segment two consecutive segments share, in [0, 1).
+     * @param samplingRate    the sampling rate of the signals in Hz.
+     * @return the estimator.
+     */
+    public static WelchEstimator forDuration(double segmentDuration, double overlap, double samplingRate) {
+        int length = (int) Math.round(segmentDuration * samplingRate);
+        return new WelchEstimator(length, (int) Math.round(length * overlap));
+    }
+
+    /**
+     * @return the number of samples per segment.
+     */
+    public int getSegmentLength() {
+        return mSegmentLength;
+    }
+
+    /**
+     * @return the number of samples two consecutive segments share.
+     */
+    public int getOverlap() {
+        return mOverlap;
+    }
+
+    /**
+     * @return the transform size, the segment length rounded up to a power of two.
+     */
+    public int getFftSize() {
+        return mFftSize;
+    }
+
+    /**
+     * Estimates the power spectral density of a signal. Signals shorter than a segment are estimated from a single
+     * segment spanning the whole signal.
+     *
+     * @param signal       the evenly sampled signal.
+     * @param samplingRate the sampling rate of the signal in Hz.
+     * @return the one-sided power spectral density from 0 Hz to half the sampling rate, in the squared unit of the
+     * signal per Hz.
+     */
+    public PowerSpectralDensity estimate(double[] signal, double samplingRate) {
+        if (signal.length < mSegmentLength) {
+            if (signal.length < 2)
+                throw new IllegalArgumentException("The signal must contain at least two samples.");
+            return new WelchEstimator(signal.length, 0).estimate(signal, samplingRate);
+        }
+
+        int step = mSegmentLength - mOverlap;
+        int segments = (signal.length - mSegmentLength) / step + 1;
+        int bins = mFftSize / 2 + 1;
+        double[] power = new double[bins];
+
+        for (int s = 0; s < segments; s += 2) {
+            load(signal, s * step, mReal);
+            if (s + 1 < segments) {
+                load(signal, (s + 1) * step, mImag);
+            } else {
+                Arrays.fill(mImag, 0);
+            }
+            mPlan.transform(mReal, mImag);
+
+            // |A_k|^2 + |B_k|^2 = (|Z_k|^2 + |Z_(N-k)|^2) / 2 for Z = A + iB with real A, B
+            for (int k = 0; k < bins; k++) {
+                int m = (mFftSize - k) & (mFftSize - 1);
+                power[k] += 0.5 * (mReal[k] * mReal[k] + mImag[k] * mImag[k]
+                        + mReal[m] * mReal[m] + mImag[m] * mImag[m]);
+            }
+        }
+
+        double scale = 1.0 / (samplingRate * mWindowPower * segments);
+        double[] frequencies = new double[bins];
+        for (int k = 0; k < bins; k++) {
+            frequencies[k] = k * samplingRate / mFftSize;
+            // one-sided: all bins except DC and Nyquist also hold the power of their negative frequency
+            power[k] *= (k == 0 || k == bins - 1) ? scale : 2 * scale;
+        }
+        return new PowerSpectralDensity(frequencies, power, samplingRate / mFftSize);
+    }
+
+    /**
+     * Copies a segment without its mean into a work buffer, applies the window and zero pads the rest.
+     */
+    private void load(double[] signal, int start, double[] buffer) {
+        double mean = 0;
+        for (int i = 0; i < mSegmentLength; i++) {
+            mean += signal[start + i];
+        }
+        mean /= mSegmentLength;
+        for (int i = 0; i < mSegmentLength; i++) {
+            buffer[i] = (signal[start + i] - mean) * mWindow[i];
+        }
+        Arrays.fill(buffer, mSegmentLength, mFftSize, 0);
+    }
+}
@@ -21,6 +21,8 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 
+import de.fau.mad.jely.BeatFeatures;
+import de.fau.mad.jely.Heartbeat;
 import de.fau.mad.jely.QrsClass;
 import de.fau.mad.jely.QrsComplex;
 
@@ -100,63 +102,27 @@ public class QrsFileWriter {
      * @param qrsComplex the QRS complex
      */
     public void writeToFile(QrsComplex qrsComplex) {
-        if (writer != null && qrsComplex != null) {
-            try {
-                writer.write(String.valueOf(qrsComplex.getRPosition()) + "," +
-                        String.valueOf(qrsComplex.getRValue()) + "," +
-                        String.valueOf(qrsComplex.getRRInterval()) + "," +
-                        String.valueOf(qrsComplex.getQRAmplitude()) + "," +
-                        String.valueOf(qrsComplex.getRSAmplitude()) + "," +
-                        String.valueOf(qrsComplex.getQRSWidth()) + "," +
-                        String.valueOf(qrsComplex.getQRSTArea()) + "," +
-                        String.valueOf(qrsComplex.getMinimum()) + "," +
-                        String.valueOf(qrsComplex.getMaximum()) + "," +
-                        String.valueOf(qrsComplex.getMean()) + "," +
-                        String.valueOf(qrsComplex.getVariance()) + "," +
-                        String.valueOf(qrsComplex.getStandardDeviation()) + "," +
-                        String.valueOf(qrsComplex.getSkewness()) + "," +
-                        String.valueOf(qrsComplex.getKurtosis()) + "," +
-                        String.valueOf(qrsComplex.getEnergy()) + "," +
-                        String.valueOf(qrsComplex.getCrossCorrelation(template1)) + "," +
-                        String.valueOf(qrsComplex.getCrossCorrelation(template2)) + "," +
-                        String.valueOf(qrsComplex.getAreaDifference(template1)) + "," +
-                        String.valueOf(qrsComplex.getAreaDifference(template2)) + "," +
-                        QrsClass.UNKNOWN.toString() + "\n");
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
+        writeToFile(qrsComplex, QrsClass.UNKNOWN);
     }
 
     /**
-     * Writes a QRS complex and the corresponding QRS class to the ARFF file
+     * Writes a QRS complex and the corresponding QRS class to the ARFF file. The features are taken from the cache of
+     * the heartbeat, so they are shared with the classifiers.
      *
      * @param qrsComplex the QRS complex
      * @param qrsClass   the QRS class of the QRS complex
      */
     public void writeToFile(QrsComplex qrsComplex, QrsClass qrsClass) {
         if (writer != null && qrsComplex != null) {
+            BeatFeatures features = Heartbeat.getHeartbeat(qrsComplex).getFeatures(template1, template2);
+            StringBuilder line = new StringBuilder();
+            line.append((int) features.get(BeatFeatures.R_POSITION));
+            for (int i = BeatFeatures.R_POSITION + 1; i <= BeatFeatures.AREA_DIFFERENCE_2; i++) {
+                line.append(',').append(features.get(i));
+            }
+            line.append(',').append(qrsClass.toString()).append('\n');
             try {
-                writer.write(String.valueOf(qrsComplex.getRPosition()) + "," +
-                        String.valueOf(qrsComplex.getRValue()) + "," +
-                        String.valueOf(qrsComplex.getRRInterval()) + "," +
-                        String.valueOf(qrsComplex.getQRAmplitude()) + "," +
-                        String.valueOf(qrsComplex.getRSAmplitude()) + "," +
-                        String.valueOf(qrsComplex.getQRSWidth()) + "," +
-                        String.valueOf(qrsComplex.getQRSTArea()) + "," +
-                        String.valueOf(qrsComplex.getMinimum()) + "," +
-                        String.valueOf(qrsComplex.getMaximum()) + "," +
-                        String.valueOf(qrsComplex.getMean()) + "," +
-                        String.valueOf(qrsComplex.getVariance()) + "," +
-                        String.valueOf(qrsComplex.getStandardDeviation()) + "," +
-                        String.valueOf(qrsComplex.getSkewness()) + "," +
-                        String.valueOf(qrsComplex.getKurtosis()) + "," +
-                        String.valueOf(qrsComplex.getEnergy()) + "," +
-                        String.valueOf(qrsComplex.getCrossCorrelation(template1)) + "," +
-                        String.valueOf(qrsComplex.getCrossCorrelation(template2)) + "," +
-                        String.valueOf(qrsComplex.getAreaDifference(template1)) + "," +
-                        String.valueOf(qrsComplex.getAreaDifference(template2)) + "," +
-                        qrsClass.toString() + "\n");
+                writer.write(line.toString());
             } catch (IOException e) {
                 e.printStackTrace();
             }
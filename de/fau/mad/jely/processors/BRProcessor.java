@@ -16,6 +16,8 @@
  */
 package de.fau.mad.jely.processors;
 
+import de.fau.mad.jely.util.PiecewiseLinearSegmentation;
+
 import java.util.ArrayList;
 
 /**
@@ -26,7 +28,6 @@ public class BRProcessor {
     double[] br;
     ArrayList<Integer> breaks;
     ArrayList<Double> vals;
-    double[] br_section;
     double maxError;
 
     public BRProcessor(double[] f_rsa, double maxError) {
@@ -39,26 +40,17 @@ public class BRProcessor {
         vals = new ArrayList<>();
     }
 
+    /**
+     * Sliding window segmentation of the respiration rate from its end, see
+     * {@link PiecewiseLinearSegmentation#slidingWindow(double)}.
+     *
+     * @return the breaks in descending order.
+     */
     public ArrayList<Integer> slidingWindow() {
-        int right = br.length;
-        double[] err = new double[br.length];
-        double MSE;
-
-        for (int left = br.length - 2; left > 1; left--) {
-            int c = 0;
-            br_section = new double[right - left];
-            for (int j = left; j < right; j++) {
-                br_section[c] = br[j];
-                c++;
-            }
-            err = linearRegression(br_section);
-            MSE = mean(square(err));
-
-            if (MSE > maxError) {
-                breaks.add(left + 1);
-                vals.add(br[left + 1]);
-                right = left;
-            }
+        ArrayList<Integer> windowBreaks = new PiecewiseLinearSegmentation(br).slidingWindow(maxError);
+        for (int i = 0; i < windowBreaks.size(); i++) {
+            breaks.add(windowBreaks.get(i));
+            vals.add(br[windowBreaks.get(i)]);
         }
 
         return breaks;
@@ -17,8 +17,10 @@
 package de.fau.mad.jely.processors;
 
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
 import de.fau.mad.jely.util.LowessSmoothing;
+import de.fau.mad.jely.util.SmoothnessPriors;
 import de.fau.mad.jely.RRInterval;
 
 /**
@@ -66,6 +68,43 @@ public class Detrender {
         LowessSmoothing.lowess(x, y, f, nSteps, delta, ys, rw, res);
     }
 
+    /**
+     * Fits the trend by lowess like {@link #smooth(int, int, double)}, but computes the local regressions of each
+     * iteration concurrently.
+     *
+     * @param f        the number of points of each local regression.
+     * @param nSteps   the number of robustness iterations.
+     * @param delta    the distance within which points are interpolated instead of fitted.
+     * @param executor the executor computing the local regressions.
+     */
+    public void smooth(int f, int nSteps, double delta, Executor executor) {
+
+        int n = x.length;
+
+        ys = new double[n];
+        rw = new double[n];
+        res = new double[n];
+
+        LowessSmoothing.lowess(x, y, f, nSteps, delta, ys, rw, res, executor);
+    }
+
+    /**
+     * Fits the trend by smoothness priors detrending in O(n), an alternative to {@link #smooth(int, int, double)}. The
+     * robustness weights are not used.
+     *
+     * @param lambda the regularization parameter, the larger the smoother the trend.
+     */
+    public void smoothnessPriors(double lambda) {
+        int n = x.length;
+
+        ys = SmoothnessPriors.trend(y, lambda);
+        rw = new double[n];
+        res = new double[n];
+        for (int i = 0; i < n; i++) {
+            res[i] = y[i] - ys[i];
+        }
+    }
+
 
     public double[] getRes() {
         return res;
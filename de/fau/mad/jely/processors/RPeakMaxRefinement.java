@@ -16,7 +16,6 @@
  */
 package de.fau.mad.jely.processors;
 
-import de.fau.mad.jely.Ecglib;
 import de.fau.mad.jely.QrsComplex;
 import de.fau.mad.jely.util.DescriptiveStatistics;
 
@@ -54,7 +53,7 @@ public class RPeakMaxRefinement extends RPeakRefinement {
             qrs.setRPeak(newRPos, qrs.getSignal().get(newRPos));
         }
 
-        if (Ecglib.isDebugMode())
+        if (mContext.isDebugEnabled())
             System.out.println("refinement: " + idx1 + " : " + idx2 + " --> from " + oldRPos + " to " + newRPos);
 
         return oldRPos - newRPos;
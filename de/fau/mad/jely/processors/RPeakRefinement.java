@@ -16,6 +16,7 @@
  */
 package de.fau.mad.jely.processors;
 
+import de.fau.mad.jely.Ecglib;
 
 /**
  * Abstract base class for all R peak refinement methods. Refines the R-peak position of the given QrsComplex. The
@@ -24,4 +25,22 @@ package de.fau.mad.jely.processors;
  * @author Stefan Gradl
  */
 public abstract class RPeakRefinement implements QrsDetectionPostProcessor {
+    protected Ecglib mContext = Ecglib.getDefaultContext();
+
+    /**
+     * Sets the context holding the global settings for this refinement. A detector passes its own context to the
+     * refinements added to it.
+     *
+     * @param context the context to use, or <code>null</code> to use the default context.
+     */
+    public void setContext(Ecglib context) {
+        mContext = context != null ? context : Ecglib.getDefaultContext();
+    }
+
+    /**
+     * @return the context holding the global settings for this refinement.
+     */
+    public Ecglib getContext() {
+        return mContext;
+    }
 }
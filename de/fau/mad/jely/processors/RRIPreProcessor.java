@@ -17,7 +17,7 @@
 package de.fau.mad.jely.processors;
 
 import de.fau.mad.jely.*;
-import de.fau.mad.jely.detectors.OutlierDetector;
+import de.fau.mad.jely.detectors.RRSeriesOutlierDetector;
 import de.fau.mad.jely.hrv.RRIntervalCalculator;
 import de.fau.mad.jely.util.*;
 
@@ -32,11 +32,11 @@ public class RRIPreProcessor {
 
     double samplingRate;
     RRIntervalCalculator mRRIntervalCalculator;
-    OutlierDetector mOutlierDetector;
+    RRSeriesOutlierDetector mOutlierDetector;
+    RRSeriesOutlierDetector.Result mOutlierResult;
     Detrender mDetrender;
     ArrayList<RRInterval> rrIList;
     ArrayList<Outlier> outlierList;
-    ArrayList<Outlier> outlierReplaceList;
     boolean doOutlierInterpolation;
     int numOutliers;
     int rrIList_origlength;
@@ -69,12 +69,12 @@ public class RRIPreProcessor {
         step_len = protocol[2];
         pause = protocol[3];
         samplingRate = mEcg.getSamplingRate();
+        this.doOutlierInterpolation = doOutlierInterpolation;
         mRRIntervalCalculator = new RRIntervalCalculator(ecg);
         rrIList = mRRIntervalCalculator.getRRList();
         rrIList_origlength = rrIList.size();
-        mOutlierDetector = new OutlierDetector(rrIList, samplingRate);
+        mOutlierDetector = new RRSeriesOutlierDetector(samplingRate);
         mDetrender = new Detrender(rrIList);
-        this.doOutlierInterpolation = doOutlierInterpolation;
         numOutliers = 0;
         trend = new double[rrIList.size()];
         ts = new double[rrIList.size()];
@@ -100,9 +100,7 @@ public class RRIPreProcessor {
         // identify outliers and create outlier list
         findOutlier();
 
-        outlierList = mOutlierDetector.getOutlierList();
-
-        interpolateOutliers();
+        outlierList = getOutlierList();
 
         mDetrender = new Detrender(rrIList);
         mDetrender.smooth(f, nSteps, delta);
@@ -184,59 +182,36 @@ public class RRIPreProcessor {
 
     }
 
+    // detects, corrects and interpolates the outliers in one pass and replaces the RR interval list by the result
     private void findOutlier() {
-
-        for (int i = 0; i < rrIList.size(); i++) {
-
-            mOutlierDetector.next(i);
-
+        int n = rrIList.size();
+        double[] timeStamps = new double[n];
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            timeStamps[i] = rrIList.get(i).getTimeStamp();
+            values[i] = rrIList.get(i).getValue();
         }
-    }
-
-    // spline interpolation needs two RRIntervals before and after the outlier
-    private void interpolateOutliers() {
 
-        outlierReplaceList = mOutlierDetector.getOutlierReplaceList();
-        outerloop:
-        for (int i = 0; i < outlierReplaceList.size(); i++) {
-
-            int outlierLoc = outlierReplaceList.get(i).getOutlierLocation();
-            Outlier outlier = outlierReplaceList.get(i);
-            RRInterval splineRRI[] = new RRInterval[4];
-            int j = 1;
-            int c = 0;
-            // looking for valid RRintervals (no outliers)
-            while (c < 2) {
-                if (outlierLoc - j >= 0 && rrIList.get(outlierLoc - j).isOutlier() == false) {
-                    splineRRI[1 - c] = rrIList.get(outlierLoc - j);
-                    c++;
-                } else if (outlierLoc - j == -1) {
-                    splineRRI[1 - c] = rrIList.get(0);
-                    c++;
-                }
-                j++;
+        mOutlierResult = mOutlierDetector.process(timeStamps, values);
+        numOutliers = mOutlierResult.getOutlierCount();
+
+        double[] resultTimeStamps = mOutlierResult.getTimeStamps();
+        double[] resultValues = mOutlierResult.getValues();
+        boolean[] corrected = mOutlierResult.getCorrected();
+        rrIList = new ArrayList<RRInterval>(resultValues.length);
+        RRInterval previous = null;
+        for (int i = 0; i < resultValues.length; i++) {
+            RRInterval rrI = new RRInterval(resultTimeStamps[i], resultValues[i]);
+            rrI.setOutlier(corrected[i]);
+            if (previous != null) {
+                rrI.setPreviousRRInterval(previous);
+                previous.setNextRRInterval(rrI);
             }
-
-            j = 1;
-            while (c < 4) {
-                if (outlierLoc + j < rrIList.size() && rrIList.get(outlierLoc + j).isOutlier() == false) {
-                    splineRRI[c] = rrIList.get(outlierLoc + j);
-                    c++;
-                    //not enough valid RRIntervals in the list --> remove outlier and successive RRIntervals
-                } else if (outlierLoc + j >= rrIList.size()) {
-                    for (int k = rrIList.size() - 1; k >= outlierLoc; k--) {
-                        rrIList.remove(k);
-                    }
-                    break outerloop;
-                }
-                j++;
-            }
-            // assembelled List is used for spline interpolation to replace the outlier
-            outlier.replaceOutlier(splineRRI);
+            rrIList.add(rrI);
+            previous = rrI;
         }
     }
 
-
     public int findMinimumIndex(double[] values) {
         int minIdx = 0;
         double min = values[0];
@@ -279,7 +254,19 @@ public class RRIPreProcessor {
     }
 
     public ArrayList<Outlier> getOutlierList() {
-        return mOutlierDetector.getOutlierList();
+        ArrayList<Outlier> outliers = new ArrayList<Outlier>();
+        if (mOutlierResult == null)
+            return outliers;
+        double[] timeStamps = mOutlierResult.getOutlierTimeStamps();
+        double[] values = mOutlierResult.getOutlierValues();
+        int[] flags = mOutlierResult.getOutlierFlags();
+        for (int i = 0; i < flags.length; i++) {
+            Outlier outlier = new Outlier(new RRInterval(timeStamps[i], values[i]));
+            outlier.setOutlier(true);
+            outlier.flag = flags[i];
+            outliers.add(outlier);
+        }
+        return outliers;
     }
 
     public int[] getOutlierPerStage() {
@@ -21,6 +21,7 @@ import de.fau.mad.jely.hrv.*;
 import de.fau.mad.jely.util.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -198,15 +199,16 @@ public class RRIProcessor {
 
     public void calculateBasicParameters() {
         HRVTimeDomain hrvTimeDomain = new HRVTimeDomain(sampRate);
-        HRVFrequencyDomain hrvFrequencyDomain = new HRVFrequencyDomain(rrIVal, rrITs, sampRate, reSampleRate);
+        // all time domain parameters from a single pass over the RR intervals
+        HrvAccumulator accumulator = hrvTimeDomain.accumulate(rrIVal);
 
-        rmssd = hrvTimeDomain.compRMSSD(rrIVal);
-        sdnn = hrvTimeDomain.compSDNN(rrIVal);
-        nn50 = hrvTimeDomain.compNN50(rrIVal);
-        pnn50 = hrvTimeDomain.compPNN50(rrIVal);
+        rmssd = hrvTimeDomain.compRMSSD(accumulator);
+        sdnn = hrvTimeDomain.compSDNN(accumulator);
+        nn50 = hrvTimeDomain.compNN50(accumulator);
+        pnn50 = hrvTimeDomain.compPNN50(accumulator);
         hr = hrvTimeDomain.compHR(rrITrend);
-        sd1 = hrvTimeDomain.compSD1(rrIVal);
-        sd2 = hrvTimeDomain.compSD2(rrIVal);
+        sd1 = hrvTimeDomain.compSD1(accumulator);
+        sd2 = hrvTimeDomain.compSD2(accumulator);
 
     }
 
@@ -239,32 +241,19 @@ public class RRIProcessor {
         int n_cut = (int) Math.floor(((endTs - cut_length) / inc));
         SD1List = new ArrayList<>();
         HRList = new ArrayList<>();
-        ArrayList<Double> rriCut = new ArrayList<>();
-        ArrayList<Double> rriTsCut = new ArrayList<>();
-        int c = 0;
+        // RR intervals in ms at their times in s, the parameters are updated with every beat
+        SlidingWindowHrv window = new SlidingWindowHrv(cut_length);
         int j = 0;
         for (int i = 0; i < n_cut; i++) {
-            if (i > 0 && inc < cut_length) {
-                c = 0;
-                while (rriTsCut.get(c) / sampRate - ((i - 1) * inc) < inc) {
-                    c++;
-                }
-                for (int k = 0; k < c; k++) {
-                    rriCut.remove(0);
-                    rriTsCut.remove(0);
-                }
-            } else if (i > 0 && inc == cut_length) {
-                rriCut.clear();
-                rriTsCut.clear();
+            if (i > 0) {
+                window.evictBefore(i * inc);
             }
             while (rrITs[j] / sampRate < cut_length + i * inc) {
-                rriCut.add(rrIVal[j]);
-                rriTsCut.add(rrITs[j]);
+                window.add(rrITs[j] / sampRate, rrIVal[j] * 1000 / sampRate);
                 j++;
             }
-            HRVTimeDomain hrvTD = new HRVTimeDomain(sampRate);
-            SD1List.add(hrvTD.compSD1(rriCut));
-            HRList.add((double) hrvTD.compMeanHR(rriCut));
+            SD1List.add(window.getSD1());
+            HRList.add((double) (int) window.getMeanHeartRate());
         }
     }
 
@@ -298,38 +287,25 @@ public class RRIProcessor {
         maxFreq = new ArrayList<>();
         HR2List = new ArrayList<>();
         maxIdxList = new ArrayList<>();
-        ArrayList<Double> rriCut = new ArrayList<>();
-        ArrayList<Double> rriDetrendCut = new ArrayList<>();
-        ArrayList<Double> rriTsCut = new ArrayList<>();
-        int c = 0;
+        SlidingWindowHrv window = new SlidingWindowHrv(cut_length);
+        int start = 0;
         int j = 0;
         for (int i = 0; i < n_cut; i++) {
             if (i > 0) {
-                c = 0;
-                while (rriTsCut.get(c) / sampRate - ((i - 1) * inc) < inc) {
-                    c++;
-                }
-                for (int k = 0; k < c; k++) {
-                    rriDetrendCut.remove(0);
-                    rriCut.remove(0);
-                    rriTsCut.remove(0);
+                while (rrITs[start] / sampRate < i * inc) {
+                    start++;
                 }
+                window.evictBefore(i * inc);
             }
             while (rrITs[j] / sampRate < cut_length + i * inc) {
-                rriDetrendCut.add(rrIVal[j] - rrITrend[j]);
-                rriCut.add(rrIVal[j]);
-                rriTsCut.add(rrITs[j]);
+                window.add(rrITs[j] / sampRate, rrIVal[j] * 1000 / sampRate);
                 j++;
             }
-            Double[] rrIDTCutArr = new Double[rriDetrendCut.size()];
-            rrIDTCutArr = rriCut.toArray(rrIDTCutArr);
-            Double[] rrITsCutArr = new Double[rriTsCut.size()];
-            rrITsCutArr = rriTsCut.toArray(rrITsCutArr);
-            HRVFrequencyDomain hrvFD = new HRVFrequencyDomain(rrIDTCutArr, rrITsCutArr, sampRate, reSampleRate);
-            maxFreq.add(findBR(hrvFD.compPSD(), i));
-            PSDList.add(hrvFD.compPSD());
-            HRVTimeDomain hrvTD = new HRVTimeDomain(sampRate);
-            HR2List.add((double) hrvTD.compMeanHR(rriCut));
+            HRVFrequencyDomain hrvFD = new HRVFrequencyDomain(Arrays.copyOfRange(rrIVal, start, j), Arrays.copyOfRange(rrITs, start, j), sampRate, reSampleRate);
+            double[] psd = hrvFD.compPSD();
+            maxFreq.add(findBR(psd, i));
+            PSDList.add(psd);
+            HR2List.add((double) (int) window.getMeanHeartRate());
         }
     }
 
@@ -0,0 +1,317 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+/**
+ * Piecewise cubic interpolation of a sampled function. The coefficients are computed once when the spline is created,
+ * in O(n) using the Thomas algorithm for the tridiagonal system of the splines, afterwards evaluation only needs the
+ * interval of the evaluation point. Whole arrays of sorted points are evaluated with a cursor that only moves forward.
+ * <p>
+ * Three variants are available:
+ * <ul>
+ * <li>{@link Type#NATURAL}: cubic spline with zero second derivative at both ends.</li>
+ * <li>{@link Type#NOT_A_KNOT}: cubic spline with a continuous third derivative at the second and the second to last
+ * knot, as the default in MATLAB and the former <code>SplineInterpolator</code>.</li>
+ * <li>{@link Type#PCHIP}: shape preserving piecewise cubic Hermite interpolation (Fritsch-Carlson), which does not
+ * overshoot between the knots.</li>
+ * </ul>
+ * Points outside the knots are extrapolated with the first or last polynomial.
+ */
+public class CubicSpline {
+    /**
+     * The interpolation variant.
+     */
+    public enum Type {
+        NATURAL, NOT_A_KNOT, PCHIP
+    }
+
+    private final double[] mX;
+    private final double[] mY;
+    // S(t) = y[i] + b[i] * u + c[i] * u^2 + d[i] * u^3 with u = t - x[i]
+    private final double[] mB;
+    private final double[] mC;
+    private final double[] mD;
+
+    /**
+     * Creates a spline through the given knots.
+     *
+     * @param x    the knot positions, strictly increasing.
+     * @param y    the values at the knots.
+     * @param type the interpolation variant.
+     */
+    public CubicSpline(double[] x, double[] y, Type type) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("x and y must have the same length.");
+        if (x.length == 0)
+            throw new IllegalArgumentException("At least one knot is required.");
+        for (int i = 1; i < x.length; i++) {
+            if (!(x[i] > x[i - 1]))
+                throw new IllegalArgumentException("Knot positions must be strictly increasing.");
+        }
+
+        mX = x.clone();
+        mY = y.clone();
+        int intervals = Math.max(x.length - 1, 0);
+        mB = new double[intervals];
+        mC = new double[intervals];
+        mD = new double[intervals];
+
+        if (x.length == 1)
+            return;
+
+        if (type == Type.PCHIP) {
+            computeHermite(computePchipSlopes());
+        } else {
+            computeFromSecondDerivatives(type == Type.NATURAL ? computeNatural() : computeNotAKnot());
+        }
+    }
+
+    /**
+     * @return the number of knots.
+     */
+    public int getNumKnots() {
+        return mX.length;
+    }
+
+    /**
+     * Evaluates the spline at a single point.
+     *
+     * @param t the point.
+     * @return the interpolated value.
+     */
+    public double value(double t) {
+        if (mX.length == 1)
+            return mY[0];
+        return value(findInterval(t), t);
+    }
+
+    /**
+     * Evaluates the spline at all given points. Sorted points are located by moving a cursor over the knots, so
+     * resampling n knots to m points costs O(n + m).
+     *
+     * @param t the points.
+     * @return a new array with the interpolated values.
+     */
+    public double[] values(double[] t) {
+        double[] out = new double[t.length];
+        values(t, out);
+        return out;
+    }
+
+    /**
+     * Evaluates the spline at all given points, see {@link #values(double[])}.
+     *
+     * @param t   the points.
+     * @param out the array receiving the interpolated values, at least as long as <code>t</code>.
+     */
+    public void values(double[] t, double[] out) {
+        if (mX.length == 1) {
+            for (int k = 0; k < t.length; k++)
+                out[k] = mY[0];
+            return;
+        }
+
+        int last = mX.length - 2;
+        int i = 0;
+        for (int k = 0; k < t.length; k++) {
+            double tk = t[k];
+            if (tk < mX[i]) {
+                // the points are not sorted, locate the interval again
+                i = findInterval(tk);
+            } else {
+                while (i < last && tk >= mX[i + 1])
+                    i++;
+            }
+            out[k] = value(i, tk);
+        }
+    }
+
+    private double value(int i, double t) {
+        double u = t - mX[i];
+        return mY[i] + u * (mB[i] + u * (mC[i] + u * mD[i]));
+    }
+
+    // the index of the interval containing t, the first or last interval for points outside the knots
+    private int findInterval(double t) {
+        int lo = 0;
+        int hi = mX.length - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (mX[mid] <= t)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        return lo;
+    }
+
+    // second derivatives with zero second derivative at both ends
+    private double[] computeNatural() {
+        int n = mX.length;
+        double[] m = new double[n];
+        if (n < 3)
+            return m;
+
+        int size = n - 2;
+        double[] sub = new double[size];
+        double[] diag = new double[size];
+        double[] sup = new double[size];
+        double[] rhs = new double[size];
+        for (int i = 1; i < n - 1; i++) {
+            double h0 = mX[i] - mX[i - 1];
+            double h1 = mX[i + 1] - mX[i];
+            sub[i - 1] = h0;
+            diag[i - 1] = 2 * (h0 + h1);
+            sup[i - 1] = h1;
+            rhs[i - 1] = 6 * (slope(i) - slope(i - 1));
+        }
+        solveTridiagonal(sub, diag, sup, rhs);
+        System.arraycopy(rhs, 0, m, 1, size);
+        return m;
+    }
+
+    // second derivatives with a continuous third derivative at the second and the second to last knot
+    private double[] computeNotAKnot() {
+        int n = mX.length;
+        double[] m = new double[n];
+        if (n == 3) {
+            // the not-a-knot spline through three knots is the parabola through them
+            double second = 2 * (slope(1) - slope(0)) / (mX[2] - mX[0]);
+            m[0] = second;
+            m[1] = second;
+            m[2] = second;
+            return m;
+        }
+        if (n < 3)
+            return m;
+
+        int size = n - 2;
+        double[] sub = new double[size];
+        double[] diag = new double[size];
+        double[] sup = new double[size];
+        double[] rhs = new double[size];
+        for (int i = 1; i < n - 1; i++) {
+            double h0 = mX[i] - mX[i - 1];
+            double h1 = mX[i + 1] - mX[i];
+            sub[i - 1] = h0;
+            diag[i - 1] = 2 * (h0 + h1);
+            sup[i - 1] = h1;
+            rhs[i - 1] = 6 * (slope(i) - slope(i - 1));
+        }
+
+        // eliminate m[0] = ((h0 + h1) m[1] - h0 m[2]) / h1 from the first equation
+        double h0 = mX[1] - mX[0];
+        double h1 = mX[2] - mX[1];
+        diag[0] = h0 + 2 * h1;
+        sup[0] = h1 - h0;
+        rhs[0] = rhs[0] * h1 / (h0 + h1);
+
+        // eliminate m[n - 1] = ((a + b) m[n - 2] - b m[n - 3]) / a from the last equation
+        double a = mX[n - 2] - mX[n - 3];
+        double b = mX[n - 1] - mX[n - 2];
+        sub[size - 1] = a - b;
+        diag[size - 1] = 2 * a + b;
+        rhs[size - 1] = rhs[size - 1] * a / (a + b);
+
+        solveTridiagonal(sub, diag, sup, rhs);
+        System.arraycopy(rhs, 0, m, 1, size);
+        m[0] = ((h0 + h1) * m[1] - h0 * m[2]) / h1;
+        m[n - 1] = ((a + b) * m[n - 2] - b * m[n - 3]) / a;
+        return m;
+    }
+
+    private void computeFromSecondDerivatives(double[] m) {
+        for (int i = 0; i < mB.length; i++) {
+            double h = mX[i + 1] - mX[i];
+            mB[i] = slope(i) - h * (2 * m[i] + m[i + 1]) / 6;
+            mC[i] = m[i] / 2;
+            mD[i] = (m[i + 1] - m[i]) / (6 * h);
+        }
+    }
+
+    // first derivatives of the shape preserving Hermite interpolation, as in MATLAB's pchip
+    private double[] computePchipSlopes() {
+        int n = mX.length;
+        double[] s = new double[n];
+        if (n == 2) {
+            s[0] = slope(0);
+            s[1] = slope(0);
+            return s;
+        }
+
+        for (int k = 1; k < n - 1; k++) {
+            double del0 = slope(k - 1);
+            double del1 = slope(k);
+            if (del0 * del1 <= 0)
+                continue;
+            double h0 = mX[k] - mX[k - 1];
+            double h1 = mX[k + 1] - mX[k];
+            double w1 = 2 * h1 + h0;
+            double w2 = h1 + 2 * h0;
+            s[k] = (w1 + w2) / (w1 / del0 + w2 / del1);
+        }
+
+        s[0] = pchipEndSlope(mX[1] - mX[0], mX[2] - mX[1], slope(0), slope(1));
+        s[n - 1] = pchipEndSlope(mX[n - 1] - mX[n - 2], mX[n - 2] - mX[n - 3], slope(n - 2), slope(n - 3));
+        return s;
+    }
+
+    // one-sided three point estimate of the slope at an end, limited to preserve the shape
+    private static double pchipEndSlope(double h0, double h1, double del0, double del1) {
+        double d = ((2 * h0 + h1) * del0 - h0 * del1) / (h0 + h1);
+        if (Math.signum(d) != Math.signum(del0))
+            return 0;
+        if (Math.signum(del0) != Math.signum(del1) && Math.abs(d) > Math.abs(3 * del0))
+            return 3 * del0;
+        return d;
+    }
+
+    private void computeHermite(double[] s) {
+        for (int i = 0; i < mB.length; i++) {
+            double h = mX[i + 1] - mX[i];
+            double del = slope(i);
+            mB[i] = s[i];
+            mC[i] = (3 * del - 2 * s[i] - s[i + 1]) / h;
+            mD[i] = (s[i] + s[i + 1] - 2 * del) / (h * h);
+        }
+    }
+
+    // slope of the secant over interval i
+    private double slope(int i) {
+        return (mY[i + 1] - mY[i]) / (mX[i + 1] - mX[i]);
+    }
+
+    /**
+     * Solves a tridiagonal system in place with the Thomas algorithm.
+     *
+     * @param sub  the subdiagonal, <code>sub[0]</code> is unused.
+     * @param diag the diagonal, overwritten.
+     * @param sup  the superdiagonal, the last entry is unused.
+     * @param rhs  the right hand side, overwritten with the solution.
+     */
+    public static void solveTridiagonal(double[] sub, double[] diag, double[] sup, double[] rhs) {
+        int n = diag.length;
+        for (int i = 1; i < n; i++) {
+            double w = sub[i] / diag[i - 1];
+            diag[i] -= w * sup[i - 1];
+            rhs[i] -= w * rhs[i - 1];
+        }
+        rhs[n - 1] /= diag[n - 1];
+        for (int i = n - 2; i >= 0; i--)
+            rhs[i] = (rhs[i] - sup[i] * rhs[i + 1]) / diag[i];
+    }
+}
@@ -28,7 +28,7 @@ public class FFT {
 
     /*
      * Computes the discrete Fourier transform (DFT) of the given complex vector, storing the result back into the vector.
-     * The vector can have any length. This is a wrapper function.
+     * The vector can have any length. This is a wrapper function, the tables of each length are cached in an FftPlan.
      */
     public static void transform(double[] real, double[] imag) {
         if (real.length != imag.length)
@@ -37,10 +37,7 @@ public class FFT {
         int n = real.length;
         if (n == 0)
             return;
-        else if ((n & (n - 1)) == 0)  // Is power of 2
-            transformRadix2(real, imag);
-        else  // More complicated algorithm for arbitrary sizes
-            transformBluestein(real, imag);
+        FftPlan.forSize(n).transform(real, imag);
     }
 
 
@@ -0,0 +1,416 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed discrete Fourier transform of one size. A plan holds the twiddle factors and the bit reversal
+ * permutation of the radix-2 transform, or the chirp and its transform for Bluestein's algorithm if the size is no
+ * power of two, so repeated transforms of the same size skip all table computations.
+ * <p>
+ * Plans are immutable and may be shared between threads. {@link #forSize(int)} caches them per size. The transforms
+ * use the sign convention and the missing scaling of the inverse of {@link FFT}.
+ */
+public class FftPlan {
+    /**
+     * The number of sizes whose plans are cached at most, the least recently used plan is evicted beyond.
+     */
+    public static final int MAX_CACHED_PLANS = 64;
+
+    // access ordered, guarded by itself
+    private static final LinkedHashMap<Integer, FftPlan> sCache = new LinkedHashMap<Integer, FftPlan>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, FftPlan> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+
+    private final int mSize;
+
+    // radix-2: exp(-2 pi i k / n) for k < n / 2 and the index pairs swapped by the bit reversal
+    private final double[] mCos;
+    private final double[] mSin;
+    private final int[] mSwaps;
+
+    // Bluestein: the chirp exp(i pi k^2 / n) and the transform of the zero padded, symmetric chirp
+    private final FftPlan mConvolution;
+    private final double[] mChirpCos;
+    private final double[] mChirpSin;
+    private final double[] mChirpReal;
+    private final double[] mChirpImag;
+
+    // real transform: exp(-2 pi i k / n) for k <= n / 2
+    private final double[] mRealCos;
+    private final double[] mRealSin;
+    private volatile FftPlan mHalf;
+
+    /**
+     * Creates a plan without caching it, see {@link #forSize(int)}.
+     *
+     * @param size the transform size.
+     */
+    public FftPlan(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("The size must be positive.");
+        if (size >= 0x20000000)
+            throw new IllegalArgumentException("Size too large");
+        mSize = size;
+
+        if ((size & (size - 1)) == 0) {
+            int levels = Integer.numberOfTrailingZeros(size);
+            mCos = new double[size / 2];
+            mSin = new double[size / 2];
+            for (int i = 0; i < size / 2; i++) {
+                mCos[i] = Math.cos(2 * Math.PI * i / size);
+                mSin[i] = Math.sin(2 * Math.PI * i / size);
+            }
+            int swaps = 0;
+            int[] pairs = new int[size];
+            for (int i = 0; i < size && levels > 0; i++) {
+                int j = Integer.reverse(i) >>> (32 - levels);
+                if (j > i) {
+                    pairs[swaps++] = i;
+                    pairs[swaps++] = j;
+                }
+            }
+            mSwaps = Arrays.copyOf(pairs, swaps);
+            mConvolution = null;
+            mChirpCos = null;
+            mChirpSin = null;
+            mChirpReal = null;
+            mChirpImag = null;
+        } else {
+            mCos = null;
+            mSin = null;
+            mSwaps = null;
+            int m = Integer.highestOneBit(size * 2 + 1) << 1;
+            mConvolution = forSize(m);
+            mChirpCos = new double[size];
+            mChirpSin = new double[size];
+            for (int i = 0; i < size; i++) {
+                int j = (int) ((long) i * i % (size * 2));  // This is more accurate than j = i * i
+                mChirpCos[i] = Math.cos(Math.PI * j / size);
+                mChirpSin[i] = Math.sin(Math.PI * j / size);
+            }
+            mChirpReal = new double[m];
+            mChirpImag = new double[m];
+            mChirpReal[0] = mChirpCos[0];
+            mChirpImag[0] = mChirpSin[0];
+            for (int i = 1; i < size; i++) {
+                mChirpReal[i] = mChirpReal[m - i] = mChirpCos[i];
+                mChirpImag[i] = mChirpImag[m - i] = mChirpSin[i];
+            }
+            mConvolution.transform(mChirpReal, mChirpImag);
+        }
+
+        if (size % 2 == 0) {
+            mRealCos = new double[size / 2 + 1];
+            mRealSin = new double[size / 2 + 1];
+            for (int k = 0; k <= size / 2; k++) {
+                mRealCos[k] = Math.cos(2 * Math.PI * k / size);
+                mRealSin[k] = Math.sin(2 * Math.PI * k / size);
+            }
+        } else {
+            mRealCos = null;
+            mRealSin = null;
+        }
+    }
+
+    /**
+     * Returns the cached plan of a size and creates it on first use. Once {@link #MAX_CACHED_PLANS} sizes are cached,
+     * the plan used least recently is dropped, so plans in repeated use stay cached among one-off sizes.
+     *
+     * @param size the transform size.
+     * @return the plan.
+     */
+    public static FftPlan forSize(int size) {
+        synchronized (sCache) {
+            FftPlan plan = sCache.get(size);
+            if (plan != null)
+                return plan;
+        }
+        // created outside the lock, a Bluestein plan looks up its convolution plan
+        FftPlan plan = new FftPlan(size);
+        synchronized (sCache) {
+            FftPlan cached = sCache.get(size);
+            if (cached != null)
+                return cached;
+            sCache.put(size, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * @return the transform size.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Computes the DFT of the first {@link #size()} elements of a complex vector in place.
+     *
+     * @param real the real part.
+     * @param imag the imaginary part.
+     */
+    public void transform(double[] real, double[] imag) {
+        transform(real, imag, 0);
+    }
+
+    /**
+     * Computes the DFT of {@link #size()} elements of a complex vector starting at an offset in place.
+     *
+     * @param real   the real part.
+     * @param imag   the imaginary part.
+     * @param offset the index of the first element.
+     */
+    public void transform(double[] real, double[] imag, int offset) {
+        if (offset < 0 || offset + mSize > real.length || offset + mSize > imag.length)
+            throw new IllegalArgumentException("The vectors are too short for the transform size.");
+        if (mConvolution == null)
+            transformRadix2(real, imag, offset);
+        else
+            transformBluestein(real, imag, offset);
+    }
+
+    /**
+     * Computes the inverse DFT of the first {@link #size()} elements of a complex vector in place, without scaling.
+     *
+     * @param real the real part.
+     * @param imag the imaginary part.
+     */
+    public void inverseTransform(double[] real, double[] imag) {
+        transform(imag, real, 0);
+    }
+
+    /**
+     * Computes the DFTs of consecutive complex vectors of the transform size in place.
+     *
+     * @param real  the real parts, one vector after the other.
+     * @param imag  the imaginary parts, one vector after the other.
+     * @param count the number of vectors.
+     */
+    public void transformBatch(double[] real, double[] imag, int count) {
+        for (int b = 0; b < count; b++) {
+            transform(real, imag, b * mSize);
+        }
+    }
+
+    /**
+     * Computes the non-negative frequency half of the DFT of a real vector. For an even size, the even and odd samples
+     * are transformed as one complex vector of half the size, otherwise a complex transform with zero imaginary part
+     * is used.
+     *
+     * @param input the real vector, the first {@link #size()} elements are used.
+     * @param real  receives the real part of the bins 0 to size / 2, at least size / 2 + 1 elements.
+     * @param imag  receives the imaginary part of the bins 0 to size / 2, at least size / 2 + 1 elements.
+     */
+    public void realTransform(double[] input, double[] real, double[] imag) {
+        int half = mSize / 2;
+        if (input.length < mSize || real.length < half + 1 || imag.length < half + 1)
+            throw new IllegalArgumentException("The vectors are too short for the transform size.");
+
+        if (mRealCos == null) {
+            double[] re = Arrays.copyOf(input, mSize);
+            double[] im = new double[mSize];
+            transform(re, im, 0);
+            System.arraycopy(re, 0, real, 0, half + 1);
+            System.arraycopy(im, 0, imag, 0, half + 1);
+            return;
+        }
+
+        for (int k = 0; k < half; k++) {
+            real[k] = input[2 * k];
+            imag[k] = input[2 * k + 1];
+        }
+        getHalfPlan().transform(real, imag, 0);
+
+        // X_k = E_k + exp(-2 pi i k / n) O_k with the transforms E and O of the even and odd samples,
+        // E_k = (Z_k + conj(Z_(h-k))) / 2 and O_k = (Z_k - conj(Z_(h-k))) / 2i for Z = E + iO
+        double re0 = real[0];
+        double im0 = imag[0];
+        real[0] = re0 + im0;
+        imag[0] = 0;
+        real[half] = re0 - im0;
+        imag[half] = 0;
+        for (int k = 1, l = half - 1; k <= l; k++, l--) {
+            double aRe = real[k];
+            double aIm = imag[k];
+            double bRe = real[l];
+            double bIm = imag[l];
+
+            double evenRe = 0.5 * (aRe + bRe);
+            double evenIm = 0.5 * (aIm - bIm);
+            double oddRe = 0.5 * (aIm + bIm);
+            double oddIm = -0.5 * (aRe - bRe);
+            real[k] = evenRe + mRealCos[k] * oddRe + mRealSin[k] * oddIm;
+            imag[k] = evenIm + mRealCos[k] * oddIm - mRealSin[k] * oddRe;
+
+            // the same for bin l, where the roles of Z_k and Z_l are swapped
+            evenIm = -evenIm;
+            oddIm = -oddIm;
+            real[l] = evenRe + mRealCos[l] * oddRe + mRealSin[l] * oddIm;
+            imag[l] = evenIm + mRealCos[l] * oddIm - mRealSin[l] * oddRe;
+        }
+    }
+
+    /**
+     * Computes the inverse DFT of the spectrum of a real vector from its non-negative frequency half, without scaling
+     * like {@link #inverseTransform(double[], double[])}. For an even size the spectrum is combined into one complex
+     * vector of half the size, the given half spectrum is overwritten in that case.
+     *
+     * @param real   the real part of the bins 0 to size / 2.
+     * @param imag   the imaginary part of the bins 0 to size / 2.
+     * @param output receives the real vector scaled by the size, at least {@link #size()} elements.
+     */
+    public void inverseRealTransform(double[] real, double[] imag, double[] output) {
+        int half = mSize / 2;
+        if (output.length < mSize || real.length < half + 1 || imag.length < half + 1)
+            throw new IllegalArgumentException("The vectors are too short for the transform size.");
+
+        if (mRealCos == null) {
+            // the negative frequencies are the complex conjugates of the positive ones
+            double[] re = new double[mSize];
+            double[] im = new double[mSize];
+            for (int k = 0; k <= half; k++) {
+                re[k] = real[k];
+                im[k] = imag[k];
+                if (k > 0) {
+                    re[mSize - k] = real[k];
+                    im[mSize - k] = -imag[k];
+                }
+            }
+            inverseTransform(re, im);
+            System.arraycopy(re, 0, output, 0, mSize);
+            return;
+        }
+
+        // Z_k = E_k + i O_k with E_k = (X_k + conj(X_(h-k))) / 2 and O_k = exp(2 pi i k / n) (X_k - conj(X_(h-k))) / 2
+        double re0 = real[0];
+        double reHalf = real[half];
+        double imHalf = imag[half];
+        double im0 = imag[0];
+        real[0] = 0.5 * (re0 + reHalf) - 0.5 * (im0 + imHalf);
+        imag[0] = 0.5 * (im0 - imHalf) + 0.5 * (re0 - reHalf);
+        for (int k = 1, l = half - 1; k <= l; k++, l--) {
+            double aRe = real[k];
+            double aIm = imag[k];
+            double bRe = real[l];
+            double bIm = imag[l];
+
+            double evenRe = 0.5 * (aRe + bRe);
+            double evenIm = 0.5 * (aIm - bIm);
+            double diffRe = 0.5 * (aRe - bRe);
+            double diffIm = 0.5 * (aIm + bIm);
+            double oddRe = diffRe * mRealCos[k] - diffIm * mRealSin[k];
+            double oddIm = diffRe * mRealSin[k] + diffIm * mRealCos[k];
+            real[k] = evenRe - oddIm;
+            imag[k] = evenIm + oddRe;
+
+            // the same for bin l, where the roles of X_k and X_l are swapped
+            oddRe = -diffRe * mRealCos[l] - diffIm * mRealSin[l];
+            oddIm = -diffRe * mRealSin[l] + diffIm * mRealCos[l];
+            real[l] = evenRe - oddIm;
+            imag[l] = -evenIm + oddRe;
+        }
+
+        getHalfPlan().inverseTransform(real, imag);
+        for (int j = 0; j < half; j++) {
+            output[2 * j] = 2 * real[j];
+            output[2 * j + 1] = 2 * imag[j];
+        }
+    }
+
+    // the plan of half the size for the real transforms, looked up once
+    private FftPlan getHalfPlan() {
+        FftPlan plan = mHalf;
+        if (plan == null) {
+            plan = forSize(mSize / 2);
+            mHalf = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Cooley-Tukey decimation-in-time radix-2 FFT with the precomputed tables.
+     */
+    private void transformRadix2(double[] real, double[] imag, int offset) {
+        int n = mSize;
+        for (int p = 0; p < mSwaps.length; p += 2) {
+            int i = offset + mSwaps[p];
+            int j = offset + mSwaps[p + 1];
+            double temp = real[i];
+            real[i] = real[j];
+            real[j] = temp;
+            temp = imag[i];
+            imag[i] = imag[j];
+            imag[j] = temp;
+        }
+
+        for (int size = 2; size <= n; size *= 2) {
+            int halfsize = size / 2;
+            int tablestep = n / size;
+            for (int i = offset; i < offset + n; i += size) {
+                for (int j = i, k = 0; j < i + halfsize; j++, k += tablestep) {
+                    double tpre = real[j + halfsize] * mCos[k] + imag[j + halfsize] * mSin[k];
+                    double tpim = -real[j + halfsize] * mSin[k] + imag[j + halfsize] * mCos[k];
+                    real[j + halfsize] = real[j] - tpre;
+                    imag[j + halfsize] = imag[j] - tpim;
+                    real[j] += tpre;
+                    imag[j] += tpim;
+                }
+            }
+            if (size == n)  // Prevent overflow in 'size *= 2'
+                break;
+        }
+    }
+
+    /**
+     * Bluestein's chirp z-transform as a circular convolution with the precomputed chirp transform. Only the two work
+     * vectors of the convolution are allocated per call.
+     */
+    private void transformBluestein(double[] real, double[] imag, int offset) {
+        int n = mSize;
+        int m = mConvolution.mSize;
+        double[] areal = new double[m];
+        double[] aimag = new double[m];
+        for (int i = 0; i < n; i++) {
+            double re = real[offset + i];
+            double im = imag[offset + i];
+            areal[i] = re * mChirpCos[i] + im * mChirpSin[i];
+            aimag[i] = -re * mChirpSin[i] + im * mChirpCos[i];
+        }
+
+        mConvolution.transform(areal, aimag, 0);
+        for (int i = 0; i < m; i++) {
+            double temp = areal[i] * mChirpReal[i] - aimag[i] * mChirpImag[i];
+            aimag[i] = aimag[i] * mChirpReal[i] + areal[i] * mChirpImag[i];
+            areal[i] = temp;
+        }
+        mConvolution.inverseTransform(areal, aimag);
+
+        for (int i = 0; i < n; i++) {
+            double re = areal[i] / m;
+            double im = aimag[i] / m;
+            real[offset + i] = re * mChirpCos[i] + im * mChirpSin[i];
+            imag[offset + i] = -re * mChirpSin[i] + im * mChirpCos[i];
+        }
+    }
+}
@@ -21,43 +21,29 @@ package de.fau.mad.jely.util;
  */
 public class Interpolator {
 
+    /**
+     * Resamples a series with a not-a-knot cubic spline through all samples.
+     *
+     * @param x     the sample positions (in s), strictly increasing
+     * @param y     the sample values
+     * @param x_new the positions to interpolate at, sorted positions are evaluated in O(n + m)
+     * @param fs    the sampling rate of <code>x_new</code>, not needed
+     * @return the interpolated values
+     */
     public static double[] interpolate(double[] x, double[] y, double[] x_new, double fs) {
+        return interpolate(x, y, x_new, CubicSpline.Type.NOT_A_KNOT);
+    }
 
-        // x and y in seconds
-        double[] splineTs = new double[4];
-        double[] splineValues = new double[4];
-        double[] y_new = new double[x_new.length];
-
-        //initialize values used for spline interpolation
-        for (int i = 0; i < splineValues.length; i++) {
-            splineTs[i] = x[i];
-            splineValues[i] = y[i];
-        }
-
-        y_new[0] = y[0];
-        int c = 0;
-        for (int i = 2; i < x.length - 1; i++) {
-            for (int j = 1; c + j < x_new.length; j++) {
-                if (x_new[c + j] > x[i] && i < x.length - 2) {
-                    System.arraycopy(splineTs, 1, splineTs, 0, 3);
-                    System.arraycopy(splineValues, 1, splineValues, 0, 3);
-                    splineTs[3] = x[i + 2];
-                    splineValues[3] = y[i + 2];
-                    SplineInterpolator splineInterpolator = new SplineInterpolator(splineTs, splineValues);
-                    y_new[c + j] = splineInterpolator.interpolate(x_new[c + j]);
-                    c = c + j;
-                    break;
-                } else if (x_new[c + j] > x[i] && i >= x.length - 2) {
-                    SplineInterpolator splineInterpolator = new SplineInterpolator(splineTs, splineValues);
-                    y_new[c + j] = splineInterpolator.interpolate(x_new[c + j]);
-                } else {
-                    SplineInterpolator splineInterpolator = new SplineInterpolator(splineTs, splineValues);
-                    y_new[c + j] = splineInterpolator.interpolate(x_new[c + j]);
-                }
-
-            }
-
-        }
-        return y_new;
+    /**
+     * Resamples a series with a piecewise cubic interpolation through all samples.
+     *
+     * @param x     the sample positions, strictly increasing
+     * @param y     the sample values
+     * @param x_new the positions to interpolate at
+     * @param type  the interpolation variant
+     * @return the interpolated values
+     */
+    public static double[] interpolate(double[] x, double[] y, double[] x_new, CubicSpline.Type type) {
+        return new CubicSpline(x, y, type).values(x_new);
     }
 }
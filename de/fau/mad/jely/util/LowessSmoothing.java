@@ -1,6 +1,6 @@
 package de.fau.mad.jely.util;
 
-import de.fau.mad.jely.util.QuickSort;
+import java.util.concurrent.Executor;
 
 public class LowessSmoothing {
     /*-
@@ -133,10 +133,21 @@ public class LowessSmoothing {
      * <p>
      */
 
-    private static double ycurrent = 0.0;
+    /**
+     * Number of points whose fitted values are computed by one task of a parallel smooth.
+     */
+    static final int CHUNK_SIZE = 8192;
 
     /**
-     * See class doc
+     * Result of one local regression, every thread of a parallel smooth uses its own instance.
+     */
+    static final class LocalFit {
+        double value;
+    }
+
+    /**
+     * See class doc. The weighted least squares fit is computed from weighted sums collected in the same pass as the
+     * weights, with x taken relative to xs to avoid cancellation, instead of separate passes over a weight array.
      *
      * @param x
      * @param y
@@ -144,93 +155,72 @@ public class LowessSmoothing {
      * @param xs
      * @param nleft
      * @param nright
-     * @param w
+     * @param fit
      * @param userw
      * @param rw
      * @return boolean
      */
-    static boolean lowest(double[] x, double[] y, int n, double xs, int nleft, int nright, double[] w, boolean userw,
+    static boolean lowest(double[] x, double[] y, int n, double xs, int nleft, int nright, LocalFit fit, boolean userw,
                           double[] rw) {
-        int nrt, j;
-        double a, b, c, h, h1, h9, r, range;
-        boolean ok;
+        int j;
+        double h, h1, h9, r, range, w;
+        double sw, swu, swuu, swy, swuy;
 
         range = x[n - 1] - x[0];
         h = Math.max(xs - x[nleft], x[nright] - xs);
         h9 = 0.999 * h;
         h1 = 0.001 * h;
-        /* sum of weights */
-        a = 0.0;
+        /* sums of weights, weighted u = x - xs, u^2, y and u * y */
+        sw = swu = swuu = swy = swuy = 0.0;
         for (j = nleft; j < n; j++) {
             /* compute weights */
             /* (pick up all ties on right) */
-            w[j] = 0.;
             r = Math.abs(x[j] - xs);
             if (r <= h9) {
                 if (r <= h1) {
-                    w[j] = 1.;
+                    w = 1.;
                 } else {
-                    w[j] = cube(1. - cube(r / h));
+                    w = cube(1. - cube(r / h));
                 }
 
                 if (userw) {
-                    w[j] *= rw[j];
+                    w *= rw[j];
                 }
-                a += w[j];
+                double u = x[j] - xs;
+                sw += w;
+                swu += w * u;
+                swuu += w * u * u;
+                swy += w * y[j];
+                swuy += w * u * y[j];
             } else if (x[j] > xs) {
                 break;
             }
         }
 
-        /* rightmost pt (may be greater */
-        /* than nright because of ties) */
-
-        nrt = j - 1;
-        // nrt = j;
+        if (sw <= 0.) {
+            return false;
+        }
 
-        if (a <= 0.) {
-            ok = false;
-        } else {
-            ok = true;
+        /* weighted least squares */
+        /* with weights normalized to a sum of 1 */
 
-            /* weighted least squares */
-            /* make sum of w[j] == 1 */
+        fit.value = swy / sw;
+        if (h > 0.) {
 
-            for (j = nleft; j <= nrt; j++) {
-                w[j] /= a;
-            }
-            if (h > 0.) {
-                a = 0.0;
+            /* use linear fit */
+            /* weighted center of x values, relative to xs */
 
-                /* use linear fit */
-                /* weighted center of x values */
+            double a = swu / sw;
+            double c = Math.max(swuu / sw - a * a, 0.);
+            if (Math.sqrt(c) > 0.001 * range) {
 
-                for (j = nleft; j <= nrt; j++) {
-                    a += w[j] * x[j];
-                }
-                b = xs - a;
-                c = 0.;
-                for (j = nleft; j <= nrt; j++) {
-                    c += w[j] * square(x[j] - a);
-                }
-                if (Math.sqrt(c) > 0.001 * range) {
-                    b /= c;
+                /* points are spread out */
+                /* enough to compute slope */
 
-                    /* points are spread out */
-                    /* enough to compute slope */
-
-                    for (j = nleft; j <= nrt; j++) {
-                        w[j] *= (b * (x[j] - a) + 1.);
-                    }
-                }
-            }
-            ycurrent = 0.0;
-            for (j = nleft; j <= nrt; j++) {
-                ycurrent += w[j] * y[j];
+                fit.value += -a / c * (swuy / sw - a * swy / sw);
             }
-
         }
-        return ok;
+        return true;
     }
 
     /**
@@ -247,93 +237,48 @@ public class LowessSmoothing {
      */
     public static void lowess(double[] x, double[] y, int f, int nsteps, double delta, double[] ys, double[] rw,
                               double[] res) {
-        int i, iter, j, last, m1, m2, nleft, nright, ns, n;
-        boolean ok;
-        double alpha, c1, c9, cmad, cut, d1, d2, denom, r, sc;
+        lowess(x, y, f, nsteps, delta, ys, rw, res, null);
+    }
+
+    /**
+     * See class doc. The fitted values of each iteration are computed concurrently in chunks of consecutive points if
+     * an executor is given. Each chunk starts its own sequence of DELTA skips, so for DELTA &gt; 0 the fitted values
+     * may differ slightly from a sequential smooth, for DELTA = 0 they are the same.
+     *
+     * @param x
+     * @param y
+     * @param f
+     * @param nsteps
+     * @param delta
+     * @param ys
+     * @param rw
+     * @param res
+     * @param executor the executor computing the chunks, or <code>null</code> to smooth in the calling thread
+     */
+    public static void lowess(final double[] x, final double[] y, int f, int nsteps, final double delta, final double[] ys,
+                              final double[] rw, double[] res, Executor executor) {
+        int i, iter, m1, m2, n;
+        double c1, c9, cmad, r, sc;
         n = y.length;
         if (n < 2) {
             ys[0] = y[0];
             return;
         }
 
-        /* nleft, nright, last, etc. must all be shifted to get rid of these: */
-
         /* at least two, at most n points */
-        ns = Math.max(2, Math.min(n, f));
+        final int ns = Math.max(2, Math.min(n, f));
 
         /* robustness iterations */
 
         for (iter = 0; iter <= nsteps; iter++) {
-            nleft = 0;
-            nright = ns - 1;
-            last = -1; /* index of prev estimated point */
-            i = 0; /* index of current point */
-
-            for (; ; ) {
-                if (nright < n - 1) {
-
-                    /* move nleft, nright to right */
-                    /* if radius decreases */
-
-                    d1 = x[i] - x[nleft];
-                    d2 = x[nright + 1] - x[i];
-
-                    /* if d1 <= d2 with */
-                    /* x[nright+1] == x[nright], */
-                    /* lowest fixes */
-
-                    if (d1 > d2) {
-
-                        /* radius will not */
-                        /* decrease by */
-                        /* move right */
-
-                        nleft++;
-                        nright++;
-                        continue;
-                    }
-                }
-
-                /* fitted value at x[i] */
-
-                ok = lowest(x, y, n, x[i], nleft, nright, res, iter > 0, rw);
-                ys[i] = ycurrent;
-
-                if (!ok) {
-                    ys[i] = y[i];
+            final boolean userw = iter > 0;
+            ParallelTasks.run(n, CHUNK_SIZE, executor, "Smoothing", new ParallelTasks.Range() {
+                @Override
+                public void run(int from, int to) {
+                    smoothRange(x, y, ns, delta, ys, userw, rw, from, to, new LocalFit());
                 }
-                /* all weights zero */
-                /* copy over value (all rw==0) */
+            });
 
-                if (last < i - 1) {
-                    denom = x[i] - x[last];
-
-                    /* skipped points -- interpolate */
-                    /* non-zero - proof? */
-
-                    for (j = last + 1; j < i; j++) {
-                        alpha = (x[j] - x[last]) / denom;
-                        ys[j] = alpha * ys[i] + (1. - alpha) * ys[last];
-                    }
-                }
-
-                /* last point actually estimated */
-                last = i;
-
-                /* x coord of close points */
-                cut = x[last] + delta;
-                for (i = last + 1; i < n; i++) {
-                    if (x[i] > cut)
-                        break;
-                    if (x[i] == x[last]) {
-                        ys[i] = ys[last];
-                        last = i;
-                    }
-                }
-                i = Math.max(last + 1, i - 1);
-                if (last >= n - 1)
-                    break;
-            }
             /* residuals */
             for (i = 0; i < n; i++) {
                 res[i] = y[i] - ys[i];
@@ -355,15 +300,20 @@ public class LowessSmoothing {
                 rw[i] = Math.abs(res[i]);
             }
 
-            QuickSort.quicksort(rw, 0, rw.length - 1);
             /* Compute cmad := 6 * median(rw[], n) ---- */
+            /* selecting the middle values is enough, a full sort is not needed */
             m1 = n / 2;
             m2 = n - m1 - 1;
 
             if (n % 2 == 0) {
-                cmad = 3. * (rw[m1] + rw[m2]);
+                double upper = QuickSort.select(rw, 0, n - 1, m1);
+                double lower = rw[0];
+                for (i = 1; i <= m2; i++) {
+                    lower = Math.max(lower, rw[i]);
+                }
+                cmad = 3. * (upper + lower);
             } else { /* n odd */
-                cmad = 6. * rw[m1];
+                cmad = 6. * QuickSort.select(rw, 0, n - 1, m1);
             }
             /* effectively zero */
             if (cmad < 1.0E-7 * sc) {
@@ -384,6 +334,123 @@ public class LowessSmoothing {
         }
     }
 
+    /**
+     * Computes the fitted values of the points <code>[start, end)</code> of one iteration, the fitted values at
+     * <code>start</code> and <code>end - 1</code> are always computed by a local regression.
+     *
+     * @param x
+     * @param y
+     * @param ns
+     * @param delta
+     * @param ys
+     * @param userw
+     * @param rw
+     * @param start
+     * @param end
+     * @param fit
+     */
+    static void smoothRange(double[] x, double[] y, int ns, double delta, double[] ys, boolean userw, double[] rw,
+                            int start, int end, LocalFit fit) {
+        int i, j, last, nleft, nright, n;
+        boolean ok;
+        double alpha, d1, d2, denom, cut;
+        n = y.length;
+
+        /* the neighbourhood only moves right, so it is found by bisection for the first point */
+        nleft = firstNeighbour(x, ns, start);
+        nright = nleft + ns - 1;
+        last = start - 1; /* index of prev estimated point */
+        i = start; /* index of current point */
+
+        for (; ; ) {
+            if (nright < n - 1) {
+
+                /* move nleft, nright to right */
+                /* if radius decreases */
+
+                d1 = x[i] - x[nleft];
+                d2 = x[nright + 1] - x[i];
+
+                /* if d1 <= d2 with */
+                /* x[nright+1] == x[nright], */
+                /* lowest fixes */
+
+                if (d1 > d2) {
+
+                    /* radius will not */
+                    /* decrease by */
+                    /* move right */
+
+                    nleft++;
+                    nright++;
+                    continue;
+                }
+            }
+
+            /* fitted value at x[i] */
+
+            ok = lowest(x, y, n, x[i], nleft, nright, fit, userw, rw);
+            ys[i] = fit.value;
+
+            if (!ok) {
+                ys[i] = y[i];
+            }
+            /* all weights zero */
+            /* copy over value (all rw==0) */
+
+            if (last < i - 1) {
+                denom = x[i] - x[last];
+
+                /* skipped points -- interpolate */
+                /* non-zero - proof? */
+
+                for (j = last + 1; j < i; j++) {
+                    alpha = (x[j] - x[last]) / denom;
+                    ys[j] = alpha * ys[i] + (1. - alpha) * ys[last];
+                }
+            }
+
+            /* last point actually estimated */
+            last = i;
+
+            /* x coord of close points */
+            cut = x[last] + delta;
+            for (i = last + 1; i < end; i++) {
+                if (x[i] > cut)
+                    break;
+                if (x[i] == x[last]) {
+                    ys[i] = ys[last];
+                    last = i;
+                }
+            }
+            i = Math.max(last + 1, i - 1);
+            if (last >= end - 1)
+                break;
+        }
+    }
+
+    /**
+     * Finds the left end of the neighbourhood of ns points of x[i] that the sequential scan would reach, i.e. the first
+     * one whose radius does not decrease by moving right.
+     *
+     * @param x
+     * @param ns
+     * @param i
+     * @return nleft
+     */
+    private static int firstNeighbour(double[] x, int ns, int i) {
+        int lo = 0;
+        int hi = x.length - ns;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x[i] - x[mid] > x[mid + ns] - x[i])
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
     /**
      * convenient method used to provide x cubed
      *
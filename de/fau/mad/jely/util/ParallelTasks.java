@@ -0,0 +1,92 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Splits work over a range of indices into tasks for an {@link Executor} and waits for all of them. The batch methods
+ * of the library that accept an executor use it, so they all share the same threading and failure behaviour.
+ */
+public final class ParallelTasks {
+    /**
+     * The work on a range of indices. Tasks run concurrently, so each must only write the results of its own range.
+     */
+    public interface Range {
+        /**
+         * @param from the first index of the range.
+         * @param to   the end (exclusive) of the range.
+         */
+        void run(int from, int to);
+    }
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Processes the indices <code>[0, count)</code> in ranges of at most <code>rangeSize</code> indices, each range as
+     * one task on the executor, and returns once all tasks have completed. Completing a task happens-before this
+     * method returns, so all results written by the tasks are visible afterwards. Without an executor, or if all
+     * indices fit into one range, the indices are processed in the calling thread.
+     *
+     * @param count     the number of indices.
+     * @param rangeSize the maximum number of indices per task.
+     * @param executor  the executor running the tasks, or <code>null</code> to process all indices in the calling
+     *                  thread.
+     * @param name      the name of the work used in exception messages, e.g. "Smoothing".
+     * @param range     the work on a range of indices.
+     * @throws IllegalStateException if a task fails, or if the calling thread is interrupted while waiting, in which
+     *                               case the remaining tasks are cancelled and the interrupt flag is set again.
+     */
+    public static void run(int count, int rangeSize, Executor executor, String name, final Range range) {
+        if (rangeSize < 1)
+            throw new IllegalArgumentException("A range must contain at least one index.");
+        if (executor == null || count <= rangeSize) {
+            range.run(0, count);
+            return;
+        }
+
+        ArrayList<FutureTask<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < count; start += rangeSize) {
+            final int from = start;
+            final int to = Math.min(count, start + rangeSize);
+            FutureTask<Void> task = new FutureTask<>(new Runnable() {
+                @Override
+                public void run() {
+                    range.run(from, to);
+                }
+            }, null);
+            executor.execute(task);
+            tasks.add(task);
+        }
+
+        try {
+            for (FutureTask<Void> task : tasks)
+                task.get();
+        } catch (InterruptedException e) {
+            for (FutureTask<Void> task : tasks)
+                task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(name + " failed in one of its tasks.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Piecewise linear segmentation of a series, e.g. a respiration rate or another trend signal. Prefix sums of x, y, xy,
+ * x^2 and y^2 give the least squares line and its mean squared error for every window <code>[from, to)</code> in
+ * O(1), so a segmentation of the whole series takes O(n) instead of a new regression per candidate window.
+ * <p>
+ * The sums are accumulated relative to the means of x and y to keep the differences of the prefix sums accurate. This
+ * does not help for series that drift far from their mean within the windows, e.g. cumulative sums, which are better
+ * fitted from the samples of every window.
+ */
+public class PiecewiseLinearSegmentation {
+
+    private final double[] mX;
+    private final int mLength;
+    private final double mMeanX;
+    private final double mMeanY;
+    // prefix sums, element i holds the sum over [0, i)
+    private final double[] mSumX;
+    private final double[] mSumY;
+    private final double[] mSumXY;
+    private final double[] mSumXX;
+    private final double[] mSumYY;
+
+    /**
+     * Creates a segmentation of equidistant samples, x is the sample index.
+     *
+     * @param y the series.
+     */
+    public PiecewiseLinearSegmentation(double[] y) {
+        this(null, y);
+    }
+
+    /**
+     * @param x the positions of the samples, or null for the sample indices.
+     * @param y the series.
+     */
+    public PiecewiseLinearSegmentation(double[] x, double[] y) {
+        if (x != null && x.length != y.length)
+            throw new IllegalArgumentException("x and y must have the same length.");
+
+        mX = x != null ? x.clone() : null;
+        mLength = y.length;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < mLength; i++) {
+            meanX += x != null ? x[i] : i;
+            meanY += y[i];
+        }
+        mMeanX = mLength > 0 ? meanX / mLength : 0;
+        mMeanY = mLength > 0 ? meanY / mLength : 0;
+
+        mSumX = new double[mLength + 1];
+        mSumY = new double[mLength + 1];
+        mSumXY = new double[mLength + 1];
+        mSumXX = new double[mLength + 1];
+        mSumYY = new double[mLength + 1];
+        for (int i = 0; i < mLength; i++) {
+            double u = (x != null ? x[i] : i) - mMeanX;
+            double v = y[i] - mMeanY;
+            mSumX[i + 1] = mSumX[i] + u;
+            mSumY[i + 1] = mSumY[i] + v;
+            mSumXY[i + 1] = mSumXY[i] + u * v;
+            mSumXX[i + 1] = mSumXX[i] + u * u;
+            mSumYY[i + 1] = mSumYY[i] + v * v;
+        }
+    }
+
+    /**
+     * @return the length of the series.
+     */
+    public int size() {
+        return mLength;
+    }
+
+    /**
+     * @param from the first index of the window, inclusive.
+     * @param to   the last index of the window, exclusive.
+     * @return the slope of the least squares line, 0 if all x of the window are equal.
+     */
+    public double getSlope(int from, int to) {
+        checkWindow(from, to);
+        int n = to - from;
+        double sx = mSumX[to] - mSumX[from];
+        double sxx = mSumXX[to] - mSumXX[from] - sx * sx / n;
+        if (sxx <= 0)
+            return 0;
+        double sy = mSumY[to] - mSumY[from];
+        double sxy = mSumXY[to] - mSumXY[from] - sx * sy / n;
+        return sxy / sxx;
+    }
+
+    /**
+     * @param from the first index of the window, inclusive.
+     * @param to   the last index of the window, exclusive.
+     * @return the intercept of the least squares line at x = 0.
+     */
+    public double getIntercept(int from, int to) {
+        int n = to - from;
+        double slope = getSlope(from, to);
+        double meanX = (mSumX[to] - mSumX[from]) / n;
+        double meanY = (mSumY[to] - mSumY[from]) / n;
+        return meanY + mMeanY - slope * (meanX + mMeanX);
+    }
+
+    /**
+     * @param from the first index of the window, inclusive.
+     * @param to   the last index of the window, exclusive.
+     * @return the mean squared residual of the least squares line, 0 for a single sample.
+     */
+    public double getMeanSquaredError(int from, int to) {
+        checkWindow(from, to);
+        int n = to - from;
+        double sx = mSumX[to] - mSumX[from];
+        double sy = mSumY[to] - mSumY[from];
+        double syy = mSumYY[to] - mSumYY[from] - sy * sy / n;
+        double sxx = mSumXX[to] - mSumXX[from] - sx * sx / n;
+        double sse = syy;
+        if (sxx > 0) {
+            double sxy = mSumXY[to] - mSumXY[from] - sx * sy / n;
+            sse -= sxy * sxy / sxx;
+        }
+        return Math.max(sse, 0) / n;
+    }
+
+    /**
+     * Sliding window segmentation from the end of the series. The left edge of the window moves backwards until the
+     * mean squared error of its line exceeds the maximum, then the sample after the left edge is a break and the next
+     * window ends at the left edge.
+     *
+     * @param maxError the maximum mean squared error of a segment.
+     * @return the breaks in descending order.
+     */
+    public ArrayList<Integer> slidingWindow(double maxError) {
+        ArrayList<Integer> breaks = new ArrayList<>();
+        int right = mLength;
+        for (int left = mLength - 2; left > 1; left--) {
+            if (getMeanSquaredError(left, right) > maxError) {
+                breaks.add(left + 1);
+                right = left;
+            }
+        }
+        return breaks;
+    }
+
+    /**
+     * Evaluates the least squares line of every segment between consecutive breaks.
+     *
+     * @param breaks the first indices of the segments, in any order, 0 and the length are added.
+     * @return the piecewise linear approximation of the series.
+     */
+    public double[] fit(ArrayList<Integer> breaks) {
+        int[] bounds = new int[breaks.size() + 2];
+        for (int i = 0; i < breaks.size(); i++) {
+            bounds[i + 1] = breaks.get(i);
+        }
+        bounds[bounds.length - 1] = mLength;
+        Arrays.sort(bounds, 1, bounds.length - 1);
+
+        double[] fit = new double[mLength];
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            if (to <= from)
+                continue;
+            double slope = getSlope(from, to);
+            double intercept = getIntercept(from, to);
+            for (int j = from; j < to; j++) {
+                fit[j] = intercept + slope * (mX != null ? mX[j] : j);
+            }
+        }
+        return fit;
+    }
+
+    private void checkWindow(int from, int to) {
+        if (from < 0 || to > mLength || to <= from)
+            throw new IllegalArgumentException("Invalid window [" + from + ", " + to + ").");
+    }
+}
@@ -95,5 +95,48 @@ public class QuickSort {
             quicksort(a, i, hi);
     }
 
-}
+    /**
+     * Partially sorts the region of array a so that a[k] holds the value it would hold if the region was sorted, all
+     * values before it are smaller or equal and all values after it are larger or equal. Takes linear time on
+     * average.
+     *
+     * @param a
+     * @param lo
+     * @param hi
+     * @param k
+     * @return a[k]
+     */
+    public static double select(double[] a, int lo, int hi, int k) {
+        while (lo < hi) {
+            int i = lo, j = hi;
+            double x = a[(lo + hi) / 2], h;
+
+            // partition as in quicksort
+            do {
+                while (a[i] < x) {
+                    i++;
+                }
+                while (a[j] > x) {
+                    j--;
+                }
+                if (i <= j) {
+                    h = a[i];
+                    a[i] = a[j];
+                    a[j] = h;
+                    i++;
+                    j--;
+                }
+            } while (i <= j);
 
+            // continue only in the part containing k, values between j and i equal x
+            if (k <= j)
+                hi = j;
+            else if (k >= i)
+                lo = i;
+            else
+                break;
+        }
+        return a[k];
+    }
+
+}
@@ -0,0 +1,164 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+/**
+ * Single pass accumulator for the minimum, maximum, mean, variance, skewness, kurtosis and energy of a sequence of
+ * values. The central moments are updated incrementally (Welford/Terriberry), which avoids the cancellation of the
+ * <code>E[x^2] - E[x]^2</code> formulation and needs no second pass over the values. An instance can be reset and
+ * reused.
+ */
+public class SampleMoments {
+    private int num;
+    private double min;
+    private double max;
+    private double mean;
+    private double m2;
+    private double m3;
+    private double m4;
+    private double energy;
+
+    public SampleMoments() {
+        reset();
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void reset() {
+        num = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+        mean = 0;
+        m2 = 0;
+        m3 = 0;
+        m4 = 0;
+        energy = 0;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value
+     */
+    public void add(double value) {
+        if (num == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+
+        int n1 = num;
+        num++;
+        double delta = value - mean;
+        double deltaN = delta / num;
+        double deltaN2 = deltaN * deltaN;
+        double term1 = delta * deltaN * n1;
+        mean += deltaN;
+        m4 += term1 * deltaN2 * ((double) num * num - 3 * num + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+        m3 += term1 * deltaN * (num - 2) - 3 * deltaN * m2;
+        m2 += term1;
+        energy += value * value;
+    }
+
+    /**
+     * Adds the values in the range [indexStart, indexEnd] of the array.
+     *
+     * @param values
+     * @param indexStart
+     * @param indexEnd
+     */
+    public void addAll(double[] values, int indexStart, int indexEnd) {
+        for (int i = indexStart; i <= indexEnd; i++)
+            add(values[i]);
+    }
+
+    /**
+     * @return the number of values
+     */
+    public int getNum() {
+        return num;
+    }
+
+    /**
+     * @return the min, or <code>Double.NaN</code> if empty
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the max, or <code>Double.NaN</code> if empty
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean, or <code>Double.NaN</code> if empty
+     */
+    public double getMean() {
+        return num == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return the sample variance (normalized by n - 1)
+     */
+    public double getVariance() {
+        if (num == 0)
+            return Double.NaN;
+        return num > 1 ? m2 / (num - 1) : 0;
+    }
+
+    /**
+     * @return the sample standard deviation (normalized by n - 1)
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return the sum of the squared deviations from the mean
+     */
+    public double getSumOfSquaredDeviations() {
+        return m2;
+    }
+
+    /**
+     * @return the skewness, based on the population standard deviation
+     */
+    public double getSkewness() {
+        return Math.sqrt(num) * m3 / (m2 * Math.sqrt(m2));
+    }
+
+    /**
+     * @return the kurtosis (not the excess kurtosis), based on the population variance
+     */
+    public double getKurtosis() {
+        return num * m4 / (m2 * m2);
+    }
+
+    /**
+     * @return the energy, i.e. the sum of the squares
+     */
+    public double getEnergy() {
+        return energy;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+/**
+ * Smoothness priors detrending (Tarvainen et al., 2002, An advanced detrending method with application to HRV analysis).
+ * The trend of a series z is the solution of the regularized least squares problem
+ * <code>min |z - t|^2 + lambda^2 |D2 t|^2</code> with the second order difference matrix D2, i.e.
+ * <code>(I + lambda^2 D2' D2) t = z</code>. The system matrix is symmetric positive definite and pentadiagonal, so the
+ * trend is computed in O(n) by a banded LDL' factorization instead of the dense inverse of the original formulation.
+ * <p>
+ * The larger lambda, the smoother the trend, i.e. the lower the cut-off frequency of the implied high pass filter of
+ * the detrended series.
+ */
+public class SmoothnessPriors {
+
+    /**
+     * Computes the trend of a series.
+     *
+     * @param z      the series, usually RR intervals.
+     * @param lambda the regularization parameter.
+     * @return the trend.
+     */
+    public static double[] trend(double[] z, double lambda) {
+        int n = z.length;
+        if (n < 3)
+            return z.clone();
+
+        // I + lambda^2 D2' D2, the rows of D2 are [1 -2 1]
+        double l2 = lambda * lambda;
+        double[] diag = new double[n];
+        double[] sub1 = new double[n - 1];
+        double[] sub2 = new double[n - 2];
+        for (int i = 0; i < n - 2; i++) {
+            diag[i] += l2;
+            diag[i + 1] += 4 * l2;
+            diag[i + 2] += l2;
+            sub1[i] -= 2 * l2;
+            sub1[i + 1] -= 2 * l2;
+            sub2[i] = l2;
+        }
+        for (int i = 0; i < n; i++) {
+            diag[i] += 1;
+        }
+        return solveSymmetricPentadiagonal(diag, sub1, sub2, z);
+    }
+
+    /**
+     * Removes the trend from a series.
+     *
+     * @param z      the series, usually RR intervals.
+     * @param lambda the regularization parameter.
+     * @return the series minus its trend.
+     */
+    public static double[] detrend(double[] z, double lambda) {
+        double[] trend = trend(z, lambda);
+        for (int i = 0; i < z.length; i++) {
+            trend[i] = z[i] - trend[i];
+        }
+        return trend;
+    }
+
+    /**
+     * Solves a symmetric positive definite pentadiagonal system by LDL' factorization in O(n).
+     *
+     * @param diag the main diagonal, length n.
+     * @param sub1 the first sub-diagonal, <code>sub1[i] = A[i + 1][i]</code>, length n - 1.
+     * @param sub2 the second sub-diagonal, <code>sub2[i] = A[i + 2][i]</code>, length n - 2.
+     * @param rhs  the right-hand side, length n.
+     * @return the solution.
+     */
+    public static double[] solveSymmetricPentadiagonal(double[] diag, double[] sub1, double[] sub2, double[] rhs) {
+        int n = diag.length;
+        // d: diagonal of D, l1 / l2: first and second sub-diagonal of the unit lower triangular L, indexed by row
+        double[] d = new double[n];
+        double[] l1 = new double[n];
+        double[] l2 = new double[n];
+        for (int i = 0; i < n; i++) {
+            double di = diag[i];
+            if (i >= 1)
+                di -= l1[i] * l1[i] * d[i - 1];
+            if (i >= 2)
+                di -= l2[i] * l2[i] * d[i - 2];
+            d[i] = di;
+            if (i + 1 < n) {
+                double b = sub1[i];
+                if (i >= 1)
+                    b -= l2[i + 1] * l1[i] * d[i - 1];
+                l1[i + 1] = b / di;
+            }
+            if (i + 2 < n)
+                l2[i + 2] = sub2[i] / di;
+        }
+
+        // L y = rhs, D z = y, L' x = z
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            double v = rhs[i];
+            if (i >= 1)
+                v -= l1[i] * x[i - 1];
+            if (i >= 2)
+                v -= l2[i] * x[i - 2];
+            x[i] = v;
+        }
+        for (int i = 0; i < n; i++) {
+            x[i] /= d[i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            if (i + 1 < n)
+                x[i] -= l1[i + 1] * x[i + 1];
+            if (i + 2 < n)
+                x[i] -= l2[i + 2] * x[i + 2];
+        }
+        return x;
+    }
+}
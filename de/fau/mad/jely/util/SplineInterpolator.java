@@ -16,10 +16,10 @@
  */
 package de.fau.mad.jely.util;
 
-import de.fau.mad.jely.util.Matrix;
-import de.fau.mad.jely.RRInterval;
-
 /**
+ * Not-a-knot cubic spline interpolation. The spline is computed once by {@link CubicSpline} on first use and reused
+ * for all further points.
+ *
  * @author Axel Heinrich
  */
 public class SplineInterpolator {
@@ -27,6 +27,7 @@ public class SplineInterpolator {
     double [] y;
     int t;
     int n;
+    private CubicSpline mSpline;
 
     public SplineInterpolator(double [] x, double [] y){
         this.x = x;
@@ -35,52 +36,9 @@ public class SplineInterpolator {
     }
 
     public double interpolate(double t) {
-
-        double[] a = new double[n];
-        double[] b = new double[n];
-        double[] c = new double[n];
-        double[] d = new double[n];
-
-        double[] h = new double[n - 1];
-        double[] sumh = new double[n - 2];
-        double[] dy = new double[n - 1];
-        double[][] rs = new double[n][1];
-
-        Matrix cMatrix = new Matrix(n, n);
-
-        for (int i = 0; i < n - 1; i++) {
-            h[i] = x[i + 1] - x[i];
-            dy[i] = y[i + 1] - y[i];
-            a[i] = y[i];
-        }
-
-        for (int i = 0; i < n - 2; i++) {
-            sumh[i] = h[i] + h[i + 1];
-        }
-
-        cMatrix = cMatrix.createTridiagonalMatrix(n, n, sumh, h);
-
-        rs[0][0] = 0;
-        rs[n - 1][0] = 0;
-        for (int i = 1; i < n - 1; i++) {
-            rs[i][0] = (3 * dy[i] / h[i]) - (3 * dy[i - 1] / h[i - 1]);
-        }
-
-        Matrix rsMat = new Matrix(rs);
-        Matrix cSolution = cMatrix.solve(rsMat);
-        c = cSolution.getRowPackedCopy();
-
-        for (int i = 0; i < n-1; i++) {
-            d[i] = (c[i + 1] - c[i]) / (3 * h[i]);
-            b[i] = dy[i] / h[i] - c[i] * h[i] - d[i] * Math.pow(h[i], 2);
-        }
-
-        d[n - 1] = d[n - 2];
-        b[n-1] = ((c[n-1]+c[n-2])*h[n-2]) + b[n-2];
-
-        double interpolatedValue = evalSpline(b, c, d, t, h);
-
-        return interpolatedValue;
+        if (mSpline == null)
+            mSpline = new CubicSpline(x, y, CubicSpline.Type.NOT_A_KNOT);
+        return mSpline.value(t);
     }
 
     public double evalSpline(double[] b, double[] c, double[] d, double eval_x, double[] h) {
@@ -0,0 +1,276 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+/**
+ * Normalized cross correlation of a fixed template against a range of lags in a signal.
+ * <p>
+ * The template is stored zero-mean and with unit norm, so for each lag only the dot product with the signal window
+ * and the energy of the window are needed. The window sums are updated incrementally from lag to lag. For wide lag
+ * ranges the dot products of all lags are computed at once by FFT based correlation. Apart from growing its work
+ * buffers, a matcher does not allocate, so one instance should be kept and reused.
+ */
+public class TemplateMatcher {
+    /**
+     * Number of lags from which the FFT based correlation is used by default.
+     */
+    public static final int DEFAULT_FFT_MIN_LAGS = 64;
+
+    /**
+     * The FFT path is only taken if the direct correlation needs this many times more multiplications than
+     * <code>N log2(N)</code> of the transform size N. Measured crossover of the real transforms with cached plans.
+     */
+    private static final int FFT_WORK_FACTOR = 4;
+
+    private double[] mTemplate = new double[0];
+    private int mLength;
+    private double mTemplateMean;
+    private double mTemplateNorm;
+
+    private double mSignalCenter = Double.NaN;
+    private int mFftMinLags = DEFAULT_FFT_MIN_LAGS;
+
+    private int mBestLag;
+    private double mBestCorrelation = Double.NaN;
+
+    // FFT work buffers and the non-negative frequency half of the template spectrum for the current transform size,
+    // mFftSignal holds the signal segment before and the dot products after the correlation
+    private FftPlan mFftPlan;
+    private double[] mFftSignal = new double[0];
+    private double[] mFftReal = new double[0];
+    private double[] mFftImag = new double[0];
+    private double[] mTemplateReal = new double[0];
+    private double[] mTemplateImag = new double[0];
+    private int mTemplateFftSize;
+
+    public TemplateMatcher() {
+    }
+
+    /**
+     * Creates a matcher for the given template.
+     *
+     * @param template
+     */
+    public TemplateMatcher(double[] template) {
+        setTemplate(template, 0, template.length);
+    }
+
+    /**
+     * Sets the template to the values in the range [offset, offset + length) of the array. The values are copied.
+     *
+     * @param values
+     * @param offset
+     * @param length
+     */
+    public void setTemplate(double[] values, int offset, int length) {
+        if (mTemplate.length < length)
+            mTemplate = new double[length];
+        mLength = length;
+
+        double sum = 0;
+        for (int k = 0; k < length; k++)
+            sum += values[offset + k];
+        mTemplateMean = length > 0 ? sum / length : 0;
+
+        double energy = 0;
+        for (int k = 0; k < length; k++) {
+            mTemplate[k] = values[offset + k] - mTemplateMean;
+            energy += mTemplate[k] * mTemplate[k];
+        }
+        mTemplateNorm = Math.sqrt(energy);
+        if (mTemplateNorm > 0) {
+            for (int k = 0; k < length; k++)
+                mTemplate[k] /= mTemplateNorm;
+        }
+        mTemplateFftSize = 0;
+    }
+
+    /**
+     * @return the number of template values.
+     */
+    public int getTemplateLength() {
+        return mLength;
+    }
+
+    /**
+     * @return the mean of the template values.
+     */
+    public double getTemplateMean() {
+        return mTemplateMean;
+    }
+
+    /**
+     * @return the norm of the mean-free template values.
+     */
+    public double getTemplateNorm() {
+        return mTemplateNorm;
+    }
+
+    /**
+     * Sets a fixed value the signal windows are centered at. By default (<code>Double.NaN</code>) each window is
+     * centered at its own mean, which gives the Pearson correlation coefficient.
+     *
+     * @param center
+     */
+    public void setSignalCenter(double center) {
+        mSignalCenter = center;
+    }
+
+    /**
+     * Sets the number of lags from which the FFT based correlation may be used. It is only used if it needs less
+     * work than the direct correlation.
+     *
+     * @param minLags
+     */
+    public void setFftMinLags(int minLags) {
+        mFftMinLags = minLags;
+    }
+
+    /**
+     * Correlates the template with the signal windows starting at <code>start + lag</code> for every lag in
+     * [minLag, maxLag].
+     *
+     * @param signal
+     * @param start  the signal index corresponding to lag 0.
+     * @param minLag
+     * @param maxLag
+     * @return the best correlation coefficient, 0 for windows or templates without energy.
+     */
+    public double match(double[] signal, int start, int minLag, int maxLag) {
+        int numLags = maxLag - minLag + 1;
+        int first = start + minLag;
+        if (numLags <= 0 || first < 0 || start + maxLag + mLength > signal.length)
+            throw new IllegalArgumentException("Lag range [" + minLag + ", " + maxLag + "] exceeds the signal.");
+
+        boolean useFft = false;
+        if (numLags >= mFftMinLags && mLength > 0) {
+            int size = getFftSize(numLags + mLength - 1);
+            int log2 = 31 - Integer.numberOfLeadingZeros(size);
+            useFft = (long) numLags * mLength > (long) FFT_WORK_FACTOR * size * log2;
+        }
+        if (useFft)
+            correlateFft(signal, first, numLags);
+
+        // window sums for the first lag, then updated incrementally
+        double sum = 0;
+        double sumSquares = 0;
+        for (int k = 0; k < mLength; k++) {
+            double v = signal[first + k];
+            sum += v;
+            sumSquares += v * v;
+        }
+
+        mBestLag = minLag;
+        mBestCorrelation = Double.NEGATIVE_INFINITY;
+        for (int l = 0; l < numLags; l++) {
+            int windowStart = first + l;
+            if (l > 0) {
+                double out = signal[windowStart - 1];
+                double in = signal[windowStart + mLength - 1];
+                sum += in - out;
+                sumSquares += in * in - out * out;
+            }
+
+            double dot;
+            if (useFft) {
+                dot = mFftSignal[l];
+            } else {
+                dot = 0;
+                for (int k = 0; k < mLength; k++)
+                    dot += mTemplate[k] * signal[windowStart + k];
+            }
+
+            // the template is mean-free, so the dot product does not depend on the window center
+            double energy;
+            if (Double.isNaN(mSignalCenter))
+                energy = sumSquares - sum * sum / mLength;
+            else
+                energy = sumSquares - 2 * mSignalCenter * sum + mLength * mSignalCenter * mSignalCenter;
+
+            double correlation = 0;
+            if (energy > 0 && mTemplateNorm > 0)
+                correlation = dot / Math.sqrt(energy);
+
+            if (correlation > mBestCorrelation) {
+                mBestCorrelation = correlation;
+                mBestLag = minLag + l;
+            }
+        }
+        return mBestCorrelation;
+    }
+
+    // stores the dot products of the template with all windows in mFftSignal[0, numLags)
+    private void correlateFft(double[] signal, int first, int numLags) {
+        int segment = numLags + mLength - 1;
+        int size = getFftSize(segment);
+        int bins = size / 2 + 1;
+
+        if (mFftSignal.length != size) {
+            mFftPlan = FftPlan.forSize(size);
+            mFftSignal = new double[size];
+            mFftReal = new double[bins];
+            mFftImag = new double[bins];
+        }
+
+        if (mTemplateFftSize != size) {
+            if (mTemplateReal.length != bins) {
+                mTemplateReal = new double[bins];
+                mTemplateImag = new double[bins];
+            }
+            for (int i = 0; i < size; i++)
+                mFftSignal[i] = i < mLength ? mTemplate[i] : 0;
+            mFftPlan.realTransform(mFftSignal, mTemplateReal, mTemplateImag);
+            mTemplateFftSize = size;
+        }
+
+        for (int i = 0; i < size; i++)
+            mFftSignal[i] = i < segment ? signal[first + i] : 0;
+        mFftPlan.realTransform(mFftSignal, mFftReal, mFftImag);
+
+        // multiply with the conjugate template spectrum
+        for (int i = 0; i < bins; i++) {
+            double re = mFftReal[i] * mTemplateReal[i] + mFftImag[i] * mTemplateImag[i];
+            double im = mFftImag[i] * mTemplateReal[i] - mFftReal[i] * mTemplateImag[i];
+            mFftReal[i] = re;
+            mFftImag[i] = im;
+        }
+        mFftPlan.inverseRealTransform(mFftReal, mFftImag, mFftSignal);
+        for (int i = 0; i < numLags; i++)
+            mFftSignal[i] /= size;
+    }
+
+    private static int getFftSize(int segment) {
+        int size = Integer.highestOneBit(segment);
+        if (size < segment)
+            size <<= 1;
+        return size;
+    }
+
+    /**
+     * @return the lag of the best correlation of the last call to {@link #match(double[], int, int, int)}.
+     */
+    public int getBestLag() {
+        return mBestLag;
+    }
+
+    /**
+     * @return the best correlation of the last call to {@link #match(double[], int, int, int)}.
+     */
+    public double getBestCorrelation() {
+        return mBestCorrelation;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely;
+
+import de.fau.mad.jely.processors.RPeakMaxRefinement;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The cached features of a beat must follow every refinement of its peaks.
+ */
+public class BeatFeaturesTest {
+    private static final double SAMPLING_RATE = 250;
+    private static final int R_POSITION = 250;
+    private static final int START = R_POSITION - 50;
+    private static final int END = R_POSITION + 100;
+
+    @Test
+    public void refinedPeaksAreReflectedInFeatures() {
+        EcgSignal signal = new Ecg(syntheticBeat(), SAMPLING_RATE, EcgLead.II).getSignalFromIndex(0);
+        QrsComplex qrs = new QrsComplex(signal);
+        // a detector delivered the R peak a few samples early
+        qrs.setRPeak(R_POSITION - 4, signal.get(R_POSITION - 4));
+        qrs.setSampleIndexStart(START);
+        qrs.setSampleIndexEnd(END);
+        double[] before = qrs.getHeartbeat().getFeatures().getValues().clone();
+
+        new RPeakMaxRefinement(SAMPLING_RATE).process(qrs);
+        assertEquals(R_POSITION, qrs.getRPosition());
+        qrs.setSPeak(R_POSITION + 20, signal.get(R_POSITION + 20));
+        double[] after = qrs.getHeartbeat().getFeatures().getValues().clone();
+
+        double[] expected = freshFeatures(qrs);
+        assertArrayEquals(expected, after, 1e-12);
+        assertTrue("the QRS width must follow the refined peaks",
+                before[BeatFeatures.QRS_WIDTH] != after[BeatFeatures.QRS_WIDTH]);
+    }
+
+    @Test
+    public void refinedQPeakChangesQrsWidth() {
+        EcgSignal signal = new Ecg(syntheticBeat(), SAMPLING_RATE, EcgLead.II).getSignalFromIndex(0);
+        QrsComplex qrs = new QrsComplex(signal);
+        qrs.setRPeak(R_POSITION, signal.get(R_POSITION));
+        qrs.setSampleIndexStart(START);
+        qrs.setSampleIndexEnd(END);
+        double widthBefore = qrs.getHeartbeat().getFeatures().get(BeatFeatures.QRS_WIDTH);
+
+        qrs.setQPeak(R_POSITION - 20, signal.get(R_POSITION - 20));
+        assertArrayEquals(freshFeatures(qrs), qrs.getHeartbeat().getFeatures().getValues(), 1e-12);
+        assertTrue(widthBefore != qrs.getHeartbeat().getFeatures().get(BeatFeatures.QRS_WIDTH));
+    }
+
+    // the features of a new complex with the same peaks and vicinity, so nothing can be left over from before
+    private static double[] freshFeatures(QrsComplex qrs) {
+        QrsComplex fresh = new QrsComplex(qrs.getSignal());
+        fresh.setRPeak(qrs.getRPosition(), qrs.getRValue());
+        fresh.setSampleIndexRange(qrs.getSampleIndexStart(), qrs.getSampleIndexEnd());
+        fresh.setQPeak(qrs.getQPosition(), qrs.getQValue());
+        fresh.setSPeak(qrs.getSPosition(), qrs.getSValue());
+        BeatFeatures features = new BeatFeatures();
+        features.extract(fresh, Double.NaN);
+        return features.getValues();
+    }
+
+    // a single beat with Gaussian Q, R, S and T waves on a sloping baseline
+    private static double[] syntheticBeat() {
+        double[] x = new double[2 * (int) SAMPLING_RATE];
+        for (int i = 0; i < x.length; i++) {
+            double t = (i - R_POSITION) / SAMPLING_RATE;
+            x[i] = Math.exp(-t * t / (2 * 0.01 * 0.01))
+                    - 0.2 * Math.exp(-(t + 0.03) * (t + 0.03) / (2 * 0.008 * 0.008))
+                    - 0.3 * Math.exp(-(t - 0.035) * (t - 0.035) / (2 * 0.008 * 0.008))
+                    + 0.3 * Math.exp(-(t - 0.3) * (t - 0.3) / (2 * 0.05 * 0.05))
+                    + 0.05 * i / SAMPLING_RATE;
+        }
+        return x;
+    }
+}
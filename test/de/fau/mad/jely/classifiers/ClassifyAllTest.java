@@ -0,0 +1,193 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import de.fau.mad.jely.BeatTable;
+import de.fau.mad.jely.Ecg;
+import de.fau.mad.jely.EcgLead;
+import de.fau.mad.jely.Heartbeat;
+import de.fau.mad.jely.QrsClass;
+import de.fau.mad.jely.QrsComplex;
+import de.fau.mad.jely.detectors.HeartbeatDetector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The partitioned batch classification must label every beat like the sequential classification of the same beats.
+ */
+public class ClassifyAllTest {
+    private static final double SAMPLING_RATE = 250;
+
+    private static BeatTable sTable;
+    private static ArrayList<Heartbeat> sBeats;
+
+    @Test
+    public void gradlPartitionsMatchSequentialRun() throws Exception {
+        int[] expected = codes(new GradlDecisionTreeClassifier().classify(qrsComplexes()));
+        assertTrue("classes must vary", countDistinct(expected) > 1);
+        assertClassifyAll(expected, new GradlDecisionTreeClassifier(), new GradlDecisionTreeClassifier());
+    }
+
+    @Test
+    public void leutheuserPartitionsMatchSequentialRun() throws Exception {
+        GradlDecisionTreeClassifier templates = new GradlDecisionTreeClassifier();
+        templates.classify(qrsComplexes());
+        Classifier classifier = new LeutheuserC45Classifier(templates.getFirstTemplate(),
+                templates.getSecondTemplate());
+        assertClassifyAll(codes(classifier.classify(qrsComplexes())), classifier, classifier);
+    }
+
+    @Test
+    public void physiologicalPartitionsMatchSequentialRun() throws Exception {
+        Classifier classifier = new PhysiologicalClassifier();
+        assertClassifyAll(codes(classifier.classify(qrsComplexes())), classifier, classifier);
+    }
+
+    @Test
+    public void tsipourasPartitionsMatchSequentialRun() throws Exception {
+        Classifier classifier = new TsipourasRuleBasedClassifier();
+        assertClassifyAll(codes(classifier.classify(qrsComplexes())), classifier, classifier);
+    }
+
+    @Test
+    public void tsipourasPartitionsSplitVfEpisodes() throws Exception {
+        // VF episodes of 3 (too short), 7, 14 and 28 beats across the partition boundaries
+        int size = BatchClassification.PARTITION_SIZE;
+        int[] episodes = {0, 3, 7, 14, 28};
+        double[] rr = new double[5 * size];
+        Random random = new Random(5);
+        for (int i = 0; i < rr.length; i++)
+            rr[i] = 0.5 + 0.6 * random.nextDouble();
+        for (int q = 1; q < episodes.length; q++) {
+            int start = q * size - episodes[q] / 2;
+            rr[start - 1] = 1.0;
+            for (int i = start; i < start + episodes[q]; i++)
+                rr[i] = 0.3 + 0.1 * random.nextDouble();
+        }
+        BeatTable table = new BeatTable(SAMPLING_RATE);
+        int position = 0;
+        for (int i = 0; i < rr.length; i++) {
+            position += (int) Math.round(rr[i] * SAMPLING_RATE);
+            table.add(position, 1.0);
+        }
+
+        TsipourasRuleBasedClassifier classifier = new TsipourasRuleBasedClassifier();
+        int[] expected = classifier.classifyAll(table, null);
+        for (int q = 2; q < episodes.length; q++) {
+            for (int i = q * size - episodes[q] / 2; i < q * size + episodes[q] / 2; i++)
+                assertEquals("VF beat " + i, QrsClass.ABNORMAL.ordinal(), expected[i]);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertArrayEquals(expected, classifier.classifyAll(table, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // classifyAll of the table and the list, without and with an executor, against the expected codes
+    private static void assertClassifyAll(int[] expected, Classifier sequential, Classifier parallel)
+            throws Exception {
+        assertTrue("the beats must span several partitions", expected.length > 2 * BatchClassification.PARTITION_SIZE);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertArrayEquals("table", expected, sequential.classifyAll(table(), null));
+            assertArrayEquals("table with executor", expected, parallel.classifyAll(table(), executor));
+            assertArrayEquals("list", expected, sequential.classifyAll(beats(), null));
+            assertArrayEquals("list with executor", expected, parallel.classifyAll(beats(), executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int[] codes(List<QrsClass> classes) {
+        int[] codes = new int[classes.size()];
+        for (int i = 0; i < codes.length; i++)
+            codes[i] = classes.get(i).ordinal();
+        return codes;
+    }
+
+    private static int countDistinct(int[] codes) {
+        boolean[] seen = new boolean[QrsClass.values().length];
+        int count = 0;
+        for (int code : codes) {
+            if (!seen[code]) {
+                seen[code] = true;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<QrsComplex> qrsComplexes() {
+        ArrayList<QrsComplex> complexes = new ArrayList<QrsComplex>();
+        for (Heartbeat beat : beats())
+            complexes.add(beat.getQrs());
+        return complexes;
+    }
+
+    private static synchronized BeatTable table() {
+        if (sTable == null) {
+            Ecg ecg = new Ecg(syntheticEcg(), SAMPLING_RATE, EcgLead.II);
+            sTable = new BeatTable(ecg.getSignalFromIndex(0));
+            new HeartbeatDetector(ecg, (HeartbeatDetector.HeartbeatDetectionListener) null).findHeartbeats(sTable);
+        }
+        return sTable;
+    }
+
+    private static synchronized ArrayList<Heartbeat> beats() {
+        if (sBeats == null) {
+            Ecg ecg = new Ecg(syntheticEcg(), SAMPLING_RATE, EcgLead.II);
+            sBeats = new HeartbeatDetector(ecg, (HeartbeatDetector.HeartbeatDetectionListener) null).findHeartbeats();
+        }
+        return sBeats;
+    }
+
+    // about 10000 beats of Gaussian P, Q, R, S and T waves with premature, wide beats and noise
+    private static double[] syntheticEcg() {
+        int length = (int) (6600 * SAMPLING_RATE);
+        double[] x = new double[length];
+        Random random = new Random(7);
+        double t = 0.5;
+        while (t * SAMPLING_RATE < length) {
+            boolean premature = random.nextDouble() < 0.05;
+            double width = premature ? 0.025 : 0.01;
+            int from = Math.max(0, (int) ((t - 0.3) * SAMPLING_RATE));
+            int to = Math.min(length, (int) ((t + 0.5) * SAMPLING_RATE));
+            for (int i = from; i < to; i++) {
+                double d = i / SAMPLING_RATE - t;
+                x[i] += Math.exp(-d * d / (2 * width * width))
+                        - 0.2 * Math.exp(-(d + 0.03) * (d + 0.03) / (2 * 0.008 * 0.008))
+                        + 0.15 * Math.exp(-(d + 0.18) * (d + 0.18) / (2 * 0.025 * 0.025))
+                        + 0.3 * Math.exp(-(d - 0.3) * (d - 0.3) / (2 * 0.05 * 0.05));
+            }
+            t += premature ? 0.45 : 0.65 + 0.05 * random.nextGaussian();
+        }
+        for (int i = 0; i < length; i++)
+            x[i] += 0.02 * random.nextGaussian() + 0.1 * Math.sin(2 * Math.PI * 0.2 * i / SAMPLING_RATE);
+        return x;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.classifiers;
+
+import de.fau.mad.jely.BeatTable;
+import de.fau.mad.jely.Heartbeat;
+import de.fau.mad.jely.QrsClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The streaming Tsipouras classifier must report the labels of the batch classifier with a delay of at most four
+ * beats.
+ */
+public class TsipourasStreamClassifierTest {
+    private static final double SAMPLING_RATE = 250;
+
+    @Test
+    public void labelsMatchBatchClassifier() {
+        Random random = new Random(3);
+        int abnormal = 0;
+        for (int trial = 0; trial < 2000; trial++) {
+            double[] rr = randomRRIntervals(random, random.nextInt(80));
+            List<QrsClass> expected = new TsipourasRuleBasedClassifier().classify(table(rr));
+            assertEquals("trial " + trial, expected, stream(rr));
+            for (QrsClass qrsClass : expected) {
+                if (qrsClass == QrsClass.ABNORMAL)
+                    abnormal++;
+            }
+        }
+        assertTrue("the sequences must contain abnormal beats", abnormal > 1000);
+    }
+
+    @Test
+    public void longSequenceMatchesBatchClassifier() {
+        double[] rr = randomRRIntervals(new Random(11), 100000);
+        assertEquals(new TsipourasRuleBasedClassifier().classify(table(rr)), stream(rr));
+    }
+
+    @Test
+    public void finishStartsNewSequence() {
+        Random random = new Random(17);
+        double[] first = randomRRIntervals(random, 50);
+        double[] second = randomRRIntervals(random, 50);
+        final List<QrsClass> labels = new ArrayList<QrsClass>();
+        TsipourasStreamClassifier classifier = new TsipourasStreamClassifier(listener(labels));
+        for (double interval : table(first).getRRIntervals())
+            classifier.add(null, interval);
+        classifier.finish();
+        for (double interval : table(second).getRRIntervals())
+            classifier.add(null, interval);
+        classifier.finish();
+
+        List<QrsClass> expected = new ArrayList<QrsClass>(new TsipourasRuleBasedClassifier().classify(table(first)));
+        expected.addAll(new TsipourasRuleBasedClassifier().classify(table(second)));
+        assertEquals(expected, labels);
+    }
+
+    // feeds the RR intervals of the table one by one and checks the bounded delay
+    private static List<QrsClass> stream(double[] rr) {
+        double[] intervals = table(rr).getRRIntervals();
+        List<QrsClass> labels = new ArrayList<QrsClass>();
+        TsipourasStreamClassifier classifier = new TsipourasStreamClassifier(listener(labels));
+        for (int i = 0; i < intervals.length; i++) {
+            classifier.add(null, intervals[i]);
+            assertTrue("pending beats after beat " + i, classifier.getPendingCount() <= 4);
+            assertEquals("reported beats after beat " + i, i + 1 - classifier.getPendingCount(), labels.size());
+        }
+        classifier.finish();
+        assertEquals(0, classifier.getPendingCount());
+        return labels;
+    }
+
+    private static TsipourasStreamClassifier.ClassificationListener listener(final List<QrsClass> labels) {
+        return new TsipourasStreamClassifier.ClassificationListener() {
+            @Override
+            public void onHeartbeatClassified(Heartbeat heartbeat, QrsClass qrsClass) {
+                labels.add(qrsClass);
+            }
+        };
+    }
+
+    private static BeatTable table(double[] rr) {
+        BeatTable table = new BeatTable(SAMPLING_RATE);
+        int position = 0;
+        for (double interval : rr) {
+            position += (int) Math.round(interval * SAMPLING_RATE);
+            table.add(position, 1.0);
+        }
+        return table;
+    }
+
+    // normal rhythm with premature beats, pauses in the range of a 2nd degree block, and VF runs of 1 to 12 beats
+    private static double[] randomRRIntervals(Random random, int length) {
+        double[] rr = new double[length];
+        int i = 0;
+        while (i < length) {
+            double p = random.nextDouble();
+            if (p < 0.1) {
+                int run = 1 + random.nextInt(12);
+                for (int k = 0; k < run && i < length; k++)
+                    rr[i++] = 0.25 + 0.4 * random.nextDouble();
+            } else if (p < 0.15) {
+                rr[i++] = 2.2 + 0.8 * random.nextDouble();
+            } else if (p < 0.25) {
+                rr[i++] = 0.4 + 0.2 * random.nextDouble();
+            } else {
+                rr[i++] = 0.7 + 0.5 * random.nextDouble();
+            }
+        }
+        return rr;
+    }
+}
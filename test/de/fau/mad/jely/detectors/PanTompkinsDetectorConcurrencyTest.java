@@ -0,0 +1,117 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import de.fau.mad.jely.Ecg;
+import de.fau.mad.jely.EcgLead;
+import de.fau.mad.jely.QrsComplex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Two Pan-Tompkins detectors running concurrently on the same record must not share their templates or QRS history.
+ */
+public class PanTompkinsDetectorConcurrencyTest {
+    private static final double SAMPLING_RATE = 360;
+
+    @Test
+    public void concurrentDetectorsMatchSequentialRun() throws Exception {
+        final Ecg ecg = new Ecg(syntheticEcg(120 * (int) SAMPLING_RATE, 1), SAMPLING_RATE, EcgLead.II);
+        int[] expected = detect(ecg);
+        assertTrue("the synthetic record must contain beats", expected.length > 100);
+
+        for (int round = 0; round < 3; round++) {
+            final CyclicBarrier start = new CyclicBarrier(2);
+            final int[][] results = new int[2][];
+            final Throwable[] failures = new Throwable[2];
+            Thread[] threads = new Thread[2];
+            for (int t = 0; t < 2; t++) {
+                final int index = t;
+                threads[t] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                            results[index] = detect(ecg);
+                        } catch (Throwable e) {
+                            failures[index] = e;
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+
+            for (int t = 0; t < 2; t++) {
+                if (failures[t] != null)
+                    throw new AssertionError("detector thread failed", failures[t]);
+                assertArrayEquals("R peaks of thread " + t + " in round " + round, expected, results[t]);
+            }
+        }
+    }
+
+    // R, Q and S positions of all detected complexes; like the original app, the caller hands each finished
+    // complex back to the detector by marking it processed, otherwise no further complexes are segmented
+    private static int[] detect(Ecg ecg) {
+        PanTompkinsDetector detector = new PanTompkinsDetector(ecg);
+        ArrayList<QrsComplex> complexes = new ArrayList<QrsComplex>();
+        int length = ecg.getSignalFromIndex(0).size();
+        for (int i = 0; i < length; i++) {
+            QrsComplex qrs = detector.next(i);
+            if (qrs != null)
+                complexes.add(qrs);
+            if (detector.qrsCurrent.segState == PanTompkinsDetector.QRS.SegmentationStatus.FINISHED)
+                detector.qrsCurrent.segState = PanTompkinsDetector.QRS.SegmentationStatus.PROCESSED;
+        }
+        int[] positions = new int[3 * complexes.size()];
+        for (int i = 0; i < complexes.size(); i++) {
+            positions[3 * i] = complexes.get(i).getRPosition();
+            positions[3 * i + 1] = complexes.get(i).getQPosition();
+            positions[3 * i + 2] = complexes.get(i).getSPosition();
+        }
+        return positions;
+    }
+
+    // Gaussian P, Q, R, S and T waves with a variable heart rate, occasional premature beats and noise
+    static double[] syntheticEcg(int length, long seed) {
+        double[] x = new double[length];
+        Random random = new Random(seed);
+        double t = 0.5;
+        while (t * SAMPLING_RATE < length) {
+            boolean premature = random.nextDouble() < 0.05;
+            double width = premature ? 0.025 : 0.01;
+            for (int i = Math.max(0, (int) ((t - 0.3) * SAMPLING_RATE)); i < Math.min(length, (int) ((t + 0.5) * SAMPLING_RATE)); i++) {
+                double d = i / SAMPLING_RATE - t;
+                x[i] += Math.exp(-d * d / (2 * width * width))
+                        - 0.2 * Math.exp(-(d + 0.03) * (d + 0.03) / (2 * 0.008 * 0.008))
+                        + 0.15 * Math.exp(-(d + 0.18) * (d + 0.18) / (2 * 0.025 * 0.025))
+                        + 0.3 * Math.exp(-(d - 0.3) * (d - 0.3) / (2 * 0.05 * 0.05));
+            }
+            t += premature ? 0.5 : 0.8 + 0.05 * random.nextGaussian();
+        }
+        for (int i = 0; i < length; i++)
+            x[i] += 0.02 * random.nextGaussian() + 0.1 * Math.sin(2 * Math.PI * 0.2 * i / SAMPLING_RATE);
+        return x;
+    }
+}
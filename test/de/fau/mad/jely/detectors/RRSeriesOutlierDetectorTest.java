@@ -0,0 +1,116 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.detectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Every outlier flag must lead to its correction: removal (0), a split interval (1) or two moved intervals (2).
+ */
+public class RRSeriesOutlierDetectorTest {
+    // values in ms
+    private static final double SAMPLING_RATE = 1000;
+    private static final double RR = 800;
+
+    // an implausible start, a missed beat while the reference fills, then flags 1, 2, 0 and a premature beat without
+    // compensatory pause (0)
+    private static final double[] VALUES = {0, 2000, RR, RR, 2 * RR, RR, RR, RR, RR, RR,
+            2 * RR, RR, RR, RR, RR, 0.7 * RR, 1.3 * RR, RR, RR, RR, 1.5 * RR, RR, RR, RR, 0.7 * RR, RR,
+            RR, RR, RR, RR};
+
+    @Test
+    public void flagsClassifyTheOutliers() {
+        double[] time = timeStamps(VALUES);
+        RRSeriesOutlierDetector detector = new RRSeriesOutlierDetector(SAMPLING_RATE);
+        detector.setInterpolation(false);
+        RRSeriesOutlierDetector.Result result = detector.process(time, VALUES);
+
+        // the missed beat at index 4 is removed without being reported while the reference window fills
+        assertEquals(4, result.getOutlierCount());
+        assertArrayEquals(new int[]{RRSeriesOutlierDetector.FLAG_MISSED_BEAT,
+                RRSeriesOutlierDetector.FLAG_ECTOPIC_BEAT, RRSeriesOutlierDetector.FLAG_UNKNOWN,
+                RRSeriesOutlierDetector.FLAG_UNKNOWN}, result.getOutlierFlags());
+        assertArrayEquals(new double[]{2 * RR, 0.7 * RR, 1.5 * RR, 0.7 * RR}, result.getOutlierValues(), 0);
+        // flag 1 and 2 report the corrected time stamp, flag 0 the original one
+        assertArrayEquals(new double[]{time[9] + 2 * RR, time[14] + RR, time[20], time[24]},
+                result.getOutlierTimeStamps(), 1e-9);
+    }
+
+    @Test
+    public void correctionsFollowTheFlags() {
+        double[] time = timeStamps(VALUES);
+        RRSeriesOutlierDetector detector = new RRSeriesOutlierDetector(SAMPLING_RATE);
+        detector.setInterpolation(false);
+        RRSeriesOutlierDetector.Result result = detector.process(time, VALUES);
+
+        // input indices 2..29 without 4 (reference window), 20 and 24 (flag 0), plus the extra interval of the split
+        double[] expectedTime = {time[2], time[3], time[5], time[6], time[7], time[8], time[9],
+                time[9] + RR, time[9] + 2 * RR, time[11], time[12], time[13], time[14],
+                time[14] + RR, time[14] + 2 * RR, time[17], time[18], time[19], time[21], time[22], time[23],
+                time[25], time[26], time[27], time[28], time[29]};
+        assertArrayEquals(expectedTime, result.getTimeStamps(), 1e-9);
+
+        boolean[] corrected = result.getCorrected();
+        double[] values = result.getValues();
+        for (int i = 0; i < corrected.length; i++) {
+            boolean expected = i == 7 || i == 8 || i == 13 || i == 14;
+            assertEquals("corrected " + i, expected, corrected[i]);
+        }
+        // the missed beat is split into the reference and the original interval, the ectopic pair keeps its values
+        assertEquals(RR, values[7], 0);
+        assertEquals(2 * RR, values[8], 0);
+        assertEquals(0.7 * RR, values[13], 0);
+        assertEquals(1.3 * RR, values[14], 0);
+    }
+
+    @Test
+    public void interpolationReplacesCorrectedValues() {
+        double[] time = timeStamps(VALUES);
+        RRSeriesOutlierDetector.Result result = new RRSeriesOutlierDetector(SAMPLING_RATE).process(time, VALUES);
+        assertEquals(26, result.size());
+        double[] values = result.getValues();
+        boolean[] corrected = result.getCorrected();
+        for (int i = 0; i < values.length; i++) {
+            assertFalse("corrected " + i, corrected[i]);
+            // all valid neighbours are RR, so is the spline through them
+            assertEquals("value " + i, RR, values[i], 1e-9);
+        }
+    }
+
+    @Test
+    public void seriesEndsBeforeAnOutlierWithoutEnoughValidIntervalsAfterIt() {
+        double[] values = {RR, RR, RR, RR, RR, RR, RR, RR, 2 * RR, RR};
+        RRSeriesOutlierDetector.Result result = new RRSeriesOutlierDetector(SAMPLING_RATE)
+                .process(timeStamps(values), values);
+        assertEquals(1, result.getOutlierCount());
+        assertEquals(8, result.size());
+    }
+
+    private static double[] timeStamps(double[] values) {
+        double[] time = new double[values.length];
+        double t = 0;
+        for (int i = 0; i < values.length; i++) {
+            t += values[i];
+            time[i] = t;
+        }
+        return time;
+    }
+}
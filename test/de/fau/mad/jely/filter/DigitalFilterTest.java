@@ -0,0 +1,65 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.filter;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * A new instance of a filter must have the same response as the original and a state of its own.
+ */
+public class DigitalFilterTest {
+    private static final double SAMPLING_RATE = 250;
+
+    @Test
+    public void newInstancesFilterLikeTheOriginal() {
+        DigitalFilter[] filters = {
+                BandpassButterworth05To10.newEcgFilter(SAMPLING_RATE),
+                new MeanFilter(7),
+                new MedianFilter(9),
+                new HannFilter(),
+                new NallathambiPreprocessing(SAMPLING_RATE)
+        };
+        double[] x = new double[1000];
+        Random random = new Random(1);
+        for (int i = 0; i < x.length; i++)
+            x[i] = Math.sin(2 * Math.PI * i / SAMPLING_RATE) + 0.1 * random.nextGaussian();
+
+        for (DigitalFilter filter : filters) {
+            // the original has already seen other samples, the copy must not inherit its state
+            for (int i = 0; i < 100; i++)
+                filter.next(random.nextGaussian());
+            DigitalFilter copy = filter.newInstance();
+            assertNotSame(filter, copy);
+
+            filter.reset();
+            double[] expected = new double[x.length];
+            double[] actual = new double[x.length];
+            for (int i = 0; i < x.length; i++) {
+                expected[i] = filter.next(x[i]);
+                actual[i] = copy.next(x[i]);
+            }
+            assertArrayEquals(filter.getClass().getSimpleName(), expected, actual, 0);
+            assertEquals(filter.getClass().getSimpleName(), filter.getGroupDelay(), copy.getGroupDelay());
+        }
+    }
+}
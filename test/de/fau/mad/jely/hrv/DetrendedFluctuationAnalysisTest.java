@@ -0,0 +1,117 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The fluctuations of a long series whose mean drifts must match a least squares regression of every single box.
+ */
+public class DetrendedFluctuationAnalysisTest {
+    private static final int[] BOX_SIZES = {4, 5, 16, 37, 64, 1000};
+
+    @Test
+    public void fluctuationsMatchDirectRegressionOnDriftingSeries() {
+        double[] rr = driftingSeries(100000, 1);
+        DetrendedFluctuationAnalysis dfa = new DetrendedFluctuationAnalysis(rr);
+        for (int boxSize : BOX_SIZES) {
+            double expected = directFluctuation(rr, boxSize);
+            assertEquals("F(" + boxSize + ")", expected, dfa.getFluctuation(boxSize), 1e-9 * expected);
+        }
+    }
+
+    @Test
+    public void concurrentBoxSizesMatchSequentialRun() {
+        DetrendedFluctuationAnalysis dfa = new DetrendedFluctuationAnalysis(driftingSeries(20000, 2));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            double[] fluctuations = dfa.getFluctuations(BOX_SIZES, executor);
+            for (int i = 0; i < BOX_SIZES.length; i++)
+                assertEquals("F(" + BOX_SIZES[i] + ")", dfa.getFluctuation(BOX_SIZES[i]), fluctuations[i], 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // RR intervals in ms whose mean drifts from 600 to 1000 ms with a slow oscillation and beat to beat noise
+    private static double[] driftingSeries(int length, long seed) {
+        Random random = new Random(seed);
+        double[] rr = new double[length];
+        for (int i = 0; i < length; i++)
+            rr[i] = 600 + 400.0 * i / length + 80 * Math.sin(2 * Math.PI * i / 3000.0) + 30 * random.nextGaussian();
+        return rr;
+    }
+
+    // the textbook definition: profile, one regression on the sample indices per box, boxes from both ends
+    private static double directFluctuation(double[] rr, int boxSize) {
+        double mean = 0;
+        for (double value : rr)
+            mean += value;
+        mean /= rr.length;
+        double[] profile = new double[rr.length];
+        double sum = 0;
+        for (int i = 0; i < rr.length; i++) {
+            sum += rr[i] - mean;
+            profile[i] = sum;
+        }
+
+        int boxes = rr.length / boxSize;
+        int rest = rr.length - boxes * boxSize;
+        double squares = 0;
+        int count = 0;
+        for (int b = 0; b < boxes; b++) {
+            squares += squaredResiduals(profile, b * boxSize, boxSize);
+            count += boxSize;
+            if (rest > 0) {
+                squares += squaredResiduals(profile, rest + b * boxSize, boxSize);
+                count += boxSize;
+            }
+        }
+        return Math.sqrt(squares / count);
+    }
+
+    private static double squaredResiduals(double[] y, int from, int n) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = from; i < from + n; i++) {
+            meanX += i;
+            meanY += y[i];
+        }
+        meanX /= n;
+        meanY /= n;
+        double sxx = 0;
+        double sxy = 0;
+        for (int i = from; i < from + n; i++) {
+            sxx += (i - meanX) * (i - meanX);
+            sxy += (i - meanX) * (y[i] - meanY);
+        }
+        double slope = sxy / sxx;
+        double intercept = meanY - slope * meanX;
+        double squares = 0;
+        for (int i = from; i < from + n; i++) {
+            double residual = y[i] - intercept - slope * i;
+            squares += residual * residual;
+        }
+        return squares;
+    }
+}
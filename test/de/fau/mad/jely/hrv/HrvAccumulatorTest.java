@@ -0,0 +1,184 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Merging the accumulators of consecutive parts of a series must give the result of a single pass over the series.
+ */
+public class HrvAccumulatorTest {
+
+    @Test
+    public void singlePassMatchesTwoPassValues() {
+        double[] rr = series(new Random(1), 50000);
+        HrvAccumulator accumulator = new HrvAccumulator();
+        accumulator.addAll(rr);
+
+        double[] diff = new double[rr.length - 1];
+        int nn50 = 0;
+        for (int i = 0; i < diff.length; i++) {
+            diff[i] = rr[i + 1] - rr[i];
+            if (Math.abs(diff[i]) > 50)
+                nn50++;
+        }
+        assertEquals(rr.length, accumulator.getCount());
+        assertEquals(mean(rr), accumulator.getMean(), 1e-9);
+        assertEquals(sd(rr), accumulator.getSDNN(), 1e-9);
+        assertEquals(Math.sqrt(sumOfSquares(diff) / diff.length), accumulator.getRMSSD(), 1e-9);
+        assertEquals(sd(diff), accumulator.getSDSD(), 1e-9);
+        assertEquals(nn50, accumulator.getNN50());
+        assertEquals((double) nn50 / diff.length, accumulator.getPNN50(), 1e-15);
+    }
+
+    @Test
+    public void mergedPartsMatchSinglePass() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] rr = series(random, 1 + random.nextInt(3000));
+            HrvAccumulator expected = new HrvAccumulator();
+            expected.addAll(rr);
+
+            // consecutive parts of random length, including empty and single interval parts
+            HrvAccumulator merged = new HrvAccumulator();
+            int from = 0;
+            while (from < rr.length) {
+                int to = Math.min(rr.length, from + (random.nextInt(4) == 0 ? random.nextInt(2) : random.nextInt(500)));
+                HrvAccumulator part = new HrvAccumulator();
+                part.addAll(rr, from, to);
+                merged.merge(part);
+                from = to;
+            }
+            assertSameValues("trial " + trial, expected, merged);
+        }
+    }
+
+    @Test
+    public void mergeDoesNotModifyTheFollowingAccumulator() {
+        double[] rr = series(new Random(3), 1000);
+        HrvAccumulator first = new HrvAccumulator();
+        first.addAll(rr, 0, 400);
+        HrvAccumulator second = new HrvAccumulator();
+        second.addAll(rr, 400, 1000);
+        HrvAccumulator expected = new HrvAccumulator();
+        expected.addAll(rr, 400, 1000);
+
+        first.merge(second);
+        assertSameValues("following", expected, second);
+        HrvAccumulator all = new HrvAccumulator();
+        all.addAll(rr);
+        assertSameValues("merged", all, first);
+    }
+
+    @Test
+    public void segmentsMatchSinglePassAndDirectSegmentValues() {
+        double[] rr = series(new Random(4), 20000);
+        double[] time = new double[rr.length];
+        double t = 0;
+        for (int i = 0; i < rr.length; i++) {
+            t += rr[i] / 1000;
+            time[i] = t;
+        }
+
+        HrvAccumulator[] segments = HrvAccumulator.forSegments(time, rr, 300, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            HrvAccumulator[] concurrent = HrvAccumulator.forSegments(time, rr, 300, executor);
+            assertEquals(segments.length, concurrent.length);
+            for (int i = 0; i < segments.length; i++)
+                assertSameValues("segment " + i, segments[i], concurrent[i]);
+        } finally {
+            executor.shutdown();
+        }
+
+        HrvAccumulator all = new HrvAccumulator();
+        all.addAll(rr);
+        assertSameValues("all segments", all, HrvAccumulator.mergeAll(segments));
+
+        // the segment means and standard deviations computed directly
+        double[] means = new double[segments.length];
+        double[] sds = new double[segments.length];
+        int from = 0;
+        for (int s = 0; s < segments.length; s++) {
+            int to = from;
+            while (to < rr.length && Math.floor((time[to] - time[0]) / 300) == Math.floor((time[from] - time[0]) / 300))
+                to++;
+            double[] segment = new double[to - from];
+            System.arraycopy(rr, from, segment, 0, segment.length);
+            means[s] = mean(segment);
+            sds[s] = sd(segment);
+            from = to;
+        }
+        assertEquals(rr.length, from);
+        assertEquals(sd(means), HrvAccumulator.getSDANN(segments), 1e-9);
+        assertEquals(mean(sds), HrvAccumulator.getSDNNIndex(segments), 1e-9);
+    }
+
+    private static void assertSameValues(String message, HrvAccumulator expected, HrvAccumulator actual) {
+        assertEquals(message, expected.getCount(), actual.getCount());
+        assertEquals(message, expected.getMean(), actual.getMean(), 1e-9);
+        assertEquals(message, expected.getNN50(), actual.getNN50());
+        if (expected.getCount() > 1) {
+            assertEquals(message, expected.getSDNN(), actual.getSDNN(), 1e-9);
+            assertEquals(message, expected.getRMSSD(), actual.getRMSSD(), 1e-9);
+            assertEquals(message, expected.getPNN50(), actual.getPNN50(), 1e-15);
+        }
+        if (expected.getCount() > 2) {
+            assertEquals(message, expected.getSDSD(), actual.getSDSD(), 1e-9);
+            assertEquals(message, expected.getSD2(), actual.getSD2(), 1e-9);
+        }
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value;
+        return sum / values.length;
+    }
+
+    private static double sd(double[] values) {
+        double mean = mean(values);
+        double sum = 0;
+        for (double value : values)
+            sum += (value - mean) * (value - mean);
+        return Math.sqrt(sum / (values.length - 1));
+    }
+
+    private static double sumOfSquares(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value * value;
+        return sum;
+    }
+
+    // RR intervals in ms with a slow trend, noise and ectopic beats
+    private static double[] series(Random random, int length) {
+        double[] rr = new double[length];
+        for (int i = 0; i < length; i++) {
+            rr[i] = 800 + 100 * Math.sin(2 * Math.PI * i / 5000.0) + 30 * random.nextGaussian();
+            if (random.nextDouble() < 0.02)
+                rr[i] *= 0.6;
+        }
+        return rr;
+    }
+}
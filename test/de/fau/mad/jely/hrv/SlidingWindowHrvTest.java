@@ -0,0 +1,200 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The running sums of a sliding window must give the values a two-pass computation gets from the beats in the window.
+ */
+public class SlidingWindowHrvTest {
+    private static final double WINDOW = 300;
+
+    @Test
+    public void timeDomainMatchesTwoPassValues() {
+        double[][] beats = beats(new Random(1), 30000);
+        double[] time = beats[0];
+        double[] rr = beats[1];
+        SlidingWindowHrv window = new SlidingWindowHrv(WINDOW);
+        for (int i = 0; i < time.length; i++) {
+            window.add(time[i], rr[i]);
+            if (i < 2 || i % 97 != 0)
+                continue;
+
+            int from = firstInWindow(time, i);
+            assertEquals("count at beat " + i, i + 1 - from, window.getCount());
+            assertEquals("mean RR at beat " + i, mean(rr, from, i + 1), window.getMeanRR(), 1e-9);
+            assertEquals("SDNN at beat " + i, sdnn(rr, from, i + 1), window.getSDNN(), 1e-8);
+            double[] diff = differences(rr, from, i + 1);
+            assertEquals("RMSSD at beat " + i, rms(diff), window.getRMSSD(), 1e-8);
+            assertEquals("SDSD at beat " + i, sdnn(diff, 0, diff.length), window.getSDSD(), 1e-8);
+            int nn50 = 0;
+            for (double d : diff) {
+                if (Math.abs(d) > 50)
+                    nn50++;
+            }
+            assertEquals("NN50 at beat " + i, nn50, window.getNN50());
+            assertEquals("pNN50 at beat " + i, (double) nn50 / diff.length, window.getPNN50(), 1e-12);
+        }
+    }
+
+    @Test
+    public void spectrumMatchesDirectLombScargle() {
+        double[][] beats = beats(new Random(2), 8000);
+        double[] time = beats[0];
+        double[] rr = beats[1];
+        SlidingWindowHrv window = new SlidingWindowHrv(WINDOW);
+        for (int i = 0; i < time.length; i++) {
+            window.add(time[i], rr[i]);
+            if (i < 500 || i % 487 != 0)
+                continue;
+
+            int from = firstInWindow(time, i);
+            PowerSpectralDensity psd = window.getPowerSpectralDensity();
+            double[] frequencies = psd.getFrequencies();
+            double[] expected = new double[frequencies.length];
+            double peak = 0;
+            for (int k = 0; k < frequencies.length; k++) {
+                expected[k] = directLombScargle(time, rr, from, i + 1, frequencies[k]);
+                peak = Math.max(peak, expected[k]);
+            }
+            for (int k = 0; k < frequencies.length; k++) {
+                assertEquals("beat " + i + " at " + frequencies[k] + " Hz", expected[k], psd.getPower()[k],
+                        1e-8 * peak);
+            }
+
+            double lf = 0;
+            for (int k = 0; k < frequencies.length; k++) {
+                if (FrequencyBand.LF.contains(frequencies[k]))
+                    lf += expected[k] * psd.getResolution();
+            }
+            assertEquals("LF at beat " + i, lf, window.getBandPower(FrequencyBand.LF), 1e-8 * lf);
+        }
+    }
+
+    @Test
+    public void trendMatchesSeparateWindows() {
+        double[][] beats = beats(new Random(3), 5000);
+        double[] time = beats[0];
+        double[] rr = beats[1];
+        double step = 37.5;
+        ArrayList<SlidingWindowHrv.Snapshot> trend = SlidingWindowHrv.trend(time, rr, WINDOW, step);
+        assertEquals((int) Math.floor((time[time.length - 1] - time[0] - WINDOW) / step) + 1, trend.size());
+        for (int w = 0; w < trend.size(); w++) {
+            double start = time[0] + w * step;
+            int from = 0;
+            while (time[from] < start)
+                from++;
+            int to = from;
+            while (to < time.length && time[to] < start + WINDOW)
+                to++;
+
+            SlidingWindowHrv.Snapshot snapshot = trend.get(w);
+            assertEquals(start, snapshot.getStartTime(), 1e-9);
+            assertEquals("count of window " + w, to - from, snapshot.getCount());
+            assertEquals("mean RR of window " + w, mean(rr, from, to), snapshot.getMeanRR(), 1e-9);
+            assertEquals("SDNN of window " + w, sdnn(rr, from, to), snapshot.getSDNN(), 1e-8);
+            assertEquals("RMSSD of window " + w, rms(differences(rr, from, to)), snapshot.getRMSSD(), 1e-8);
+        }
+    }
+
+    // the first beat that is not older than the window duration before beat i
+    private static int firstInWindow(double[] time, int i) {
+        int from = i;
+        while (from > 0 && time[from - 1] >= time[i] - WINDOW)
+            from--;
+        return from;
+    }
+
+    private static double mean(double[] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++)
+            sum += values[i];
+        return sum / (to - from);
+    }
+
+    private static double sdnn(double[] values, int from, int to) {
+        double mean = mean(values, from, to);
+        double sum = 0;
+        for (int i = from; i < to; i++)
+            sum += (values[i] - mean) * (values[i] - mean);
+        return Math.sqrt(sum / (to - from - 1));
+    }
+
+    private static double[] differences(double[] values, int from, int to) {
+        double[] diff = new double[to - from - 1];
+        for (int i = 0; i < diff.length; i++)
+            diff[i] = values[from + i + 1] - values[from + i];
+        return diff;
+    }
+
+    private static double rms(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value * value;
+        return Math.sqrt(sum / values.length);
+    }
+
+    // the Lomb-Scargle density of the beats [from, to) at one frequency, scaled like LombScargle
+    private static double directLombScargle(double[] time, double[] rr, int from, int to, double frequency) {
+        int n = to - from;
+        double mean = mean(rr, from, to);
+        double w = 2 * Math.PI * frequency;
+        double sin2 = 0;
+        double cos2 = 0;
+        for (int i = from; i < to; i++) {
+            sin2 += Math.sin(2 * w * time[i]);
+            cos2 += Math.cos(2 * w * time[i]);
+        }
+        double tau = Math.atan2(sin2, cos2) / (2 * w);
+
+        double yc = 0;
+        double ys = 0;
+        double cc = 0;
+        double ss = 0;
+        for (int i = from; i < to; i++) {
+            double c = Math.cos(w * (time[i] - tau));
+            double s = Math.sin(w * (time[i] - tau));
+            yc += (rr[i] - mean) * c;
+            ys += (rr[i] - mean) * s;
+            cc += c * c;
+            ss += s * s;
+        }
+        return 0.5 * (yc * yc / cc + ys * ys / ss) * 2 * (time[to - 1] - time[from]) / (n - 1);
+    }
+
+    // beat times in s and RR intervals in ms with a slow trend, LF and HF oscillations, noise and ectopic beats
+    private static double[][] beats(Random random, int length) {
+        double[] time = new double[length];
+        double[] rr = new double[length];
+        double t = 1000;
+        for (int i = 0; i < length; i++) {
+            rr[i] = 800 + 150 * Math.sin(2 * Math.PI * t / 7200) + 40 * Math.sin(2 * Math.PI * 0.1 * t)
+                    + 25 * Math.sin(2 * Math.PI * 0.25 * t) + 20 * random.nextGaussian();
+            if (random.nextDouble() < 0.02)
+                rr[i] *= 0.6;
+            t += rr[i] / 1000;
+            time[i] = t;
+        }
+        return new double[][]{time, rr};
+    }
+}
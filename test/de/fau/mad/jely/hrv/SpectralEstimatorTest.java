@@ -0,0 +1,161 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.hrv;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The Welch and Lomb-Scargle estimators must match the direct trigonometric sums of their definitions.
+ */
+public class SpectralEstimatorTest {
+    private static final double SAMPLING_RATE = 4;
+
+    @Test
+    public void welchMatchesDirectPeriodograms() {
+        Random random = new Random(1);
+        // odd and even numbers of segments, a segment length that is not a power of two, no overlap
+        int[][] cases = {{1200, 256, 128}, {1000, 256, 128}, {999, 300, 150}, {700, 100, 0}, {150, 256, 128}};
+        for (int[] c : cases) {
+            double[] signal = rrSignal(random, c[0]);
+            PowerSpectralDensity psd = new WelchEstimator(c[1], c[2]).estimate(signal, SAMPLING_RATE);
+            double[] expected = directWelch(signal, Math.min(c[1], c[0]), c[0] < c[1] ? 0 : c[2]);
+            assertEquals(expected.length, psd.size());
+            double peak = max(expected);
+            for (int k = 0; k < expected.length; k++) {
+                assertEquals(c[0] + " samples, bin " + k, expected[k], psd.getPower()[k], 1e-10 * peak);
+                assertEquals(k * SAMPLING_RATE / (2 * (expected.length - 1)), psd.getFrequencies()[k], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void lombScargleMatchesDirectSums() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 5; trial++) {
+            int n = 200 + 300 * trial;
+            double[] time = new double[n];
+            double[] rr = new double[n];
+            double t = 0;
+            for (int i = 0; i < n; i++) {
+                rr[i] = 0.8 + 0.05 * Math.sin(2 * Math.PI * 0.1 * t) + 0.03 * Math.sin(2 * Math.PI * 0.25 * t)
+                        + 0.02 * random.nextGaussian();
+                t += rr[i];
+                time[i] = t;
+            }
+            PowerSpectralDensity psd = new LombScargle().estimate(time, rr);
+            double[] frequencies = psd.getFrequencies();
+            double[] expected = new double[frequencies.length];
+            for (int k = 0; k < frequencies.length; k++)
+                expected[k] = directLombScargle(time, rr, frequencies[k]);
+            // the extirpolation to four grid points is accurate to about 1e-4 of the peak
+            double peak = max(expected);
+            for (int k = 0; k < frequencies.length; k++)
+                assertEquals(n + " samples at " + frequencies[k] + " Hz", expected[k], psd.getPower()[k], 1e-3 * peak);
+            assertEquals(expected.length, psd.size());
+        }
+    }
+
+    // the averaged one-sided periodograms of the mean free, Hamming windowed segments, zero padded to a power of two
+    private static double[] directWelch(double[] signal, int length, int overlap) {
+        int size = Integer.highestOneBit(length - 1) << 1;
+        int step = length - overlap;
+        int segments = (signal.length - length) / step + 1;
+        double[] window = new double[length];
+        double windowPower = 0;
+        for (int i = 0; i < length; i++) {
+            window[i] = 0.54 - 0.46 * Math.cos(2 * Math.PI * i / (length - 1));
+            windowPower += window[i] * window[i];
+        }
+
+        int bins = size / 2 + 1;
+        double[] power = new double[bins];
+        for (int s = 0; s < segments; s++) {
+            double mean = 0;
+            for (int i = 0; i < length; i++)
+                mean += signal[s * step + i];
+            mean /= length;
+            for (int k = 0; k < bins; k++) {
+                double re = 0;
+                double im = 0;
+                for (int i = 0; i < length; i++) {
+                    double value = (signal[s * step + i] - mean) * window[i];
+                    re += value * Math.cos(2 * Math.PI * k * i / size);
+                    im -= value * Math.sin(2 * Math.PI * k * i / size);
+                }
+                power[k] += re * re + im * im;
+            }
+        }
+        for (int k = 0; k < bins; k++)
+            power[k] *= (k == 0 || k == bins - 1 ? 1 : 2) / (SAMPLING_RATE * windowPower * segments);
+        return power;
+    }
+
+    // the Lomb-Scargle periodogram at one frequency, scaled like LombScargle
+    private static double directLombScargle(double[] time, double[] signal, double frequency) {
+        int n = time.length;
+        double mean = 0;
+        for (double value : signal)
+            mean += value;
+        mean /= n;
+
+        double w = 2 * Math.PI * frequency;
+        double sin2 = 0;
+        double cos2 = 0;
+        for (double t : time) {
+            sin2 += Math.sin(2 * w * t);
+            cos2 += Math.cos(2 * w * t);
+        }
+        double tau = Math.atan2(sin2, cos2) / (2 * w);
+
+        double yc = 0;
+        double ys = 0;
+        double cc = 0;
+        double ss = 0;
+        for (int i = 0; i < n; i++) {
+            double c = Math.cos(w * (time[i] - tau));
+            double s = Math.sin(w * (time[i] - tau));
+            yc += (signal[i] - mean) * c;
+            ys += (signal[i] - mean) * s;
+            cc += c * c;
+            ss += s * s;
+        }
+        double duration = time[n - 1] - time[0];
+        return 0.5 * (yc * yc / cc + ys * ys / ss) * 2 * duration / (n - 1);
+    }
+
+    // a resampled RR series in s with LF and HF oscillations and noise
+    private static double[] rrSignal(Random random, int length) {
+        double[] signal = new double[length];
+        for (int i = 0; i < length; i++) {
+            double t = i / SAMPLING_RATE;
+            signal[i] = 0.8 + 0.05 * Math.sin(2 * Math.PI * 0.1 * t) + 0.03 * Math.sin(2 * Math.PI * 0.25 * t)
+                    + 0.02 * random.nextGaussian();
+        }
+        return signal;
+    }
+
+    private static double max(double[] values) {
+        double max = 0;
+        for (double value : values)
+            max = Math.max(max, value);
+        return max;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The splines must pass through their knots, meet their end conditions and, for PCHIP, preserve monotonicity.
+ */
+public class CubicSplineTest {
+    private static final CubicSpline.Type[] TYPES = CubicSpline.Type.values();
+
+    @Test
+    public void allTypesInterpolateTheKnots() {
+        Random random = new Random(1);
+        double[] x = irregularKnots(random, 40);
+        double[] y = new double[x.length];
+        for (int i = 0; i < y.length; i++)
+            y[i] = 800 + 100 * random.nextGaussian();
+        for (CubicSpline.Type type : TYPES) {
+            CubicSpline spline = new CubicSpline(x, y, type);
+            double[] values = spline.values(x);
+            for (int i = 0; i < x.length; i++) {
+                assertEquals(type + " at knot " + i, y[i], spline.value(x[i]), 1e-9);
+                assertEquals(type + " at knot " + i, y[i], values[i], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void cubicSplinesHaveContinuousSecondDerivative() {
+        Random random = new Random(2);
+        double[] x = irregularKnots(random, 30);
+        double[] y = new double[x.length];
+        for (int i = 0; i < y.length; i++)
+            y[i] = random.nextGaussian();
+        for (CubicSpline.Type type : new CubicSpline.Type[]{CubicSpline.Type.NATURAL, CubicSpline.Type.NOT_A_KNOT}) {
+            CubicSpline spline = new CubicSpline(x, y, type);
+            for (int i = 1; i < x.length - 1; i++) {
+                double h = 1e-4 * (x[i + 1] - x[i - 1]);
+                double left = (spline.value(x[i]) - 2 * spline.value(x[i] - h) + spline.value(x[i] - 2 * h)) / (h * h);
+                double right = (spline.value(x[i] + 2 * h) - 2 * spline.value(x[i] + h) + spline.value(x[i])) / (h * h);
+                double leftSlope = (spline.value(x[i]) - spline.value(x[i] - h)) / h;
+                double rightSlope = (spline.value(x[i] + h) - spline.value(x[i])) / h;
+                assertEquals(type + " slope at knot " + i, leftSlope, rightSlope, 1e-2 * (1 + Math.abs(leftSlope)));
+                assertEquals(type + " curvature at knot " + i, left, right, 1e-2 * (1 + Math.abs(left)));
+            }
+        }
+    }
+
+    @Test
+    public void naturalSplineHasZeroCurvatureAtTheEnds() {
+        Random random = new Random(3);
+        double[] x = irregularKnots(random, 20);
+        double[] y = new double[x.length];
+        for (int i = 0; i < y.length; i++)
+            y[i] = random.nextGaussian();
+        CubicSpline spline = new CubicSpline(x, y, CubicSpline.Type.NATURAL);
+        int n = x.length;
+        double h = 1e-4;
+        double first = (spline.value(x[0]) - 2 * spline.value(x[0] + h) + spline.value(x[0] + 2 * h)) / (h * h);
+        double last = (spline.value(x[n - 1]) - 2 * spline.value(x[n - 1] - h) + spline.value(x[n - 1] - 2 * h))
+                / (h * h);
+        assertEquals(0, first, 1e-2);
+        assertEquals(0, last, 1e-2);
+    }
+
+    @Test
+    public void notAKnotSplineReproducesCubics() {
+        // a cubic has a continuous third derivative everywhere, so it is its own not-a-knot spline
+        Random random = new Random(4);
+        for (int n = 4; n <= 12; n++) {
+            double[] x = irregularKnots(random, n);
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++)
+                y[i] = cubic(x[i]);
+            CubicSpline spline = new CubicSpline(x, y, CubicSpline.Type.NOT_A_KNOT);
+            for (double t = x[0] - 1; t <= x[n - 1] + 1; t += 0.05)
+                assertEquals(n + " knots at " + t, cubic(t), spline.value(t), 1e-8 * (1 + Math.abs(cubic(t))));
+        }
+    }
+
+    @Test
+    public void notAKnotSplineThroughThreeKnotsIsTheParabola() {
+        double[] x = {0.5, 1.25, 3};
+        double[] y = new double[3];
+        for (int i = 0; i < 3; i++)
+            y[i] = 2 - x[i] + 0.75 * x[i] * x[i];
+        CubicSpline spline = new CubicSpline(x, y, CubicSpline.Type.NOT_A_KNOT);
+        for (double t = 0; t <= 4; t += 0.1)
+            assertEquals("at " + t, 2 - t + 0.75 * t * t, spline.value(t), 1e-12);
+    }
+
+    @Test
+    public void pchipPreservesMonotonicityAndDoesNotOvershoot() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 200; trial++) {
+            double[] x = irregularKnots(random, 3 + random.nextInt(20));
+            double[] y = new double[x.length];
+            // monotone runs separated by flat steps and reversals
+            double value = 0;
+            for (int i = 0; i < y.length; i++) {
+                double step = random.nextDouble() < 0.2 ? 0 : Math.exp(3 * random.nextGaussian());
+                value += (i / 5) % 2 == 0 ? step : -step;
+                y[i] = value;
+            }
+            CubicSpline spline = new CubicSpline(x, y, CubicSpline.Type.PCHIP);
+            for (int i = 0; i + 1 < x.length; i++) {
+                double lo = Math.min(y[i], y[i + 1]);
+                double hi = Math.max(y[i], y[i + 1]);
+                double tolerance = 1e-12 * (1 + Math.abs(lo) + Math.abs(hi));
+                double previous = y[i];
+                for (int k = 1; k <= 50; k++) {
+                    double v = spline.value(x[i] + k * (x[i + 1] - x[i]) / 50);
+                    assertTrue("overshoot in interval " + i, v >= lo - tolerance && v <= hi + tolerance);
+                    if (y[i + 1] >= y[i])
+                        assertTrue("not increasing in interval " + i, v >= previous - tolerance);
+                    else
+                        assertTrue("not decreasing in interval " + i, v <= previous + tolerance);
+                    previous = v;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sortedAndUnsortedPointsGiveTheSameValues() {
+        Random random = new Random(6);
+        double[] x = irregularKnots(random, 25);
+        double[] y = new double[x.length];
+        for (int i = 0; i < y.length; i++)
+            y[i] = random.nextGaussian();
+        double[] t = new double[500];
+        for (int k = 0; k < t.length; k++)
+            t[k] = x[0] - 1 + (x[x.length - 1] - x[0] + 2) * random.nextDouble();
+        double[] sorted = t.clone();
+        Arrays.sort(sorted);
+        for (CubicSpline.Type type : TYPES) {
+            CubicSpline spline = new CubicSpline(x, y, type);
+            double[] values = spline.values(t);
+            double[] sortedValues = spline.values(sorted);
+            for (int k = 0; k < t.length; k++) {
+                assertEquals(type + " unsorted", spline.value(t[k]), values[k], 0);
+                assertEquals(type + " sorted", spline.value(sorted[k]), sortedValues[k], 0);
+            }
+        }
+    }
+
+    @Test
+    public void tridiagonalSolutionSatisfiesTheSystem() {
+        Random random = new Random(7);
+        int n = 50;
+        double[] sub = new double[n];
+        double[] diag = new double[n];
+        double[] sup = new double[n];
+        double[] rhs = new double[n];
+        for (int i = 0; i < n; i++) {
+            sub[i] = random.nextDouble();
+            sup[i] = random.nextDouble();
+            diag[i] = 2 + sub[i] + sup[i];
+            rhs[i] = random.nextGaussian();
+        }
+        double[] a = sub.clone();
+        double[] b = diag.clone();
+        double[] c = sup.clone();
+        double[] d = rhs.clone();
+        CubicSpline.solveTridiagonal(sub, diag, sup, rhs);
+        for (int i = 0; i < n; i++) {
+            double lhs = b[i] * rhs[i];
+            if (i > 0)
+                lhs += a[i] * rhs[i - 1];
+            if (i < n - 1)
+                lhs += c[i] * rhs[i + 1];
+            assertEquals("row " + i, d[i], lhs, 1e-12);
+        }
+    }
+
+    private static double cubic(double t) {
+        return 0.3 - 1.5 * t + 0.8 * t * t - 0.25 * t * t * t;
+    }
+
+    // knot positions with spacings between 0.2 and 1.5, like RR intervals in s
+    private static double[] irregularKnots(Random random, int n) {
+        double[] x = new double[n];
+        for (int i = 1; i < n; i++)
+            x[i] = x[i - 1] + 0.2 + 1.3 * random.nextDouble();
+        return x;
+    }
+}
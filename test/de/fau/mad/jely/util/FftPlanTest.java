@@ -0,0 +1,157 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The precomputed transforms must give the results of the {@link FFT} implementations that compute their tables on
+ * every call.
+ */
+public class FftPlanTest {
+
+    @Test
+    public void radix2MatchesFft() {
+        Random random = new Random(1);
+        for (int n = 1; n <= 8192; n *= 2) {
+            double[] real = gaussian(random, n);
+            double[] imag = gaussian(random, n);
+            double[] expectedReal = real.clone();
+            double[] expectedImag = imag.clone();
+            FFT.transformRadix2(expectedReal, expectedImag);
+
+            // same tables and the same order of operations
+            FftPlan.forSize(n).transform(real, imag);
+            assertArrayEquals("real part of size " + n, expectedReal, real, 0);
+            assertArrayEquals("imaginary part of size " + n, expectedImag, imag, 0);
+        }
+    }
+
+    @Test
+    public void bluesteinMatchesFftAndDirectSums() {
+        Random random = new Random(2);
+        for (int n : new int[]{3, 5, 6, 7, 12, 100, 257, 1000}) {
+            double[] real = gaussian(random, n);
+            double[] imag = gaussian(random, n);
+            double[] fftReal = real.clone();
+            double[] fftImag = imag.clone();
+            FFT.transformBluestein(fftReal, fftImag);
+            double[][] direct = directTransform(real, imag);
+
+            FftPlan.forSize(n).transform(real, imag);
+            double tolerance = 1e-12 * n;
+            assertArrayEquals("real part of size " + n, fftReal, real, tolerance);
+            assertArrayEquals("imaginary part of size " + n, fftImag, imag, tolerance);
+            assertArrayEquals("direct real part of size " + n, direct[0], real, tolerance);
+            assertArrayEquals("direct imaginary part of size " + n, direct[1], imag, tolerance);
+        }
+    }
+
+    @Test
+    public void offsetsAndBatchesTransformEveryVector() {
+        Random random = new Random(3);
+        for (int n : new int[]{64, 30}) {
+            int count = 5;
+            double[] real = gaussian(random, n * count);
+            double[] imag = gaussian(random, n * count);
+            double[] batchReal = real.clone();
+            double[] batchImag = imag.clone();
+            FftPlan plan = FftPlan.forSize(n);
+            plan.transformBatch(batchReal, batchImag, count);
+
+            for (int b = 0; b < count; b++) {
+                double[] vectorReal = new double[n];
+                double[] vectorImag = new double[n];
+                System.arraycopy(real, b * n, vectorReal, 0, n);
+                System.arraycopy(imag, b * n, vectorImag, 0, n);
+                FFT.transform(vectorReal, vectorImag);
+                for (int k = 0; k < n; k++) {
+                    assertEquals("vector " + b + ", bin " + k, vectorReal[k], batchReal[b * n + k], 0);
+                    assertEquals("vector " + b + ", bin " + k, vectorImag[k], batchImag[b * n + k], 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void realTransformMatchesComplexTransform() {
+        Random random = new Random(4);
+        for (int n : new int[]{1, 2, 4, 6, 15, 256, 1000, 1024, 4096}) {
+            double[] input = gaussian(random, n);
+            double[] expectedReal = input.clone();
+            double[] expectedImag = new double[n];
+            FFT.transform(expectedReal, expectedImag);
+
+            FftPlan plan = FftPlan.forSize(n);
+            double[] real = new double[n / 2 + 1];
+            double[] imag = new double[n / 2 + 1];
+            plan.realTransform(input, real, imag);
+            double tolerance = 1e-12 * n;
+            for (int k = 0; k <= n / 2; k++) {
+                assertEquals("size " + n + ", real part of bin " + k, expectedReal[k], real[k], tolerance);
+                assertEquals("size " + n + ", imaginary part of bin " + k, expectedImag[k], imag[k], tolerance);
+            }
+
+            // the inverse is scaled by the size
+            double[] output = new double[n];
+            plan.inverseRealTransform(real, imag, output);
+            for (int i = 0; i < n; i++)
+                assertEquals("size " + n + ", sample " + i, n * input[i], output[i], tolerance);
+        }
+    }
+
+    @Test
+    public void cacheKeepsPlansInRepeatedUse() {
+        FftPlan repeated = FftPlan.forSize(1 << 20);
+        FftPlan oneOff = FftPlan.forSize(3 << 10);
+        assertSame(repeated, FftPlan.forSize(1 << 20));
+        // other sizes evict the plan used only once, but not the one that is used in between
+        for (int i = 0; i < 2 * FftPlan.MAX_CACHED_PLANS; i++) {
+            FftPlan.forSize(10001 + 2 * i);
+            assertSame("after " + i + " other sizes", repeated, FftPlan.forSize(1 << 20));
+        }
+        assertNotSame(oneOff, FftPlan.forSize(3 << 10));
+    }
+
+    // the DFT by its definition
+    private static double[][] directTransform(double[] real, double[] imag) {
+        int n = real.length;
+        double[][] result = new double[2][n];
+        for (int k = 0; k < n; k++) {
+            for (int t = 0; t < n; t++) {
+                double angle = 2 * Math.PI * ((long) k * t % n) / n;
+                result[0][k] += real[t] * Math.cos(angle) + imag[t] * Math.sin(angle);
+                result[1][k] += -real[t] * Math.sin(angle) + imag[t] * Math.cos(angle);
+            }
+        }
+        return result;
+    }
+
+    private static double[] gaussian(Random random, int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++)
+            values[i] = random.nextGaussian();
+        return values;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The prefix sum regressions must match a regression over the samples of every window, and the sliding window must
+ * find the breaks of the search that ran a new regression for every position of the left edge.
+ */
+public class PiecewiseLinearSegmentationTest {
+
+    @Test
+    public void windowsMatchDirectRegression() {
+        Random random = new Random(1);
+        int n = 2000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double position = 50;
+        for (int i = 0; i < n; i++) {
+            position += 0.5 + random.nextDouble();
+            x[i] = position;
+            y[i] = 1e4 + 3 * Math.sin(position / 40) + random.nextGaussian();
+        }
+
+        for (double[] positions : new double[][]{null, x}) {
+            PiecewiseLinearSegmentation segmentation = new PiecewiseLinearSegmentation(positions, y);
+            double seriesXX = squaredDeviations(positions, 0, n);
+            double seriesYY = squaredDeviations(y, 0, n);
+            for (int trial = 0; trial < 500; trial++) {
+                int from = random.nextInt(n - 1);
+                int to = from + 2 + random.nextInt(Math.min(n - from - 1, 300));
+                double[] expected = regression(positions, y, from, to);
+                String window = "[" + from + ", " + to + ")";
+                // the prefix sums round with the magnitude of the whole series, which short windows amplify
+                double windowXX = squaredDeviations(positions, from, to);
+                double slopeTolerance = 1e-13 * seriesXX / windowXX
+                        * (Math.abs(expected[0]) + Math.sqrt(seriesYY / seriesXX));
+                double lastX = positions != null ? positions[to - 1] : to - 1;
+                assertEquals("slope of " + window, expected[0], segmentation.getSlope(from, to), slopeTolerance);
+                assertEquals("intercept of " + window, expected[1], segmentation.getIntercept(from, to),
+                        1e-9 * Math.abs(expected[1]) + slopeTolerance * lastX);
+                assertEquals("error of " + window, expected[2], segmentation.getMeanSquaredError(from, to),
+                        1e-13 * (seriesYY + expected[0] * expected[0] * seriesXX) / (to - from));
+            }
+            assertEquals(0, segmentation.getMeanSquaredError(7, 8), 0);
+            assertEquals(0, segmentation.getSlope(7, 8), 0);
+        }
+    }
+
+    @Test
+    public void slidingWindowMatchesQuadraticSearch() {
+        Random random = new Random(2);
+        for (int n : new int[]{3, 4, 50, 200, 3000}) {
+            // a respiration rate trend with steps, ramps and noise
+            double[] y = new double[n];
+            double level = 15;
+            double slope = 0;
+            for (int i = 0; i < n; i++) {
+                if (random.nextDouble() < 0.02)
+                    level += 4 * random.nextGaussian();
+                if (random.nextDouble() < 0.01)
+                    slope = 0.05 * random.nextGaussian();
+                level += slope;
+                y[i] = level + 0.3 * random.nextGaussian();
+            }
+            for (double maxError : new double[]{0.05, 0.2, 1}) {
+                ArrayList<Integer> breaks = new PiecewiseLinearSegmentation(y).slidingWindow(maxError);
+                assertEquals(n + " samples, error " + maxError, quadraticSearch(y, maxError), breaks);
+            }
+        }
+    }
+
+    @Test
+    public void fitEvaluatesTheLineOfEverySegment() {
+        Random random = new Random(3);
+        int n = 500;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = 2 * i + random.nextDouble();
+            y[i] = (i < 200 ? 0.1 * x[i] : 80 - 0.05 * x[i]) + random.nextGaussian();
+        }
+        PiecewiseLinearSegmentation segmentation = new PiecewiseLinearSegmentation(x, y);
+        ArrayList<Integer> breaks = new ArrayList<>();
+        // unordered and with an empty segment
+        breaks.add(350);
+        breaks.add(200);
+        breaks.add(350);
+        double[] fit = segmentation.fit(breaks);
+        int[] bounds = {0, 200, 350, n};
+        for (int s = 0; s + 1 < bounds.length; s++) {
+            double[] expected = regression(x, y, bounds[s], bounds[s + 1]);
+            for (int i = bounds[s]; i < bounds[s + 1]; i++)
+                assertEquals("sample " + i, expected[1] + expected[0] * x[i], fit[i], 1e-9);
+        }
+    }
+
+    // the sliding window of the former BRProcessor, which ran a new regression for every window
+    private static ArrayList<Integer> quadraticSearch(double[] y, double maxError) {
+        ArrayList<Integer> breaks = new ArrayList<>();
+        int right = y.length;
+        for (int left = y.length - 2; left > 1; left--) {
+            if (regression(null, y, left, right)[2] > maxError) {
+                breaks.add(left + 1);
+                right = left;
+            }
+        }
+        return breaks;
+    }
+
+    // the sum of squared deviations from the mean over [from, to), of the sample indices if values is null
+    private static double squaredDeviations(double[] values, int from, int to) {
+        double mean = 0;
+        for (int i = from; i < to; i++)
+            mean += values != null ? values[i] : i;
+        mean /= to - from;
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            double deviation = (values != null ? values[i] : i) - mean;
+            sum += deviation * deviation;
+        }
+        return sum;
+    }
+
+    // slope, intercept and mean squared error of the least squares line through the samples of [from, to)
+    private static double[] regression(double[] x, double[] y, int from, int to) {
+        int n = to - from;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = from; i < to; i++) {
+            meanX += x != null ? x[i] : i;
+            meanY += y[i];
+        }
+        meanX /= n;
+        meanY /= n;
+        double sxy = 0;
+        double sxx = 0;
+        for (int i = from; i < to; i++) {
+            double u = (x != null ? x[i] : i) - meanX;
+            sxy += u * (y[i] - meanY);
+            sxx += u * u;
+        }
+        double slope = sxx > 0 ? sxy / sxx : 0;
+        double sse = 0;
+        for (int i = from; i < to; i++) {
+            double residual = y[i] - meanY - slope * ((x != null ? x[i] : i) - meanX);
+            sse += residual * residual;
+        }
+        return new double[]{slope, meanY - slope * meanX, sse / n};
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * This file is part of the JELY distribution (https://github.com/mad-lab-fau/JELY).
+ * Copyright (c) 2015-2020 Machine Learning and Data Analytics Lab, Friedrich-Alexander-Universität Erlangen-Nürnberg (FAU).
+ * <p>
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.fau.mad.jely.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The banded smoothness priors trend must match the dense solution of <code>(I + lambda^2 D2' D2) t = z</code>.
+ */
+public class SmoothnessPriorsTest {
+
+    @Test
+    public void trendMatchesDenseSolve() {
+        Random random = new Random(1);
+        for (int n : new int[]{3, 4, 5, 17, 300}) {
+            for (double lambda : new double[]{0.5, 10, 500}) {
+                double[] z = new double[n];
+                for (int i = 0; i < n; i++)
+                    z[i] = 800 + 50 * Math.sin(i / 20.0) + 20 * random.nextGaussian();
+
+                double[][] a = new double[n][n];
+                for (int i = 0; i < n; i++)
+                    a[i][i] = 1;
+                // add lambda^2 D2' D2 row by row of D2
+                for (int r = 0; r < n - 2; r++) {
+                    double[] row = {1, -2, 1};
+                    for (int i = 0; i < 3; i++) {
+                        for (int j = 0; j < 3; j++)
+                            a[r + i][r + j] += lambda * lambda * row[i] * row[j];
+                    }
+                }
+                double[] expected = solveDense(a, z);
+                double[] trend = SmoothnessPriors.trend(z, lambda);
+                double[] detrended = SmoothnessPriors.detrend(z, lambda);
+                // the condition number grows with lambda^2, both solutions round differently for lambda = 500
+                double tolerance = 1e-15 * 800 * (1 + 16 * lambda * lambda);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(n + " samples, lambda " + lambda + ", index " + i, expected[i], trend[i], tolerance);
+                    assertEquals(z[i] - expected[i], detrended[i], tolerance);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void linearSeriesIsItsOwnTrend() {
+        double[] z = new double[1000];
+        for (int i = 0; i < z.length; i++)
+            z[i] = 700 + 0.3 * i;
+        double[] trend = SmoothnessPriors.trend(z, 300);
+        for (int i = 0; i < z.length; i++)
+            assertEquals("index " + i, z[i], trend[i], 1e-7);
+    }
+
+    @Test
+    public void pentadiagonalSolutionSatisfiesTheSystem() {
+        Random random = new Random(2);
+        int n = 100;
+        double[] diag = new double[n];
+        double[] sub1 = new double[n - 1];
+        double[] sub2 = new double[n - 2];
+        double[] rhs = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (i < n - 1)
+                sub1[i] = random.nextGaussian();
+            if (i < n - 2)
+                sub2[i] = random.nextGaussian();
+            rhs[i] = random.nextGaussian();
+        }
+        // diagonally dominant, so positive definite
+        for (int i = 0; i < n; i++) {
+            diag[i] = 1;
+            if (i >= 1)
+                diag[i] += Math.abs(sub1[i - 1]);
+            if (i < n - 1)
+                diag[i] += Math.abs(sub1[i]);
+            if (i >= 2)
+                diag[i] += Math.abs(sub2[i - 2]);
+            if (i < n - 2)
+                diag[i] += Math.abs(sub2[i]);
+        }
+
+        double[] x = SmoothnessPriors.solveSymmetricPentadiagonal(diag, sub1, sub2, rhs);
+        for (int i = 0; i < n; i++) {
+            double lhs = diag[i] * x[i];
+            if (i >= 1)
+                lhs += sub1[i - 1] * x[i - 1];
+            if (i < n - 1)
+                lhs += sub1[i] * x[i + 1];
+            if (i >= 2)
+                lhs += sub2[i - 2] * x[i - 2];
+            if (i < n - 2)
+                lhs += sub2[i] * x[i + 2];
+            assertEquals("row " + i, rhs[i], lhs, 1e-12);
+        }
+    }
+
+    // Gaussian elimination with partial pivoting
+    private static double[] solveDense(double[][] matrix, double[] rhs) {
+        int n = rhs.length;
+        double[][] a = new double[n][];
+        for (int i = 0; i < n; i++)
+            a[i] = matrix[i].clone();
+        double[] b = rhs.clone();
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col]))
+                    pivot = row;
+            }
+            double[] rowSwap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = rowSwap;
+            double swap = b[col];
+            b[col] = b[pivot];
+            b[pivot] = swap;
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                for (int k = col; k < n; k++)
+                    a[row][k] -= factor * a[col][k];
+                b[row] -= factor * b[col];
+            }
+        }
+        double[] x = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = b[row];
+            for (int k = row + 1; k < n; k++)
+                sum -= a[row][k] * x[k];
+            x[row] = sum / a[row][row];
+        }
+        return x;
+    }
+}